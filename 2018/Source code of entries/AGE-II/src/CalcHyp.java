@@ -8,6 +8,8 @@
 import java.util.*;
 import java.io.*;
 
+import jmetal.qualityIndicator.util.WFGHypervolume;
+
 /**
  * This class implements the hypervolume metric. The code is the a Java version
  * of the orginal metric implementation by Eckart Zitzler.
@@ -21,6 +23,12 @@ import java.io.*;
  */
 public class CalcHyp {
 
+  /**
+   * If true, the exact hypervolume is computed by the WFG algorithm instead
+   * of the Zitzler code (command line option -WFG)
+   */
+  static boolean useWFG_ = false ;
+
 //  MetricsUtilLocal utils_;
   
   /**
@@ -418,14 +426,25 @@ public class CalcHyp {
     if (false) System.out.println("hypervolume: marker. " + invertedFront.length + " " +paretoFront.length
             + " " + paretoTrueFront.length + " " + numberOfObjectives + " " +invertedFront[0].length);
     // STEP4. The hypervolumen (control is passed to java version of Zitzler code)
-    return calculateHypervolume(invertedFront,invertedFront.length,numberOfObjectives);
+    return exactHypervolume(invertedFront,invertedFront.length,numberOfObjectives);
   }// hypervolume
+
+  /**
+   * Returns the hypervolume of an inverted front, computed by the WFG
+   * algorithm if useWFG_ is set and by calculateHypervolume() otherwise
+   */
+  static double exactHypervolume(double [][] front, int noPoints, int noObjectives) {
+    if (useWFG_)
+      return new WFGHypervolume(noObjectives).calculateHypervolume(front, noPoints);
+    return calculateHypervolume(front, noPoints, noObjectives);
+  } // exactHypervolume
   
   /**
    * This class can be invoqued from the command line. Three params are required:
    * 1) the name of the file containing the front,  
    * 2) the name of the file containig the true Pareto front
    * 3) the number of objectives
+   * A leading -WFG selects the WFG algorithm for the exact hypervolume.
    */
   public static void main(String args[]) {
 //    if (args.length < 2) {
@@ -466,6 +485,11 @@ public class CalcHyp {
     
     boolean convertOneOverValueForWind = false;
     int convertOneOverValueForWindIndex = 1;
+
+    if (args.length>0 && args[0].equalsIgnoreCase("-WFG")) {
+        useWFG_ = true;
+        args = Arrays.copyOfRange(args, 1, args.length);
+    }
     
     if (args.length>1) {
 //        trueFront     = qualityIndicator.utils_.readFront(args[1]);
@@ -530,7 +554,7 @@ public class CalcHyp {
     double [][] invertedFront = invertedFront(normalizedFront);
 
     // STEP4. The hypervolumen (control is passed to java version of Zitzler code)
-    double value = calculateHypervolume(invertedFront,invertedFront.length,numberOfObjectives);
+    double value = exactHypervolume(invertedFront,invertedFront.length,numberOfObjectives);
     
     System.out.println(value);  
   } // main
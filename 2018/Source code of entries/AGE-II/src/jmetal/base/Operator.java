@@ -12,6 +12,8 @@ import java.util.Map;
 import java.util.HashMap;
 
 import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
+import jmetal.util.RandomStream;
 
 /**
  * Class representing an operator
@@ -25,6 +27,12 @@ public abstract class Operator implements Serializable {
    * by the string.
    */
   protected Map<String , Object> parameters_;
+
+  /**
+   * Stores the random stream used by the operator. If it is null, the random
+   * numbers are taken from <code>PseudoRandom</code>.
+   */
+  protected transient RandomStream randomStream_ = null;
   
   /**
    * Constructor.
@@ -64,4 +72,57 @@ public abstract class Operator implements Serializable {
     return parameters_.get(name.toUpperCase());
   } //getParameter  
 
+  /**
+   * Sets the random stream used by the operator. An operator with its own
+   * stream can be used from any thread without sharing a generator.
+   * @param stream The stream, or null to use <code>PseudoRandom</code>.
+   */
+  public void setRandomStream(RandomStream stream) {
+    randomStream_ = stream ;
+  } // setRandomStream
+
+  /**
+   * Returns the random stream used by the operator
+   * @return The stream, or null if the operator uses <code>PseudoRandom</code>.
+   */
+  public RandomStream getRandomStream() {
+    return randomStream_ ;
+  } // getRandomStream
+
+  /**
+   * Returns a random double value in [0,1) from the stream of the operator
+   * @return A random double value.
+   */
+  protected double randDouble() {
+    if (randomStream_ != null)
+      return randomStream_.randDouble() ;
+    return PseudoRandom.randDouble() ;
+  } // randDouble
+
+  /**
+   * Returns a random double value between two bounds from the stream of the
+   * operator
+   * @param minBound The minimum bound.
+   * @param maxBound The maximum bound.
+   * @return A random double value.
+   */
+  protected double randDouble(double minBound, double maxBound) {
+    if (randomStream_ != null)
+      return randomStream_.randDouble(minBound, maxBound) ;
+    return PseudoRandom.randDouble(minBound, maxBound) ;
+  } // randDouble
+
+  /**
+   * Returns a random int value between two bounds (both included) from the 
+   * stream of the operator
+   * @param minBound The minimum bound.
+   * @param maxBound The maximum bound.
+   * @return A random int value.
+   */
+  protected int randInt(int minBound, int maxBound) {
+    if (randomStream_ != null)
+      return randomStream_.randInt(minBound, maxBound) ;
+    return PseudoRandom.randInt(minBound, maxBound) ;
+  } // randInt
+
 } // Operator
@@ -10,6 +10,7 @@ package jmetal.base;
 
 import java.io.Serializable;
 
+import jmetal.base.variable.Real;
 import jmetal.util.JMException;
 import jmetal.util.Configuration.*;
 
@@ -136,6 +137,92 @@ public abstract class Problem implements Serializable {
    * @param solution The <code>Solution</code> to evaluate.
    */    
   public abstract void evaluate(Solution solution) throws JMException ;    
+
+  /**
+   * Evaluates all the solutions of a <code>SolutionSet</code>. The default 
+   * behavior is to evaluate them one by one; problems implementing a batch
+   * version of <code>evaluate(double [], int, double [])</code> re-define this
+   * method with <code>evaluateInBatch</code>.
+   * @param solutionSet The solutions to evaluate.
+   */
+  public void evaluate(SolutionSet solutionSet) throws JMException {
+    for (int i = 0; i < solutionSet.size(); i++)
+      evaluate(solutionSet.get(i)) ;
+  } // evaluate
+
+  /**
+   * Evaluates n real-coded points at once. The decision variables are read
+   * row-major from xs (<code>numberOfVariables_</code> values per point) and
+   * the objective values are written row-major into fs 
+   * (<code>numberOfObjectives_</code> values per point). The default behavior
+   * is to evaluate the points one by one through a scratch solution; problems
+   * can re-define it to process the whole block over primitive arrays.
+   * @param xs The decision variables of the points.
+   * @param n The number of points.
+   * @param fs The array receiving the objective values.
+   */
+  public void evaluate(double [] xs, int n, double [] fs) throws JMException {
+    Variable [] variables = new Variable[numberOfVariables_] ;
+    for (int var = 0; var < numberOfVariables_; var++) {
+      Real real = new Real() ;
+      real.setLowerBound(getLowerLimit(var)) ;
+      real.setUpperBound(getUpperLimit(var)) ;
+      variables[var] = real ;
+    } // for
+    Solution solution = new Solution(this, variables) ;
+
+    double [] x = new double[numberOfVariables_] ;
+    for (int i = 0; i < n; i++) {
+      System.arraycopy(xs, i * numberOfVariables_, x, 0, numberOfVariables_) ;
+      solution.writeDecisionVariableValues(x) ;
+      evaluate(solution) ;
+      for (int j = 0; j < numberOfObjectives_; j++)
+        fs[i * numberOfObjectives_ + j] = solution.getObjective(j) ;
+    } // for
+  } // evaluate
+
+  /**
+   * Evaluates a <code>SolutionSet</code> with a single call to 
+   * <code>evaluate(double [], int, double [])</code>: the decision variables
+   * are gathered in one block and the objective values are scattered back.
+   * @param solutionSet The solutions to evaluate.
+   */
+  protected void evaluateInBatch(SolutionSet solutionSet) throws JMException {
+    evaluateInBatch(solutionSet, false) ;
+  } // evaluateInBatch
+
+  /**
+   * Evaluates a <code>SolutionSet</code> with a single call to 
+   * <code>evaluate(double [], int, double [])</code>.
+   * @param solutionSet The solutions to evaluate.
+   * @param writeBack True if the evaluation may modify (repair) the decision
+   * variables, which must then be copied back into the solutions.
+   */
+  protected void evaluateInBatch(SolutionSet solutionSet, boolean writeBack) throws JMException {
+    int n = solutionSet.size() ;
+    if (n == 0)
+      return ;
+
+    double [] xs = new double[n * numberOfVariables_] ;
+    double [] fs = new double[n * numberOfObjectives_] ;
+    double [] x  = new double[numberOfVariables_] ;
+    for (int i = 0; i < n; i++) {
+      solutionSet.get(i).readDecisionVariableValues(x) ;
+      System.arraycopy(x, 0, xs, i * numberOfVariables_, numberOfVariables_) ;
+    } // for
+
+    evaluate(xs, n, fs) ;
+
+    for (int i = 0; i < n; i++) {
+      Solution solution = solutionSet.get(i) ;
+      if (writeBack) {
+        System.arraycopy(xs, i * numberOfVariables_, x, 0, numberOfVariables_) ;
+        solution.writeDecisionVariableValues(x) ;
+      } // if
+      for (int j = 0; j < numberOfObjectives_; j++)
+        solution.setObjective(j, fs[i * numberOfObjectives_ + j]) ;
+    } // for
+  } // evaluateInBatch
     
   /**
    * Gets the number of side constraints in the problem.
@@ -7,9 +7,13 @@
  */
 package jmetal.base;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
+import jmetal.base.variable.ArrayDouble;
 import jmetal.base.variable.Binary;
+import jmetal.util.JMException;
 import jmetal.util.Configuration.*;
 
 /**
@@ -41,6 +45,32 @@ public class Solution implements Serializable {
    */
   private int numberOfObjectives_ ;
 
+  /**
+   * Stores the objective block of the <code>SolutionSet</code> owning the
+   * objectives of this solution (see <code>SolutionSet.useObjectiveBlock</code>).
+   * While it is not null, the objective values live in the block, starting at
+   * <code>objectiveOffset_</code>, and <code>objective_</code> is not up to date.
+   * The block is not serialized (see <code>writeObject</code>).
+   */
+  transient double [] objectiveBlock_ ;
+
+  /**
+   * Stores the position of the first objective of the solution in
+   * <code>objectiveBlock_</code>
+   */
+  transient int objectiveOffset_ ;
+
+  /**
+   * Stores the <code>SolutionSet</code> owning <code>objectiveBlock_</code>
+   */
+  transient SolutionSet objectiveOwner_ ;
+
+  /**
+   * True while the solution is stored in a <code>SolutionPool</code> waiting
+   * to be reused
+   */
+  boolean pooled_ ;
+
   /**
    * Stores the so called fitness value. Used in some metaheuristics
    */
@@ -188,6 +218,44 @@ public class Solution implements Serializable {
     location_             = solution.getLocation();
   } // Solution
 
+  /**
+   * Overwrites this solution with a copy of another one: decision variables,
+   * objectives and attributes. Unlike the copy constructor, the objective
+   * array and, when the solution type allows it, the variable objects of this
+   * solution are reused, so no new objects are allocated when both solutions
+   * belong to the same problem. The solution must not be referenced from
+   * places that expect its old contents.
+   * @param solution Solution to copy.
+   */
+  public void copyFrom(Solution solution) {
+    problem_ = solution.problem_ ;
+    type_ = solution.type_;
+
+    if ((objective_ == null) || (objective_.length != solution.numberOfObjectives())) {
+      if (objectiveBlock_ != null) 
+        unbindObjectives() ;
+      objective_ = new double[solution.numberOfObjectives()];
+    } // if
+    numberOfObjectives_ = solution.numberOfObjectives();
+    for (int i = 0; i < numberOfObjectives_; i++) {
+      setObjective(i, solution.getObjective(i));
+    } // for
+
+    if ((variable_ != null) && (solution.type_ == type_))
+      variable_ = type_.copyVariables(solution.variable_, variable_) ;
+    else
+      variable_ = type_.copyVariables(solution.variable_) ;
+    overallConstraintViolation_  = solution.getOverallConstraintViolation();
+    numberOfViolatedConstraints_ = solution.getNumberOfViolatedConstraint();
+    distanceToSolutionSet_ = solution.getDistanceToSolutionSet();
+    crowdingDistance_     = solution.getCrowdingDistance();
+    kDistance_            = solution.getKDistance();                
+    fitness_              = solution.getFitness();
+    marked_               = solution.isMarked();
+    rank_                 = solution.getRank();
+    location_             = solution.getLocation();
+  } // copyFrom
+
   /**
    * Sets the distance between this solution and a <code>SolutionSet</code>.
    * The value is stored in <code>distanceToSolutionSet_</code>.
@@ -275,7 +343,10 @@ public class Solution implements Serializable {
    * @param value The value to be stored.
    */
   public void setObjective(int i, double value) {
-    objective_[i] = value;
+    if (objectiveBlock_ == null)
+      objective_[i] = value;
+    else
+      objectiveBlock_[objectiveOffset_ + i] = value;
   } // setObjective
 
   /**
@@ -283,13 +354,64 @@ public class Solution implements Serializable {
    * @param i The value of the objective.
    */
   public double getObjective(int i) {
-    return objective_[i];
+    if (objectiveBlock_ == null)
+      return objective_[i];
+    else
+      return objectiveBlock_[objectiveOffset_ + i];
   } // getObjective
   
+  /**
+   * Returns the objective values of the solution. If the objectives are
+   * stored in the objective block of a <code>SolutionSet</code>, the array
+   * returned is a snapshot: writing into it does not change the solution.
+   * @return The objective values.
+   */
   public double[] getObjectives() {
+      if (objectiveBlock_ != null)
+        System.arraycopy(objectiveBlock_, objectiveOffset_, objective_, 0, numberOfObjectives_);
       return objective_;
   }
 
+  /**
+   * Moves the objective values of the solution into a row of the objective
+   * block of a <code>SolutionSet</code>. If another set owns the objectives,
+   * they are released first.
+   * @param owner The set owning the block.
+   * @param block The objective block.
+   * @param offset Position of the row in the block.
+   */
+  void bindObjectives(SolutionSet owner, double [] block, int offset) {
+    if (objectiveBlock_ != null)
+      unbindObjectives() ;
+    System.arraycopy(objective_, 0, block, offset, numberOfObjectives_) ;
+    objectiveBlock_  = block ;
+    objectiveOffset_ = offset ;
+    objectiveOwner_  = owner ;
+  } // bindObjectives
+
+  /**
+   * Copies the objective values back from the objective block of the owning
+   * <code>SolutionSet</code>, which stops holding them.
+   */
+  void unbindObjectives() {
+    System.arraycopy(objectiveBlock_, objectiveOffset_, objective_, 0, numberOfObjectives_) ;
+    objectiveBlock_ = null ;
+    objectiveOwner_ = null ;
+  } // unbindObjectives
+
+  /**
+   * Serializes the solution. The objective values are copied back from the
+   * objective block first, so the solution is written with its own objectives
+   * and without the block or the <code>SolutionSet</code> owning it.
+   * @param out The stream.
+   * @throws IOException
+   */
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    if (objectiveBlock_ != null)
+      System.arraycopy(objectiveBlock_, objectiveOffset_, objective_, 0, numberOfObjectives_) ;
+    out.defaultWriteObject() ;
+  } // writeObject
+
   /**
    * Returns the number of objectives.
    * @return The number of objectives.
@@ -339,6 +461,54 @@ public class Solution implements Serializable {
     variable_ = variables ;
   } // setDecisionVariables
 
+  /**
+   * Returns the array backing the decision variables of a solution of type
+   * <code>ArrayDoubleSolutionType</code>. Values written into the array are
+   * written into the solution, so operators can work on it directly.
+   * @return The backing array, or null if the decision variables are not
+   * stored in an <code>ArrayDouble</code>.
+   */
+  public double[] getDecisionVariableArray() {
+    if ((variable_ != null) && (variable_.length == 1) &&
+        (variable_[0] instanceof ArrayDouble))
+      return ((ArrayDouble)variable_[0]).array_ ;
+    return null ;
+  } // getDecisionVariableArray
+
+  /**
+   * Copies the values of the decision variables of a real-coded solution into
+   * an array. <code>ArrayDouble</code> solutions are copied in one block, any
+   * other representation goes through <code>Variable.getValue()</code>.
+   * @param x The array receiving the values (at least
+   * <code>numberOfVariables()</code> long).
+   * @return The array <code>x</code>.
+   * @throws JMException
+   */
+  public double[] readDecisionVariableValues(double [] x) throws JMException {
+    double [] array = getDecisionVariableArray() ;
+    if (array != null)
+      System.arraycopy(array, 0, x, 0, array.length) ;
+    else
+      for (int i = 0; i < variable_.length; i++)
+        x[i] = variable_[i].getValue() ;
+    return x ;
+  } // readDecisionVariableValues
+
+  /**
+   * Stores the values of an array into the decision variables of a real-coded
+   * solution. It is the counterpart of <code>readDecisionVariableValues</code>.
+   * @param x The array containing the values.
+   * @throws JMException
+   */
+  public void writeDecisionVariableValues(double [] x) throws JMException {
+    double [] array = getDecisionVariableArray() ;
+    if (array != null)
+      System.arraycopy(x, 0, array, 0, array.length) ;
+    else
+      for (int i = 0; i < variable_.length; i++)
+        variable_[i].setValue(x[i]) ;
+  } // writeDecisionVariableValues
+
   /**
    * Indicates if the solution is marked.
    * @return true if the method <code>marked</code> has been called and, after 
@@ -0,0 +1,112 @@
+/**
+ * SolutionPool.java
+ *
+ * @version 1.0
+ */
+package jmetal.base;
+
+import jmetal.util.Configuration;
+
+/**
+ * Class representing a pool of recyclable solutions of a problem. Steady-state
+ * metaheuristics discard most of the offspring they evaluate; instead of 
+ * leaving them to the garbage collector, they can be returned to the pool and
+ * reused by the operators creating new solutions (see the "solutionPool" 
+ * parameter of <code>SBXCrossover</code>).
+ * Ownership rules:
+ *  - A solution borrowed from the pool belongs to the caller.
+ *  - A solution may only be returned by its owner, and only if it is not
+ *    referenced from anywhere else (a population, an archive, a parents array,
+ *    etc.). Solutions that have been added to a <code>SolutionSet</code> which
+ *    is still in use must never be returned.
+ *  - Once returned, the solution belongs to the pool and can be overwritten 
+ *    at any time by <code>borrow</code>.
+ */
+public class SolutionPool {
+
+  /**
+   * Stores the problem the solutions belong to
+   */
+  private Problem problem_ ;
+
+  /**
+   * Stores the solutions available for reuse
+   */
+  private Solution [] solutions_ ;
+
+  /**
+   * Number of solutions stored in the pool
+   */
+  private int size_ ;
+
+  /**
+   * Constructor
+   * @param problem The problem whose solutions are recycled
+   * @param capacity Maximum number of solutions kept in the pool
+   */
+  public SolutionPool(Problem problem, int capacity) {
+    problem_   = problem ;
+    solutions_ = new Solution[capacity] ;
+    size_      = 0 ;
+  } // SolutionPool
+
+  /**
+   * Returns a copy of a solution, reusing a solution of the pool if there is
+   * one available
+   * @param solution The solution to copy
+   * @return The copy, owned by the caller
+   */
+  public Solution borrow(Solution solution) {
+    if (size_ == 0)
+      return new Solution(solution) ;
+
+    Solution copy = solutions_[--size_] ;
+    solutions_[size_] = null ;
+    copy.pooled_ = false ;
+    copy.copyFrom(solution) ;
+    return copy ;
+  } // borrow
+
+  /**
+   * Returns a solution to the pool. The solution is ignored if it does not 
+   * belong to the problem of the pool or if the pool is full.
+   * @param solution The solution to recycle
+   * @return True if the solution has been stored in the pool, false otherwise
+   */
+  public boolean giveBack(Solution solution) {
+    if (solution.pooled_) {
+      Configuration.logger_.severe("SolutionPool.giveBack: the solution is " +
+                                   "already in the pool") ;
+      return false ;
+    } // if
+    if ((size_ == solutions_.length) ||
+        (solution.getType() != problem_.getSolutionType()))
+      return false ;
+
+    // The solution must not write into the objective block of a set anymore
+    if (solution.objectiveBlock_ != null)
+      solution.unbindObjectives() ;
+    solution.pooled_ = true ;
+    solutions_[size_++] = solution ;
+    return true ;
+  } // giveBack
+
+  /**
+   * Returns the number of solutions available in the pool
+   * @return The number of solutions
+   */
+  public int size() {
+    return size_ ;
+  } // size
+
+  /**
+   * Empties the pool
+   */
+  public void clear() {
+    for (int i = 0; i < size_; i++) {
+      solutions_[i].pooled_ = false ;
+      solutions_[i] = null ;
+    } // for
+    size_ = 0 ;
+  } // clear
+} // SolutionPool
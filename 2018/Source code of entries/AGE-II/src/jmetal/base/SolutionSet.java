@@ -28,6 +28,25 @@ public class SolutionSet implements Serializable {
    * Maximum size of the solution set 
    */
   private int capacity_ = 0; 
+
+  /**
+   * Stores the objective values of the solutions row-major (one row of
+   * <code>blockObjectives_</code> values per solution, in the order of
+   * <code>solutionsList_</code>) when the set works in objective block mode.
+   * Null otherwise. As the solutions serialize their own objectives, the 
+   * block is not serialized, and a deserialized set is not in block mode.
+   */
+  private transient double [] objectiveBlock_ = null;
+
+  /**
+   * Number of objectives (row length) of <code>objectiveBlock_</code>
+   */
+  private int blockObjectives_ = 0;
+
+  /**
+   * Initial number of rows of the objective block of an unbounded set
+   */
+  private static final int DEFAULT_BLOCK_ROWS = 64;
     
   /**
    * Constructor.
@@ -67,6 +86,10 @@ public class SolutionSet implements Serializable {
     } // if
     
     solutionsList_.add(solution);
+    if (objectiveBlock_ != null) {
+      ensureBlockCapacity(solutionsList_.size()) ;
+      bindRow(solutionsList_.size() - 1) ;
+    } // if
     return true;
   } // add
     
@@ -100,7 +123,13 @@ public class SolutionSet implements Serializable {
       Configuration.logger_.severe("No criterium for compare exist");
       return ;
     } // if
-    Collections.sort(solutionsList_,comparator);
+    if (objectiveBlock_ != null) {
+      unbindRows() ;
+      Collections.sort(solutionsList_,comparator);
+      for (int i = 0; i < solutionsList_.size(); i++)
+        bindRow(i) ;
+    } else
+      Collections.sort(solutionsList_,comparator);
   } // sort
       
   /** 
@@ -171,6 +200,8 @@ public class SolutionSet implements Serializable {
    * Empties the SolutionSet
    */
   public void clear(){
+    if (objectiveBlock_ != null)
+      unbindRows() ;
     solutionsList_.clear();
   } // clear
     
@@ -182,6 +213,22 @@ public class SolutionSet implements Serializable {
     if (i > solutionsList_.size()-1) {            
       Configuration.logger_.severe("Size is: "+this.size());
     } // if
+    if (objectiveBlock_ != null && i < solutionsList_.size()) {
+      Solution solution = solutionsList_.get(i) ;
+      if (ownsRow(solution, i))
+        solution.unbindObjectives() ;
+      solutionsList_.remove(i);
+      // Shift the following rows one position up
+      System.arraycopy(objectiveBlock_, (i + 1) * blockObjectives_, 
+                       objectiveBlock_, i * blockObjectives_, 
+                       (solutionsList_.size() - i) * blockObjectives_) ;
+      for (int j = i; j < solutionsList_.size(); j++) {
+        solution = solutionsList_.get(j) ;
+        if (ownsRow(solution, j + 1))
+          solution.objectiveOffset_ = j * blockObjectives_ ;
+      } // for
+      return ;
+    } // if
     solutionsList_.remove(i);    
   } // remove
     
@@ -191,6 +238,8 @@ public class SolutionSet implements Serializable {
    * @return the <code>Iterator</code>.
    */    
   public Iterator<Solution> iterator(){
+    if (objectiveBlock_ != null) // rows cannot follow Iterator.remove()
+      return Collections.unmodifiableList(solutionsList_).iterator();
     return solutionsList_.iterator();
   } // iterator   
    
@@ -208,6 +257,8 @@ public class SolutionSet implements Serializable {
         
     //Create a new population 
     SolutionSet union = new SolutionSet(newSize);                
+    if (objectiveBlock_ != null)
+      union.useObjectiveBlock(blockObjectives_) ;
     for (int i = 0; i < this.size(); i++) {      
       union.add(this.get(i));
     } // for
@@ -219,6 +270,38 @@ public class SolutionSet implements Serializable {
     return union;        
   } // union
 
+  /**
+   * Returns a deep copy of the solution set: a new set with the same capacity
+   * holding copies of the solutions. The problem is shared, not copied.
+   * @return The copy of the solution set.
+   */
+  public SolutionSet copy() {
+    SolutionSet copy = new SolutionSet(Math.max(capacity_, size()));
+    if (objectiveBlock_ != null)
+      copy.useObjectiveBlock(blockObjectives_) ;
+    for (int i = 0; i < size(); i++)
+      copy.add(new Solution(solutionsList_.get(i))) ;
+
+    return copy ;
+  } // copy
+
+  /**
+   * Overwrites the set with a deep copy of another one, reusing the
+   * <code>Solution</code> objects already stored in this set (see 
+   * <code>Solution.copyFrom</code>). New solutions are only allocated when
+   * solutionSet is larger than this set. As the stored solutions are 
+   * modified in place, they must not be referenced from other sets.
+   * @param solutionSet The solution set to copy.
+   */
+  public void copyFrom(SolutionSet solutionSet) {
+    while (size() > solutionSet.size())
+      remove(size() - 1) ;
+    for (int i = 0; i < size(); i++)
+      solutionsList_.get(i).copyFrom(solutionSet.get(i)) ;
+    for (int i = size(); i < solutionSet.size(); i++)
+      add(new Solution(solutionSet.get(i))) ;
+  } // copyFrom
+
 
 
 
@@ -261,6 +344,14 @@ public class SolutionSet implements Serializable {
     if (position > this.solutionsList_.size()) {
       solutionsList_.add(solution);
     } // if 
+    if (objectiveBlock_ != null && position < solutionsList_.size()) {
+      Solution old = solutionsList_.get(position) ;
+      if (ownsRow(old, position))
+        old.unbindObjectives() ;
+      solutionsList_.set(position, solution) ;
+      bindRow(position) ;
+      return ;
+    } // if
     solutionsList_.remove(position);
     solutionsList_.add(position,solution);
   } // replace
@@ -275,6 +366,12 @@ public class SolutionSet implements Serializable {
     }
     double [][] objectives;
     objectives = new double[size()][get(0).numberOfObjectives()];
+    if (objectiveBlock_ != null) {
+      double [] block = getObjectiveBlock() ;
+      for (int i = 0; i < size(); i++)
+        System.arraycopy(block, i * blockObjectives_, objectives[i], 0, blockObjectives_) ;
+      return objectives ;
+    } // if
     for (int i = 0; i < size(); i++) {
       for (int j = 0; j < get(0).numberOfObjectives(); j++) {
         objectives[i][j] = get(i).getObjective(j);
@@ -282,5 +379,114 @@ public class SolutionSet implements Serializable {
     }
     return objectives;
   } // writeObjectivesMatrix
+
+  /**
+   * Switches the set to objective block mode: from now on the objectives of
+   * the solutions are kept in one row-major <code>double[]</code> (one row of
+   * <code>numberOfObjectives</code> values per solution, in the order of the
+   * set) which grows as needed. The set owns the objectives of the solutions
+   * added to it, so <code>Solution.getObjective</code> and
+   * <code>Solution.setObjective</code> read and write the block. A solution's
+   * objectives are owned by the last set in block mode it was added to; they
+   * are handed back to the solution when it is removed from that set.
+   * Subclasses manipulating <code>solutionsList_</code> directly must not use
+   * this mode.
+   * @param numberOfObjectives Number of objectives of the solutions.
+   */
+  public void useObjectiveBlock(int numberOfObjectives) {
+    if (objectiveBlock_ != null)
+      return ;
+    blockObjectives_ = numberOfObjectives ;
+    int rows = DEFAULT_BLOCK_ROWS ;
+    if ((capacity_ > 0) && (capacity_ < Integer.MAX_VALUE / numberOfObjectives))
+      rows = capacity_ ;
+    objectiveBlock_ = new double[Math.max(rows, solutionsList_.size()) * numberOfObjectives] ;
+    for (int i = 0; i < solutionsList_.size(); i++)
+      bindRow(i) ;
+  } // useObjectiveBlock
+
+  /**
+   * Returns true if the set works in objective block mode
+   * @return true if <code>useObjectiveBlock</code> has been called
+   */
+  public boolean usesObjectiveBlock() {
+    return objectiveBlock_ != null ;
+  } // usesObjectiveBlock
+
+  /**
+   * Returns the objective block of a set in objective block mode: the
+   * objectives of solution i are in positions 
+   * [i * numberOfObjectives, (i + 1) * numberOfObjectives). The block is 
+   * the live array of the set, returned without copying. It is mutable:
+   * writing into the row of a solution whose objectives the set owns changes
+   * that solution's objectives. It is only valid until the set is modified. 
+   * Rows beyond <code>size()</code> are meaningless.
+   * @return The objective block, or null if the set is not in objective block
+   * mode.
+   */
+  public double [] getObjectiveBlock() {
+    if (objectiveBlock_ == null)
+      return null ;
+    // Refresh the rows of the solutions whose objectives are owned elsewhere
+    for (int i = 0; i < solutionsList_.size(); i++) {
+      Solution solution = solutionsList_.get(i) ;
+      if (!ownsRow(solution, i))
+        for (int j = 0; j < blockObjectives_; j++)
+          objectiveBlock_[i * blockObjectives_ + j] = solution.getObjective(j) ;
+    } // for
+    return objectiveBlock_ ;
+  } // getObjectiveBlock
+
+  /**
+   * Makes room in the objective block for a number of rows. The block is
+   * doubled, and the solutions owned by the set are moved to the new block.
+   * @param rows Number of rows needed.
+   */
+  private void ensureBlockCapacity(int rows) {
+    if (rows * blockObjectives_ <= objectiveBlock_.length)
+      return ;
+    double [] block = new double[Math.max(objectiveBlock_.length * 2, rows * blockObjectives_)] ;
+    System.arraycopy(objectiveBlock_, 0, block, 0, objectiveBlock_.length) ;
+    objectiveBlock_ = block ;
+    for (int i = 0; i < solutionsList_.size(); i++) {
+      Solution solution = solutionsList_.get(i) ;
+      if (solution.objectiveOwner_ == this)
+        solution.objectiveBlock_ = block ;
+    } // for
+  } // ensureBlockCapacity
+
+  /**
+   * Moves the objectives of the solution at a position into its row of the
+   * objective block. Solutions without the right number of objectives are
+   * left untouched, their row is filled by <code>getObjectiveBlock</code>.
+   * @param i The position of the solution.
+   */
+  private void bindRow(int i) {
+    Solution solution = solutionsList_.get(i) ;
+    if (solution.numberOfObjectives() == blockObjectives_)
+      solution.bindObjectives(this, objectiveBlock_, i * blockObjectives_) ;
+  } // bindRow
+
+  /**
+   * Returns true if the objectives of a solution live in a given row of the
+   * objective block of the set
+   * @param solution The solution.
+   * @param i The row.
+   */
+  private boolean ownsRow(Solution solution, int i) {
+    return (solution.objectiveOwner_ == this) &&
+           (solution.objectiveOffset_ == i * blockObjectives_) ;
+  } // ownsRow
+
+  /**
+   * Hands the objectives owned by the set back to their solutions
+   */
+  private void unbindRows() {
+    for (int i = 0; i < solutionsList_.size(); i++) {
+      Solution solution = solutionsList_.get(i) ;
+      if (solution.objectiveOwner_ == this)
+        solution.unbindObjectives() ;
+    } // for
+  } // unbindRows
 } // SolutionSet
 
@@ -46,5 +46,17 @@ public abstract class SolutionType implements Serializable {
 		
 		return variables ;
 	} // copyVariables
+
+	/**
+	 * Copies the decision variables into an existing array of variables,
+	 * reusing its Variable objects when the representation allows it. This
+	 * default implementation allocates new variables.
+	 * @param vars The variables to copy
+	 * @param target The variables to overwrite (may be null)
+	 * @return An array of variables holding the copy (target if reused)
+	 */
+	public Variable[] copyVariables(Variable[] vars, Variable[] target) {
+		return copyVariables(vars) ;
+	} // copyVariables
 	  
 } // SolutionType
@@ -13,7 +13,6 @@ import jmetal.base.Solution;
 import jmetal.base.SolutionType;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
-import jmetal.util.PseudoRandom;
 import jmetal.util.wrapper.XReal;
 
 /**
@@ -65,6 +64,11 @@ public class DifferentialEvolutionCrossover extends Crossover {
    */
   private static Class ARRAY_REAL_SOLUTION ; 
 
+  /**
+   * ARRAY_DOUBLE_SOLUTION represents class jmetal.base.solutionType.ArrayDoubleSolutionType
+   */
+  private static Class ARRAY_DOUBLE_SOLUTION ; 
+
 	public double CR_  ;
 	public double F_   ;
 	public double K_   ;
@@ -77,6 +81,7 @@ public class DifferentialEvolutionCrossover extends Crossover {
 		try {
 			REAL_SOLUTION = Class.forName("jmetal.base.solutionType.RealSolutionType") ;
     	ARRAY_REAL_SOLUTION = Class.forName("jmetal.base.solutionType.ArrayRealSolutionType") ;
+    	ARRAY_DOUBLE_SOLUTION = Class.forName("jmetal.base.solutionType.ArrayDoubleSolutionType") ;
 		} catch (ClassNotFoundException e) {
 			// TODO Auto-generated catch block
 			e.printStackTrace();
@@ -116,11 +121,14 @@ public class DifferentialEvolutionCrossover extends Crossover {
 				(parent[2].getType().getClass() != REAL_SOLUTION)) && 
 				((parent[0].getType().getClass() != ARRAY_REAL_SOLUTION) &&
 				(parent[1].getType().getClass() != ARRAY_REAL_SOLUTION)&&
-				(parent[2].getType().getClass() != ARRAY_REAL_SOLUTION))) {
+				(parent[2].getType().getClass() != ARRAY_REAL_SOLUTION)) &&
+				((parent[0].getType().getClass() != ARRAY_DOUBLE_SOLUTION) &&
+				(parent[1].getType().getClass() != ARRAY_DOUBLE_SOLUTION)&&
+				(parent[2].getType().getClass() != ARRAY_DOUBLE_SOLUTION))) {
 
 			Configuration.logger_.severe("DifferentialEvolutionCrossover.execute: " +
 					" the solutions " +
-					"are not of the right type. The type should be 'Real' or 'ArrayReal', but " +
+					"are not of the right type. The type should be 'Real', 'ArrayReal' or 'ArrayDouble', but " +
 					parent[0].getType() + " and " + 
 					parent[1].getType() + " and " + 
 					parent[2].getType() + " are obtained");
@@ -160,13 +168,13 @@ public class DifferentialEvolutionCrossover extends Crossover {
 		XReal xChild   = new XReal(child) ;
 
 		int numberOfVariables = xParent0.getNumberOfDecisionVariables() ;
-		jrand = (int)(PseudoRandom.randInt(0, numberOfVariables - 1)) ;
+		jrand = (int)(randInt(0, numberOfVariables - 1)) ;
 
 		// STEP 4. Checking the DE variant
 		if ((DE_Variant_.compareTo("rand/1/bin") == 0) || 
 				(DE_Variant_.compareTo("best/1/bin") == 0)) { 
 			for (int j=0; j < numberOfVariables; j++) {
-				if (PseudoRandom.randDouble(0, 1) < CR_ || j == jrand) {
+				if (randDouble(0, 1) < CR_ || j == jrand) {
 					double value ;
 					value = xParent2.getValue(j)  + F_ * (xParent0.getValue(j) -
 							                                  xParent1.getValue(j)) ;
@@ -188,7 +196,7 @@ public class DifferentialEvolutionCrossover extends Crossover {
 				(DE_Variant_.compareTo("best/1/exp") == 0)) {
 			CR = CR_ ;
 			for (int j=0; j < numberOfVariables; j++) {
-				if (PseudoRandom.randDouble(0, 1) < CR || j == jrand) {
+				if (randDouble(0, 1) < CR || j == jrand) {
 					double value ;
 					value = xParent2.getValue(j)  + F_ * (xParent0.getValue(j) -
 							xParent1.getValue(j)) ;
@@ -227,7 +235,7 @@ public class DifferentialEvolutionCrossover extends Crossover {
 		else if ((DE_Variant_.compareTo("current-to-rand/1/bin") == 0) ||
 				(DE_Variant_.compareTo("current-to-best/1/bin") == 0)) { 
 			for (int j=0; j < numberOfVariables; j++) {
-				if (PseudoRandom.randDouble(0, 1) < CR_ || j == jrand) {
+				if (randDouble(0, 1) < CR_ || j == jrand) {
 					double value ;
 					value = xCurrent.getValue(j) + K_ * (xParent2.getValue(j) - 
 							xCurrent.getValue(j)) +					
@@ -251,7 +259,7 @@ public class DifferentialEvolutionCrossover extends Crossover {
 				(DE_Variant_.compareTo("current-to-best/1/exp") == 0)) {
 			CR = CR_ ;
 			for (int j=0; j < numberOfVariables; j++) {
-				if (PseudoRandom.randDouble(0, 1) < CR || j == jrand) {
+				if (randDouble(0, 1) < CR || j == jrand) {
 					double value ;
 					value = xCurrent.getValue(j) + K_ * (xParent2.getValue(j) - 
 							xCurrent.getValue(j)) +					
@@ -11,7 +11,6 @@ import jmetal.base.variable.*;
 import jmetal.base.*;    
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
-import jmetal.util.PseudoRandom;
 
 /**
  * This class allows to apply a HUX crossover operator using two parent
@@ -72,14 +71,14 @@ public class HUXCrossover extends Crossover{
     offSpring[0] = new Solution(parent1);
     offSpring[1] = new Solution(parent2);
     try {         
-      if (PseudoRandom.randDouble() < probability) {
+      if (randDouble() < probability) {
         for (int var = 0; var < parent1.getDecisionVariables().length; var++) {
           Binary p1 = (Binary)parent1.getDecisionVariables()[var];
           Binary p2 = (Binary)parent2.getDecisionVariables()[var];
 
           for (int bit = 0; bit < p1.getNumberOfBits(); bit++) {
             if (p1.bits_.get(bit) != p2.bits_.get(bit)) {
-              if (PseudoRandom.randDouble() < 0.5) {
+              if (randDouble() < 0.5) {
                 ((Binary)offSpring[0].getDecisionVariables()[var])
                 .bits_.set(bit,p2.bits_.get(bit));
                 ((Binary)offSpring[1].getDecisionVariables()[var])
@@ -12,7 +12,6 @@ import jmetal.base.*;
 import jmetal.base.variable.*;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
-import jmetal.util.PseudoRandom;
 
 
 /**
@@ -75,15 +74,15 @@ public class PMXCrossover extends Crossover {
 			int offspring1Vector[] = ((Permutation)offspring[0].getDecisionVariables()[0]).vector_ ;
 			int offspring2Vector[] = ((Permutation)offspring[1].getDecisionVariables()[0]).vector_ ;
 
-			if (PseudoRandom.randDouble() < probability) {
+			if (randDouble() < probability) {
 				int cuttingPoint1 ;
 				int cuttingPoint2 ;
 
 				//      STEP 1: Get two cutting points
-				cuttingPoint1 = PseudoRandom.randInt(0,permutationLength-1) ;
-				cuttingPoint2 = PseudoRandom.randInt(0,permutationLength-1) ;
+				cuttingPoint1 = randInt(0,permutationLength-1) ;
+				cuttingPoint2 = randInt(0,permutationLength-1) ;
 				while (cuttingPoint2 == cuttingPoint1)	
-					cuttingPoint2 = PseudoRandom.randInt(0,permutationLength-1) ;
+					cuttingPoint2 = randInt(0,permutationLength-1) ;
 
 				if (cuttingPoint1 > cuttingPoint2) {
 					int swap ;
@@ -12,7 +12,6 @@ import jmetal.base.*;
 import jmetal.base.variable.*;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
-import jmetal.util.PseudoRandom;
 import jmetal.util.Configuration.*;
 import jmetal.util.wrapper.XReal;
 
@@ -24,6 +23,8 @@ import jmetal.util.wrapper.XReal;
  * NOTE: if you use the default constructor, the value of the etc_c parameter is
  * DEFAULT_INDEX_CROSSOVER. You can change it using the parameter 
  * "distributionIndex" before invoking the execute() method -- see lines 196-199
+ * NOTE: if the parameter "solutionPool" holds a <code>SolutionPool</code>, the
+ * offsprings are taken from that pool instead of being allocated
  */
 public class SBXCrossover extends Crossover {
     
@@ -46,6 +47,11 @@ public class SBXCrossover extends Crossover {
    * REAL_SOLUTION represents class jmetal.base.solutionType.ArrayRealSolutionType
    */
   private static Class ARRAY_REAL_SOLUTION ; 
+
+  /**
+   * ARRAY_DOUBLE_SOLUTION represents class jmetal.base.solutionType.ArrayDoubleSolutionType
+   */
+  private static Class ARRAY_DOUBLE_SOLUTION ; 
   
   /** 
    * Constructor
@@ -56,6 +62,7 @@ public class SBXCrossover extends Crossover {
     try {
     	REAL_SOLUTION = Class.forName("jmetal.base.solutionType.RealSolutionType") ;
     	ARRAY_REAL_SOLUTION = Class.forName("jmetal.base.solutionType.ArrayRealSolutionType") ;
+    	ARRAY_DOUBLE_SOLUTION = Class.forName("jmetal.base.solutionType.ArrayDoubleSolutionType") ;
     } catch (ClassNotFoundException e) {
 	    // TODO Auto-generated catch block
 	    e.printStackTrace();
@@ -86,8 +93,14 @@ public class SBXCrossover extends Crossover {
     
     Solution [] offSpring = new Solution[2];
 
-    offSpring[0] = new Solution(parent1);
-    offSpring[1] = new Solution(parent2);
+    SolutionPool pool = (SolutionPool)getParameter("solutionPool");
+    if (pool == null) {
+      offSpring[0] = new Solution(parent1);
+      offSpring[1] = new Solution(parent2);
+    } else {
+      offSpring[0] = pool.borrow(parent1);
+      offSpring[1] = pool.borrow(parent2);
+    } // if
                     
     int i;
     double rand;
@@ -102,11 +115,11 @@ public class SBXCrossover extends Crossover {
 		
 		int numberOfVariables = x1.getNumberOfDecisionVariables() ;
 
-    if (PseudoRandom.randDouble() <= probability){
+    if (randDouble() <= probability){
       for (i=0; i<numberOfVariables; i++){
         valueX1 = x1.getValue(i);
         valueX2 = x2.getValue(i);
-        if (PseudoRandom.randDouble()<=0.5 ){
+        if (randDouble()<=0.5 ){
           if (java.lang.Math.abs(valueX1- valueX2) > EPS){
             
             if (valueX1 < valueX2){
@@ -119,7 +132,7 @@ public class SBXCrossover extends Crossover {
             
             yL = x1.getLowerBound(i) ;
             yu = x1.getUpperBound(i) ;
-            rand = PseudoRandom.randDouble();
+            rand = randDouble();
             beta = 1.0 + (2.0*(y1-yL)/(y2-y1));
             alpha = 2.0 - java.lang.Math.pow(beta,-(eta_c+1.0));
             
@@ -153,7 +166,7 @@ public class SBXCrossover extends Crossover {
             if (c2>yu)
               c2=yu;                        
               
-            if (PseudoRandom.randDouble()<=0.5) {
+            if (randDouble()<=0.5) {
               offs1.setValue(i, c2) ;
               offs2.setValue(i, c1) ;
             } else {
@@ -186,7 +199,9 @@ public class SBXCrossover extends Crossover {
     if (((parents[0].getType().getClass() != REAL_SOLUTION) &&
         (parents[1].getType().getClass() != REAL_SOLUTION)) &&
         ((parents[0].getType().getClass() != ARRAY_REAL_SOLUTION) &&
-         (parents[1].getType().getClass() != ARRAY_REAL_SOLUTION))) {
+         (parents[1].getType().getClass() != ARRAY_REAL_SOLUTION)) &&
+        ((parents[0].getType().getClass() != ARRAY_DOUBLE_SOLUTION) &&
+         (parents[1].getType().getClass() != ARRAY_DOUBLE_SOLUTION))) {
 
       Configuration.logger_.severe("SBXCrossover.execute: the solutions " +
 					"type " + parents[0].getType() + " is not allowed with this operator");
@@ -16,7 +16,6 @@ import jmetal.base.variable.ArrayReal;
 import jmetal.base.variable.Binary;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
-import jmetal.util.PseudoRandom;
 import jmetal.util.wrapper.XReal;
 
 public class SBXSinglePointCrossover extends Mutation {
@@ -83,11 +82,11 @@ public class SBXSinglePointCrossover extends Mutation {
 
 		int numberOfVariables = x1.size() ;
 
-		if (PseudoRandom.randDouble() <= realProbability) {
+		if (randDouble() <= realProbability) {
 			for (int i=0; i<x1.size(); i++){
 				valueX1 = x1.getValue(i);
 				valueX2 = x2.getValue(i);
-				if (PseudoRandom.randDouble()<=0.5 ){
+				if (randDouble()<=0.5 ){
 					if (java.lang.Math.abs(valueX1- valueX2) > EPS) {
 
 						if (valueX1 < valueX2){
@@ -100,7 +99,7 @@ public class SBXSinglePointCrossover extends Mutation {
 
 						yL = x1.getLowerBound(i) ;
 						yu = x1.getUpperBound(i) ;
-						rand = PseudoRandom.randDouble();
+						rand = randDouble();
 						beta = 1.0 + (2.0*(y1-yL)/(y2-y1));
 						alpha = 2.0 - java.lang.Math.pow(beta,-(eta_c_+1.0));
 
@@ -134,7 +133,7 @@ public class SBXSinglePointCrossover extends Mutation {
 						if (c2>yu)
 							c2=yu;                        
 
-						if (PseudoRandom.randDouble()<=0.5) {
+						if (randDouble()<=0.5) {
 							offs1.setValue(i, c2) ;
 							offs2.setValue(i, c1) ;
 						} else {
@@ -156,14 +155,14 @@ public class SBXSinglePointCrossover extends Mutation {
 	
 		// Single point crossover
 
-		if (PseudoRandom.randDouble()<=binaryProbability) {
+		if (randDouble()<=binaryProbability) {
 			Binary binaryChild0 = (Binary)offSpring[0].getDecisionVariables()[1] ;
 			Binary binaryChild1 = (Binary)offSpring[1].getDecisionVariables()[1] ;
 
 			int totalNumberOfBits = binaryChild0.getNumberOfBits() ;
 
 			//2. Calcule the point to make the crossover
-			int crossoverPoint = PseudoRandom.randInt(0, totalNumberOfBits - 1);
+			int crossoverPoint = randInt(0, totalNumberOfBits - 1);
 
 			//5. Make the crossover;
 			for (int i = crossoverPoint;
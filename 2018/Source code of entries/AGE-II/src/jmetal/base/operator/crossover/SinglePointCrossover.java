@@ -13,7 +13,6 @@ import jmetal.base.variable.*;
 import jmetal.base.*;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
-import jmetal.util.PseudoRandom;
 import jmetal.util.Configuration.*;
 
 /**
@@ -75,7 +74,7 @@ public class SinglePointCrossover extends Crossover {
     offSpring[0] = new Solution(parent1);
     offSpring[1] = new Solution(parent2);
     try {
-      if (PseudoRandom.randDouble() < probability) {
+      if (randDouble() < probability) {
         if ((parent1.getType().getClass() == BINARY_SOLUTION) ||
             (parent1.getType().getClass() == BINARY_REAL_SOLUTION)) {
           //1. Compute the total number of bits
@@ -86,7 +85,7 @@ public class SinglePointCrossover extends Crossover {
           }
 
           //2. Calcule the point to make the crossover
-          int crossoverPoint = PseudoRandom.randInt(0, totalNumberOfBits - 1);
+          int crossoverPoint = randInt(0, totalNumberOfBits - 1);
 
           //3. Compute the variable that containt the crossoverPoint bit
           int variable = 0;
@@ -139,7 +138,7 @@ public class SinglePointCrossover extends Crossover {
           }
         } // Binary or BinaryReal
         else { // Integer representation
-          int crossoverPoint = PseudoRandom.randInt(0, parent1.numberOfVariables() - 1);
+          int crossoverPoint = randInt(0, parent1.numberOfVariables() - 1);
           int valueX1;
           int valueX2;
           for (int i = crossoverPoint; i < parent1.numberOfVariables(); i++) {
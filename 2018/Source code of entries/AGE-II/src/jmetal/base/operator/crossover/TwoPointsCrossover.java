@@ -11,7 +11,6 @@ import jmetal.base.*;
 import jmetal.base.variable.*;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
-import jmetal.util.PseudoRandom;
 import jmetal.util.Configuration.*;
 
 /**
@@ -71,7 +70,7 @@ public class TwoPointsCrossover extends Crossover {
 		try {
 			if (parent1.getDecisionVariables()[0].getVariableType() ==
 				Class.forName("jmetal.base.variable.Permutation")) {
-				if (PseudoRandom.randDouble() < probability) {
+				if (randDouble() < probability) {
 					int crosspoint1        ;
 					int crosspoint2        ;
 					int permutationLength  ;
@@ -87,11 +86,11 @@ public class TwoPointsCrossover extends Crossover {
 					offspring2Vector = ((Permutation)offspring[1].getDecisionVariables()[0]).vector_ ;
 
 					// STEP 1: Get two cutting points
-					crosspoint1 = PseudoRandom.randInt(0,permutationLength-1) ;
-					crosspoint2 = PseudoRandom.randInt(0,permutationLength-1) ;
+					crosspoint1 = randInt(0,permutationLength-1) ;
+					crosspoint2 = randInt(0,permutationLength-1) ;
 
 					while (crosspoint2 == crosspoint1)  
-						crosspoint2 = PseudoRandom.randInt(0,permutationLength-1) ;
+						crosspoint2 = randInt(0,permutationLength-1) ;
 
 					if (crosspoint1 > crosspoint2) {
 						int swap ;
@@ -11,7 +11,6 @@ import jmetal.base.Solution;
 import jmetal.base.variable.*;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
-import jmetal.util.PseudoRandom;
 import jmetal.base.operator.mutation.Mutation;
 
 /**
@@ -69,7 +68,7 @@ public class BitFlipMutation extends Mutation {
 					(solution.getType().getClass() == BINARY_REAL_SOLUTION)) {
 				for (int i = 0; i < solution.getDecisionVariables().length; i++) {
 					for (int j = 0; j < ((Binary) solution.getDecisionVariables()[i]).getNumberOfBits(); j++) {
-						if (PseudoRandom.randDouble() < probability) {
+						if (randDouble() < probability) {
 							((Binary) solution.getDecisionVariables()[i]).bits_.flip(j);
 						}
 					}
@@ -81,8 +80,8 @@ public class BitFlipMutation extends Mutation {
 			} // if
 			else { // Integer representation
 				for (int i = 0; i < solution.getDecisionVariables().length; i++)
-					if (PseudoRandom.randDouble() < probability) {
-						int value = (int) (PseudoRandom.randInt(
+					if (randDouble() < probability) {
+						int value = (int) (randInt(
 								(int)solution.getDecisionVariables()[i].getUpperBound(),
 								(int)solution.getDecisionVariables()[i].getLowerBound()));
 						solution.getDecisionVariables()[i].setValue(value);
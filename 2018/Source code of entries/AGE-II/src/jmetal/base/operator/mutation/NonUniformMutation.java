@@ -10,7 +10,6 @@ import java.util.Properties;
 import jmetal.base.Solution;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
-import jmetal.util.PseudoRandom;
 import jmetal.util.wrapper.XReal;
 import jmetal.base.operator.mutation.Mutation;
 
@@ -80,8 +79,8 @@ public class NonUniformMutation extends Mutation{
 
   	XReal x = new XReal(solution) ; 
     for (int var = 0; var < solution.getDecisionVariables().length; var++) {         
-      if (PseudoRandom.randDouble() < probability) {
-        double rand = PseudoRandom.randDouble();
+      if (randDouble() < probability) {
+        double rand = randDouble();
         double tmp;
                 
         if (rand <= 0.5) {
@@ -110,7 +109,7 @@ public class NonUniformMutation extends Mutation{
    * Calculates the delta value used in NonUniform mutation operator
    */
   private double delta(double y, double bMutationParameter) {
-    double rand = PseudoRandom.randDouble();
+    double rand = randDouble();
     int it,maxIt;
     it    = actualIteration_.intValue();
     maxIt = maxIterations_.intValue();
@@ -16,7 +16,6 @@ import jmetal.base.variable.ArrayReal;
 import jmetal.base.variable.Binary;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
-import jmetal.util.PseudoRandom;
 import jmetal.util.wrapper.XReal;
 
 public class PolynomialBitFlipMutation extends Mutation {
@@ -105,13 +104,13 @@ public class PolynomialBitFlipMutation extends Mutation {
 		
 		// Polynomial mutation applied to the array real
 		for (int var=0; var < x.size(); var++) {	
-			if (PseudoRandom.randDouble() <= realProbability) {
+			if (randDouble() <= realProbability) {
 				y      = x.getValue(var);
 				yl     = x.getLowerBound(var);                
 				yu     = x.getUpperBound(var);
 				delta1 = (y-yl)/(yu-yl);
 				delta2 = (yu-y)/(yu-yl);
-				rnd = PseudoRandom.randDouble();
+				rnd = randDouble();
 				mut_pow = 1.0/(eta_m_+1.0);
 				if (rnd <= 0.5)
 				{
@@ -136,7 +135,7 @@ public class PolynomialBitFlipMutation extends Mutation {
 
 		// BitFlip mutation applied to the binary part
 		for (int i = 0; i < binaryVariable.getNumberOfBits(); i++)
-			if (PseudoRandom.randDouble() < binaryProbability) 
+			if (randDouble() < binaryProbability) 
 				binaryVariable.bits_.flip(i) ;
 	} // doMutation
 } // PolynomialBitFlipMutation
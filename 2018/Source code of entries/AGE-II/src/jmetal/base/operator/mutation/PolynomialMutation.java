@@ -10,7 +10,6 @@ import java.util.Properties;
 import jmetal.base.Solution;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
-import jmetal.util.PseudoRandom;
 import jmetal.util.wrapper.XReal;
 import jmetal.base.operator.mutation.Mutation;
 import jmetal.base.variable.ArrayReal;
@@ -44,6 +43,11 @@ public class PolynomialMutation extends Mutation {
    */
   private static Class ARRAY_REAL_SOLUTION ; 
 
+  /**
+   * ARRAY_DOUBLE_SOLUTION represents class jmetal.base.solutionType.ArrayDoubleSolutionType
+   */
+  private static Class ARRAY_DOUBLE_SOLUTION ; 
+
 	/**
 	 * Constructor
 	 * Creates a new instance of the polynomial mutation operator
@@ -52,6 +56,7 @@ public class PolynomialMutation extends Mutation {
     try {
     	REAL_SOLUTION = Class.forName("jmetal.base.solutionType.RealSolutionType") ;
     	ARRAY_REAL_SOLUTION = Class.forName("jmetal.base.solutionType.ArrayRealSolutionType") ;
+    	ARRAY_DOUBLE_SOLUTION = Class.forName("jmetal.base.solutionType.ArrayDoubleSolutionType") ;
     } catch (ClassNotFoundException e) {
 	    // TODO Auto-generated catch block
 	    e.printStackTrace();
@@ -89,14 +94,14 @@ public class PolynomialMutation extends Mutation {
 		double y, yl, yu, val, xy;
 		XReal x = new XReal(solution) ;		
 		for (int var=0; var < solution.numberOfVariables(); var++) {
-			if (PseudoRandom.randDouble() <= probability)
+			if (randDouble() <= probability)
 			{
 				y      = x.getValue(var);
 				yl     = x.getLowerBound(var);                
 				yu     = x.getUpperBound(var);
 				delta1 = (y-yl)/(yu-yl);
 				delta2 = (yu-y)/(yu-yl);
-				rnd = PseudoRandom.randDouble();
+				rnd = randDouble();
 				mut_pow = 1.0/(eta_m_+1.0);
 				if (rnd <= 0.5)
 				{
@@ -131,7 +136,8 @@ public class PolynomialMutation extends Mutation {
 		Solution solution = (Solution)object;
 
 		if ((solution.getType().getClass() != REAL_SOLUTION)  &&
-				(solution.getType().getClass() != ARRAY_REAL_SOLUTION)) {
+				(solution.getType().getClass() != ARRAY_REAL_SOLUTION) &&
+				(solution.getType().getClass() != ARRAY_DOUBLE_SOLUTION)) {
 			Configuration.logger_.severe("PolynomialMutation.execute: the solution " +
 					"type " + solution.getType() + " is not allowed with this operator");
 
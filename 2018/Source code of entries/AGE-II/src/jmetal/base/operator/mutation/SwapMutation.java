@@ -12,7 +12,6 @@ import jmetal.base.Solution;
 import jmetal.base.variable.*;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
-import jmetal.util.PseudoRandom;
 import jmetal.base.operator.mutation.Mutation;
 
 /**
@@ -51,18 +50,18 @@ public class SwapMutation extends Mutation{
 	      permutationLength = ((Permutation)solution.getDecisionVariables()[0]).getLength() ;
 	      permutation = ((Permutation)solution.getDecisionVariables()[0]).vector_ ;
 
-	      if (PseudoRandom.randDouble() < probability) {
+	      if (randDouble() < probability) {
 	        int pos1 ;
 	        int pos2 ;
 
-	        pos1 = PseudoRandom.randInt(0,permutationLength-1) ;
-	        pos2 = PseudoRandom.randInt(0,permutationLength-1) ;
+	        pos1 = randInt(0,permutationLength-1) ;
+	        pos2 = randInt(0,permutationLength-1) ;
 
 	        while (pos1 == pos2) {
 	          if (pos1 == (permutationLength - 1)) 
-	            pos2 = PseudoRandom.randInt(0, permutationLength- 2);
+	            pos2 = randInt(0, permutationLength- 2);
 	          else 
-	            pos2 = PseudoRandom.randInt(pos1, permutationLength- 1);
+	            pos2 = randInt(pos1, permutationLength- 1);
 	        } // while
 	        // swap
 	        int temp = permutation[pos1];
@@ -10,7 +10,6 @@ import java.util.Properties;
 import jmetal.base.Solution;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
-import jmetal.util.PseudoRandom;
 import jmetal.util.wrapper.XReal;
 import jmetal.base.operator.mutation.Mutation;
 
@@ -69,8 +68,8 @@ public class UniformMutation extends Mutation{
   	XReal x = new XReal(solution) ; 
 
     for (int var = 0; var < solution.getDecisionVariables().length; var++) {
-      if (PseudoRandom.randDouble() < probability) {
-        double rand = PseudoRandom.randDouble();
+      if (randDouble() < probability) {
+        double rand = randDouble();
         double tmp = (rand - 0.5)*perturbation_.doubleValue();
                                 
         tmp += x.getValue(var);
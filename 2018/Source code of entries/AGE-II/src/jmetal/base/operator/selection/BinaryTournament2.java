@@ -12,7 +12,6 @@ import jmetal.base.Solution;
 import jmetal.base.Operator;
 import jmetal.base.SolutionSet;
 import jmetal.base.operator.comparator.DominanceComparator;
-import jmetal.util.PseudoRandom;
 
 /**
  * This class implements an opertor for binary selections using the same code
@@ -88,7 +87,7 @@ public class BinaryTournament2 extends Selection {
       if (debugPrint) System.out.println("execute solution2");
         return solution2; }
     else {
-      if (PseudoRandom.randDouble()<0.5) {
+      if (randDouble()<0.5) {
         if (debugPrint) System.out.println("execute rand solution1");
           return solution1; }
       else {
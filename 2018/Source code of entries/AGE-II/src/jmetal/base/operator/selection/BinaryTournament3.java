@@ -12,7 +12,6 @@ import jmetal.base.Solution;
 import jmetal.base.Operator;
 import jmetal.base.SolutionSet;
 import jmetal.base.operator.comparator.DominanceComparator;
-import jmetal.util.PseudoRandom;
 
 /**
  * This class implements an opertor for binary selections using the same code
@@ -101,7 +100,7 @@ public class BinaryTournament3 extends Selection {
     
     
     else {
-      if (PseudoRandom.randDouble()<0.5) {
+      if (randDouble()<0.5) {
         if (debugPrint) System.out.println("execute rand solution1");
           return solution1; }
       else {
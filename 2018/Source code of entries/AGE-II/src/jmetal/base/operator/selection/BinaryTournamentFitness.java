@@ -11,7 +11,6 @@ import jmetal.base.Solution;
 import jmetal.base.Operator;
 import jmetal.base.SolutionSet;
 import jmetal.base.operator.comparator.*;
-import jmetal.util.PseudoRandom;
 
 /**
  * This class implements an opertor for binary selections
@@ -57,9 +56,9 @@ public class BinaryTournamentFitness extends Selection {
 //    System.out.println("test11");
 
 //    solution1 = SolutionSet.get( (int)Math.round( Math.random()*(SolutionSet.size()-1d) ));
-    solution1 = SolutionSet.get(PseudoRandom.randInt(0,SolutionSet.size()-1));
+    solution1 = SolutionSet.get(randInt(0,SolutionSet.size()-1));
 //    solution2 = SolutionSet.get( (int)Math.round( Math.random()*(SolutionSet.size()-1d) ));
-    solution2 = SolutionSet.get(PseudoRandom.randInt(0,SolutionSet.size()-1));
+    solution2 = SolutionSet.get(randInt(0,SolutionSet.size()-1));
 
 //      System.out.println("test2");
 
@@ -69,7 +68,7 @@ public class BinaryTournamentFitness extends Selection {
     else if (flag == 1)
       return solution2;
     else
-      if (PseudoRandom.randDouble()<0.5)
+      if (randDouble()<0.5)
         return solution1;
       else
         return solution2;                       
@@ -11,7 +11,6 @@ import jmetal.base.Solution;
 import jmetal.base.SolutionSet;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
-import jmetal.util.PseudoRandom;
 
 public class DifferentialEvolutionSelection extends Selection {
 
@@ -40,13 +39,13 @@ public class DifferentialEvolutionSelection extends Selection {
       throw new JMException("DifferentialEvolutionSelection: the population has less than four solutions") ;
 
     do {
-      r1 = (int)(PseudoRandom.randInt(0,population.size()-1));
+      r1 = (int)(randInt(0,population.size()-1));
     } while( r1==index );
     do {
-      r2 = (int)(PseudoRandom.randInt(0,population.size()-1));
+      r2 = (int)(randInt(0,population.size()-1));
     } while( r2==index || r2==r1);
     do {
-      r3 = (int)(PseudoRandom.randInt(0,population.size()-1));
+      r3 = (int)(randInt(0,population.size()-1));
     } while( r3==index || r3==r1 || r3==r2 );
 
     parents[0] = population.get(r1) ;
@@ -10,7 +10,6 @@ import jmetal.base.*;
 import jmetal.util.archive.*;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
-import jmetal.util.PseudoRandom;
 
 /** 
  * This class implements a selection operator as the used in PESA-II 
@@ -43,7 +42,7 @@ public class PESA2Selection extends Selection {
         
           selected = hypercube2;
         } else {
-          if (PseudoRandom.randDouble() < 0.5) {
+          if (randDouble() < 0.5) {
             selected = hypercube2;
           } else {
             selected = hypercube1;
@@ -52,7 +51,7 @@ public class PESA2Selection extends Selection {
       } else { 
         selected = hypercube1;
       }
-      int base = PseudoRandom.randInt(0,archive.size()-1);
+      int base = randInt(0,archive.size()-1);
       int cnt = 0;
       while (cnt < archive.size()){   
         Solution individual = archive.get((base + cnt)% archive.size());        
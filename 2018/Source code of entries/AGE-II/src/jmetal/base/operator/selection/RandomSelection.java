@@ -6,7 +6,6 @@
 package jmetal.base.operator.selection;
 
 import jmetal.base.*;
-import jmetal.util.PseudoRandom;
 
 /**
  * This class implements a random selection operator used for selecting two
@@ -22,10 +21,10 @@ public class RandomSelection extends Selection {
   public Object execute(Object object) {
     SolutionSet population = (SolutionSet)object;
     int pos1, pos2;
-    pos1 = PseudoRandom.randInt(0,population.size()-1);
-    pos2 = PseudoRandom.randInt(0,population.size()-1);
+    pos1 = randInt(0,population.size()-1);
+    pos2 = randInt(0,population.size()-1);
     while ((pos1 == pos2) && (population.size()>1)) {
-      pos2 = PseudoRandom.randInt(0,population.size()-1);
+      pos2 = randInt(0,population.size()-1);
     }
     
     Solution [] parents = new Solution[2];
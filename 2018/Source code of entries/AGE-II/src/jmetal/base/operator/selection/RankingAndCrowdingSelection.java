@@ -12,6 +12,7 @@ import jmetal.util.Configuration;
 import jmetal.util.Distance;
 import jmetal.util.JMException;
 import jmetal.util.Ranking;
+import jmetal.util.RankingFactory;
 import java.util.Comparator;
 import jmetal.base.operator.comparator.*;
 
@@ -80,7 +81,11 @@ public class RankingAndCrowdingSelection extends Selection {
     } // if
     
     //->Ranking the union
-    Ranking ranking = new Ranking(population);                        
+    Ranking ranking;
+    if (getParameter("ranking") == null)
+      ranking = new Ranking(population);
+    else
+      ranking = RankingFactory.getRanking((String)getParameter("ranking"), population);
 
     int remain = populationSize;
     int index  = 0;
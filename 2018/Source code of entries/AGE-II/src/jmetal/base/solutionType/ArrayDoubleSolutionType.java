@@ -0,0 +1,73 @@
+/**
+ * ArrayDoubleSolutionType
+ *
+ * @version 1.0
+ *
+ * Class representing the solution type of real-coded solutions whose decision
+ * variables are stored in a single ArrayDouble variable (one contiguous
+ * double[] per solution instead of one Real object per variable)
+ */
+package jmetal.base.solutionType;
+
+import jmetal.base.Problem;
+import jmetal.base.SolutionType;
+import jmetal.base.Variable;
+import jmetal.base.variable.ArrayDouble;
+
+public class ArrayDoubleSolutionType extends SolutionType {
+
+	/**
+	 * Constructor
+	 * @param problem
+	 * @throws ClassNotFoundException
+	 */
+	public ArrayDoubleSolutionType(Problem problem) throws ClassNotFoundException {
+		super(problem) ;
+		problem_.variableType_ = new Class[1];
+		problem_.setSolutionType(this) ;
+
+		// Initializing the types of the variables
+	  problem_.variableType_[0] = Class.forName("jmetal.base.variable.ArrayDouble") ;
+	}
+
+	/**
+	 * Creates the variables of the solution
+	 * @param decisionVariables
+	 */
+	public Variable[] createVariables() {
+		Variable [] variables = new Variable[1];
+
+    variables[0] = new ArrayDouble(problem_.getNumberOfVariables(), problem_);
+    return variables ;
+	} // createVariables
+
+	/**
+	 * Copy the variables
+	 * @param decisionVariables
+	 * @return An array of variables
+	 */
+	public Variable[] copyVariables(Variable[] vars) {
+		Variable[] variables ;
+
+		variables = new Variable[1];
+	  variables[0] = new ArrayDouble((ArrayDouble)vars[0]);
+
+		return variables ;
+	} // copyVariables
+
+	/**
+	 * Copies the values of the array into the ArrayDouble of target
+	 * @param vars The variables to copy
+	 * @param target The variables to overwrite (may be null)
+	 * @return An array of variables holding the copy (target if reused)
+	 */
+	public Variable[] copyVariables(Variable[] vars, Variable[] target) {
+		if ((target == null) ||
+				(((ArrayDouble)target[0]).size_ != ((ArrayDouble)vars[0]).size_))
+			return copyVariables(vars) ;
+
+		System.arraycopy(((ArrayDouble)vars[0]).array_, 0, 
+				             ((ArrayDouble)target[0]).array_, 0, ((ArrayDouble)vars[0]).size_) ;
+		return target ;
+	} // copyVariables
+} // ArrayDoubleSolutionType
@@ -14,6 +14,8 @@ import jmetal.base.Problem;
 import jmetal.base.SolutionType;
 import jmetal.base.Variable;
 import jmetal.base.variable.Real;
+import jmetal.util.Configuration;
+import jmetal.util.JMException;
 
 public class RealSolutionType extends SolutionType {
 
@@ -46,4 +48,25 @@ public class RealSolutionType extends SolutionType {
 
 		return variables ;
 	} // createVariables
+
+	/**
+	 * Copies the values of the variables into the Real objects of target
+	 * @param vars The variables to copy
+	 * @param target The variables to overwrite (may be null)
+	 * @return An array of variables holding the copy (target if reused)
+	 */
+	public Variable[] copyVariables(Variable[] vars, Variable[] target) {
+		if ((target == null) || (target.length != vars.length))
+			return copyVariables(vars) ;
+
+		try {
+			for (int var = 0; var < vars.length; var++)
+				target[var].setValue(vars[var].getValue()) ;
+		} catch (JMException e) {
+			Configuration.logger_.severe("RealSolutionType.copyVariables: JMException");
+			return copyVariables(vars) ;
+		} // catch
+
+		return target ;
+	} // copyVariables
 } // RealSolutionType
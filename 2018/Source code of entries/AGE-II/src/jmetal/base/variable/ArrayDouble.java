@@ -0,0 +1,159 @@
+/**
+ * ArrayDouble.java
+ *
+ * @version 1.0
+ */
+package jmetal.base.variable;
+
+import jmetal.base.Problem;
+import jmetal.base.Variable;
+import jmetal.util.Configuration;
+import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
+
+/**
+ * This class implements a decision variable composed of an array of primitive
+ * doubles. Contrary to <code>ArrayReal</code>, the values are not boxed, so a
+ * real-coded solution is stored in one contiguous block and can be read and
+ * written by operators and problems without virtual calls. The bounds of the
+ * values are taken from the problem.
+ */
+public class ArrayDouble extends Variable {
+	private static final long serialVersionUID = 2893571525961879901L;
+
+	/**
+	 * Problem using the type
+	 */
+	Problem problem_ ;
+
+	/**
+	 * Stores the values of the array
+	 */
+	public double [] array_;
+
+	/**
+	 * Stores the length of the array
+	 */
+	public int size_;
+
+	/**
+	 * Constructor
+	 */
+	public ArrayDouble() {
+		problem_ = null ;
+		size_   = 0;
+		array_ = null;
+	} // Constructor
+
+	/**
+	 * Constructor
+	 * @param size Size of the array
+	 * @param problem The problem providing the bounds of the values
+	 */
+	public ArrayDouble(int size, Problem problem) {
+		problem_ = problem ;
+		size_   = size;
+		array_ = new double[size_];
+
+		for (int i = 0; i < size_ ; i++) {
+			array_[i] = PseudoRandom.randDouble()*(problem_.getUpperLimit(i)-
+					                                   problem_.getLowerLimit(i))+
+					                                   problem_.getLowerLimit(i);
+		} // for
+	} // Constructor
+
+	/**
+	 * Copy Constructor
+	 * @param arrayDouble The arrayDouble to copy
+	 */
+	public ArrayDouble(ArrayDouble arrayDouble) {
+		problem_ = arrayDouble.problem_ ;
+		size_  = arrayDouble.size_;
+		array_ = new double[size_];
+
+		System.arraycopy(arrayDouble.array_, 0, array_, 0, size_) ;
+	} // Copy Constructor
+
+	@Override
+	public Variable deepCopy() {
+		return new ArrayDouble(this);
+	} // deepCopy
+
+	/**
+	 * Returns the length of the arrayDouble.
+	 * @return The length
+	 */
+	public int getLength(){
+		return size_;
+	} // getLength
+
+	/**
+	 * getValue
+	 * @param index Index of value to be returned
+	 * @return the value in position index
+	 */
+	public double getValue(int index) throws JMException {
+		if ((index >= 0) && (index < size_))
+			return array_[index] ;
+		else {
+			Configuration.logger_.severe("jmetal.base.variable.ArrayDouble.getValue: index value (" + index + ") invalid");
+			throw new JMException("jmetal.base.variable.ArrayDouble: index value (" + index + ") invalid") ;
+		} // if
+	} // getValue
+
+	/**
+	 * setValue
+	 * @param index Index of value to be returned
+	 * @param value The value to be set in position index
+	 */
+	public void setValue(int index, double value) throws JMException {
+		if ((index >= 0) && (index < size_))
+			array_[index] = value;
+		else {
+			Configuration.logger_.severe("jmetal.base.variable.ArrayDouble.setValue: index value (" + index + ") invalid");
+			throw new JMException("jmetal.base.variable.ArrayDouble: index value (" + index + ") invalid") ;
+		} // else
+	} // setValue
+
+	/**
+	 * Get the lower bound of a value
+	 * @param index The index of the value
+	 * @return the lower bound
+	 */
+	public double getLowerBound(int index) throws JMException {
+		if ((index >= 0) && (index < size_))
+			return problem_.getLowerLimit(index) ;
+		else {
+			Configuration.logger_.severe("jmetal.base.variable.ArrayDouble.getLowerBound: index value (" + index + ") invalid");
+			throw new JMException("jmetal.base.variable.getLowerBound: index value (" + index + ") invalid") ;
+		} // else
+	} // getLowerBound
+
+	/**
+	 * Get the upper bound of a value
+	 * @param index The index of the value
+	 * @return the upper bound
+	 */
+	public double getUpperBound(int index) throws JMException {
+		if ((index >= 0) && (index < size_))
+			return problem_.getUpperLimit(index);
+		else {
+			Configuration.logger_.severe("jmetal.base.variable.ArrayDouble.getUpperBound: index value (" + index + ") invalid");
+			throw new JMException("jmetal.base.variable.getUpperBound: index value (" + index + ") invalid") ;
+		} // else
+	} // getUpperBound
+
+	/**
+	 * Returns a string representing the object
+	 * @return The string
+	 */
+	public String toString(){
+		StringBuilder string = new StringBuilder() ;
+
+		for (int i = 0; i < (size_ - 1); i ++)
+			string.append(array_[i]).append(" ") ;
+
+		string.append(array_[size_ -1]) ;
+		return string.toString() ;
+	} // toString
+} // ArrayDouble
@@ -30,6 +30,7 @@ import jmetal.experiments.util.RWilcoxon;
 import jmetal.experiments.util.Statistics;
 import jmetal.experiments.util.runExperiment;
 import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
 
 /**
  *
@@ -105,6 +106,9 @@ public abstract class Experiment {
     // Step 1: check experiment base directory
     checkExperimentDirectory();
 
+    // Every thread draws from its own stream of the master seed
+    PseudoRandom.setSeedFromProperty();
+
     map_.put("experimentDirectory", experimentBaseDirectory_);
     map_.put("algorithmNameList", algorithmNameList_);
     map_.put("problemList", problemList_);
@@ -78,7 +78,8 @@ public abstract class Settings {
 						if (fields[i].getName().equals("mutationProbability_") &&
 								value == 0) {
 							if ((problem_.getSolutionType().getClass() == Class.forName("jmetal.base.solutionType.RealSolutionType")) ||
-									(problem_.getSolutionType().getClass() == Class.forName("jmetal.base.solutionType.ArrayRealSolutionType"))) {
+									(problem_.getSolutionType().getClass() == Class.forName("jmetal.base.solutionType.ArrayRealSolutionType")) ||
+									(problem_.getSolutionType().getClass() == Class.forName("jmetal.base.solutionType.ArrayDoubleSolutionType"))) {
 								value = 1.0 / problem_.getNumberOfVariables();
 							} else if (problem_.getSolutionType().getClass() == Class.forName("jmetal.base.solutionType.BinarySolutionType") ||
 									problem_.getSolutionType().getClass() == Class.forName("jmetal.base.solutionType.BinaryRealSolutionType")) {
@@ -18,6 +18,7 @@ import jmetal.experiments.Experiment;
 import jmetal.experiments.Settings;
 import jmetal.problems.ProblemFactory;
 import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
 import jmetal.qualityIndicator.* ;
 /**
  *
@@ -83,6 +84,9 @@ public class runExperiment extends Thread {
   public void run() {
     Algorithm[] algorithm; // jMetal algorithms to be executed
 
+    // stream 0 is the one of the thread that seeded the experiment
+    PseudoRandom.useStream(id_ + 1);
+
     String experimentName = (String) map_.get("name");
     experimentBaseDirectory_ = (String) map_.get("experimentDirectory");
     algorithmNameList_ = (String[]) map_.get("algorithmNameList");
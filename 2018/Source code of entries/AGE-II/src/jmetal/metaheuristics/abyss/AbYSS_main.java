@@ -24,6 +24,7 @@ import jmetal.problems.LZ09.* ;
 import jmetal.qualityIndicator.QualityIndicator;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
 import java.util.logging.FileHandler;
 import java.util.logging.Logger;
 
@@ -50,6 +51,7 @@ public class AbYSS_main {
    */
   public static void main(String [] args) throws 
                                  JMException, SecurityException, IOException, ClassNotFoundException {    
+    PseudoRandom.setSeedFromProperty() ;
     Problem   problem     ; // The problem to solve
     Algorithm algorithm   ; // The algorithm to use
     Operator  crossover   ; // Crossover operator
@@ -7,14 +7,14 @@
 package jmetal.metaheuristics.age;
 
 import java.io.File;
-import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
 import jmetal.base.*;
 import jmetal.base.operator.comparator.DominanceComparator;
 import jmetal.qualityIndicator.QualityIndicator;
 import jmetal.util.*;
+import jmetal.util.archive.NDTreeArchive;
+import jmetal.util.evaluator.AsynchronousEvaluator;
 
 /**
  * This class represents the AGE algorithm (GECCO 2013 version)
@@ -40,6 +40,12 @@ public class AGE extends Algorithm {
      */
     private Problem problem_;
 
+    /**
+     * Stores the pool computing the approximations of the archive points when
+     * reducing the population (null if they are computed sequentially)
+     */
+    private ForkJoinPool approximationPool_;
+
     /**
      * Constructor.
      * Create a new AGE instance
@@ -84,6 +90,37 @@ public class AGE extends Algorithm {
         selectionOperator = operators_.get("selection");
         System.out.println("selector:"+selectionOperator.toString());
 
+        // Offspring rejected by the population or the archive are returned to
+        // a pool from which the crossover operator takes its new solutions.
+        // Only offspring that never entered a solution set are returned.
+        boolean useSolutionPool;
+        if (getInputParameter("useSolutionPool")==null) useSolutionPool = true;
+            else useSolutionPool = ((Boolean) getInputParameter("useSolutionPool")).booleanValue();
+        SolutionPool solutionPool = null;
+        if (useSolutionPool && doCrossover) {
+            solutionPool = new SolutionPool(problem_, populationSize);
+            crossoverOperator.setParameter("solutionPool", solutionPool);
+        }
+
+        // The approximations of the archive by the population are computed
+        // by a fork-join pool when more than one thread is given.
+        int approximationThreads;
+        if (getInputParameter("approximationThreads")==null) approximationThreads = 1;
+            else approximationThreads = ((Integer) getInputParameter("approximationThreads")).intValue();
+        if (approximationThreads > 1) approximationPool_ = new ForkJoinPool(approximationThreads);
+            else approximationPool_ = null;
+
+        /* Number of offspring evaluated concurrently. The parents are taken from
+         * solutionSet, which does not change while the offspring are generated,
+         * so only the order in which they enter the archive depends on it.
+         * Without crossover the offspring are the parents themselves and cannot
+         * be evaluated while they may be selected again.
+         */
+        int evaluationsInFlight;
+        if (getInputParameter("evaluationsInFlight")==null || !doCrossover) evaluationsInFlight = 1;
+            else evaluationsInFlight = ((Integer) getInputParameter("evaluationsInFlight")).intValue();
+        AsynchronousEvaluator asynchronousEvaluator = new AsynchronousEvaluator(problem_, evaluationsInFlight);
+
         //Initialize the variables
         solutionSet = new SolutionSet(populationSize);
         evaluations = 0;
@@ -126,6 +163,19 @@ public class AGE extends Algorithm {
         
         System.out.println("initial: population.size()="+solutionSet.size()+" archive.size()="+archive.size());
 
+        // The archive is indexed by an ND-tree, which answers the dominance
+        // checks of the offspring without scanning the whole archive. The
+        // tree ignores constraints and epsilon boxes, so that it is only used
+        // without them.
+        boolean useArchiveIndex;
+        if (getInputParameter("useArchiveIndex")==null) useArchiveIndex = true;
+            else useArchiveIndex = ((Boolean) getInputParameter("useArchiveIndex")).booleanValue();
+        NDTreeArchive archiveIndex = null;
+        if (useArchiveIndex && !useEpsilonBoxesArchive && problem_.getNumberOfConstraints()==0) {
+            archiveIndex = new NDTreeArchive(problem_.getNumberOfObjectives());
+            archiveIndex.addAll(archive);
+        }
+
         Comparator cNormal = new DominanceComparator();
 
         
@@ -224,18 +274,23 @@ public class AGE extends Algorithm {
             
             
 //  /*mu+1*/      for (int kk = 0; kk<1 ; kk++){
+            int generated = 0;
    /*mu+mu*/    for (int kk = 0; kk<populationSize; kk++){                     // loop condition: generate lambda inividuals
+                    while (!asynchronousEvaluator.isFull() && generated<populationSize) {     // keep the evaluations in flight
                         parents[0] = (Solution) selectionOperator.execute(solutionSet); // carefull! the operator may work on the fitness values (which we did not really have in the beginning)
                         parents[1] = (Solution) selectionOperator.execute(solutionSet);
 
-                    //make the crossover and generate a single child
-                    if (doCrossover) offSpring = (Solution [])crossoverOperator.execute(parents);    // 2 parents are XOed
-                        else offSpring = parents;                                                    // no XO
-                    if (doMutation) mutationOperator.execute(offSpring[0]);                          // mutation
+                        //make the crossover and generate a single child
+                        if (doCrossover) offSpring = (Solution [])crossoverOperator.execute(parents);    // 2 parents are XOed
+                            else offSpring = parents;                                                    // no XO
+                        if (solutionPool != null) solutionPool.giveBack(offSpring[1]);                   // second child is never used
+                        if (doMutation) mutationOperator.execute(offSpring[0]);                          // mutation
 
-                    // FITNESS EVALUATION - note: this does not set fitness, just runs the problem functions
-                    problem_.evaluate(offSpring[0]);
-                    problem_.evaluateConstraints(offSpring[0]);
+                        // FITNESS EVALUATION - note: this does not set fitness, just runs the problem functions
+                        asynchronousEvaluator.submit(offSpring[0]);
+                        generated++;
+                    }
+                    offSpring = new Solution[] {asynchronousEvaluator.take()};                      // next evaluated child
                     evaluations++;
 
                     
@@ -247,7 +302,9 @@ public class AGE extends Algorithm {
                     
                     boolean debugPrintEpsilon = false;
                     
-                    for (int i = 0; i<archive.size(); i++) {
+                    if (archiveIndex != null)
+                        newPointIsDominatedByOldArchive = archiveIndex.update(offSpring[0], true, 0);
+                    else for (int i = 0; i<archive.size(); i++) {
                         Solution archiveSolution = archive.get(i);
                         /*
                          * COMPARE: return -1, or 0, or 1 if solution1 dominates solution2, both are
@@ -310,6 +367,8 @@ public class AGE extends Algorithm {
                             // use if the domination by the archive is not too bad (within the epsilon box)
                             offSpringSolutionSet.add(offSpring[0]);
 //                            newPointIsDominatedByOldArchiveTakeNeverthelessCounter++;
+                        } else if (solutionPool != null) {
+                            solutionPool.giveBack(offSpring[0]);
                         }
                         
                         continue;
@@ -321,9 +380,13 @@ public class AGE extends Algorithm {
                             offSpring[0] = convertSolutionToEpsilonGridVectorFLOOR(offSpring[0], epsilonGridWidth);
                         }
                         
-                        SolutionSet temp = new SolutionSet(1);
-                        temp.add(offSpring[0]);
-                        archive = archive.union(temp);
+                        if (archiveIndex != null) {
+                            archiveIndex.add(offSpring[0]);
+                        } else {
+                            SolutionSet temp = new SolutionSet(1);
+                            temp.add(offSpring[0]);
+                            archive = archive.union(temp);
+                        }
                     }  
                     
                     
@@ -332,6 +395,7 @@ public class AGE extends Algorithm {
                     
               }
             /*END generate lambda invididuals*/
+            if (archiveIndex != null) archive = archiveIndex.getSolutionSet();
 
 //System.out.print("post offspring generation "+offSpringSolutionSet.size()+" "+offSpringSolutionSetForArchive.size());
    
@@ -352,6 +416,8 @@ public class AGE extends Algorithm {
 //                " newPointIsDominatedByOldArchiveTakeNeverthelessCounter="+newPointIsDominatedByOldArchiveTakeNeverthelessCounter);
             
         } // end of main loop
+        asynchronousEvaluator.shutdown();
+        if (approximationPool_ != null) approximationPool_.shutdown();
 
         if (doOnMPICluster) {
             infoPrinter.printLotsOfValuesToFile(this, problem_, operators_, inputParameters_, evaluations, solutionSet, archive, indicators, true, true);
@@ -374,6 +440,7 @@ public class AGE extends Algorithm {
 //                " newPointIsDominatedByOldArchiveTakeNeverthelessCounter="+newPointIsDominatedByOldArchiveTakeNeverthelessCounter);
         
 System.out.println(" #### GECCO 2013 Version ####");
+        if (solutionPool != null) crossoverOperator.setParameter("solutionPool", null);
         return solutionSet;
     } // execute
 
@@ -499,211 +566,13 @@ System.out.println(" #### GECCO 2013 Version ####");
         
         if (population.size()==1) return;
         
-        boolean debugPrint = true && debugPrintGlobal;
-        boolean debugPrintAdditional = false;
-        if (debugPrint) System.out.println("computeFitnesses/2: ");
-
-        // the following array stores the maximum approximations for which a population point is responsible
-        int[] whichPopPointIsResponsible = new int[archive.size()];
-        int[] whichPopPointIsResponsibleSecondBest = new int[archive.size()];
-
-        SolutionSet archiveFront = archive;
-
-        double[] results = new double[archiveFront.size()];
-
-        if (debugPrint) System.out.println("population.size=" + population.size() + " archive.size=" + archive.size() + " front.size=" + archiveFront.size());
-
-        /* store all the "pop app arc" in the following array:
-         * for each archive point it is stored how well a population point approximates it
-         */
-
-        /* store all minimums of approximations per archive point in this array */
-        double[] eps1 = new double[archiveFront.size()];
-        double[] eps2 = new double[archiveFront.size()];
-
-        // compute approximation for each non-dominated point of the archive
-        // to find out how well it is approximated by the population points
-        for (int i = 0; i < archiveFront.size(); i++) {
-            Solution s = archiveFront.get(i);   // non-dominated archive-point
-
-            double deltaForThisSolution = Double.MAX_VALUE; //minimize this value
-            double deltaForThisSolutionSecondBest = Double.MAX_VALUE; //minimize this value
-            for (int j = 0; j < population.size(); j++) {
-                Solution p = population.get(j);
-
-                // compute how an element p of the front(population) approximates an element s of the archive in domain and image
-                double deltaForThisSolutionCurrent = computeApproximationSolutionForSolution(p, s); // population element p, archiveFront element s
-
-                // if better then currentBest
-                if (deltaForThisSolutionCurrent < deltaForThisSolution) {
-                    deltaForThisSolutionSecondBest = deltaForThisSolution;      // old best becomes secondBest
-                    deltaForThisSolution = deltaForThisSolutionCurrent;         // new best becomes best
-                    whichPopPointIsResponsibleSecondBest[i] = whichPopPointIsResponsible[i];
-                    whichPopPointIsResponsible[i] = j;
-                } else {
-                // if better then currentSecondBest
-                    if (deltaForThisSolutionCurrent < deltaForThisSolutionSecondBest) {
-                        deltaForThisSolutionSecondBest = deltaForThisSolutionCurrent;
-                        whichPopPointIsResponsibleSecondBest[i] = j;
-                    }
-                }
-            }
-
-            // save the minimal approximation
-            results[i] = deltaForThisSolution;
-            eps1[i] = deltaForThisSolution;
-            eps2[i] = deltaForThisSolutionSecondBest;
-
-            if (debugPrint) {
-                System.out.printf("-deltaForThisSolution: %8.5f ", deltaForThisSolution);
-                System.out.println("(=" + deltaForThisSolution + ")"); // same output as line before, just more precise
-            }
-        }
-
-        // keep track whether some point is still in the population
-        boolean[] pIsInCurrentPop = new boolean[population.size()];
-        for (int i = 0; i<pIsInCurrentPop.length; i++)
-            pIsInCurrentPop[i] = true;
-
-        //now determine the val(p)
-        double[] val = new double[population.size()];
-        double minVal = Double.MAX_VALUE;
-        int minValIndex = 0;
-        for (int i = 0; i<eps1.length; i++) {
-            double eps2a = eps2[i];
-            int p = whichPopPointIsResponsible[i];
-                if (eps2a>val[p])
-                    val[p] = eps2a;            
-        }
-
-        for (int i=0; i<val.length; i++) {
-                if (val[i]<minVal) {
-                        minVal = val[i];
-                        minValIndex = i;
-                }
-        }
-        
-        int popCounter=population.size();
-        if (debugPrintAdditional) System.out.println("popCounter"+popCounter);
-        
-        pIsInCurrentPop[minValIndex] = false;
-        popCounter--;
-        if (debugPrintAdditional) System.out.println("popCounter"+popCounter);
-
-        if (debugPrintAdditional) if (true) {
-            System.out.println("unsorted eps1:    " + Arrays.toString(eps1));
-            System.out.println("responsible:      " + Arrays.toString(whichPopPointIsResponsible));
-            System.out.println("unsorted eps2:    " + Arrays.toString(eps2));
-            System.out.println("responsible:      " + Arrays.toString(whichPopPointIsResponsibleSecondBest));
-            System.out.println("val        :      " + Arrays.toString(val));
-            System.out.println("pIsInCurrentPop:  " + Arrays.toString(pIsInCurrentPop));
-//            System.out.println("pIsP1a     :      " + Arrays.toString(pIsP1a));
-            System.out.println("minVal="+minVal + " index=" +minValIndex + " population.size()now="+ (population.size()));
-//            System.out.println("maxAppForPopPoint:" + Arrays.toString(maxAppForPopPoint));
-        }
-
-        while (popCounter > targetSize) {
-            HashSet whichEpsToUpdate = new HashSet();
-
-            for (int i = 0; i<whichPopPointIsResponsible.length; i++) {
-                if (minValIndex == whichPopPointIsResponsible[i]) whichEpsToUpdate.add(i);
-                if (minValIndex == whichPopPointIsResponsibleSecondBest[i]) whichEpsToUpdate.add(i);
-            }
-
-            Iterator it = whichEpsToUpdate.iterator();
-            while (it.hasNext()) {
-                int i = (Integer)it.next();
-                if (debugPrintAdditional) System.out.print(i+" ");
-            }
-            if (debugPrintAdditional) System.out.println("");
-
-
-            it = whichEpsToUpdate.iterator();
-            while (it.hasNext()) {
-                int i = (Integer)it.next();
-
-                Solution s = archiveFront.get(i);   // non-dominated archive-point
-
-                double deltaForThisSolution = Double.MAX_VALUE; //minimize this value
-                double deltaForThisSolutionSecondBest = Double.MAX_VALUE; //minimize this value
-                for (int j = 0; j < population.size(); j++) {
-
-                    // skip those of the old population that are no longer in the current population
-                    if (!pIsInCurrentPop[j]) continue;
-
-                    Solution p = population.get(j);
-
-                    // compute how an element p of the front(population) approximates an element s of the archive in domain and image
-                    double deltaForThisSolutionCurrent = computeApproximationSolutionForSolution(p, s); // population element p, archiveFront element s
-
-                    // if better then currentBest
-                    if (deltaForThisSolutionCurrent < deltaForThisSolution) {
-                        deltaForThisSolutionSecondBest = deltaForThisSolution;      // old best becomes secondBest
-                        deltaForThisSolution = deltaForThisSolutionCurrent;         // new best becomes best
-                        whichPopPointIsResponsibleSecondBest[i] = whichPopPointIsResponsible[i];
-                        whichPopPointIsResponsible[i] = j;
-                    } else {
-                    // if better then currentSecondBest
-                        if (deltaForThisSolutionCurrent < deltaForThisSolutionSecondBest) {
-                            deltaForThisSolutionSecondBest = deltaForThisSolutionCurrent;
-                            whichPopPointIsResponsibleSecondBest[i] = j;
-                        }
-                    }
-
-                }
-
-                // save the minimal approximation
-                results[i] = deltaForThisSolution;
-                eps1[i] = deltaForThisSolution;
-                eps2[i] = deltaForThisSolutionSecondBest;
-
-                if (debugPrint) {
-                    System.out.printf("-deltaForThisSolution: %8.5f ", deltaForThisSolution);
-                    System.out.println("(=" + deltaForThisSolution + ")"); // same output as line before, just more precise
-                }
-            }
-
-            //now determine the val(p)
-            minVal = Double.MAX_VALUE;  // do not use 0 here as one point might dominate another
-            minValIndex = 0;
-            for (int i = 0; i<eps1.length; i++) {
-                double eps2a = eps2[i];
-                int p = whichPopPointIsResponsible[i];
-                    if (eps2a>val[p])
-                        val[p] = eps2a;
-            }
-
-            for (int i=0; i<val.length; i++) {
-                if (pIsInCurrentPop[i])
-                    if (val[i]<minVal) {
-                            minVal = val[i];
-                            minValIndex = i;
-                    }
-
-            }
-            popCounter--;
-            if (debugPrintAdditional) System.out.println("popCounter"+popCounter);
-            pIsInCurrentPop[minValIndex] = false;
-
-            if (debugPrintAdditional) if (true) {
-                System.out.println("unsorted eps1:    " + Arrays.toString(eps1));
-                System.out.println("responsible:      " + Arrays.toString(whichPopPointIsResponsible));
-                System.out.println("unsorted eps2:    " + Arrays.toString(eps2));
-                System.out.println("responsible:      " + Arrays.toString(whichPopPointIsResponsibleSecondBest));
-                System.out.println("val        :      " + Arrays.toString(val));
-                System.out.println("pIsInCurrentPop:  " + Arrays.toString(pIsInCurrentPop));
-    //            System.out.println("pIsP1a     :      " + Arrays.toString(pIsP1a));
-                System.out.println("minVal="+minVal + " index=" +minValIndex + " population.size()now="+ (population.size()));
-    //            System.out.println("maxAppForPopPoint:" + Arrays.toString(maxAppForPopPoint));
-            }
-        }
-       
+        // remove the points one by one, updating only the approximations
+        // of the archive points that referred to the removed point
+        ApproximationReducer reducer = new ApproximationReducer(population, archive, approximationPool_);
+        reducer.reduce(targetSize);
 
         // form new population:
-        for (int i = pIsInCurrentPop.length - 1; i>=0; i--) {
-            if (!pIsInCurrentPop[i]) population.remove(i);
-            if (debugPrintAdditional) System.out.println("population.size()"+population.size());
-        }
+        reducer.removeFrom(population);
     } //end
     
     
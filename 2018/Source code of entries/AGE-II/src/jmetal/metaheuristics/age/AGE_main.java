@@ -29,6 +29,7 @@ import jmetal.problems.WFG.*;
 import jmetal.problems.LZ09.* ;
 import jmetal.qualityIndicator.QualityIndicator;
 import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
 
 public class AGE_main {
 
@@ -83,6 +84,7 @@ public class AGE_main {
     }
     
   public static void main(String [] args) throws JMException, IOException, ClassNotFoundException {
+      PseudoRandom.setSeedFromProperty() ;
       
       /*
        *  NOTE: the following switch can be used to run "mini studies" on a particular function
@@ -0,0 +1,433 @@
+/**
+ * ApproximationReducer.java
+ *
+ * @version 1.0
+ */
+package jmetal.metaheuristics.age;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import jmetal.base.SolutionSet;
+
+/**
+ * Removes points from a population one at a time, such that the additive
+ * approximation of an archive by the population gets as little worse as
+ * possible. This is the selection of AGE: every archive point a is
+ * approximated best by the population point p1(a) (eps1) and second best by
+ * p2(a) (eps2). The cost val(p) of a population point is the largest eps2 of
+ * the archive points it approximates best, and the point with the smallest
+ * cost is removed.
+ *
+ * Instead of searching the whole archive after each removal, every
+ * population point keeps the list of archive points for which it is p1 or
+ * p2, and the population points are kept in a heap ordered by their costs.
+ * A removal therefore only recomputes the archive points that referred to
+ * the removed point. The removed points are exactly the ones of the former
+ * implementation of <code>AGE.reducePopulationToSize</code>, including the
+ * tie-breaking by index and the costs, which are never decreased.
+ *
+ * The approximations of different archive points are independent, so that
+ * they can be computed by a fork-join pool. Tasks are split until they
+ * compute at most SEQUENTIAL_THRESHOLD approximations; smaller sets are
+ * handled by the calling thread only. The results do not depend on the
+ * number of threads.
+ */
+public class ApproximationReducer {
+
+    /**
+     * Maximum number of approximations computed by a single task
+     */
+    public static final int SEQUENTIAL_THRESHOLD = 1 << 15;
+
+    /**
+     * Stores the pool computing the approximations (null if sequential)
+     */
+    private ForkJoinPool pool_;
+
+    /**
+     * Stores the objective values of the population points
+     */
+    private double[][] population_;
+
+    /**
+     * Stores the objective values of the archive points
+     */
+    private double[][] archive_;
+
+    /**
+     * Stores for each archive point the best approximation (eps1) and the
+     * second best one (eps2)
+     */
+    private double[] eps1_;
+    private double[] eps2_;
+
+    /**
+     * Stores for each archive point the population points responsible for
+     * eps1 and eps2
+     */
+    private int[] responsible_;
+    private int[] responsibleSecondBest_;
+
+    /**
+     * Stores the cost of removing each population point
+     */
+    private double[] val_;
+
+    /**
+     * Stores whether a population point has not been removed yet
+     */
+    private boolean[] inPopulation_;
+
+    /**
+     * Stores for each population point the archive points for which it has
+     * been responsible since the list was last cleared (may contain
+     * duplicates and outdated entries)
+     */
+    private int[][] references_;
+    private int[] numberOfReferences_;
+
+    /**
+     * Heap of the population points still in the population, ordered by
+     * val_ and index, and the position of each point in it (-1 if absent)
+     */
+    private int[] heap_;
+    private int[] heapPosition_;
+    private int heapSize_;
+
+    /**
+     * Stores the iteration in which an archive point was last collected
+     */
+    private int[] mark_;
+
+    /**
+     * Constructor. Computes eps1 and eps2 of all archive points.
+     * @param population The population to reduce.
+     * @param archive The archive to approximate.
+     */
+    public ApproximationReducer(SolutionSet population, SolutionSet archive) {
+        this(population, archive, null);
+    } // ApproximationReducer
+
+    /**
+     * Constructor. Computes eps1 and eps2 of all archive points.
+     * @param population The population to reduce.
+     * @param archive The archive to approximate.
+     * @param pool The pool computing the approximations, or null to compute
+     * them in the calling thread.
+     */
+    public ApproximationReducer(SolutionSet population, SolutionSet archive, ForkJoinPool pool) {
+        pool_ = pool;
+        population_ = objectives(population);
+        archive_ = objectives(archive);
+
+        int archiveSize = archive_.length;
+        int populationSize = population_.length;
+        eps1_ = new double[archiveSize];
+        eps2_ = new double[archiveSize];
+        responsible_ = new int[archiveSize];
+        responsibleSecondBest_ = new int[archiveSize];
+        mark_ = new int[archiveSize];
+
+        val_ = new double[populationSize];
+        inPopulation_ = new boolean[populationSize];
+        references_ = new int[populationSize][];
+        numberOfReferences_ = new int[populationSize];
+        heap_ = new int[populationSize];
+        heapPosition_ = new int[populationSize];
+        for (int j = 0; j < populationSize; j++) {
+            inPopulation_[j] = true;
+            references_[j] = new int[4];
+        }
+
+        computeApproximations(null, archiveSize);
+        for (int i = 0; i < archiveSize; i++) {
+            addReferences(i);
+            updateVal(i);
+        }
+
+        for (int j = 0; j < populationSize; j++) {
+            heap_[j] = j;
+            heapPosition_[j] = j;
+        }
+        heapSize_ = populationSize;
+        for (int j = populationSize / 2 - 1; j >= 0; j--)
+            siftDown(j);
+    } // ApproximationReducer
+
+    /**
+     * Removes population points until targetSize points are left. The
+     * population itself is not modified, see <code>isInPopulation()</code>.
+     * As in AGE, at least one point is removed.
+     * @param targetSize The number of points to keep.
+     */
+    public void reduce(int targetSize) {
+        int popCounter = population_.length;
+        int removed = selectMinimum();
+        remove(removed);
+        popCounter--;
+
+        int iteration = 0;
+        while (popCounter > targetSize) {
+            iteration++;
+
+            // collect the archive points referring to the removed point
+            int[] references = references_[removed];
+            int count = numberOfReferences_[removed];
+            int[] affected = new int[count];
+            int numberOfAffected = 0;
+            for (int k = 0; k < count; k++) {
+                int i = references[k];
+                if ((mark_[i] != iteration) &&
+                    ((responsible_[i] == removed) || (responsibleSecondBest_[i] == removed))) {
+                    mark_[i] = iteration;
+                    affected[numberOfAffected++] = i;
+                }
+            }
+            numberOfReferences_[removed] = 0;
+
+            computeApproximations(affected, numberOfAffected);
+            for (int k = 0; k < numberOfAffected; k++) {
+                addReferences(affected[k]);
+                updateVal(affected[k]);
+            }
+
+            removed = selectMinimum();
+            remove(removed);
+            popCounter--;
+        }
+    } // reduce
+
+    /**
+     * Returns whether a population point has been kept
+     * @param j The index of the point in the population
+     */
+    public boolean isInPopulation(int j) {
+        return inPopulation_[j];
+    } // isInPopulation
+
+    /**
+     * Returns the population point approximating an archive point best
+     * @param i The index of the point in the archive
+     */
+    public int getResponsible(int i) {
+        return responsible_[i];
+    } // getResponsible
+
+    /**
+     * Returns the best approximation of an archive point by the population
+     * @param i The index of the point in the archive
+     */
+    public double getApproximation(int i) {
+        return eps1_[i];
+    } // getApproximation
+
+    /**
+     * Returns the best approximation of every archive point by the
+     * population, as computed by <code>AGE2.computeApproximation()</code>
+     * before sorting.
+     * @param population The population.
+     * @param archive The archive.
+     * @param pool The pool computing the approximations, or null to compute
+     * them in the calling thread.
+     * @return The approximations, in the order of the archive.
+     */
+    public static double[] getApproximations(SolutionSet population, SolutionSet archive, ForkJoinPool pool) {
+        return new ApproximationReducer(population, archive, pool).eps1_;
+    } // getApproximations
+
+    /**
+     * Removes the points not kept from the population
+     * @param population The population passed to the constructor.
+     */
+    public void removeFrom(SolutionSet population) {
+        for (int j = inPopulation_.length - 1; j >= 0; j--)
+            if (!inPopulation_[j]) population.remove(j);
+    } // removeFrom
+
+    /**
+     * Computes the approximations of the archive points rows[0..count-1],
+     * or of the archive points 0..count-1 if rows is null
+     */
+    private void computeApproximations(int[] rows, int count) {
+        if ((pool_ == null) || ((long) count * population_.length <= SEQUENTIAL_THRESHOLD)) {
+            for (int k = 0; k < count; k++)
+                computeApproximation((rows == null) ? k : rows[k]);
+        } else
+            pool_.invoke(new ApproximationTask(rows, 0, count));
+    } // computeApproximations
+
+    /**
+     * Task computing the approximations of a range of archive points
+     */
+    private class ApproximationTask extends RecursiveAction {
+        private static final long serialVersionUID = -2524328363681328248L;
+
+        private int[] rows_;
+        private int from_;
+        private int to_;
+
+        ApproximationTask(int[] rows, int from, int to) {
+            rows_ = rows;
+            from_ = from;
+            to_ = to;
+        } // ApproximationTask
+
+        protected void compute() {
+            if ((to_ - from_ == 1) || ((long) (to_ - from_) * population_.length <= SEQUENTIAL_THRESHOLD)) {
+                for (int k = from_; k < to_; k++)
+                    computeApproximation((rows_ == null) ? k : rows_[k]);
+            } else {
+                int middle = (from_ + to_) >>> 1;
+                invokeAll(new ApproximationTask(rows_, from_, middle),
+                          new ApproximationTask(rows_, middle, to_));
+            }
+        } // compute
+    } // ApproximationTask
+
+    /**
+     * Computes how well archive point i is approximated by the remaining
+     * population points. Like in the former implementation, the second best
+     * point keeps its previous index when no second point is found. Only the
+     * entries of archive point i are written.
+     */
+    private void computeApproximation(int i) {
+        double[] s = archive_[i];
+        double deltaForThisSolution = Double.MAX_VALUE;
+        double deltaForThisSolutionSecondBest = Double.MAX_VALUE;
+        int best = responsible_[i];
+        int secondBest = responsibleSecondBest_[i];
+
+        for (int j = 0; j < population_.length; j++) {
+            if (!inPopulation_[j]) continue;
+
+            // additive approximation of s by p, see computeApproximationSolutionForSolution
+            double[] p = population_[j];
+            double delta = 0;
+            for (int k = 0; k < s.length; k++) {
+                double temp = p[k] - s[k];
+                if (temp > delta) delta = temp;
+            }
+
+            if (delta < deltaForThisSolution) {
+                deltaForThisSolutionSecondBest = deltaForThisSolution;
+                deltaForThisSolution = delta;
+                secondBest = best;
+                best = j;
+            } else if (delta < deltaForThisSolutionSecondBest) {
+                deltaForThisSolutionSecondBest = delta;
+                secondBest = j;
+            }
+        }
+
+        eps1_[i] = deltaForThisSolution;
+        eps2_[i] = deltaForThisSolutionSecondBest;
+        responsible_[i] = best;
+        responsibleSecondBest_[i] = secondBest;
+    } // computeApproximation
+
+    /**
+     * Registers archive point i with the points responsible for it
+     */
+    private void addReferences(int i) {
+        addReference(responsible_[i], i);
+        if (responsibleSecondBest_[i] != responsible_[i])
+            addReference(responsibleSecondBest_[i], i);
+    } // addReferences
+
+    /**
+     * Raises the cost of the point responsible for archive point i
+     */
+    private void updateVal(int i) {
+        int p = responsible_[i];
+        if (eps2_[i] > val_[p]) {
+            val_[p] = eps2_[i];
+            if (heapPosition_[p] >= 0 && heapSize_ > 0)
+                siftDown(heapPosition_[p]);
+        }
+    } // updateVal
+
+    /**
+     * Returns the remaining point with the smallest cost (the first one in
+     * case of ties), or 0 if no cost is below Double.MAX_VALUE
+     */
+    private int selectMinimum() {
+        if ((heapSize_ == 0) || !(val_[heap_[0]] < Double.MAX_VALUE))
+            return 0;
+        return heap_[0];
+    } // selectMinimum
+
+    /**
+     * Removes a point from the population and from the heap
+     */
+    private void remove(int j) {
+        inPopulation_[j] = false;
+        int position = heapPosition_[j];
+        if (position < 0)
+            return;
+
+        heapSize_--;
+        heapPosition_[j] = -1;
+        if (position == heapSize_)
+            return;
+        int last = heap_[heapSize_];
+        heap_[position] = last;
+        heapPosition_[last] = position;
+        siftDown(position);
+        siftUp(heapPosition_[last]);
+    } // remove
+
+    private void addReference(int j, int i) {
+        if (numberOfReferences_[j] == references_[j].length) {
+            int[] references = new int[2 * references_[j].length];
+            System.arraycopy(references_[j], 0, references, 0, numberOfReferences_[j]);
+            references_[j] = references;
+        }
+        references_[j][numberOfReferences_[j]++] = i;
+    } // addReference
+
+    private boolean less(int a, int b) {
+        if (val_[a] != val_[b])
+            return val_[a] < val_[b];
+        return a < b;
+    } // less
+
+    private void siftDown(int position) {
+        int j = heap_[position];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= heapSize_)
+                break;
+            if ((child + 1 < heapSize_) && less(heap_[child + 1], heap_[child]))
+                child++;
+            if (!less(heap_[child], j))
+                break;
+            heap_[position] = heap_[child];
+            heapPosition_[heap_[position]] = position;
+            position = child;
+        }
+        heap_[position] = j;
+        heapPosition_[j] = position;
+    } // siftDown
+
+    private void siftUp(int position) {
+        int j = heap_[position];
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (!less(j, heap_[parent]))
+                break;
+            heap_[position] = heap_[parent];
+            heapPosition_[heap_[position]] = position;
+            position = parent;
+        }
+        heap_[position] = j;
+        heapPosition_[j] = position;
+    } // siftUp
+
+    private static double[][] objectives(SolutionSet set) {
+        double[][] objectives = new double[set.size()][];
+        for (int i = 0; i < set.size(); i++)
+            objectives[i] = AGE.solutionObjectivesToDoubleArray(set.get(i));
+        return objectives;
+    } // objectives
+} // ApproximationReducer
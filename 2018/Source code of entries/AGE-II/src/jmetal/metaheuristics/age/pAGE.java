@@ -13,9 +13,9 @@ import java.util.HashSet;
 import java.util.Iterator;
 import jmetal.base.*;
 import jmetal.base.operator.comparator.DominanceComparator;
-import jmetal.metaheuristics.bfnw.DeepCopy;
 import jmetal.qualityIndicator.QualityIndicator;
 import jmetal.util.*;
+import jmetal.util.archive.NDTreeArchive;
 
 /**
  * This class represents the pAGE algorithm (GECCO 2013 AGE version).
@@ -100,6 +100,18 @@ public class pAGE extends Algorithm {
         selectionOperator = operators_.get("selection");
         System.out.println("selector:"+selectionOperator.toString());
 
+        // Offspring rejected by the population or the archive are returned to
+        // a pool from which the crossover operator takes its new solutions.
+        // Only offspring that never entered a solution set are returned.
+        boolean useSolutionPool;
+        if (getInputParameter("useSolutionPool")==null) useSolutionPool = true;
+            else useSolutionPool = ((Boolean) getInputParameter("useSolutionPool")).booleanValue();
+        SolutionPool solutionPool = null;
+        if (useSolutionPool && doCrossover) {
+            solutionPool = new SolutionPool(problem_, populationSize);
+            crossoverOperator.setParameter("solutionPool", solutionPool);
+        }
+
         //Initialize the variables
         solutionSet = new SolutionSet(populationSize);
         evaluations = 0;
@@ -142,6 +154,19 @@ public class pAGE extends Algorithm {
         
         System.out.println("initial: population.size()="+solutionSet.size()+" archive.size()="+archive.size());
 
+        // The archive is indexed by an ND-tree, which answers the dominance
+        // checks of the offspring without scanning the whole archive. The
+        // tree ignores constraints and epsilon boxes, so that it is only used
+        // without them (pAGE_offline).
+        boolean useArchiveIndex;
+        if (getInputParameter("useArchiveIndex")==null) useArchiveIndex = true;
+            else useArchiveIndex = ((Boolean) getInputParameter("useArchiveIndex")).booleanValue();
+        NDTreeArchive archiveIndex = null;
+        if (useArchiveIndex && !useEpsilonBoxesArchive && problem_.getNumberOfConstraints()==0) {
+            archiveIndex = new NDTreeArchive(problem_.getNumberOfObjectives());
+            archiveIndex.addAll(archive);
+        }
+
         Comparator cNormal = new DominanceComparator();
 
         
@@ -247,6 +272,7 @@ public class pAGE extends Algorithm {
                     //make the crossover and generate a single child
                     if (doCrossover) offSpring = (Solution [])crossoverOperator.execute(parents);    // 2 parents are XOed
                         else offSpring = parents;                                                    // no XO
+                    if (solutionPool != null) solutionPool.giveBack(offSpring[1]);                   // second child is never used
                     if (doMutation) mutationOperator.execute(offSpring[0]);                          // mutation
 
                     // FITNESS EVALUATION - note: this does not set fitness, just runs the problem functions
@@ -263,7 +289,9 @@ public class pAGE extends Algorithm {
                     
                     boolean debugPrintEpsilon = false;
                     
-                    for (int i = 0; i<archive.size(); i++) {
+                    if (archiveIndex != null)
+                        newPointIsDominatedByOldArchive = archiveIndex.update(offSpring[0], true, 0);
+                    else for (int i = 0; i<archive.size(); i++) {
                         Solution archiveSolution = archive.get(i);
                         /*
                          * COMPARE: return -1, or 0, or 1 if solution1 dominates solution2, both are
@@ -326,6 +354,8 @@ public class pAGE extends Algorithm {
                             // use if the domination by the archive is not too bad (within the epsilon box)
                             offSpringSolutionSet.add(offSpring[0]);
 //                            newPointIsDominatedByOldArchiveTakeNeverthelessCounter++;
+                        } else if (solutionPool != null) {
+                            solutionPool.giveBack(offSpring[0]);
                         }
                         
                         continue;
@@ -337,9 +367,13 @@ public class pAGE extends Algorithm {
                             offSpring[0] = convertSolutionToEpsilonGridVectorFLOOR(offSpring[0], epsilonGridWidth);
                         }
                         
-                        SolutionSet temp = new SolutionSet(1);
-                        temp.add(offSpring[0]);
-                        archive = archive.union(temp);
+                        if (archiveIndex != null) {
+                            archiveIndex.add(offSpring[0]);
+                        } else {
+                            SolutionSet temp = new SolutionSet(1);
+                            temp.add(offSpring[0]);
+                            archive = archive.union(temp);
+                        }
                     }  
                     
                     
@@ -348,6 +382,7 @@ public class pAGE extends Algorithm {
                     
               }
             /*END generate lambda invididuals*/
+            if (archiveIndex != null) archive = archiveIndex.getSolutionSet();
 
 //System.out.print("post offspring generation "+offSpringSolutionSet.size()+" "+offSpringSolutionSetForArchive.size());
    
@@ -441,6 +476,13 @@ System.out.println(" #### GECCO 2013 Version + preferred regions ####");
         */
         // 1. step
         if (!useEpsilonBoxesArchive) {
+            if (archiveIndex != null) {
+                // detach the archive from the index before removing solutions
+                SolutionSet detached = new SolutionSet(archive.size());
+                for (int i = 0; i<archive.size(); i++) detached.add(archive.get(i));
+                archive = detached;
+                archiveIndex = null;
+            }
             boolean debugPageOffline = !true;
             if (true) // check and remove
                 for(int i=0; i<archive.size(); i++) {
@@ -456,7 +498,7 @@ System.out.println(" #### GECCO 2013 Version + preferred regions ####");
                 }
             // 2. step
             if (debugPageOffline) System.out.println("DeepCopy done");
-            solutionSet = (SolutionSet)DeepCopy.copy(archive);
+            solutionSet = archive.copy();
             if (debugPageOffline) {
                 System.out.println("new solutionSet (based on archive): size="+solutionSet.size());
                 printDouble2DArray(solutionSet.writeObjectivesToMatrix());
@@ -477,6 +519,7 @@ System.out.println(" #### GECCO 2013 Version + preferred regions ####");
 //        System.out.println("archive: size="+archive.size());
 //        printDouble2DArray(archive.writeObjectivesToMatrix());
 
+        if (solutionPool != null) crossoverOperator.setParameter("solutionPool", null);
         return solutionSet;
     } // execute
 
@@ -34,6 +34,7 @@ import jmetal.problems.WFG.*;
 import jmetal.problems.LZ09.* ;
 import jmetal.qualityIndicator.QualityIndicator;
 import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
 
 public class pAGE_main {
 
@@ -88,6 +89,7 @@ public class pAGE_main {
     }
     
   public static void main(String [] args) throws JMException, IOException, ClassNotFoundException {
+      PseudoRandom.setSeedFromProperty() ;
       
       /*
        *  NOTE: the following switch can be used to run "mini studies" on a particular function
@@ -16,13 +16,14 @@ package jmetal.metaheuristics.bfnw;
 
 import java.io.File;
 import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
 import jmetal.base.*;
 import jmetal.base.operator.comparator.DominanceComparator;
 import jmetal.base.operator.selection.SelectionFactory;
+import jmetal.metaheuristics.age.ApproximationReducer;
 import jmetal.qualityIndicator.QualityIndicator;
 import jmetal.util.*;
+import jmetal.util.archive.NDTreeArchive;
 
 /**
  * This class representing the SPEA2 algorithm
@@ -40,6 +41,12 @@ public class AGE2 extends Algorithm {
      */
     private Problem problem_;
 
+    /**
+     * Stores the pool computing the approximations of the archive points when
+     * reducing the population (null if they are computed sequentially)
+     */
+    private ForkJoinPool approximationPool_;
+
     /**
      * Constructor.
      * Create a new AGE2 instance
@@ -85,6 +92,34 @@ public class AGE2 extends Algorithm {
         selectionOperator = operators_.get("selection");
         System.out.println("selector:"+selectionOperator.toString());
 
+        // Offspring rejected by the population or the archive are returned to
+        // a pool from which the crossover operator takes its new solutions.
+        // Only offspring that never entered a solution set are returned.
+        boolean useSolutionPool;
+        if (getInputParameter("useSolutionPool")==null) useSolutionPool = true;
+            else useSolutionPool = ((Boolean) getInputParameter("useSolutionPool")).booleanValue();
+        SolutionPool solutionPool = null;
+        if (useSolutionPool && doCrossover) {
+            solutionPool = new SolutionPool(problem_, populationSize);
+            crossoverOperator.setParameter("solutionPool", solutionPool);
+        }
+
+        // The approximations of the archive by the population are computed
+        // by a fork-join pool when more than one thread is given.
+        int approximationThreads;
+        if (getInputParameter("approximationThreads")==null) approximationThreads = 1;
+            else approximationThreads = ((Integer) getInputParameter("approximationThreads")).intValue();
+        if (approximationThreads > 1) approximationPool_ = new ForkJoinPool(approximationThreads);
+            else approximationPool_ = null;
+
+        // The archive is indexed by an ND-tree, which answers the dominance
+        // checks of the offspring without scanning the whole archive. The
+        // tree ignores constraints, so that it is only used without them.
+        boolean useArchiveIndex;
+        if (getInputParameter("useArchiveIndex")==null) useArchiveIndex = true;
+            else useArchiveIndex = ((Boolean) getInputParameter("useArchiveIndex")).booleanValue();
+        NDTreeArchive archiveIndex = null;
+
         //Initialize the variables
         solutionSet = new SolutionSet(populationSize);
 //        archive = new SolutionSet(archiveSize);
@@ -134,7 +169,11 @@ public class AGE2 extends Algorithm {
          * the best mu points out of mu+1 are selected that approximate the new 
          * archive best.
          */
-        archive = (SolutionSet)DeepCopy.copy(solutionSet);
+        archive = solutionSet.copy();
+        if (useArchiveIndex && problem_.getNumberOfConstraints()==0) {
+            archiveIndex = new NDTreeArchive(problem_.getNumberOfObjectives());
+            archiveIndex.addAll(archive);
+        }
 
 //        EpsilonDominanceComparatorGridBasedAdditive c = new EpsilonDominanceComparatorGridBasedAdditive(epsilonGridWidth);
         DominanceComparator cNormal = new DominanceComparator();
@@ -256,6 +295,7 @@ public class AGE2 extends Algorithm {
                     //make the crossover and generate a single child
                     if (doCrossover) offSpring = (Solution [])crossoverOperator.execute(parents);    // 2 parents are XOed
                         else offSpring = parents;                                                    // no XO
+                    if (solutionPool != null) solutionPool.giveBack(offSpring[1]);                   // second child is never used
                     if (doMutation) mutationOperator.execute(offSpring[0]);                          // mutation
 
                     // FITNESS EVALUATION - note: this does not set fitness, just runs the problem functions
@@ -295,6 +335,7 @@ public class AGE2 extends Algorithm {
 
                     if (newPointIsDominatedByOldPopulation) {
                         // just forget this point
+                        if (solutionPool != null) solutionPool.giveBack(offSpring[0]);
                         continue;
                     } else {
 
@@ -304,7 +345,9 @@ public class AGE2 extends Algorithm {
 
                     /* START check if new offSpring is not (epsilon) dominated by an archive point */
                     boolean newPointIsDominatedByOldArchive = false;
-                    for (int i = 0; i<archive.size(); i++) {
+                    if (archiveIndex != null)
+                        newPointIsDominatedByOldArchive = archiveIndex.update(offSpring[0], false, 1);
+                    else for (int i = 0; i<archive.size(); i++) {
                         /*
                          * COMPARE: return -1, or 0, or 1 if solution1 dominates solution2, both are
                          *          non-dominated, or solution1 is dominated by solution2, respectively.
@@ -327,6 +370,7 @@ public class AGE2 extends Algorithm {
                     // define behavior: add offspring to archive
                     if (newPointIsDominatedByOldArchive) {
                         // forget this point
+                        if (solutionPool != null) solutionPool.giveBack(offSpring[0]);
                         continue;
                     } else {
                         offSpringSolutionSet.add(offSpring[0]);
@@ -338,7 +382,11 @@ public class AGE2 extends Algorithm {
 
 
             /* technically important: add all non-dominated points to the archive. */
-            archive = archive.union(offSpringSolutionSetForArchive);
+            if (archiveIndex != null) {
+                archiveIndex.addAll(offSpringSolutionSetForArchive);
+                archive = archiveIndex.getSolutionSet();
+            } else
+                archive = archive.union(offSpringSolutionSetForArchive);
             /* merge population with offSpringSolutionSet */
             solutionSet = solutionSet.union(offSpringSolutionSet);              // would it be neccessary to take just the first subfront?
 
@@ -371,6 +419,7 @@ public class AGE2 extends Algorithm {
 
 
         } // end of main loop
+        if (approximationPool_ != null) approximationPool_.shutdown();
 
         // preparation of the result of the optimization process
 //        Ranking ranking = new Ranking(solutionSet);
@@ -382,6 +431,7 @@ public class AGE2 extends Algorithm {
             infoPrinter.printLotsOfValues(this, problem_, operators_, inputParameters_, evaluations, solutionSet, archive, indicators, true, true);
         }
 
+        if (solutionPool != null) crossoverOperator.setParameter("solutionPool", null);
         return solutionSet;
     } // execute
 
@@ -412,6 +462,23 @@ public class AGE2 extends Algorithm {
         return true;
     }
 
+    /** Compute how well the population approximates the archive
+     *
+     * @param population
+     * @param archive
+     * @return a sorted double[] where the maximal approximation (best approximation of the
+     *   worstly approximated archive point) is in the first field
+     */
+    public static double[] computeApproximation(SolutionSet population, SolutionSet archive, ForkJoinPool pool) {
+        // the archive points are split among the threads of the pool
+        double[] results = ApproximationReducer.getApproximations(population, archive, pool);
+
+        Arrays.sort(results);        // biggest approximation is now at the end
+        reverse(results);
+
+        return results;              // maximal approximation is now in results[0];
+    }
+
     /** Compute how well the population approximates the archive
      *
      * @param population
@@ -646,261 +713,30 @@ public class AGE2 extends Algorithm {
 //     * @return
      */
     public void reducePopulationToSize(SolutionSet population, SolutionSet archive, int targetSize) {
-//        boolean debugPrint = true;
-        boolean debugPrint = true && debugPrintGlobal;
-        boolean debugPrintAdditional = false;
-        if (debugPrint) System.out.println("computeFitnesses/2: ");
-
-        // the following array stores the maximum approximations for which a population point is responsible
-        int[] whichPopPointIsResponsible = new int[archive.size()];
-        int[] whichPopPointIsResponsibleSecondBest = new int[archive.size()];
-
-        SolutionSet archiveFront = archive;
-
-        double[] results = new double[archiveFront.size()];
-
-        if (debugPrint) System.out.println("population.size=" + population.size() + " archive.size=" + archive.size() + " front.size=" + archiveFront.size());
 
-        /* store all the "pop app arc" in the following array:
-         * for each archive point it is stored how well a population point approximates it
-         */
-//        double[][] approximations = new double[archiveFront.size()][population.size()];
-
-
-        /* store all minimums of approximations per archive point in this array */
-        double[] eps1 = new double[archiveFront.size()];
-        double[] eps2 = new double[archiveFront.size()];
-
-        // compute approximation for each non-dominated point of the archive
-        // to find out how well it is approximated by the population points
-        for (int i = 0; i < archiveFront.size(); i++) {
-            Solution s = archiveFront.get(i);   // non-dominated archive-point
-
-            double deltaForThisSolution = Double.MAX_VALUE; //minimize this value
-            double deltaForThisSolutionSecondBest = Double.MAX_VALUE; //minimize this value
-            for (int j = 0; j < population.size(); j++) {
-                Solution p = population.get(j);
-
-                // compute how an element p of the front(population) approximates an element s of the archive in domain and image
-                double deltaForThisSolutionCurrent = computeApproximationSolutionForSolution(p, s); // population element p, archiveFront element s
-
-//                approximations[i][j] = deltaForThisSolutionCurrent;
-
-                // if better then currentBest
-                if (deltaForThisSolutionCurrent < deltaForThisSolution) {
-                    deltaForThisSolutionSecondBest = deltaForThisSolution;      // old best becomes secondBest
-                    deltaForThisSolution = deltaForThisSolutionCurrent;         // new best becomes best
-                    whichPopPointIsResponsibleSecondBest[i] = whichPopPointIsResponsible[i];
-                    whichPopPointIsResponsible[i] = j;
-                } else {
-                // if better then currentSecondBest
-                    if (deltaForThisSolutionCurrent < deltaForThisSolutionSecondBest) {
-                        deltaForThisSolutionSecondBest = deltaForThisSolutionCurrent;
-                        whichPopPointIsResponsibleSecondBest[i] = j;
-                    }
-                }
-
-//                 optimized runtime: if an archive point is 0-approximated, don't look any further for that point...
-//                if (deltaForThisSolution == 0) {
-//                    break;
-//                }
-            }
-
-            // save the minimal approximation
-            results[i] = deltaForThisSolution;
-            eps1[i] = deltaForThisSolution;
-            eps2[i] = deltaForThisSolutionSecondBest;
-
-            if (debugPrint) {
-                System.out.printf("-deltaForThisSolution: %8.5f ", deltaForThisSolution);
-                System.out.println("(=" + deltaForThisSolution + ")"); // same output as line before, just more precise
-            }
-        }
-
-//        if (debugPrint) System.out.println("eps1: " + Arrays.toString(eps1));
-//        if (debugPrint) System.out.println("eps2: " + Arrays.toString(eps2));
-
-//        // determine whether p is p1(a) for some a \in A
-//        boolean[] pIsP1a = new boolean[population.size()];
-//        for (int i = 0; i<pIsP1a.length; i++)
-//            pIsP1a[i] = false;
-//        for (int i = 0; i<whichPopPointIsResponsible.length; i++) {
-//            int p = whichPopPointIsResponsible[i];
-//            pIsP1a[p] = true;
-//        }
-        // keep track whether some point is still in the population
-        boolean[] pIsInCurrentPop = new boolean[population.size()];
-        for (int i = 0; i<pIsInCurrentPop.length; i++)
-            pIsInCurrentPop[i] = true;
-
-
-        //now determine the val(p)
-        double[] val = new double[population.size()];
-        double minVal = Double.MAX_VALUE;
-        int minValIndex = 0;
-        for (int i = 0; i<eps1.length; i++) {
-            double eps2a = eps2[i];
-            int p = whichPopPointIsResponsible[i];
-                if (eps2a>val[p])
-                    val[p] = eps2a;            
-        }
-
-        for (int i=0; i<val.length; i++) {
-                if (val[i]<minVal) {
-                        minVal = val[i];
-                        minValIndex = i;
-                }
-        }
-        
-        int popCounter=population.size();
-        if (debugPrintAdditional) System.out.println("popCounter"+popCounter);
-//        population.remove(minValIndex);
-        pIsInCurrentPop[minValIndex] = false;
-        popCounter--;
-        if (debugPrintAdditional) System.out.println("popCounter"+popCounter);
-
-        if (debugPrintAdditional) if (true) {
-            System.out.println("unsorted eps1:    " + Arrays.toString(eps1));
-            System.out.println("responsible:      " + Arrays.toString(whichPopPointIsResponsible));
-            System.out.println("unsorted eps2:    " + Arrays.toString(eps2));
-            System.out.println("responsible:      " + Arrays.toString(whichPopPointIsResponsibleSecondBest));
-            System.out.println("val        :      " + Arrays.toString(val));
-            System.out.println("pIsInCurrentPop:  " + Arrays.toString(pIsInCurrentPop));
-//            System.out.println("pIsP1a     :      " + Arrays.toString(pIsP1a));
-            System.out.println("minVal="+minVal + " index=" +minValIndex + " population.size()now="+ (population.size()));
-//            System.out.println("maxAppForPopPoint:" + Arrays.toString(maxAppForPopPoint));
-        }
-
-        while (popCounter > targetSize) {
-        //while (population.size() > targetSize) {
-            HashSet whichEpsToUpdate = new HashSet();
-
-            for (int i = 0; i<whichPopPointIsResponsible.length; i++) {
-                if (minValIndex == whichPopPointIsResponsible[i]) whichEpsToUpdate.add(i);
-                if (minValIndex == whichPopPointIsResponsibleSecondBest[i]) whichEpsToUpdate.add(i);
-            }
-
-            Iterator it = whichEpsToUpdate.iterator();
-            while (it.hasNext()) {
-                int i = (Integer)it.next();
-                if (debugPrintAdditional) System.out.print(i+" ");
-            }
-            if (debugPrintAdditional) System.out.println("");
-
-
-            it = whichEpsToUpdate.iterator();
-            while (it.hasNext()) {
-                int i = (Integer)it.next();
-
-                Solution s = archiveFront.get(i);   // non-dominated archive-point
-
-                double deltaForThisSolution = Double.MAX_VALUE; //minimize this value
-                double deltaForThisSolutionSecondBest = Double.MAX_VALUE; //minimize this value
-                for (int j = 0; j < population.size(); j++) {
-
-                    // skip those of the old population that are no longer in the current population
-                    if (!pIsInCurrentPop[j]) continue;
-
-                    Solution p = population.get(j);
-
-                    // compute how an element p of the front(population) approximates an element s of the archive in domain and image
-                    double deltaForThisSolutionCurrent = computeApproximationSolutionForSolution(p, s); // population element p, archiveFront element s
-
-    //                approximations[i][j] = deltaForThisSolutionCurrent;
-
-                    // if better then currentBest
-                    if (deltaForThisSolutionCurrent < deltaForThisSolution) {
-                        deltaForThisSolutionSecondBest = deltaForThisSolution;      // old best becomes secondBest
-                        deltaForThisSolution = deltaForThisSolutionCurrent;         // new best becomes best
-                        whichPopPointIsResponsibleSecondBest[i] = whichPopPointIsResponsible[i];
-                        whichPopPointIsResponsible[i] = j;
-                    } else {
-                    // if better then currentSecondBest
-                        if (deltaForThisSolutionCurrent < deltaForThisSolutionSecondBest) {
-                            deltaForThisSolutionSecondBest = deltaForThisSolutionCurrent;
-                            whichPopPointIsResponsibleSecondBest[i] = j;
-                        }
-                    }
-
-                    // optimized runtime: if an archive point is 0-approximated, don't look any further for that point...
-    //                if (deltaForThisSolution == 0) {
-    //                    break;
-    //                }
-                }
-
-                // save the minimal approximation
-                results[i] = deltaForThisSolution;
-                eps1[i] = deltaForThisSolution;
-                eps2[i] = deltaForThisSolutionSecondBest;
-
-                if (debugPrint) {
-                    System.out.printf("-deltaForThisSolution: %8.5f ", deltaForThisSolution);
-                    System.out.println("(=" + deltaForThisSolution + ")"); // same output as line before, just more precise
-                }
-            }
-
-            //now determine the val(p)
-    //        double[] val = new double[population.size()];
-            minVal = Double.MAX_VALUE;
-            minValIndex = 0;
-            for (int i = 0; i<eps1.length; i++) {
-                double eps2a = eps2[i];
-                int p = whichPopPointIsResponsible[i];
-                    if (eps2a>val[p])
-                        val[p] = eps2a;
-            }
-
-            for (int i=0; i<val.length; i++) {
-                if (pIsInCurrentPop[i])
-                    if (val[i]<minVal) {
-                            minVal = val[i];
-                            minValIndex = i;
-                    }
-
-            }
-    //        population.remove(minValIndex);
-            popCounter--;
-            if (debugPrintAdditional) System.out.println("popCounter"+popCounter);
-            pIsInCurrentPop[minValIndex] = false;
-
-            if (debugPrintAdditional) if (true) {
-                System.out.println("unsorted eps1:    " + Arrays.toString(eps1));
-                System.out.println("responsible:      " + Arrays.toString(whichPopPointIsResponsible));
-                System.out.println("unsorted eps2:    " + Arrays.toString(eps2));
-                System.out.println("responsible:      " + Arrays.toString(whichPopPointIsResponsibleSecondBest));
-                System.out.println("val        :      " + Arrays.toString(val));
-                System.out.println("pIsInCurrentPop:  " + Arrays.toString(pIsInCurrentPop));
-    //            System.out.println("pIsP1a     :      " + Arrays.toString(pIsP1a));
-                System.out.println("minVal="+minVal + " index=" +minValIndex + " population.size()now="+ (population.size()));
-    //            System.out.println("maxAppForPopPoint:" + Arrays.toString(maxAppForPopPoint));
-            }
-        }
-       
+        // remove the points one by one, updating only the approximations
+        // of the archive points that referred to the removed point
+        ApproximationReducer reducer = new ApproximationReducer(population, archive, approximationPool_);
+        reducer.reduce(targetSize);
 
   // set fitness in this function as well
 
                 //now determine the maximum approximation for which a popPoint is responsible:
                 double[] maxAppForPopPoint = new double[population.size()];
-                for (int i = 0; i<whichPopPointIsResponsible.length; i++) {
-                    int popPointResponsible = whichPopPointIsResponsible[i];
-                    if (pIsInCurrentPop[popPointResponsible]) {
-                        if (maxAppForPopPoint[popPointResponsible] < results[i]) { // update if point is responsible for a "worse approximation"
-                            maxAppForPopPoint[popPointResponsible] = results[i];
+                for (int i = 0; i<archive.size(); i++) {
+                    int popPointResponsible = reducer.getResponsible(i);
+                    if (reducer.isInPopulation(popPointResponsible)) {
+                        if (maxAppForPopPoint[popPointResponsible] < reducer.getApproximation(i)) { // update if point is responsible for a "worse approximation"
+                            maxAppForPopPoint[popPointResponsible] = reducer.getApproximation(i);
 
                             // set fitness here...
-//                            population.get(popPointResponsible).setFitness(Math.pow( 1d/results[i], this.problem_.getNumberOfObjectives()  ) );
-//                            population.get(popPointResponsible).setFitness(Math.pow( results[i], this.problem_.getNumberOfObjectives()  ) );
-//                            population.get(popPointResponsible).setFitness(Math.pow( 1d/results[i], 1) );
-                            population.get(popPointResponsible).setFitness(Math.pow( results[i], 1) );
+                            population.get(popPointResponsible).setFitness(Math.pow( reducer.getApproximation(i), 1) );
                         }
                     }
         }
 
         // form new population:
-        for (int i = pIsInCurrentPop.length - 1; i>=0; i--) {
-            if (!pIsInCurrentPop[i]) population.remove(i);
-            if (debugPrintAdditional) System.out.println("population.size()"+population.size());
-        }
+        reducer.removeFrom(population);
     } //end
 
 
@@ -23,6 +23,7 @@ import jmetal.qualityIndicator.QualityIndicator;
 
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
 import java.util.logging.FileHandler;
 import java.util.logging.Logger;
 import jmetal.base.operator.comparator.FitnessAndCrowdingDistanceComparator;
@@ -44,6 +45,7 @@ public class AGE2_main {
    *      - jmetal.metaheuristics.nsgaII.NSGAII_main problemName paretoFrontFile
    */
   public static void main(String [] args) throws JMException, IOException, ClassNotFoundException {
+    PseudoRandom.setSeedFromProperty() ;
     Problem   problem   ;         // The problem to solve
     Algorithm algorithm ;         // The algorithm to use
     Operator  crossover ;         // Crossover operator
@@ -20,6 +20,7 @@ import static jmetal.metaheuristics.age.pAGE.isSolutionInPreferred;
 import static jmetal.metaheuristics.age.pAGE.printDouble2DArray;
 import jmetal.qualityIndicator.QualityIndicator;
 import jmetal.util.*;
+import jmetal.util.archive.NDTreeArchive;
 
 /**
  * This class representing the SPEA2 algorithm
@@ -128,7 +129,7 @@ public class BFNW extends Algorithm {
          * the best mu points out of mu+1 are selected that approximate the new 
          * archive best.
          */
-        archive = (SolutionSet)DeepCopy.copy(solutionSet);
+        archive = solutionSet.copy();
         
         /* or: initialise with epsilonboxes, where a point is in the box */
         boolean useEpsilonBoxesArchive;
@@ -151,6 +152,19 @@ public class BFNW extends Algorithm {
 //        archive = rtemp.getSubfront(0);
         System.out.println("initial: population.size()="+solutionSet.size()+" archive.size()="+archive.size());
 
+        // The archive is indexed by an ND-tree, which answers the dominance
+        // checks of the offspring without scanning the whole archive. The
+        // tree ignores constraints and epsilon boxes, so that it is only used
+        // without them.
+        boolean useArchiveIndex;
+        if (getInputParameter("useArchiveIndex")==null) useArchiveIndex = true;
+            else useArchiveIndex = ((Boolean) getInputParameter("useArchiveIndex")).booleanValue();
+        NDTreeArchive archiveIndex = null;
+        if (useArchiveIndex && !useEpsilonBoxesArchive && problem_.getNumberOfConstraints()==0) {
+            archiveIndex = new NDTreeArchive(problem_.getNumberOfObjectives());
+            archiveIndex.addAll(archive);
+        }
+
 //        EpsilonDominanceComparatorGridBasedAdditive c = new EpsilonDominanceComparatorGridBasedAdditive(epsilonGridWidth);
 //        Comparator cNormal = new EqualSolutions();
         Comparator cNormal = new DominanceComparator();
@@ -509,7 +523,10 @@ public class BFNW extends Algorithm {
                     
                     boolean debugPrintEpsilon = false;
                     
-                    for (int i = 0; i<archive.size(); i++) {
+                    if (archiveIndex != null) {
+                        newPointIsDominatedByOldArchive = archiveIndex.update(offSpring[0], true, 0);
+                        if (newPointIsDominatedByOldArchive) newPointIsDominatedByOldArchiveCounter++;
+                    } else for (int i = 0; i<archive.size(); i++) {
                         Solution archiveSolution = archive.get(i);
                         /*
                          * COMPARE: return -1, or 0, or 1 if solution1 dominates solution2, both are
@@ -586,9 +603,13 @@ public class BFNW extends Algorithm {
                             offSpring[0] = convertSolutionToEpsilonGridVectorFLOOR(offSpring[0], epsilonGridWidth);
                         }
                         
-                        SolutionSet temp = new SolutionSet(1);
-                        temp.add(offSpring[0]);
-                        archive = archive.union(temp);
+                        if (archiveIndex != null) {
+                            archiveIndex.add(offSpring[0]);
+                        } else {
+                            SolutionSet temp = new SolutionSet(1);
+                            temp.add(offSpring[0]);
+                            archive = archive.union(temp);
+                        }
                     }  
                     
                     
@@ -744,6 +765,7 @@ public class BFNW extends Algorithm {
                     
               }
             /*END generate lambda invididuals*/
+            if (archiveIndex != null) archive = archiveIndex.getSolutionSet();
 
 //System.out.print("post offspring generation "+offSpringSolutionSet.size()+" "+offSpringSolutionSetForArchive.size());
    
@@ -927,7 +949,7 @@ System.out.println(" #### IJCAI 2013 Version ####");
             boolean debugPageOffline = true;
             // 2. step
             if (debugPageOffline) System.out.println("DeepCopy done");
-            solutionSet = (SolutionSet)DeepCopy.copy(archive);
+            solutionSet = archive.copy();
             if (debugPageOffline) {
                 System.out.println("old solutionSet (based on archive): size="+solutionSet.size());
                 //printDouble2DArray(solutionSet.writeObjectivesToMatrix());
@@ -1616,6 +1638,7 @@ public static void arrayJobs(){
     public static void main(String[] args) {
         arrayJobs();
         try {
+            PseudoRandom.setSeedFromProperty();
             if (args.length == 0) {
 
 
@@ -21,6 +21,7 @@ import jmetal.qualityIndicator.QualityIndicator;
 
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
 import java.util.logging.FileHandler;
 import java.util.logging.Logger;
 import jmetal.base.operator.comparator.FitnessAndCrowdingDistanceComparator;
@@ -48,6 +49,7 @@ public class BFWN_main {
     
     
   public static void main(String [] args) throws JMException, IOException, ClassNotFoundException {
+      PseudoRandom.setSeedFromProperty() ;
       
       if (true) {
           BFWN_main.mainORIG(args);
@@ -19,6 +19,7 @@ import jmetal.problems.ZDT.*;
 import jmetal.problems.WFG.*;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
 import java.util.logging.FileHandler;
 import java.util.logging.Logger;
 
@@ -27,6 +28,7 @@ public class DENSEA_main {
   public static FileHandler fileHandler_ ; // FileHandler object
   
   public static void main(String [] args) throws JMException, IOException, ClassNotFoundException {
+    PseudoRandom.setSeedFromProperty() ;
     Problem   problem   ;         // The problem to solve
     Algorithm algorithm ;         // The algorithm to use
     Operator  crossover ;         // Crossover operator
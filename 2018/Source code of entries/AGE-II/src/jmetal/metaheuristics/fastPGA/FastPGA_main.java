@@ -23,6 +23,7 @@ import jmetal.qualityIndicator.QualityIndicator;
 
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
 import java.util.logging.FileHandler;
 import java.util.logging.Logger;
 
@@ -36,6 +37,7 @@ public class FastPGA_main {
    * @throws JMException 
    */
   public static void main(String [] args) throws JMException, IOException, ClassNotFoundException {
+    PseudoRandom.setSeedFromProperty() ;
     Problem   problem   ;         // The problem to solve
     Algorithm algorithm ;         // The algorithm to use
     Operator  crossover ;         // Crossover operator
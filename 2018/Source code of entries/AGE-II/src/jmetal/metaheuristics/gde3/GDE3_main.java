@@ -18,6 +18,7 @@ import jmetal.qualityIndicator.QualityIndicator;
 
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
 
 import java.io.IOException;
 import java.util.logging.FileHandler;
@@ -38,6 +39,7 @@ public class GDE3_main {
    *      - jmetal.metaheuristics.nsgaII.NSGAII_main problemName paretoFrontFile
    */
   public static void main(String [] args) throws JMException, SecurityException, IOException, ClassNotFoundException {
+    PseudoRandom.setSeedFromProperty() ;
     Problem   problem   ;         // The problem to solve
     Algorithm algorithm ;         // The algorithm to use
     Operator  selection ;
@@ -23,6 +23,8 @@ import jmetal.qualityIndicator.Epsilon;
 import jmetal.qualityIndicator.QualityIndicator;
 import jmetal.qualityIndicator.util.MetricsUtil;
 import jmetal.util.*;
+import jmetal.util.evaluator.EvaluatorFactory;
+import jmetal.util.evaluator.SolutionSetEvaluator;
 
 /**
  * This class representing the SPEA2 algorithm
@@ -259,6 +261,7 @@ public class IBEA extends Algorithm{
     if (getInputParameter("doOnMPICluster")==null) doOnMPICluster = false;
         else doOnMPICluster = ((Boolean) getInputParameter("doOnMPICluster")).booleanValue();
     String infoPrinterSubDir = (String)getInputParameter("infoPrinterSubDir");
+    SolutionSetEvaluator evaluator = EvaluatorFactory.getEvaluator(this);
 
     int populationSize, archiveSize, maxEvaluations, evaluations;
     Operator crossoverOperator, mutationOperator, selectionOperator;
@@ -429,11 +432,11 @@ boolean analysisWithTime = true;
         if (doCrossover) offSpring = (Solution [])crossoverOperator.execute(parents);            // do XO
           else offSpring = parents;                                                    // do not do XO
         if (doMutation) mutationOperator.execute(offSpring[0]);
-        problem_.evaluate(offSpring[0]);
-        problem_.evaluateConstraints(offSpring[0]);
         offSpringSolutionSet.add(offSpring[0]);
         evaluations++;
       } // while
+      // Evaluate the whole offSpring solutionSet in one batch
+      evaluator.evaluate(offSpringSolutionSet, problem_);
       // End Create a offSpring solutionSet
       
 //    Ranking rtemp2 = new Ranking(offSpringSolutionSet);
@@ -452,6 +455,7 @@ boolean analysisWithTime = true;
 
 
     } // while
+    evaluator.shutdown();
 
 
     if (doOnMPICluster) {
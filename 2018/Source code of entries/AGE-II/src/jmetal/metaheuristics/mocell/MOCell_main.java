@@ -27,6 +27,7 @@ import jmetal.problems.WFG.* ;
 import jmetal.problems.LZ09.* ;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
 
 import java.util.logging.FileHandler;
 import java.util.logging.Logger;
@@ -49,6 +50,7 @@ public class MOCell_main {
    *      - jmetal.metaheuristics.mocell.MOCell_main problemName ParetoFrontFile
    */
   public static void main(String [] args) throws JMException, SecurityException, IOException, ClassNotFoundException {
+    PseudoRandom.setSeedFromProperty() ;
     Problem   problem   ;         // The problem to solve
     Algorithm algorithm ;         // The algorithm to use
     Operator  crossover ;         // Crossover operator
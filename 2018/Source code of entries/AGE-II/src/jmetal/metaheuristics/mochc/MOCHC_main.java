@@ -20,11 +20,13 @@ import jmetal.problems.*                  ;
 import jmetal.problems.DTLZ.*;
 import jmetal.problems.ZDT.*;
 import jmetal.problems.WFG.*;
+import jmetal.util.PseudoRandom;
 
 public class MOCHC_main {
 
   public static void main(String [] args) {
     try {                               
+      PseudoRandom.setSeedFromProperty() ;
       Problem problem = new RadioNetworkDesign(149);
 
       Algorithm algorithm = null;
@@ -25,6 +25,8 @@ import jmetal.metaheuristics.ibea.IBEA;
 import jmetal.metaheuristics.ibea.IBEA_main;
 import jmetal.qualityIndicator.QualityIndicator;
 import jmetal.util.PseudoRandom;
+import jmetal.util.evaluator.EvaluatorFactory;
+import jmetal.util.evaluator.SolutionSetEvaluator;
 
 public class MOEAD extends Algorithm {
 
@@ -71,6 +73,10 @@ public class MOEAD extends Algorithm {
    */
   Operator crossover_;
   Operator mutation_;
+  /**
+   * Evaluator of the initial population
+   */
+  SolutionSetEvaluator evaluator_;
 
   String dataDirectory_;
 
@@ -110,6 +116,7 @@ public class MOEAD extends Algorithm {
     if (getInputParameter("doOnMPICluster")==null) doOnMPICluster = false;
         else doOnMPICluster = ((Boolean) getInputParameter("doOnMPICluster")).booleanValue();
     String infoPrinterSubDir = (String)getInputParameter("infoPrinterSubDir");
+    evaluator_ = EvaluatorFactory.getEvaluator(this);
     
     
     
@@ -143,6 +150,7 @@ public class MOEAD extends Algorithm {
 
     // STEP 1.3. Initialize z_
     initIdealPoint();
+    evaluator_.shutdown();
 
     
     
@@ -388,22 +396,24 @@ if (analysisWithTime && evaluations%5000==0 || evaluations==populationSize) {
     for (int i = 0; i < populationSize; i++) {
       Solution newSolution = new Solution(problem_);
 
-      problem_.evaluate(newSolution);
       evaluations++;
       population.add(newSolution) ;
     } // for
+    evaluator_.evaluate(population, problem_);
   } // initPopulation
 
   /**
    * 
    */
   void initIdealPoint() throws JMException, ClassNotFoundException {
+    SolutionSet indSet = new SolutionSet(problem_.getNumberOfObjectives());
     for (int i = 0; i < problem_.getNumberOfObjectives(); i++) {
       z_[i] = 1.0e+30;
       indArray_[i] = new Solution(problem_);
-      problem_.evaluate(indArray_[i]);
+      indSet.add(indArray_[i]);
       evaluations++;
     } // for
+    evaluator_.evaluate(indSet, problem_);
 
     for (int i = 0; i < populationSize; i++) {
       updateReference(population.get(i));
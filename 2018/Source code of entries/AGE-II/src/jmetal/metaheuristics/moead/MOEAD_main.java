@@ -24,6 +24,7 @@ import jmetal.problems.LZ09.* ;
 
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
 
 import java.io.IOException;
 import java.util.logging.FileHandler;
@@ -49,6 +50,7 @@ public class MOEAD_main {
  
    */
   public static void main(String [] args) throws JMException, SecurityException, IOException, ClassNotFoundException {
+    PseudoRandom.setSeedFromProperty() ;
     Problem   problem   ;         // The problem to solve
     Algorithm algorithm ;         // The algorithm to use
     Operator  crossover ;         // Crossover operator
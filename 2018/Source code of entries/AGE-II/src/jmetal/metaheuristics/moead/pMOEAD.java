@@ -128,6 +128,9 @@ public class pMOEAD extends Algorithm implements Runnable {
 		indArray_     = parentThread_.indArray_ ;
 		barrier_      = parentThread_.barrier_ ;
 
+		// Each thread draws from its own stream when the run has a master seed
+		if (PseudoRandom.isSeeded())
+			PseudoRandom.useStream(id_ + 1) ;
 	
 		int partitions = parentThread_.populationSize_ / parentThread_.numberOfThreads_;
 
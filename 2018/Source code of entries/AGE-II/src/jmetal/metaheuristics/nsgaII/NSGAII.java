@@ -14,6 +14,8 @@ import jmetal.metaheuristics.bfnw.BFNW;
 import jmetal.qualityIndicator.QualityIndicator;
 import jmetal.qualityIndicator.util.MetricsUtil;
 import jmetal.util.*;
+import jmetal.util.evaluator.EvaluatorFactory;
+import jmetal.util.evaluator.SolutionSetEvaluator;
 
 /**
  * This class implements the NSGA-II algorithm. 
@@ -72,6 +74,10 @@ public class NSGAII extends Algorithm {
     if (getInputParameter("doOnMPICluster")==null) doOnMPICluster = false;
         else doOnMPICluster = ((Boolean) getInputParameter("doOnMPICluster")).booleanValue();
     String infoPrinterSubDir = (String)getInputParameter("infoPrinterSubDir");
+    SolutionSetEvaluator evaluator = EvaluatorFactory.getEvaluator(this);
+    String rankingName;
+    if (getInputParameter("ranking")==null) rankingName = "FastNonDominatedSort";
+      else rankingName = (String)getInputParameter("ranking");
 
 
     //Initialize the variables
@@ -220,22 +226,21 @@ public class NSGAII extends Algorithm {
             else offSpring = parents;
           if (doMutation) mutationOperator.execute(offSpring[0]);
           if (doMutation) mutationOperator.execute(offSpring[1]);
-          problem_.evaluate(offSpring[0]);
-          problem_.evaluateConstraints(offSpring[0]);
-          problem_.evaluate(offSpring[1]);
-          problem_.evaluateConstraints(offSpring[1]);
           offspringPopulation.add(offSpring[0]);
           offspringPopulation.add(offSpring[1]);
           evaluations += 2;
         } // if                            
       } // for
 
+      // Evaluate the whole offSpring solutionSet in one batch
+      evaluator.evaluate(offspringPopulation, problem_);
+
 
       // Create the solutionSet union of solutionSet and offSpring
       union = ((SolutionSet) population).union(offspringPopulation);
 
       // Ranking the union
-      Ranking ranking = new Ranking(union);
+      Ranking ranking = RankingFactory.getRanking(rankingName, union);
 
       int remain = populationSize;
       int index = 0;
@@ -329,6 +334,7 @@ public class NSGAII extends Algorithm {
       
 
     } // while
+    evaluator.shutdown();
 
     // Return as output parameter the required evaluations
     setOutputParameter("evaluations", requiredEvaluations);
@@ -346,7 +352,7 @@ public class NSGAII extends Algorithm {
 
 
     // Return the first non-dominated front
-    Ranking ranking = new Ranking(population);
+    Ranking ranking = RankingFactory.getRanking(rankingName, population);
     population = ranking.getSubfront(0);
 if (analysisWithTime && evaluations%5000==0 || evaluations==populationSize) {
 //if (analysisWithTime && evaluations%5000==0) {
@@ -11,9 +11,10 @@ import java.util.logging.Logger;
 import jmetal.base.*;
 import jmetal.base.operator.comparator.DominanceComparator;
 import jmetal.metaheuristics.bfnw.BFNW;
-import jmetal.metaheuristics.bfnw.DeepCopy;
 import jmetal.qualityIndicator.QualityIndicator;
 import jmetal.util.*;
+import jmetal.util.evaluator.EvaluatorFactory;
+import jmetal.util.evaluator.SolutionSetEvaluator;
 
 /**
  * This class implements the NSGA-II algorithm. 
@@ -76,6 +77,7 @@ public class NSGAIIArchive extends Algorithm {
     if (getInputParameter("doOnMPICluster")==null) doOnMPICluster = false;
         else doOnMPICluster = ((Boolean) getInputParameter("doOnMPICluster")).booleanValue();
     String infoPrinterSubDir = (String)getInputParameter("infoPrinterSubDir");
+    SolutionSetEvaluator evaluator = EvaluatorFactory.getEvaluator(this);
 
     if (getInputParameter("crowdingDistanceSwitch")==null)  {
         System.out.println("crowdingDistanceSwitch default value "+crowdingDistanceSwitch);
@@ -109,7 +111,7 @@ public class NSGAIIArchive extends Algorithm {
 
     
     //added START
-    SolutionSet archive = (SolutionSet)DeepCopy.copy(solutionSet);
+    SolutionSet archive = solutionSet.copy();
     SolutionSet offSpringSolutionSetForArchive = new SolutionSet(populationSize);
     DominanceComparator cNormal = new DominanceComparator();
     //added END
@@ -193,7 +195,21 @@ public class NSGAIIArchive extends Algorithm {
       
       
       
+      // Generate and evaluate all the offSpring first. The parents are only
+      // selected from solutionSet, which the archive checks below do not modify
+      SolutionSet offSpringBatch = new SolutionSet(populationSize);
       Solution[] parents = new Solution[2];
+      for (int i = 0; (i < populationSize) && (evaluations + i < maxEvaluations); i++) {
+        parents[0] = (Solution) selectionOperator.execute(solutionSet);
+        parents[1] = (Solution) selectionOperator.execute(solutionSet);
+        Solution[] offSpring;
+        if (doCrossover) offSpring = (Solution[]) crossoverOperator.execute(parents);
+          else offSpring = parents;
+        if (doMutation) mutationOperator.execute(offSpring[0]);
+        offSpringBatch.add(offSpring[0]);
+      } // for
+      evaluator.evaluate(offSpringBatch, problem_);
+
       for (int i = 0; i < (populationSize ); i++) {
           
 if (innerDebug) System.out.println("start loop at evaluation="+evaluations);
@@ -202,16 +218,9 @@ if (innerDebug) System.out.println("solutionSet="+solutionSet.size()+" offSpring
           
 //      for (int i = 0; i < (populationSize / 2); i++) {
         if (evaluations < maxEvaluations) {
-          //obtain parents
-          parents[0] = (Solution) selectionOperator.execute(solutionSet);
-          parents[1] = (Solution) selectionOperator.execute(solutionSet);
-          Solution[] offSpring;
-          if (doCrossover) offSpring = (Solution[]) crossoverOperator.execute(parents);
-            else offSpring = parents;
-          if (doMutation) mutationOperator.execute(offSpring[0]);
+          //obtain the offSpring, already evaluated
+          Solution[] offSpring = new Solution[] {offSpringBatch.get(i)};
 //          if (doMutation) mutationOperator.execute(offSpring[1]);
-          problem_.evaluate(offSpring[0]);
-          problem_.evaluateConstraints(offSpring[0]);
 //          problem_.evaluate(offSpring[1]);
 //          problem_.evaluateConstraints(offSpring[1]);
           //offSpringSolutionSet.add(offSpring[0]); // comment this line so that "archive" has an effect
@@ -447,6 +456,7 @@ if (innerDebug) System.out.println("end loop");
       
 
     } // while
+    evaluator.shutdown();
 
     // Return as output parameter the required evaluations
     setOutputParameter("evaluations", requiredEvaluations);
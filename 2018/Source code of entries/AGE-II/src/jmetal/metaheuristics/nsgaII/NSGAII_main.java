@@ -33,6 +33,7 @@ import jmetal.problems.LZ09.* ;
 
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
 import java.io.IOException;
 
 import java.util.logging.FileHandler;
@@ -60,6 +61,7 @@ public class NSGAII_main {
                                   SecurityException, 
                                   IOException, 
                                   ClassNotFoundException {
+    PseudoRandom.setSeedFromProperty() ;
     Problem   problem   ;         // The problem to solve
     Algorithm algorithm ;         // The algorithm to use
     Operator  crossover ;         // Crossover operator
@@ -19,6 +19,7 @@ import jmetal.problems.LZ09.* ;
 
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
 import java.io.IOException;
 
 import java.util.logging.FileHandler;
@@ -41,6 +42,7 @@ public class RandomSearch_main {
    */
   public static void main(String [] args) throws
                                   JMException, SecurityException, IOException, ClassNotFoundException {
+    PseudoRandom.setSeedFromProperty() ;
     Problem   problem   ;         // The problem to solve
     Algorithm algorithm ;         // The algorithm to use
     Operator  crossover ;         // Crossover operator
@@ -13,6 +13,7 @@ import jmetal.base.operator.mutation.*    ;
 import jmetal.base.operator.selection.*   ;
 import jmetal.problems.singleObjective.*  ; 
 import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
 
 /**
  * This class runs a single-objective Evolution Strategy (ES). The ES can be 
@@ -22,6 +23,7 @@ import jmetal.util.JMException;
 public class ES_main {
 
   public static void main(String [] args) throws JMException, ClassNotFoundException {
+    PseudoRandom.setSeedFromProperty() ;
     Problem   problem   ;         // The problem to solve
     Algorithm algorithm ;         // The algorithm to use
     Operator  mutation  ;         // Mutation operator
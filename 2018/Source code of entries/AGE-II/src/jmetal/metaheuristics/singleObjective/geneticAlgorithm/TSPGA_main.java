@@ -16,6 +16,7 @@ import jmetal.base.operator.mutation.*    ;
 import jmetal.base.operator.selection.*   ;
 import jmetal.problems.singleObjective.*  ; 
 import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
 
 /**
  * This class runs a single-objective genetic algorithm (GA). The GA can be 
@@ -28,6 +29,7 @@ public class TSPGA_main {
   public static void main(String [] args)  throws FileNotFoundException, 
                                                   IOException, JMException, 
                                                   ClassNotFoundException {
+    PseudoRandom.setSeedFromProperty() ;
     Problem   problem   ;         // The problem to solve
     Algorithm algorithm ;         // The algorithm to use
     Operator  crossover ;         // Crossover operator
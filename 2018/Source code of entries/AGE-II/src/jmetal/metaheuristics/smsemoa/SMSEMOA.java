@@ -9,10 +9,11 @@ import java.util.Arrays;
 import java.util.LinkedList;
 import jmetal.base.*;
 import jmetal.base.operator.comparator.CrowdingDistanceComparator;
-import jmetal.qualityIndicator.Hypervolume;
 import jmetal.qualityIndicator.QualityIndicator;
+import jmetal.qualityIndicator.util.HypervolumeContributions;
 import jmetal.qualityIndicator.util.MetricsUtil;
 import jmetal.util.*;
+import jmetal.util.evaluator.AsynchronousEvaluator;
 
 /**
  * This class implements the SMS-EMOA algorithm, as described in
@@ -37,7 +38,7 @@ public class SMSEMOA extends Algorithm {
      */
     private Problem problem_;
     private MetricsUtil utils_;
-    private Hypervolume hv_;
+    private HypervolumeContributions hvContributions_;
 
     /**
      * Constructor
@@ -46,7 +47,7 @@ public class SMSEMOA extends Algorithm {
     public SMSEMOA(Problem problem) {
         this.problem_ = problem;
         this.utils_ = new jmetal.qualityIndicator.util.MetricsUtil();
-        this.hv_ = new Hypervolume();
+        this.hvContributions_ = new HypervolumeContributions(problem.getNumberOfObjectives());
     } // SMSEMOA
 
     /**
@@ -70,6 +71,9 @@ public class SMSEMOA extends Algorithm {
         if (getInputParameter("infoPrinterHowOften")==null) infoPrinterHowOften=1000;
             else infoPrinterHowOften = ((Integer)getInputParameter("infoPrinterHowOften")).intValue();
         String infoPrinterSubDir = (String)getInputParameter("infoPrinterSubDir");
+        String rankingName;
+        if (getInputParameter("ranking")==null) rankingName = "FastNonDominatedSort";
+            else rankingName = (String)getInputParameter("ranking");
         boolean doOnMPICluster;
         if (getInputParameter("doOnMPICluster")==null) doOnMPICluster = false;
             else doOnMPICluster = ((Boolean) getInputParameter("doOnMPICluster")).booleanValue();
@@ -104,6 +108,26 @@ public class SMSEMOA extends Algorithm {
         crossoverOperator = operators_.get("crossover");
         selectionOperator = operators_.get("selection");
 
+        // The offspring discarded by the selection (and the unused second
+        // child) are returned to a pool from which the crossover operator
+        // takes its new solutions
+        boolean useSolutionPool;
+        if (getInputParameter("useSolutionPool")==null) useSolutionPool = true;
+            else useSolutionPool = ((Boolean) getInputParameter("useSolutionPool")).booleanValue();
+        SolutionPool solutionPool = null;
+        if (useSolutionPool) {
+            solutionPool = new SolutionPool(problem_, 2);
+            crossoverOperator.setParameter("solutionPool", solutionPool);
+        }
+
+        // Number of offspring evaluated concurrently. With more than one, each
+        // offspring is inserted as soon as its evaluation finishes and the next
+        // one is generated from the population at that time
+        int evaluationsInFlight;
+        if (getInputParameter("evaluationsInFlight")==null) evaluationsInFlight = 1;
+            else evaluationsInFlight = ((Integer) getInputParameter("evaluationsInFlight")).intValue();
+        AsynchronousEvaluator asynchronousEvaluator = new AsynchronousEvaluator(problem_, evaluationsInFlight);
+
         
         
         
@@ -230,36 +254,39 @@ public class SMSEMOA extends Algorithm {
 
 
 
-            // select parents
             offspringPopulation = new SolutionSet(populationSize);
-            LinkedList<Solution> selectedParents = new LinkedList<Solution>();
-            Solution[] parents = new Solution[0];
-            while (selectedParents.size() < 2) {
-                Object selected = selectionOperator.execute(population);
-                try {
-                    Solution parent = (Solution) selected;
-                    selectedParents.add(parent);
-                } catch (ClassCastException e) {
-                    parents = (Solution[]) selected;
-                    for (Solution parent : parents) {
+            while (!asynchronousEvaluator.isFull() &&
+                   (evaluations + asynchronousEvaluator.getNumberOfPending() < maxEvaluations)) {
+                // select parents
+                LinkedList<Solution> selectedParents = new LinkedList<Solution>();
+                Solution[] parents = new Solution[0];
+                while (selectedParents.size() < 2) {
+                    Object selected = selectionOperator.execute(population);
+                    try {
+                        Solution parent = (Solution) selected;
                         selectedParents.add(parent);
+                    } catch (ClassCastException e) {
+                        parents = (Solution[]) selected;
+                        for (Solution parent : parents) {
+                            selectedParents.add(parent);
+                        }
                     }
                 }
-            }
-            parents = selectedParents.toArray(parents);
+                parents = selectedParents.toArray(parents);
 
-            // crossover
-            Solution[] offSpring = (Solution[]) crossoverOperator.execute(parents);
+                // crossover
+                Solution[] offSpring = (Solution[]) crossoverOperator.execute(parents);
+                if (solutionPool != null && offSpring.length > 1) solutionPool.giveBack(offSpring[1]);
 
-            // mutation
-            mutationOperator.execute(offSpring[0]);
+                // mutation
+                mutationOperator.execute(offSpring[0]);
 
-            // evaluation
-            problem_.evaluate(offSpring[0]);
-            problem_.evaluateConstraints(offSpring[0]);
+                // evaluation
+                asynchronousEvaluator.submit(offSpring[0]);
+            }
 
-            // insert child into the offspring population
-            offspringPopulation.add(offSpring[0]);
+            // insert the next evaluated child into the offspring population
+            offspringPopulation.add(asynchronousEvaluator.take());
 
             evaluations++;
 
@@ -267,7 +294,7 @@ public class SMSEMOA extends Algorithm {
             union = ((SolutionSet) population).union(offspringPopulation);
 
             // Ranking the union (non-dominated sorting)
-            Ranking ranking = new Ranking(union);
+            Ranking ranking = RankingFactory.getRanking(rankingName, union);
 
             // ensure crowding distance values are up to date
             // (may be important for parent selection)
@@ -280,8 +307,9 @@ public class SMSEMOA extends Algorithm {
                 double[][] frontValues = lastFront.writeObjectivesToMatrix();
                 int numberOfObjectives = problem_.getNumberOfObjectives();
                 // STEP 1. Obtain the maximum and minimum values of the Pareto front
-                double[] maximumValues = utils_.getMaximumValues(union.writeObjectivesToMatrix(), numberOfObjectives);
-                double[] minimumValues = utils_.getMinimumValues(union.writeObjectivesToMatrix(), numberOfObjectives);
+                double[][] unionValues = union.writeObjectivesToMatrix();
+                double[] maximumValues = utils_.getMaximumValues(unionValues, numberOfObjectives);
+                double[] minimumValues = utils_.getMinimumValues(unionValues, numberOfObjectives);
                 // STEP 2. Get the normalized front
                 double[][] normalizedFront = utils_.getNormalizedFront(frontValues, maximumValues, minimumValues);
                 // compute offsets for reference point in normalized space
@@ -323,6 +351,8 @@ public class SMSEMOA extends Algorithm {
             for (int i = 0; i < lastFront.size() - 1; i++) {
                 population.add(lastFront.get(i));
             }
+            // the worst solution is not referenced anymore
+            if (solutionPool != null) solutionPool.giveBack(lastFront.get(lastFront.size() - 1));
 
             if (!true) {
                 System.out.println(indicators.getHypervolume(population)+ " "
@@ -347,6 +377,7 @@ public class SMSEMOA extends Algorithm {
 //            }
 
         } // while
+        asynchronousEvaluator.shutdown();
 
         // Return as output parameter the required evaluations
         setOutputParameter("evaluations", requiredEvaluations);
@@ -364,7 +395,7 @@ public class SMSEMOA extends Algorithm {
 
 
         // Return the first non-dominated front
-        Ranking ranking = new Ranking(population);
+        Ranking ranking = RankingFactory.getRanking(rankingName, population);
         population = ranking.getSubfront(0);
 if (analysisWithTime && evaluations%5000==0) {
                 System.out.println(
@@ -377,40 +408,19 @@ if (analysisWithTime && evaluations%5000==0) {
                         ",genspread("+this.getClass().getSimpleName()+")="+indicatorsTemp.getGeneralizedSpread(population)
                         );
             }
+        if (solutionPool != null) crossoverOperator.setParameter("solutionPool", null);
         return population;
     } // execute
 
     /**
      * Calculates how much hypervolume each point dominates exclusively. The points
      * have to be transformed beforehand, to accommodate the assumptions of Zitzler's
-     * hypervolume code.
+     * hypervolume code (maximization with respect to the origin).
      * @param front transformed objective values
      * @return HV contributions
      */
     private double[] hvContributions(double[][] front) {
-        int numberOfObjectives = problem_.getNumberOfObjectives();
-        double[] contributions = new double[front.length];
-        double[][] frontSubset = new double[front.length - 1][front[0].length];
-        LinkedList<double[]> frontCopy = new LinkedList<double[]>();
-        for (double[] point : front) {
-            frontCopy.add(point);
-        }
-        double[][] totalFront = frontCopy.toArray(frontSubset);
-//        double totalVolume = hv_.calculateHypervolumeFPRAS(totalFront, totalFront.length, numberOfObjectives, false);
-        double totalVolume = hv_.calculateHypervolume(totalFront, totalFront.length, numberOfObjectives);
-        for (int i = 0; i < front.length; i++) {
-            double[] evaluatedPoint = frontCopy.remove(i);
-            frontSubset = frontCopy.toArray(frontSubset);
-            // STEP4. The hypervolume (control is passed to java version of Zitzler code)
-//          double hv = hv_.calculateHypervolumeFPRAS(frontSubset, frontSubset.length, numberOfObjectives, false);
-            double hv = hv_.calculateHypervolume(frontSubset, frontSubset.length, numberOfObjectives);
-            double contribution = totalVolume - hv;
-            if (contribution <0) contribution=0; // as approx hyp can be negative
-            contributions[i] = contribution;
-            // put point back
-            frontCopy.add(i, evaluatedPoint);
-        }
-        return contributions;
+        return hvContributions_.calculateContributions(front, front.length);
     }
 
 
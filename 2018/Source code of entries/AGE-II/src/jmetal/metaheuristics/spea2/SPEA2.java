@@ -11,6 +11,8 @@ import java.util.Comparator;
 import jmetal.qualityIndicator.QualityIndicator;
 import jmetal.qualityIndicator.util.MetricsUtil;
 import jmetal.util.*;
+import jmetal.util.evaluator.EvaluatorFactory;
+import jmetal.util.evaluator.SolutionSetEvaluator;
 
 /** 
  * This class representing the SPEA2 algorithm
@@ -55,6 +57,7 @@ public class SPEA2 extends Algorithm{
     if (getInputParameter("infoPrinterHowOften")==null) infoPrinterHowOften=1000;
         else infoPrinterHowOften = ((Integer)getInputParameter("infoPrinterHowOften")).intValue();
     String infoPrinterSubDir = (String)getInputParameter("infoPrinterSubDir");
+    SolutionSetEvaluator evaluator = EvaluatorFactory.getEvaluator(this);
     boolean doOnMPICluster;
     if (getInputParameter("doOnMPICluster")==null) doOnMPICluster = false;
         else doOnMPICluster = ((Boolean) getInputParameter("doOnMPICluster")).booleanValue();
@@ -221,11 +224,11 @@ public class SPEA2 extends Algorithm{
         //make the crossover 
         Solution [] offSpring = (Solution [])crossoverOperator.execute(parents);            
         mutationOperator.execute(offSpring[0]);            
-        problem_.evaluate(offSpring[0]);
-        problem_.evaluateConstraints(offSpring[0]);            
         offSpringSolutionSet.add(offSpring[0]);
         evaluations++;
       } // while
+      // Evaluate the whole offSpring solutionSet in one batch
+      evaluator.evaluate(offSpringSolutionSet, problem_);
       // End Create a offSpring solutionSet
       solutionSet = offSpringSolutionSet;
 
@@ -236,6 +239,7 @@ public class SPEA2 extends Algorithm{
 //                infoPrinter.printLotsOfValues(this, problem_, operators_, inputParameters_, evaluations, solutionSet, archive, indicators, true);
 //      }
     } // while
+    evaluator.shutdown();
 
 
     if (doOnMPICluster) {
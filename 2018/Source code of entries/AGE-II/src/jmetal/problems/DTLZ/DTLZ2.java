@@ -9,6 +9,7 @@
 package jmetal.problems.DTLZ;
 
 import jmetal.base.*;
+import jmetal.base.solutionType.ArrayDoubleSolutionType;
 import jmetal.base.solutionType.BinaryRealSolutionType;
 import jmetal.base.solutionType.RealSolutionType;
 import jmetal.util.JMException;
@@ -53,6 +54,8 @@ public class DTLZ2 extends Problem{
     	solutionType_ = new BinaryRealSolutionType(this) ;
     else if (solutionType.compareTo("Real") == 0)
     	solutionType_ = new RealSolutionType(this) ;
+    else if (solutionType.compareTo("ArrayDouble") == 0)
+    	solutionType_ = new ArrayDoubleSolutionType(this) ;
     else {
     	System.out.println("Error: solution type " + solutionType + " invalid") ;
     	System.exit(-1) ;
@@ -65,32 +68,54 @@ public class DTLZ2 extends Problem{
    * @throws JMException 
   */    
   public void evaluate(Solution solution) throws JMException {
-    Variable[] gen  = solution.getDecisionVariables();
 
     double [] x = new double[numberOfVariables_];
     double [] f = new double[numberOfObjectives_];
+    solution.readDecisionVariableValues(x);
+    evaluate(x, 1, f);
+
+    for (int i = 0; i < numberOfObjectives_; i++)
+      solution.setObjective(i,f[i]);        
+  }
+
+  /** 
+   * Evaluates n solutions at once
+   * @param xs The decision variables of the solutions, row-major
+   * @param n The number of solutions
+   * @param fs The array receiving the objective values, row-major
+   * @throws JMException 
+   */    
+  public void evaluate(double [] xs, int n, double [] fs) throws JMException {
     int k = numberOfVariables_ - numberOfObjectives_ + 1;
+
+    for (int s = 0; s < n; s++) {
+      int xo = s * numberOfVariables_;
+      int fo = s * numberOfObjectives_;
+
+      double g = 0.0;
+      for (int i = numberOfVariables_ - k; i < numberOfVariables_; i++)
+        g += (xs[xo+i] - 0.5)*(xs[xo+i] - 0.5);
         
-    for (int i = 0; i < numberOfVariables_; i++)
-      x[i] = gen[i].getValue();
-        
-    double g = 0.0;
-    for (int i = numberOfVariables_ - k; i < numberOfVariables_; i++)
-      g += (x[i] - 0.5)*(x[i] - 0.5);
-        
-    for (int i = 0; i < numberOfObjectives_; i++)
-      f[i] = 1.0 + g;
+      for (int i = 0; i < numberOfObjectives_; i++)
+        fs[fo+i] = 1.0 + g;
         
-    for (int i = 0; i < numberOfObjectives_; i++){
-      for (int j = 0; j < numberOfObjectives_ - (i + 1); j++)            
-        f[i] *= Math.cos(x[j]*0.5*Math.PI);                
-        if (i != 0){
-          int aux = numberOfObjectives_ - (i + 1);
-          f[i] *= Math.sin(x[aux]*0.5*Math.PI);
-        } //if 
+      for (int i = 0; i < numberOfObjectives_; i++){
+        for (int j = 0; j < numberOfObjectives_ - (i + 1); j++)            
+          fs[fo+i] *= Math.cos(xs[xo+j]*0.5*Math.PI);                
+          if (i != 0){
+            int aux = numberOfObjectives_ - (i + 1);
+            fs[fo+i] *= Math.sin(xs[xo+aux]*0.5*Math.PI);
+          } //if 
+      } // for
     } // for
-        
-    for (int i = 0; i < numberOfObjectives_; i++)
-      solution.setObjective(i,f[i]);        
-  }    
+  } // evaluate
+
+  /** 
+   * Evaluates a set of solutions in one batch
+   * @param solutionSet The solutions to evaluate
+   * @throws JMException 
+   */    
+  public void evaluate(SolutionSet solutionSet) throws JMException {
+    evaluateInBatch(solutionSet);
+  } // evaluate
 } //evaluate
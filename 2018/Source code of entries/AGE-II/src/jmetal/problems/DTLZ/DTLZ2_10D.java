@@ -1,5 +1,5 @@
 /**
- * DTLZ2.java
+ * DTLZ2_10D.java
  *
  * @author Antonio J. Nebro
  * @author Juanjo Durillo
@@ -8,89 +8,27 @@
  */
 package jmetal.problems.DTLZ;
 
-import jmetal.base.*;
-import jmetal.base.solutionType.BinaryRealSolutionType;
-import jmetal.base.solutionType.RealSolutionType;
-import jmetal.util.JMException;
-import jmetal.util.Configuration.*;
-
-/**
- * Class representing problem ZDT2
+/** 
+ * Class representing problem DTLZ2 with 10 objectives
  */
-public class DTLZ2_10D extends Problem{
-       
+public class DTLZ2_10D extends DTLZ2 {
  /** 
-  * Creates a default DTLZ2 problem (12 variables and 3 objectives)
+  * Creates a default DTLZ2 problem (30 variables and 10 objectives)
   * @param solutionType The solution type must "Real" or "BinaryReal". 
   */
   public DTLZ2_10D(String solutionType) throws ClassNotFoundException {
-    this(solutionType, 30,10);
-//      this(solutionType, 12,2);
-  } // DTLZ2
-
- /**
-  * Creates a new instance of DTLZ2 
+    this(solutionType, 30, 10);
+  } // DTLZ2_10D
+    
+  /** 
+  * Creates a DTLZ2 problem instance
   * @param numberOfVariables Number of variables
   * @param numberOfObjectives Number of objective functions
   * @param solutionType The solution type must "Real" or "BinaryReal". 
   */
-  public DTLZ2_10D(String  solutionType,
-               Integer numberOfVariables,
+  public DTLZ2_10D(String solutionType,
+               Integer numberOfVariables, 
                Integer numberOfObjectives) throws ClassNotFoundException {
-    numberOfVariables_  = numberOfVariables.intValue();
-    numberOfObjectives_ = numberOfObjectives.intValue();
-    numberOfConstraints_= 0;
-    problemName_        = "DTLZ2";
-        
-    upperLimit_ = new double[numberOfVariables_];
-    lowerLimit_ = new double[numberOfVariables_];        
-    for (int var = 0; var < numberOfVariables_; var++){
-      lowerLimit_[var] = 0.0;
-      upperLimit_[var] = 1.0;
-    } //for
-        
-    if (solutionType.compareTo("BinaryReal") == 0)
-    	solutionType_ = new BinaryRealSolutionType(this) ;
-    else if (solutionType.compareTo("Real") == 0)
-    	solutionType_ = new RealSolutionType(this) ;
-    else {
-    	System.out.println("Error: solution type " + solutionType + " invalid") ;
-    	System.exit(-1) ;
-    }            
-  } //DTLZ2
-        
-  /** 
-  * Evaluates a solution 
-  * @param solution The solution to evaluate
-   * @throws JMException 
-  */    
-  public void evaluate(Solution solution) throws JMException {
-    Variable[] gen  = solution.getDecisionVariables();
-
-    double [] x = new double[numberOfVariables_];
-    double [] f = new double[numberOfObjectives_];
-    int k = numberOfVariables_ - numberOfObjectives_ + 1;
-        
-    for (int i = 0; i < numberOfVariables_; i++)
-      x[i] = gen[i].getValue();
-        
-    double g = 0.0;
-    for (int i = numberOfVariables_ - k; i < numberOfVariables_; i++)
-      g += (x[i] - 0.5)*(x[i] - 0.5);
-        
-    for (int i = 0; i < numberOfObjectives_; i++)
-      f[i] = 1.0 + g;
-        
-    for (int i = 0; i < numberOfObjectives_; i++){
-      for (int j = 0; j < numberOfObjectives_ - (i + 1); j++)            
-        f[i] *= Math.cos(x[j]*0.5*Math.PI);                
-        if (i != 0){
-          int aux = numberOfObjectives_ - (i + 1);
-          f[i] *= Math.sin(x[aux]*0.5*Math.PI);
-        } //if 
-    } // for
-        
-    for (int i = 0; i < numberOfObjectives_; i++)
-      solution.setObjective(i,f[i]);        
-  }    
-} //evaluate
+    super(solutionType, numberOfVariables, numberOfObjectives);
+  } // DTLZ2_10D
+} // DTLZ2_10D
@@ -1,5 +1,5 @@
 /**
- * DTLZ4.java
+ * DTLZ4_13D.java
  *
  * @author Antonio J. Nebro
  * @author Juanjo Durillo
@@ -8,92 +8,27 @@
  */
 package jmetal.problems.DTLZ;
 
-import jmetal.base.*;
-import jmetal.base.solutionType.BinaryRealSolutionType;
-import jmetal.base.solutionType.RealSolutionType;
-import jmetal.util.JMException;
-import jmetal.util.Configuration.*;
-
-/**
- * Class representing problem DTLZ4
+/** 
+ * Class representing problem DTLZ4 with 13 objectives
  */
-public class DTLZ4_13D extends Problem{
-   
-  
- /**
-  * Creates a default DTLZ4 problem (12 variables and 3 objectives) 
+public class DTLZ4_13D extends DTLZ4 {
+ /** 
+  * Creates a default DTLZ4 problem (30 variables and 13 objectives)
   * @param solutionType The solution type must "Real" or "BinaryReal". 
   */
   public DTLZ4_13D(String solutionType) throws ClassNotFoundException {
-    this(solutionType, 30,13);
-//    this(solutionType, 12,2);
-  }
+    this(solutionType, 30, 13);
+  } // DTLZ4_13D
     
- /**
-  * Creates a DTLZ4 problem problem instance 
+  /** 
+  * Creates a DTLZ4 problem instance
   * @param numberOfVariables Number of variables
   * @param numberOfObjectives Number of objective functions
   * @param solutionType The solution type must "Real" or "BinaryReal". 
   */
-  public DTLZ4_13D(String  solutionType,
-               Integer numberOfVariables,
+  public DTLZ4_13D(String solutionType,
+               Integer numberOfVariables, 
                Integer numberOfObjectives) throws ClassNotFoundException {
-    numberOfVariables_  = numberOfVariables.intValue();
-    numberOfObjectives_ = numberOfObjectives.intValue();
-    numberOfConstraints_= 0;
-    problemName_        = "DTLZ4";
-        
-    lowerLimit_ = new double[numberOfVariables_];
-    upperLimit_ = new double[numberOfVariables_];        
-    for (int var = 0; var < numberOfVariables_; var++){
-      lowerLimit_[var] = 0.0;
-      upperLimit_[var] = 1.0;
-    }
-        
-    if (solutionType.compareTo("BinaryReal") == 0)
-    	solutionType_ = new BinaryRealSolutionType(this) ;
-    else if (solutionType.compareTo("Real") == 0)
-    	solutionType_ = new RealSolutionType(this) ;
-    else {
-    	System.out.println("Error: solution type " + solutionType + " invalid") ;
-    	System.exit(-1) ;
-    }            
-  } //DTLZ4         
-
-  /** 
-  * Evaluates a solution 
-  * @param solution The solution to evaluate
-   * @throws JMException 
-  */      
-  public void evaluate(Solution solution) throws JMException {
-    Variable[] gen  = solution.getDecisionVariables();
-  
-    double [] x = new double[numberOfVariables_];
-    double [] f = new double[numberOfObjectives_];
-    double alpha = 100.0;
-    int k = numberOfVariables_ - numberOfObjectives_ + 1;
-  
-    for (int i = 0; i < numberOfVariables_; i++)
-      x[i] = gen[i].getValue();
-
-    double g = 0.0;
-    for (int i = numberOfVariables_ - k; i < numberOfVariables_; i++)
-      g += (x[i] - 0.5)*(x[i] - 0.5);                
-        
-    for (int i = 0; i < numberOfObjectives_; i++)
-      f[i] = 1.0 + g;
-        
-    for (int i = 0; i < numberOfObjectives_; i++) {
-      for (int j = 0; j < numberOfObjectives_ - (i + 1); j++)            
-        f[i] *= java.lang.Math.cos(java.lang.Math.pow(x[j],alpha)*(java.lang.Math.PI/2.0));                
-        if (i != 0){
-          int aux = numberOfObjectives_ - (i + 1);
-          f[i] *= java.lang.Math.sin(java.lang.Math.pow(x[aux],alpha)*(java.lang.Math.PI/2.0));
-        } //if
-    } // for
-        
-    for (int i = 0; i < numberOfObjectives_; i++)
-      solution.setObjective(i,f[i]);                
-  } // evaluate 
-}
-
+    super(solutionType, numberOfVariables, numberOfObjectives);
+  } // DTLZ4_13D
+} // DTLZ4_13D
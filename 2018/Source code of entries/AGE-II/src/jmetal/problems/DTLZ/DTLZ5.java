@@ -9,6 +9,7 @@
 package jmetal.problems.DTLZ;
 
 import jmetal.base.*;
+import jmetal.base.solutionType.ArrayDoubleSolutionType;
 import jmetal.base.solutionType.BinaryRealSolutionType;
 import jmetal.base.solutionType.RealSolutionType;
 import jmetal.util.JMException;
@@ -53,6 +54,8 @@ public class DTLZ5 extends Problem{
     	solutionType_ = new BinaryRealSolutionType(this) ;
     else if (solutionType.compareTo("Real") == 0)
     	solutionType_ = new RealSolutionType(this) ;
+    else if (solutionType.compareTo("ArrayDouble") == 0)
+    	solutionType_ = new ArrayDoubleSolutionType(this) ;
     else {
     	System.out.println("Error: solution type " + solutionType + " invalid") ;
     	System.exit(-1) ;
@@ -65,7 +68,6 @@ public class DTLZ5 extends Problem{
    * @throws JMException 
   */      
   public void evaluate(Solution solution) throws JMException {
-    Variable[] gen  = solution.getDecisionVariables();
     
     double [] x = new double[numberOfVariables_];
     double [] f = new double[numberOfObjectives_];
@@ -73,8 +75,7 @@ public class DTLZ5 extends Problem{
     double g = 0.0;
     int k = numberOfVariables_ - numberOfObjectives_ + 1;
                               
-    for (int i = 0; i < numberOfVariables_; i++)
-      x[i] = gen[i].getValue();
+    solution.readDecisionVariableValues(x);
                 
     for (int i = numberOfVariables_ - k; i < numberOfVariables_; i++)
       g += (x[i] - 0.5)*(x[i] - 0.5);        
@@ -9,6 +9,7 @@
 package jmetal.problems.DTLZ;
 
 import jmetal.base.*;
+import jmetal.base.solutionType.ArrayDoubleSolutionType;
 import jmetal.base.solutionType.BinaryRealSolutionType;
 import jmetal.base.solutionType.RealSolutionType;
 import jmetal.util.JMException;
@@ -53,6 +54,8 @@ import jmetal.util.Configuration.*;
     	solutionType_ = new BinaryRealSolutionType(this) ;
     else if (solutionType.compareTo("Real") == 0)
     	solutionType_ = new RealSolutionType(this) ;
+    else if (solutionType.compareTo("ArrayDouble") == 0)
+    	solutionType_ = new ArrayDoubleSolutionType(this) ;
     else {
     	System.out.println("Error: solution type " + solutionType + " invalid") ;
     	System.exit(-1) ;
@@ -65,15 +68,13 @@ import jmetal.util.Configuration.*;
    * @throws JMException 
   */      
   public void evaluate(Solution solution) throws JMException {
-    Variable[] gen  = solution.getDecisionVariables();
 
     double [] x = new double[numberOfVariables_];
     double [] f = new double[numberOfObjectives_];
     double [] theta = new double[numberOfObjectives_-1];
     int k = numberOfVariables_ - numberOfObjectives_ + 1;
         
-    for (int i = 0; i < numberOfVariables_; i++)
-      x[i] = gen[i].getValue();
+    solution.readDecisionVariableValues(x);
         
     double g = 0.0;
     for (int i = numberOfVariables_ - k; i < numberOfVariables_; i++)
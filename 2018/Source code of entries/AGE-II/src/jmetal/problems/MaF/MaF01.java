@@ -1,7 +1,8 @@
 package jmetal.problems.MaF;
 import jmetal.base.Problem;
 import jmetal.base.Solution;
-import jmetal.base.Variable;
+import jmetal.base.SolutionSet;
+import jmetal.base.solutionType.ArrayDoubleSolutionType;
 import jmetal.base.solutionType.BinaryRealSolutionType;
 import jmetal.base.solutionType.RealSolutionType;
 import jmetal.util.JMException;
@@ -43,6 +44,8 @@ if (solutionType.compareTo("BinaryReal") == 0)
 	solutionType_ = new BinaryRealSolutionType(this) ;
 else if (solutionType.compareTo("Real") == 0)
 	solutionType_ = new RealSolutionType(this) ;
+else if (solutionType.compareTo("ArrayDouble") == 0)
+	solutionType_ = new ArrayDoubleSolutionType(this) ;
 else {
 	System.out.println("Error: solution type " + solutionType + " invalid") ;
 	System.exit(-1) ;
@@ -56,33 +59,54 @@ else {
 */  
 //MaF01 , modified inverted DTLZ1
 public void evaluate(Solution solution) throws JMException {
-	
-	Variable[] gen  = solution.getDecisionVariables();   
+
 	double [] x = new double[numberOfVariables_];
 	double [] f = new double[numberOfObjectives_];
-	    
-	for (int i = 0; i < numberOfVariables_; i++)
-	  x[i] = gen[i].getValue();
-	
-	double g=0,subf1=1,subf3;
+	solution.readDecisionVariableValues(x);
+	evaluate(x, 1, f);
+
+	for (int i = 0; i < numberOfObjectives_; i++)
+		  solution.setObjective(i,f[i]);
+}
+
+/** 
+* Evaluates n solutions at once
+* @param xs The decision variables of the solutions, row-major
+* @param n The number of solutions
+* @param fs The array receiving the objective values, row-major
+* @throws JMException 
+*/  
+public void evaluate(double [] xs, int n, double [] fs) throws JMException {
+	for (int s = 0; s < n; s++) {
+		int xo = s * numberOfVariables_;
+		int fo = s * numberOfObjectives_;
+
+		double g=0,subf1=1,subf3;
 //		evaluate g(xm)
-	for(int j=numberOfObjectives_-1;j<numberOfVariables_;j++)
-		g+=(Math.pow(x[j]-0.5,2));
-	subf3=1+g;
+		for(int j=numberOfObjectives_-1;j<numberOfVariables_;j++)
+			g+=(Math.pow(xs[xo+j]-0.5,2));
+		subf3=1+g;
 //		evaluate objectives
 //		fi=(1+g)(1-(x1x2...x[m-i])(1-x[m-i+1])),fi=subf3*(1-subf1*subf2)
 //		evaluate fm,f2~m-1,f1,
-	f[numberOfObjectives_-1]=x[0]*subf3;
-	for(int i=numberOfObjectives_-2;i>0;i--)
-	{
-		subf1*=x[numberOfObjectives_-i-2];
-		f[i]=subf3*(1-subf1*(1-x[numberOfObjectives_-i-1]));
-	}
-	f[0]=(1-subf1*x[numberOfObjectives_-2])*subf3;
-	
-	for (int i = 0; i < numberOfObjectives_; i++)
-		  solution.setObjective(i,f[i]);
-}  
+		fs[fo+numberOfObjectives_-1]=xs[xo]*subf3;
+		for(int i=numberOfObjectives_-2;i>0;i--)
+		{
+			subf1*=xs[xo+numberOfObjectives_-i-2];
+			fs[fo+i]=subf3*(1-subf1*(1-xs[xo+numberOfObjectives_-i-1]));
+		}
+		fs[fo]=(1-subf1*xs[xo+numberOfObjectives_-2])*subf3;
+	} // for
+} // evaluate
+
+/** 
+* Evaluates a set of solutions in one batch
+* @param solutionSet The solutions to evaluate
+* @throws JMException 
+*/  
+public void evaluate(SolutionSet solutionSet) throws JMException {
+	evaluateInBatch(solutionSet);
+} // evaluate
 
 }
 
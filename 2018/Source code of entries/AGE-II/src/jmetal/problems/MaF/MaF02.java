@@ -1,7 +1,8 @@
 package jmetal.problems.MaF;
 import jmetal.base.Problem;
 import jmetal.base.Solution;
-import jmetal.base.Variable;
+import jmetal.base.SolutionSet;
+import jmetal.base.solutionType.ArrayDoubleSolutionType;
 import jmetal.base.solutionType.BinaryRealSolutionType;
 import jmetal.base.solutionType.RealSolutionType;
 import jmetal.util.JMException;
@@ -14,7 +15,7 @@ public class MaF02 extends Problem {
 * Creates a default MaF02 problem (7 variables and 3 objectives)
 * @param solutionType The solution type must "Real" or "BinaryReal". 
 */
-public static int const2;
+private final int const2;
 public MaF02(String solutionType) throws ClassNotFoundException {
 this(solutionType, 12, 3);
 } // MaF02   
@@ -44,6 +45,8 @@ if (solutionType.compareTo("BinaryReal") == 0)
 	solutionType_ = new BinaryRealSolutionType(this) ;
 else if (solutionType.compareTo("Real") == 0)
 	solutionType_ = new RealSolutionType(this) ;
+else if (solutionType.compareTo("ArrayDouble") == 0)
+	solutionType_ = new ArrayDoubleSolutionType(this) ;
 else {
 	System.out.println("Error: solution type " + solutionType + " invalid") ;
 	System.exit(-1) ;
@@ -57,43 +60,66 @@ else {
 */  
 //MaF02 , DTLZ2BZ
 public void evaluate(Solution solution) throws JMException {
-	
-	Variable[] gen  = solution.getDecisionVariables();   
+
 	double [] x = new double[numberOfVariables_];
 	double [] f = new double[numberOfObjectives_];
-	    
-	for (int i = 0; i < numberOfVariables_; i++)
-	  x[i] = gen[i].getValue();
-	
+	solution.readDecisionVariableValues(x);
+	evaluate(x, 1, f);
+
+	for (int i = 0; i < numberOfObjectives_; i++)
+		  solution.setObjective(i,f[i]);	
+}
+
+/** 
+* Evaluates n solutions at once
+* @param xs The decision variables of the solutions, row-major
+* @param n The number of solutions
+* @param fs The array receiving the objective values, row-major
+* @throws JMException 
+*/  
+public void evaluate(double [] xs, int n, double [] fs) throws JMException {
 	double[] g=new double[numberOfObjectives_];
 	double[] thet=new double[numberOfObjectives_-1];
-	int lb,ub;
+
+	for (int s = 0; s < n; s++) {
+		int xo = s * numberOfVariables_;
+		int fo = s * numberOfObjectives_;
+
+		int lb,ub;
 //	evaluate g,thet
-	for(int i=0;i<numberOfObjectives_-1;i++)
-	{
-		g[i]=0;
-		lb=numberOfObjectives_+i*const2;ub=numberOfObjectives_+(i+1)*const2-1;
+		for(int i=0;i<numberOfObjectives_-1;i++)
+		{
+			g[i]=0;
+			lb=numberOfObjectives_+i*const2;ub=numberOfObjectives_+(i+1)*const2-1;
+			for(int j=lb-1;j<ub;j++)
+				g[i]+=Math.pow(xs[xo+j]/2-0.25,2);
+			thet[i]=Math.PI/2*(xs[xo+i]/2+0.25);		
+		}
+		lb=numberOfObjectives_+(numberOfObjectives_-1)*const2;ub=numberOfVariables_;
+		g[numberOfObjectives_-1]=0;
 		for(int j=lb-1;j<ub;j++)
-			g[i]+=Math.pow(x[j]/2-0.25,2);
-		thet[i]=Math.PI/2*(x[i]/2+0.25);		
-	}
-	lb=numberOfObjectives_+(numberOfObjectives_-1)*const2;ub=numberOfVariables_;
-	for(int j=lb-1;j<ub;j++)
-		g[numberOfObjectives_-1]+=Math.pow(x[j]/2-0.25,2);
+			g[numberOfObjectives_-1]+=Math.pow(xs[xo+j]/2-0.25,2);
 //	evaluate fm,fm-1,...,2,f1
-	f[numberOfObjectives_-1]=Math.sin(thet[0])*(1+g[numberOfObjectives_-1]);
-	double subf1=1,subf2,subf3;
+		fs[fo+numberOfObjectives_-1]=Math.sin(thet[0])*(1+g[numberOfObjectives_-1]);
+		double subf1=1,subf2,subf3;
 //	fi=cos(thet1)cos(thet2)...cos(thet[m-i])*sin(thet(m-i+1))*(1+g[i]),fi=subf1*subf2*subf3
-	for(int i=numberOfObjectives_-2;i>0;i--)
-	{	
-		subf1*=Math.cos(thet[numberOfObjectives_-i-2]);
-		f[i]=subf1*Math.sin(thet[numberOfObjectives_-i-1])*(1+g[i]);
-	}
-	f[0]=subf1*Math.cos(thet[numberOfObjectives_-2])*(1+g[0]);
-	
-	for (int i = 0; i < numberOfObjectives_; i++)
-		  solution.setObjective(i,f[i]);	
-}
+		for(int i=numberOfObjectives_-2;i>0;i--)
+		{	
+			subf1*=Math.cos(thet[numberOfObjectives_-i-2]);
+			fs[fo+i]=subf1*Math.sin(thet[numberOfObjectives_-i-1])*(1+g[i]);
+		}
+		fs[fo]=subf1*Math.cos(thet[numberOfObjectives_-2])*(1+g[0]);
+	} // for
+} // evaluate
+
+/** 
+* Evaluates a set of solutions in one batch
+* @param solutionSet The solutions to evaluate
+* @throws JMException 
+*/  
+public void evaluate(SolutionSet solutionSet) throws JMException {
+	evaluateInBatch(solutionSet);
+} // evaluate
 
 }
 
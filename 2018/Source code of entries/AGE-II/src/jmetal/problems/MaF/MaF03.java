@@ -1,7 +1,8 @@
 package jmetal.problems.MaF;
 import jmetal.base.Problem;
 import jmetal.base.Solution;
-import jmetal.base.Variable;
+import jmetal.base.SolutionSet;
+import jmetal.base.solutionType.ArrayDoubleSolutionType;
 import jmetal.base.solutionType.BinaryRealSolutionType;
 import jmetal.base.solutionType.RealSolutionType;
 import jmetal.util.JMException;
@@ -43,6 +44,8 @@ if (solutionType.compareTo("BinaryReal") == 0)
 	solutionType_ = new BinaryRealSolutionType(this) ;
 else if (solutionType.compareTo("Real") == 0)
 	solutionType_ = new RealSolutionType(this) ;
+else if (solutionType.compareTo("ArrayDouble") == 0)
+	solutionType_ = new ArrayDoubleSolutionType(this) ;
 else {
 	System.out.println("Error: solution type " + solutionType + " invalid") ;
 	System.exit(-1) ;
@@ -56,35 +59,55 @@ else {
 */  
 //MaF03 , convex DTLZ3
 public void evaluate(Solution solution) throws JMException {
-	
-	Variable[] gen  = solution.getDecisionVariables();   
+
 	double [] x = new double[numberOfVariables_];
 	double [] f = new double[numberOfObjectives_];
-	    
-	for (int i = 0; i < numberOfVariables_; i++)
-	  x[i] = gen[i].getValue();
+	solution.readDecisionVariableValues(x);
+	evaluate(x, 1, f);
+
+	for (int i = 0; i < numberOfObjectives_; i++)
+		  solution.setObjective(i,f[i]);	
 	
-	double g=0;
+}
+
+/** 
+* Evaluates n solutions at once
+* @param xs The decision variables of the solutions, row-major
+* @param n The number of solutions
+* @param fs The array receiving the objective values, row-major
+* @throws JMException 
+*/  
+public void evaluate(double [] xs, int n, double [] fs) throws JMException {
+	for (int s = 0; s < n; s++) {
+		int xo = s * numberOfVariables_;
+		int fo = s * numberOfObjectives_;
+
+		double g=0;
 //	evaluate g
-	for(int i=numberOfObjectives_-1;i<numberOfVariables_;i++)
-		g+=(Math.pow(x[i]-0.5, 2)-Math.cos(20*Math.PI*(x[i]-0.5)));
-	g=100*(numberOfVariables_-numberOfObjectives_+1+g);
-	double subf1=1,subf3=1+g;
+		for(int i=numberOfObjectives_-1;i<numberOfVariables_;i++)
+			g+=(Math.pow(xs[xo+i]-0.5, 2)-Math.cos(20*Math.PI*(xs[xo+i]-0.5)));
+		g=100*(numberOfVariables_-numberOfObjectives_+1+g);
+		double subf1=1,subf3=1+g;
 //	evaluate fm,fm-1,...2,f1
-	f[numberOfObjectives_-1]=Math.pow(Math.sin(Math.PI*x[0]/2)*subf3,2);
+		fs[fo+numberOfObjectives_-1]=Math.pow(Math.sin(Math.PI*xs[xo]/2)*subf3,2);
 //	f=(subf1*subf2*subf3)^4
-	for(int i=numberOfObjectives_-2;i>0;i--)
-	{
-		subf1*=Math.cos(Math.PI*x[numberOfObjectives_-i-2]/2);
-		f[i]=Math.pow(subf1*Math.sin(Math.PI*x[numberOfObjectives_-i-1]/2)*subf3, 4);
-	}
-	f[0]=Math.pow(subf1*Math.cos(Math.PI*x[numberOfObjectives_-2]/2)*subf3, 4);
-	
-	
-	for (int i = 0; i < numberOfObjectives_; i++)
-		  solution.setObjective(i,f[i]);	
-	
-}  
+		for(int i=numberOfObjectives_-2;i>0;i--)
+		{
+			subf1*=Math.cos(Math.PI*xs[xo+numberOfObjectives_-i-2]/2);
+			fs[fo+i]=Math.pow(subf1*Math.sin(Math.PI*xs[xo+numberOfObjectives_-i-1]/2)*subf3, 4);
+		}
+		fs[fo]=Math.pow(subf1*Math.cos(Math.PI*xs[xo+numberOfObjectives_-2]/2)*subf3, 4);
+	} // for
+} // evaluate
+
+/** 
+* Evaluates a set of solutions in one batch
+* @param solutionSet The solutions to evaluate
+* @throws JMException 
+*/  
+public void evaluate(SolutionSet solutionSet) throws JMException {
+	evaluateInBatch(solutionSet);
+} // evaluate
 
 }
 
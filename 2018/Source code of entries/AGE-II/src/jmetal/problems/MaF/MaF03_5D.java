@@ -1,22 +1,16 @@
 package jmetal.problems.MaF;
-import jmetal.base.Problem;
-import jmetal.base.Solution;
-import jmetal.base.Variable;
-import jmetal.base.solutionType.BinaryRealSolutionType;
-import jmetal.base.solutionType.RealSolutionType;
-import jmetal.util.JMException;
 
 /** 
-* Class representing problem MaF03 
+* Class representing problem MaF03 with 5 objectives
 */
-public class MaF03_5D extends Problem {   
+public class MaF03_5D extends MaF03 {   
 /** 
-* Creates a default MaF03 problem (7 variables and 3 objectives)
+* Creates a default MaF03 problem (14 variables and 5 objectives)
 * @param solutionType The solution type must "Real" or "BinaryReal". 
 */
 public MaF03_5D(String solutionType) throws ClassNotFoundException {
 this(solutionType, 14, 5);
-} // MaF03   
+} // MaF03_5D   
 
 /** 
 * Creates a MaF03 problem instance
@@ -27,64 +21,6 @@ this(solutionType, 14, 5);
 public MaF03_5D(String solutionType, 
            Integer numberOfVariables, 
 		         Integer numberOfObjectives) throws ClassNotFoundException {
-numberOfVariables_  = numberOfVariables;
-numberOfObjectives_ = numberOfObjectives;
-numberOfConstraints_= 0;
-problemName_        = "MaF03";
-    
-lowerLimit_ = new double[numberOfVariables_];
-upperLimit_ = new double[numberOfVariables_];        
-for (int var = 0; var < numberOfVariables; var++){
-  lowerLimit_[var] = 0.0;
-  upperLimit_[var] = 1.0;
-} //for
-
-if (solutionType.compareTo("BinaryReal") == 0)
-	solutionType_ = new BinaryRealSolutionType(this) ;
-else if (solutionType.compareTo("Real") == 0)
-	solutionType_ = new RealSolutionType(this) ;
-else {
-	System.out.println("Error: solution type " + solutionType + " invalid") ;
-	System.exit(-1) ;
-}            
-}            
-
-/** 
-* Evaluates a solution 
-* @param solution The solution to evaluate
-* @throws JMException 
-*/  
-//MaF03 , convex DTLZ3
-public void evaluate(Solution solution) throws JMException {
-	
-	Variable[] gen  = solution.getDecisionVariables();   
-	double [] x = new double[numberOfVariables_];
-	double [] f = new double[numberOfObjectives_];
-	    
-	for (int i = 0; i < numberOfVariables_; i++)
-	  x[i] = gen[i].getValue();
-	
-	double g=0;
-//	evaluate g
-	for(int i=numberOfObjectives_-1;i<numberOfVariables_;i++)
-		g+=(Math.pow(x[i]-0.5, 2)-Math.cos(20*Math.PI*(x[i]-0.5)));
-	g=100*(numberOfVariables_-numberOfObjectives_+1+g);
-	double subf1=1,subf3=1+g;
-//	evaluate fm,fm-1,...2,f1
-	f[numberOfObjectives_-1]=Math.pow(Math.sin(Math.PI*x[0]/2)*subf3,2);
-//	f=(subf1*subf2*subf3)^4
-	for(int i=numberOfObjectives_-2;i>0;i--)
-	{
-		subf1*=Math.cos(Math.PI*x[numberOfObjectives_-i-2]/2);
-		f[i]=Math.pow(subf1*Math.sin(Math.PI*x[numberOfObjectives_-i-1]/2)*subf3, 4);
-	}
-	f[0]=Math.pow(subf1*Math.cos(Math.PI*x[numberOfObjectives_-2]/2)*subf3, 4);
-	
-	
-	for (int i = 0; i < numberOfObjectives_; i++)
-		  solution.setObjective(i,f[i]);	
-	
-}  
-
+super(solutionType, numberOfVariables, numberOfObjectives);
+} // MaF03_5D
 }
-
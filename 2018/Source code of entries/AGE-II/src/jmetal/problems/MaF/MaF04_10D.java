@@ -1,23 +1,16 @@
 package jmetal.problems.MaF;
-import jmetal.base.Problem;
-import jmetal.base.Solution;
-import jmetal.base.Variable;
-import jmetal.base.solutionType.BinaryRealSolutionType;
-import jmetal.base.solutionType.RealSolutionType;
-import jmetal.util.JMException;
 
 /** 
-* Class representing problem MaF04 
+* Class representing problem MaF04 with 10 objectives
 */
-public class MaF04_10D extends Problem {   
+public class MaF04_10D extends MaF04 {   
 /** 
-* Creates a default MaF04 problem (7 variables and 3 objectives)
+* Creates a default MaF04 problem (19 variables and 10 objectives)
 * @param solutionType The solution type must "Real" or "BinaryReal". 
 */
-	public static double const4[];
 public MaF04_10D(String solutionType) throws ClassNotFoundException {
 this(solutionType, 19, 10);
-} // MaF04   
+} // MaF04_10D   
 
 /** 
 * Creates a MaF04 problem instance
@@ -28,69 +21,6 @@ this(solutionType, 19, 10);
 public MaF04_10D(String solutionType, 
            Integer numberOfVariables, 
 		         Integer numberOfObjectives) throws ClassNotFoundException {
-numberOfVariables_  = numberOfVariables;
-numberOfObjectives_ = numberOfObjectives;
-numberOfConstraints_= 0;
-problemName_        = "MaF04";
-
-//other constants during the whole process once M&D are defined
-double[] c4=new double[numberOfObjectives_];
-for(int i=0;i<numberOfObjectives_;i++)
-	c4[i]=Math.pow(2,i+1);
-const4=c4;
-
-lowerLimit_ = new double[numberOfVariables_];
-upperLimit_ = new double[numberOfVariables_];        
-for (int var = 0; var < numberOfVariables; var++){
-  lowerLimit_[var] = 0.0;
-  upperLimit_[var] = 1.0;
-} //for
-
-if (solutionType.compareTo("BinaryReal") == 0)
-	solutionType_ = new BinaryRealSolutionType(this) ;
-else if (solutionType.compareTo("Real") == 0)
-	solutionType_ = new RealSolutionType(this) ;
-else {
-	System.out.println("Error: solution type " + solutionType + " invalid") ;
-	System.exit(-1) ;
-}            
-}            
-
-/** 
-* Evaluates a solution 
-* @param solution The solution to evaluate
-* @throws JMException 
-*/  
-//MaF04 , inverted badly scaled DTLZ3
-public void evaluate(Solution solution) throws JMException {
-	
-	Variable[] gen  = solution.getDecisionVariables();   
-	double [] x = new double[numberOfVariables_];
-	double [] f = new double[numberOfObjectives_];
-	    
-	for (int i = 0; i < numberOfVariables_; i++)
-	  x[i] = gen[i].getValue();
-	
-	double g=0;
-//	evaluate g
-	for(int i=numberOfObjectives_-1;i<numberOfVariables_;i++)
-		g+=(Math.pow(x[i]-0.5, 2)-Math.cos(20*Math.PI*(x[i]-0.5)));
-	g=100*(numberOfVariables_-numberOfObjectives_+1+g);
-	double subf1=1,subf3=1+g;
-//	evaluate fm,fm-1,...2,f1
-	f[numberOfObjectives_-1]=const4[numberOfObjectives_-1]*(1-Math.sin(Math.PI*x[0]/2))*subf3;
-//	fi=2^i*(1-subf1*subf2)*(subf3)
-	for(int i=numberOfObjectives_-2;i>0;i--)
-	{
-		subf1*=Math.cos(Math.PI*x[numberOfObjectives_-i-2]/2);
-		f[i]=const4[i]*(1-subf1*Math.sin(Math.PI*x[numberOfObjectives_-i-1]/2))*subf3;
-	}
-	f[0]=const4[0]*(1-subf1*Math.cos(Math.PI*x[numberOfObjectives_-2]/2))*subf3;
-	
-	for (int i = 0; i < numberOfObjectives_; i++)
-		  solution.setObjective(i,f[i]);	
-	
-}  
-
+super(solutionType, numberOfVariables, numberOfObjectives);
+} // MaF04_10D
 }
-
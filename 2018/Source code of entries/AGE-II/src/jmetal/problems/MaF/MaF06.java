@@ -1,7 +1,8 @@
 package jmetal.problems.MaF;
 import jmetal.base.Problem;
 import jmetal.base.Solution;
-import jmetal.base.Variable;
+import jmetal.base.SolutionSet;
+import jmetal.base.solutionType.ArrayDoubleSolutionType;
 import jmetal.base.solutionType.BinaryRealSolutionType;
 import jmetal.base.solutionType.RealSolutionType;
 import jmetal.util.JMException;
@@ -43,6 +44,8 @@ if (solutionType.compareTo("BinaryReal") == 0)
 	solutionType_ = new BinaryRealSolutionType(this) ;
 else if (solutionType.compareTo("Real") == 0)
 	solutionType_ = new RealSolutionType(this) ;
+else if (solutionType.compareTo("ArrayDouble") == 0)
+	solutionType_ = new ArrayDoubleSolutionType(this) ;
 else {
 	System.out.println("Error: solution type " + solutionType + " invalid") ;
 	System.exit(-1) ;
@@ -56,40 +59,62 @@ else {
 */  
 //MaF06 , DTLZ5(I,M)
 public void evaluate(Solution solution) throws JMException {
-	
-	Variable[] gen  = solution.getDecisionVariables();   
+
 	double [] x = new double[numberOfVariables_];
 	double [] f = new double[numberOfObjectives_];
-	    
-	for (int i = 0; i < numberOfVariables_; i++)
-	  x[i] = gen[i].getValue();
+	solution.readDecisionVariableValues(x);
+	evaluate(x, 1, f);
+
+	for (int i = 0; i < numberOfObjectives_; i++)
+		  solution.setObjective(i,f[i]);	
 	
+}
+
+/** 
+* Evaluates n solutions at once
+* @param xs The decision variables of the solutions, row-major
+* @param n The number of solutions
+* @param fs The array receiving the objective values, row-major
+* @throws JMException 
+*/  
+public void evaluate(double [] xs, int n, double [] fs) throws JMException {
 	double[] thet=new double[numberOfObjectives_-1];
-	int lb,ub,ri=0;
-	double g=0,sub1,sub2;
+
+	for (int s = 0; s < n; s++) {
+		int xo = s * numberOfVariables_;
+		int fo = s * numberOfObjectives_;
+
+		int lb,ub,ri=0;
+		double g=0,sub1,sub2;
 //	evaluate g,thet
-	for(int i=numberOfObjectives_-1;i<numberOfVariables_;i++)
-		g+=Math.pow(x[i]-0.5, 2);
-	sub1=100*g+1;sub2=1+g;
-	for(int i=0;i<1;i++)
-		thet[i]=Math.PI*x[i]/2;
-	for(int i=1;i<numberOfObjectives_-1;i++)
-		thet[i]=Math.PI*(1+2*g*x[i])/(4*sub2);
+		for(int i=numberOfObjectives_-1;i<numberOfVariables_;i++)
+			g+=Math.pow(xs[xo+i]-0.5, 2);
+		sub1=100*g+1;sub2=1+g;
+		for(int i=0;i<1;i++)
+			thet[i]=Math.PI*xs[xo+i]/2;
+		for(int i=1;i<numberOfObjectives_-1;i++)
+			thet[i]=Math.PI*(1+2*g*xs[xo+i])/(4*sub2);
 //	evaluate fm,fm-1,...,2,f1
-	f[numberOfObjectives_-1]=Math.sin(thet[0])*sub1;
-	double subf1=1,subf2,subf3;
+		fs[fo+numberOfObjectives_-1]=Math.sin(thet[0])*sub1;
+		double subf1=1,subf2,subf3;
 //	fi=cos(thet1)cos(thet2)...cos(thet[m-i])*sin(thet(m-i+1))*(1+g[i]),fi=subf1*subf2*subf3
-	for(int i=numberOfObjectives_-2;i>0;i--)
-	{	
-		subf1*=Math.cos(thet[numberOfObjectives_-i-2]);
-		f[i]=subf1*Math.sin(thet[numberOfObjectives_-i-1])*sub1;
-	}
-	f[0]=subf1*Math.cos(thet[numberOfObjectives_-2])*sub1;
-	
-	for (int i = 0; i < numberOfObjectives_; i++)
-		  solution.setObjective(i,f[i]);	
-	
-}  
+		for(int i=numberOfObjectives_-2;i>0;i--)
+		{	
+			subf1*=Math.cos(thet[numberOfObjectives_-i-2]);
+			fs[fo+i]=subf1*Math.sin(thet[numberOfObjectives_-i-1])*sub1;
+		}
+		fs[fo]=subf1*Math.cos(thet[numberOfObjectives_-2])*sub1;
+	} // for
+} // evaluate
+
+/** 
+* Evaluates a set of solutions in one batch
+* @param solutionSet The solutions to evaluate
+* @throws JMException 
+*/  
+public void evaluate(SolutionSet solutionSet) throws JMException {
+	evaluateInBatch(solutionSet);
+} // evaluate
 
 }
 
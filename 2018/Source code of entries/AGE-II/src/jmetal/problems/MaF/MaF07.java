@@ -1,7 +1,8 @@
 package jmetal.problems.MaF;
 import jmetal.base.Problem;
 import jmetal.base.Solution;
-import jmetal.base.Variable;
+import jmetal.base.SolutionSet;
+import jmetal.base.solutionType.ArrayDoubleSolutionType;
 import jmetal.base.solutionType.BinaryRealSolutionType;
 import jmetal.base.solutionType.RealSolutionType;
 import jmetal.util.JMException;
@@ -43,6 +44,8 @@ if (solutionType.compareTo("BinaryReal") == 0)
 	solutionType_ = new BinaryRealSolutionType(this) ;
 else if (solutionType.compareTo("Real") == 0)
 	solutionType_ = new RealSolutionType(this) ;
+else if (solutionType.compareTo("ArrayDouble") == 0)
+	solutionType_ = new ArrayDoubleSolutionType(this) ;
 else {
 	System.out.println("Error: solution type " + solutionType + " invalid") ;
 	System.exit(-1) ;
@@ -56,32 +59,53 @@ else {
 */  
 //MaF07 , DTLZ7
 public void evaluate(Solution solution) throws JMException {
-	
-	Variable[] gen  = solution.getDecisionVariables();   
+
 	double [] x = new double[numberOfVariables_];
 	double [] f = new double[numberOfObjectives_];
-	    
-	for (int i = 0; i < numberOfVariables_; i++)
-	  x[i] = gen[i].getValue();
-	
-//	evaluate g,h
-	double g=0,h=0,sub1;
-	for(int i=numberOfObjectives_-1;i<numberOfVariables_;i++)
-		g+=x[i];
-	g=1+9*g/(numberOfVariables_-numberOfObjectives_+1);
-	sub1=1+g;
-	for(int i=0;i<numberOfObjectives_-1;i++)
-		h+=(x[i]*(1+Math.sin(3*Math.PI*x[i]))/sub1);
-	h=numberOfObjectives_-h;
-//	evaluate f1,...,m-1,m
-	for(int i=0;i<numberOfObjectives_;i++)
-		f[i]=x[i];
-	f[numberOfObjectives_-1]=h*sub1;	
-	
+	solution.readDecisionVariableValues(x);
+	evaluate(x, 1, f);
+
 	for (int i = 0; i < numberOfObjectives_; i++)
 		  solution.setObjective(i,f[i]);	
 	
-}  
+}
+
+/** 
+* Evaluates n solutions at once
+* @param xs The decision variables of the solutions, row-major
+* @param n The number of solutions
+* @param fs The array receiving the objective values, row-major
+* @throws JMException 
+*/  
+public void evaluate(double [] xs, int n, double [] fs) throws JMException {
+	for (int s = 0; s < n; s++) {
+		int xo = s * numberOfVariables_;
+		int fo = s * numberOfObjectives_;
+
+//	evaluate g,h
+		double g=0,h=0,sub1;
+		for(int i=numberOfObjectives_-1;i<numberOfVariables_;i++)
+			g+=xs[xo+i];
+		g=1+9*g/(numberOfVariables_-numberOfObjectives_+1);
+		sub1=1+g;
+		for(int i=0;i<numberOfObjectives_-1;i++)
+			h+=(xs[xo+i]*(1+Math.sin(3*Math.PI*xs[xo+i]))/sub1);
+		h=numberOfObjectives_-h;
+//	evaluate f1,...,m-1,m
+		for(int i=0;i<numberOfObjectives_;i++)
+			fs[fo+i]=xs[xo+i];
+		fs[fo+numberOfObjectives_-1]=h*sub1;	
+	} // for
+} // evaluate
+
+/** 
+* Evaluates a set of solutions in one batch
+* @param solutionSet The solutions to evaluate
+* @throws JMException 
+*/  
+public void evaluate(SolutionSet solutionSet) throws JMException {
+	evaluateInBatch(solutionSet);
+} // evaluate
 
 }
 
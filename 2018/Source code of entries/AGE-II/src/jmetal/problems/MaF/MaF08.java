@@ -1,7 +1,8 @@
 package jmetal.problems.MaF;
 import jmetal.base.Problem;
 import jmetal.base.Solution;
-import jmetal.base.Variable;
+import jmetal.base.SolutionSet;
+import jmetal.base.solutionType.ArrayDoubleSolutionType;
 import jmetal.base.solutionType.BinaryRealSolutionType;
 import jmetal.base.solutionType.RealSolutionType;
 import jmetal.util.JMException;
@@ -14,7 +15,7 @@ public class MaF08 extends Problem {
 * Creates a default MaF08 problem (2 variables and 10 objectives)
 * @param solutionType The solution type must "Real".
 */
-	public static double const8[][]; 
+	private final double const8[][]; 
 public MaF08(String solutionType) throws ClassNotFoundException {
 this(solutionType, 2, 10);
 } // MaF08   
@@ -46,6 +47,8 @@ for (int var = 0; var < numberOfVariables_; var++){
 
 if (solutionType.compareTo("Real") == 0)
 	solutionType_ = new RealSolutionType(this) ;
+else if (solutionType.compareTo("ArrayDouble") == 0)
+	solutionType_ = new ArrayDoubleSolutionType(this) ;
 else {
 	System.out.println("Error: solution type " + solutionType + " invalid") ;
 	System.exit(-1) ;
@@ -59,23 +62,44 @@ else {
 */  
 //MaF08 , multi-point distance minimization problem
 public void evaluate(Solution solution) throws JMException {
-	
-	Variable[] gen  = solution.getDecisionVariables();   
+
 	double [] x = new double[numberOfVariables_];
 	double [] f = new double[numberOfObjectives_];
-	    
-	for (int i = 0; i < numberOfVariables_; i++)
-	  x[i] = gen[i].getValue();
-	
-//	evaluate f
-	for(int i=0;i<numberOfObjectives_;i++)
-		f[i]=Math.sqrt(Math.pow(const8[i][0]-x[0], 2)+Math.pow(const8[i][1]-x[1], 2));
-	
+	solution.readDecisionVariableValues(x);
+	evaluate(x, 1, f);
+
 	for (int i = 0; i < numberOfObjectives_; i++)
 		  solution.setObjective(i,f[i]);	
 	
 }
 
+/** 
+* Evaluates n solutions at once
+* @param xs The decision variables of the solutions, row-major
+* @param n The number of solutions
+* @param fs The array receiving the objective values, row-major
+* @throws JMException 
+*/  
+public void evaluate(double [] xs, int n, double [] fs) throws JMException {
+	for (int s = 0; s < n; s++) {
+		int xo = s * numberOfVariables_;
+		int fo = s * numberOfObjectives_;
+
+//	evaluate f
+		for(int i=0;i<numberOfObjectives_;i++)
+			fs[fo+i]=Math.sqrt(Math.pow(const8[i][0]-xs[xo], 2)+Math.pow(const8[i][1]-xs[xo+1], 2));
+	} // for
+} // evaluate
+
+/** 
+* Evaluates a set of solutions in one batch
+* @param solutionSet The solutions to evaluate
+* @throws JMException 
+*/  
+public void evaluate(SolutionSet solutionSet) throws JMException {
+	evaluateInBatch(solutionSet);
+} // evaluate
+
 public static double[][] polygonpoints(int m,double r)
 {
 	double[] startp=new double[2];
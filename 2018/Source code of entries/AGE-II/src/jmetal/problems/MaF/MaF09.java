@@ -8,7 +8,8 @@ import java.util.List;
 
 import jmetal.base.Problem;
 import jmetal.base.Solution;
-import jmetal.base.Variable;
+import jmetal.base.SolutionSet;
+import jmetal.base.solutionType.ArrayDoubleSolutionType;
 import jmetal.base.solutionType.BinaryRealSolutionType;
 import jmetal.base.solutionType.RealSolutionType;
 import jmetal.util.JMException;
@@ -23,10 +24,10 @@ public class MaF09 extends Problem {
 * Creates a default MaF09 problem (2 variables and 10 objectives)
 * @param solutionType The solution type must "Real".
 */
-public static int maxinter9;
-public static int pindex9[];
-public static int M9;
-public static double points9[][],rangex9[][],rangey9[][],r_polyline9[][],oth_poly_points9[][];
+private final int maxinter9;
+private final int pindex9[];
+private final int M9;
+private final double points9[][],rangex9[][],rangey9[][],r_polyline9[][],oth_poly_points9[][];
 public MaF09(String solutionType) throws ClassNotFoundException {
 this(solutionType, 2, 10);
 } // MaF09   
@@ -138,6 +139,8 @@ for (int var = 0; var < numberOfVariables_; var++)
 
 if (solutionType.compareTo("Real") == 0)
 	solutionType_ = new RealSolutionType(this) ;
+else if (solutionType.compareTo("ArrayDouble") == 0)
+	solutionType_ = new ArrayDoubleSolutionType(this) ;
 else {
 	System.out.println("Error: solution type " + solutionType + " invalid") ;
 	System.exit(-1) ;
@@ -154,47 +157,71 @@ else {
 */  
 //MaF09 , multi-line distance minimization problem
 public void evaluate(Solution solution) throws JMException{
-	
-	
-	Variable[] gen  = solution.getDecisionVariables();   
+
 	double [] f = new double[numberOfObjectives_];
 	double [] x = new double[numberOfVariables_];    
-	for (int i = 0; i < numberOfVariables_; i++)
-	  x[i] = gen[i].getValue();
+	solution.readDecisionVariableValues(x);
+	evaluate(x, 1, f);
+	solution.writeDecisionVariableValues(x);
+
+	for (int i = 0; i < numberOfObjectives_; i++)
+		  solution.setObjective(i,f[i]);	
 	
+}
+
+/** 
+* Evaluates n solutions at once
+* @param xs The decision variables of the solutions, row-major
+* @param n The number of solutions
+* @param fs The array receiving the objective values, row-major
+* @throws JMException 
+*/  
+public void evaluate(double [] xs, int n, double [] fs) throws JMException {
+	double [] x = new double[numberOfVariables_];
+
+	for (int s = 0; s < n; s++) {
+		int xo = s * numberOfVariables_;
+		int fo = s * numberOfObjectives_;
+		System.arraycopy(xs, xo, x, 0, numberOfVariables_);
+
 //	check if the point is infeasible
-	boolean infeasible=false;
-	infeasible=if_infeasible(x);
-	while(infeasible)
-	{
-//		re-generate a random variable
-		for(int i=0;i<numberOfVariables_;i++)
-		{
-			x[i] = generV(lowerLimit_[i],upperLimit_[i]);
-			gen[i].setValue(x[i]);		
-		}	
+		boolean infeasible=false;
 		infeasible=if_infeasible(x);
-	}
+		while(infeasible)
+		{
+//		re-generate a random variable
+			for(int i=0;i<numberOfVariables_;i++)
+			{
+				x[i] = generV(lowerLimit_[i],upperLimit_[i]);
+			}	
+			infeasible=if_infeasible(x);
+		}
 	
-	solution.setDecisionVariables(gen);
+		System.arraycopy(x, 0, xs, xo, numberOfVariables_);
 //	evaluate f1,...m-1
-	for(int i=0;i<M9-1;i++)
-	{
-		if(r_polyline9[i][0]==1)
-			f[i]=Math.abs(x[0]-r_polyline9[i][1]);
-		else
-			f[i]=Math.abs((r_polyline9[i][1]*x[0]-x[1]+r_polyline9[i][2]))/Math.sqrt(Math.pow(r_polyline9[i][1],2)+1);
-	}
+		for(int i=0;i<M9-1;i++)
+		{
+			if(r_polyline9[i][0]==1)
+				fs[fo+i]=Math.abs(x[0]-r_polyline9[i][1]);
+			else
+				fs[fo+i]=Math.abs((r_polyline9[i][1]*x[0]-x[1]+r_polyline9[i][2]))/Math.sqrt(Math.pow(r_polyline9[i][1],2)+1);
+		}
 //	evaluate fm
-	if(r_polyline9[M9-1][0]==1)
-		f[M9-1]=Math.abs(x[0]-r_polyline9[M9-1][1]);
-	else
-		f[M9-1]=Math.abs((r_polyline9[M9-1][1]*x[0]-x[1]+r_polyline9[M9-1][2]))/Math.sqrt(Math.pow(r_polyline9[M9-1][1],2)+1);
-	
-	for (int i = 0; i < numberOfObjectives_; i++)
-		  solution.setObjective(i,f[i]);	
-	
-} 
+		if(r_polyline9[M9-1][0]==1)
+			fs[fo+M9-1]=Math.abs(x[0]-r_polyline9[M9-1][1]);
+		else
+			fs[fo+M9-1]=Math.abs((r_polyline9[M9-1][1]*x[0]-x[1]+r_polyline9[M9-1][2]))/Math.sqrt(Math.pow(r_polyline9[M9-1][1],2)+1);
+	} // for
+} // evaluate
+
+/** 
+* Evaluates a set of solutions in one batch
+* @param solutionSet The solutions to evaluate
+* @throws JMException 
+*/  
+public void evaluate(SolutionSet solutionSet) throws JMException {
+	evaluateInBatch(solutionSet, true);
+} // evaluate
 public static double[][] polygonpoints(int m,double r)
 {
 	double[][] p=new double[m][2];
@@ -265,7 +292,7 @@ public static double[] intersection(double[] kb1,double[] kb2)
 	
 }
 //check if a point is inside any generated polygons(not including the boundary)(only for MaF9)
-public static boolean if_infeasible(double[] x)
+public boolean if_infeasible(double[] x)
 {
 	boolean infeasible=false;
 	for(int i=0;i<pindex9.length-1;i++)
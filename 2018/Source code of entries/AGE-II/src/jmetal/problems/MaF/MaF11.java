@@ -1,7 +1,8 @@
 package jmetal.problems.MaF;
 import jmetal.base.Problem;
 import jmetal.base.Solution;
-import jmetal.base.Variable;
+import jmetal.base.SolutionSet;
+import jmetal.base.solutionType.ArrayDoubleSolutionType;
 import jmetal.base.solutionType.BinaryRealSolutionType;
 import jmetal.base.solutionType.RealSolutionType;
 import jmetal.util.JMException;
@@ -14,7 +15,7 @@ public class MaF11 extends Problem {
 * Creates a default MaF11 problem (12 variables and 3 objectives)
 * @param solutionType The solution type must "Real" or "BinaryReal".
 */
-public static int K11,L11;
+private final int K11,L11;
 public MaF11(String solutionType) throws ClassNotFoundException {
 this(solutionType, 12, 3);
 } // MaF11   
@@ -46,6 +47,8 @@ if (solutionType.compareTo("BinaryReal") == 0)
 	solutionType_ = new BinaryRealSolutionType(this) ;
 else if (solutionType.compareTo("Real") == 0)
 	solutionType_ = new RealSolutionType(this) ;
+else if (solutionType.compareTo("ArrayDouble") == 0)
+	solutionType_ = new ArrayDoubleSolutionType(this) ;
 else {
 	System.out.println("Error: solution type " + solutionType + " invalid") ;
 	System.exit(-1) ;
@@ -59,66 +62,88 @@ else {
 */  
 //MaF11 , WFG2
 public void evaluate(Solution solution) throws JMException {
-	
-	Variable[] gen  = solution.getDecisionVariables();   
+
 	double [] x = new double[numberOfVariables_];
 	double [] f = new double[numberOfObjectives_];
-	    
-	for (int i = 0; i < numberOfVariables_; i++)
-	  x[i] = gen[i].getValue();
+	solution.readDecisionVariableValues(x);
+	evaluate(x, 1, f);
+
+	for (int i = 0; i < numberOfObjectives_; i++)
+		  solution.setObjective(i,f[i]);	
 	
-//	evaluate zi,t1i,t2i,t3i,t4i,yi
+}
+
+/** 
+* Evaluates n solutions at once
+* @param xs The decision variables of the solutions, row-major
+* @param n The number of solutions
+* @param fs The array receiving the objective values, row-major
+* @throws JMException 
+*/  
+public void evaluate(double [] xs, int n, double [] fs) throws JMException {
 	double[] z=new double[numberOfVariables_];
 	double[] t1=new double[numberOfVariables_];
 	double[] t2=new double[(numberOfVariables_+K11)/2];
 	double[] t3=new double[numberOfObjectives_];
 	double[] y=new double[numberOfObjectives_];
-	double sub1=0,sub2=0;
-	int lb=0,ub=0;
-	for(int i=0;i<K11;i++)
-	{
-		z[i]=x[i]/(2*i+2);
-		t1[i]=z[i];
-		t2[i]=t1[i];
-	}
-	for(int i=K11;i<numberOfVariables_;i++)
-	{
-		z[i]=x[i]/(2*i+2);
-		t1[i]=Math.abs(z[i]-0.35)/(Math.abs(Math.floor(0.35-z[i])+0.35));
-	}
-	for(int i=K11;i<t2.length;i++)
-		t2[i]=(t1[2*i-K11]+t1[2*i-K11+1]+2*Math.abs(t1[2*i-K11]-t1[2*i-K11+1]))/3;
-	sub2=K11/(numberOfObjectives_-1);
-	for(int i=0;i<numberOfObjectives_-1;i++)
-	{
-		sub1=0;
-		lb=i*K11/(numberOfObjectives_-1)+1;ub=(i+1)*K11/(numberOfObjectives_-1);
+
+	for (int s = 0; s < n; s++) {
+		int xo = s * numberOfVariables_;
+		int fo = s * numberOfObjectives_;
+
+//	evaluate zi,t1i,t2i,t3i,t4i,yi
+		double sub1=0,sub2=0;
+		int lb=0,ub=0;
+		for(int i=0;i<K11;i++)
+		{
+			z[i]=xs[xo+i]/(2*i+2);
+			t1[i]=z[i];
+			t2[i]=t1[i];
+		}
+		for(int i=K11;i<numberOfVariables_;i++)
+		{
+			z[i]=xs[xo+i]/(2*i+2);
+			t1[i]=Math.abs(z[i]-0.35)/(Math.abs(Math.floor(0.35-z[i])+0.35));
+		}
+		for(int i=K11;i<t2.length;i++)
+			t2[i]=(t1[2*i-K11]+t1[2*i-K11+1]+2*Math.abs(t1[2*i-K11]-t1[2*i-K11+1]))/3;
+		sub2=K11/(numberOfObjectives_-1);
+		for(int i=0;i<numberOfObjectives_-1;i++)
+		{
+			sub1=0;
+			lb=i*K11/(numberOfObjectives_-1)+1;ub=(i+1)*K11/(numberOfObjectives_-1);
+			for(int j=lb-1;j<ub;j++)
+				sub1+=t2[j];
+			t3[i]=sub1/sub2;
+		}
+		lb=K11+1;ub=(numberOfVariables_+K11)/2;sub1=0;sub2=(numberOfVariables_-K11)/2;
 		for(int j=lb-1;j<ub;j++)
 			sub1+=t2[j];
-		t3[i]=sub1/sub2;
-	}
-	lb=K11+1;ub=(numberOfVariables_+K11)/2;sub1=0;sub2=(numberOfVariables_-K11)/2;
-	for(int j=lb-1;j<ub;j++)
-		sub1+=t2[j];
-	t3[numberOfObjectives_-1]=sub1/sub2;
-	for(int i=0;i<numberOfObjectives_-1;i++)
-		y[i]=(t3[i]-0.5)*Math.max(1, t3[numberOfObjectives_-1])+0.5;
-	y[numberOfObjectives_-1]=t3[numberOfObjectives_-1];
+		t3[numberOfObjectives_-1]=sub1/sub2;
+		for(int i=0;i<numberOfObjectives_-1;i++)
+			y[i]=(t3[i]-0.5)*Math.max(1, t3[numberOfObjectives_-1])+0.5;
+		y[numberOfObjectives_-1]=t3[numberOfObjectives_-1];
 	
 //	evaluate fm,fm-1,...,2,f1
-	double subf1=1;
-	f[numberOfObjectives_-1]=y[numberOfObjectives_-1]+2*numberOfObjectives_*(1-y[0]*Math.pow(Math.cos(5*Math.PI*y[0]),2));
-	for(int i=numberOfObjectives_-2;i>0;i--)
-	{
-		subf1*=(1-Math.cos(Math.PI*y[numberOfObjectives_-i-2]/2));
-		f[i]=y[numberOfObjectives_-1]+2*(i+1)*subf1*(1-Math.sin(Math.PI*y[numberOfObjectives_-i-1]/2));
-	}
-	f[0]=y[numberOfObjectives_-1]+2*subf1*(1-Math.cos(Math.PI*y[numberOfObjectives_-2]/2));
-	
-	for (int i = 0; i < numberOfObjectives_; i++)
-		  solution.setObjective(i,f[i]);	
-	
-}  
+		double subf1=1;
+		fs[fo+numberOfObjectives_-1]=y[numberOfObjectives_-1]+2*numberOfObjectives_*(1-y[0]*Math.pow(Math.cos(5*Math.PI*y[0]),2));
+		for(int i=numberOfObjectives_-2;i>0;i--)
+		{
+			subf1*=(1-Math.cos(Math.PI*y[numberOfObjectives_-i-2]/2));
+			fs[fo+i]=y[numberOfObjectives_-1]+2*(i+1)*subf1*(1-Math.sin(Math.PI*y[numberOfObjectives_-i-1]/2));
+		}
+		fs[fo]=y[numberOfObjectives_-1]+2*subf1*(1-Math.cos(Math.PI*y[numberOfObjectives_-2]/2));
+	} // for
+} // evaluate
+
+/** 
+* Evaluates a set of solutions in one batch
+* @param solutionSet The solutions to evaluate
+* @throws JMException 
+*/  
+public void evaluate(SolutionSet solutionSet) throws JMException {
+	evaluateInBatch(solutionSet);
+} // evaluate
 
 }
 
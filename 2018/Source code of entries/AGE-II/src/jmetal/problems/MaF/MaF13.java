@@ -1,11 +1,11 @@
 package jmetal.problems.MaF;
 import jmetal.base.Problem;
 import jmetal.base.Solution;
-import jmetal.base.Variable;
+import jmetal.base.SolutionSet;
+import jmetal.base.solutionType.ArrayDoubleSolutionType;
 import jmetal.base.solutionType.BinaryRealSolutionType;
 import jmetal.base.solutionType.RealSolutionType;
 import jmetal.util.JMException;
-import java.util.ArrayList;
 
 /** 
 * Class representing problem MaF13 
@@ -46,6 +46,8 @@ for (int var = 2; var < numberOfVariables; var++){
 
 if (solutionType.compareTo("Real") == 0)
 	solutionType_ = new RealSolutionType(this) ;
+else if (solutionType.compareTo("ArrayDouble") == 0)
+	solutionType_ = new ArrayDoubleSolutionType(this) ;
 else {
 	System.out.println("Error: solution type " + solutionType + " invalid") ;
 	System.exit(-1) ;
@@ -59,58 +61,82 @@ else {
 */  
 //MaF13 , PF7
 public void evaluate(Solution solution) throws JMException {
-	
-	Variable[] gen  = solution.getDecisionVariables();   
+
 	double [] x = new double[numberOfVariables_];
 	double [] f = new double[numberOfObjectives_];
-	    
-	for (int i = 0; i < numberOfVariables_; i++)
-	  x[i] = gen[i].getValue();
+	solution.readDecisionVariableValues(x);
+	evaluate(x, 1, f);
+
+	for (int i = 0; i < numberOfObjectives_; i++)
+		  solution.setObjective(i,f[i]);	
 	
-//	evaluate J,y,sub1,sub2,sub3,sub4
+}
+
+/** 
+* Evaluates n solutions at once
+* @param xs The decision variables of the solutions, row-major
+* @param n The number of solutions
+* @param fs The array receiving the objective values, row-major
+* @throws JMException 
+*/  
+public void evaluate(double [] xs, int n, double [] fs) throws JMException {
 	double[] y=new double[numberOfVariables_];
-	for(int i=0;i<numberOfVariables_;i++)
-		y[i]=x[i]-2*x[1]*Math.sin(2*Math.PI*x[0]+(i+1)*Math.PI/numberOfVariables_);
-	ArrayList<Integer> J1=new ArrayList<Integer>();
-	ArrayList<Integer> J2=new ArrayList<Integer>();
-	ArrayList<Integer> J3=new ArrayList<Integer>();
-	ArrayList<Integer> J4=new ArrayList<Integer>();
-	double sub1=0,sub2=0,sub3=0,sub4=0;
+//	sizes of the index sets J1,J2,J3,J4
+	int nJ1=0,nJ2=0,nJ3=0,nJ4=0;
 	for(int i=4;i<=numberOfVariables_;i=i+3)
-	{
-		J1.add(i);
-		sub1+=Math.pow(y[i-1], 2);
-	}
-	sub1=2*sub1/J1.size();
+		nJ1++;
 	for(int i=5;i<=numberOfVariables_;i=i+3)
-	{
-		J2.add(i);
-		sub2+=Math.pow(y[i-1], 2);
-	}
-	sub2=2*sub2/J2.size();
+		nJ2++;
 	for(int i=3;i<=numberOfVariables_;i=i+3)
-	{
-		J3.add(i);
-		sub3+=Math.pow(y[i-1], 2);
-	}
-	sub3=2*sub3/J3.size();
+		nJ3++;
 	for(int i=4;i<=numberOfVariables_;i++)
-	{
-		J4.add(i);
-		sub4+=Math.pow(y[i-1], 2);
-	}
-	sub4=2*sub4/J4.size();
+		nJ4++;
+
+	for (int s = 0; s < n; s++) {
+		int xo = s * numberOfVariables_;
+		int fo = s * numberOfObjectives_;
+
+//	evaluate J,y,sub1,sub2,sub3,sub4
+		for(int i=0;i<numberOfVariables_;i++)
+			y[i]=xs[xo+i]-2*xs[xo+1]*Math.sin(2*Math.PI*xs[xo]+(i+1)*Math.PI/numberOfVariables_);
+		double sub1=0,sub2=0,sub3=0,sub4=0;
+		for(int i=4;i<=numberOfVariables_;i=i+3)
+		{
+			sub1+=Math.pow(y[i-1], 2);
+		}
+		sub1=2*sub1/nJ1;
+		for(int i=5;i<=numberOfVariables_;i=i+3)
+		{
+			sub2+=Math.pow(y[i-1], 2);
+		}
+		sub2=2*sub2/nJ2;
+		for(int i=3;i<=numberOfVariables_;i=i+3)
+		{
+			sub3+=Math.pow(y[i-1], 2);
+		}
+		sub3=2*sub3/nJ3;
+		for(int i=4;i<=numberOfVariables_;i++)
+		{
+			sub4+=Math.pow(y[i-1], 2);
+		}
+		sub4=2*sub4/nJ4;
 //	evaluate f1,f2,f3,f4,...m	
-	f[0]=Math.sin(Math.PI*x[0]/2)+sub1;
-	f[1]=Math.cos(Math.PI*x[0]/2)*Math.sin(Math.PI*x[1]/2)+sub2;
-	f[2]=Math.cos(Math.PI*x[0]/2)*Math.cos(Math.PI*x[1]/2)+sub3;
-	for(int i=3;i<numberOfObjectives_;i++)
-		f[i]=Math.pow(f[0], 2)+Math.pow(f[1], 10)+Math.pow(f[2], 10)+sub4;
-	
-	for (int i = 0; i < numberOfObjectives_; i++)
-		  solution.setObjective(i,f[i]);	
-	
-}  
+		fs[fo]=Math.sin(Math.PI*xs[xo]/2)+sub1;
+		fs[fo+1]=Math.cos(Math.PI*xs[xo]/2)*Math.sin(Math.PI*xs[xo+1]/2)+sub2;
+		fs[fo+2]=Math.cos(Math.PI*xs[xo]/2)*Math.cos(Math.PI*xs[xo+1]/2)+sub3;
+		for(int i=3;i<numberOfObjectives_;i++)
+			fs[fo+i]=Math.pow(fs[fo], 2)+Math.pow(fs[fo+1], 10)+Math.pow(fs[fo+2], 10)+sub4;
+	} // for
+} // evaluate
+
+/** 
+* Evaluates a set of solutions in one batch
+* @param solutionSet The solutions to evaluate
+* @throws JMException 
+*/  
+public void evaluate(SolutionSet solutionSet) throws JMException {
+	evaluateInBatch(solutionSet);
+} // evaluate
 
 }
 
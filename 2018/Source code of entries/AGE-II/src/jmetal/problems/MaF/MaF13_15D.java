@@ -1,23 +1,16 @@
 package jmetal.problems.MaF;
-import jmetal.base.Problem;
-import jmetal.base.Solution;
-import jmetal.base.Variable;
-import jmetal.base.solutionType.BinaryRealSolutionType;
-import jmetal.base.solutionType.RealSolutionType;
-import jmetal.util.JMException;
-import java.util.ArrayList;
 
 /** 
-* Class representing problem MaF13 
+* Class representing problem MaF13 with 15 objectives
 */
-public class MaF13_15D extends Problem {   
+public class MaF13_15D extends MaF13 {   
 /** 
-* Creates a default MaF13 problem (5 variables and 3 objectives)
-* @param solutionType The solution type must "Real".
+* Creates a default MaF13 problem (5 variables and 15 objectives)
+* @param solutionType The solution type must "Real" or "BinaryReal". 
 */
 public MaF13_15D(String solutionType) throws ClassNotFoundException {
 this(solutionType, 5, 15);
-} // MaF13   
+} // MaF13_15D   
 
 /** 
 * Creates a MaF13 problem instance
@@ -28,89 +21,6 @@ this(solutionType, 5, 15);
 public MaF13_15D(String solutionType, 
            Integer numberOfVariables, 
 		         Integer numberOfObjectives) throws ClassNotFoundException {
-numberOfVariables_  = numberOfVariables;
-numberOfObjectives_ = numberOfObjectives;
-numberOfConstraints_= 0;
-problemName_        = "MaF13";
-    
-lowerLimit_ = new double[numberOfVariables_];
-upperLimit_ = new double[numberOfVariables_];        
-for (int var = 0; var < 2; var++){
-  lowerLimit_[var] = 0.0;
-  upperLimit_[var] = 1.0;
-} //for
-for (int var = 2; var < numberOfVariables; var++){
-  lowerLimit_[var] = -2.0;
-  upperLimit_[var] = 2.0;
-} //for
-
-if (solutionType.compareTo("Real") == 0)
-	solutionType_ = new RealSolutionType(this) ;
-else {
-	System.out.println("Error: solution type " + solutionType + " invalid") ;
-	System.exit(-1) ;
-}            
-}            
-
-/** 
-* Evaluates a solution 
-* @param solution The solution to evaluate
-* @throws JMException 
-*/  
-//MaF13 , PF7
-public void evaluate(Solution solution) throws JMException {
-	
-	Variable[] gen  = solution.getDecisionVariables();   
-	double [] x = new double[numberOfVariables_];
-	double [] f = new double[numberOfObjectives_];
-	    
-	for (int i = 0; i < numberOfVariables_; i++)
-	  x[i] = gen[i].getValue();
-	
-//	evaluate J,y,sub1,sub2,sub3,sub4
-	double[] y=new double[numberOfVariables_];
-	for(int i=0;i<numberOfVariables_;i++)
-		y[i]=x[i]-2*x[1]*Math.sin(2*Math.PI*x[0]+(i+1)*Math.PI/numberOfVariables_);
-	ArrayList<Integer> J1=new ArrayList<Integer>();
-	ArrayList<Integer> J2=new ArrayList<Integer>();
-	ArrayList<Integer> J3=new ArrayList<Integer>();
-	ArrayList<Integer> J4=new ArrayList<Integer>();
-	double sub1=0,sub2=0,sub3=0,sub4=0;
-	for(int i=4;i<=numberOfVariables_;i=i+3)
-	{
-		J1.add(i);
-		sub1+=Math.pow(y[i-1], 2);
-	}
-	sub1=2*sub1/J1.size();
-	for(int i=5;i<=numberOfVariables_;i=i+3)
-	{
-		J2.add(i);
-		sub2+=Math.pow(y[i-1], 2);
-	}
-	sub2=2*sub2/J2.size();
-	for(int i=3;i<=numberOfVariables_;i=i+3)
-	{
-		J3.add(i);
-		sub3+=Math.pow(y[i-1], 2);
-	}
-	sub3=2*sub3/J3.size();
-	for(int i=4;i<=numberOfVariables_;i++)
-	{
-		J4.add(i);
-		sub4+=Math.pow(y[i-1], 2);
-	}
-	sub4=2*sub4/J4.size();
-//	evaluate f1,f2,f3,f4,...m	
-	f[0]=Math.sin(Math.PI*x[0]/2)+sub1;
-	f[1]=Math.cos(Math.PI*x[0]/2)*Math.sin(Math.PI*x[1]/2)+sub2;
-	f[2]=Math.cos(Math.PI*x[0]/2)*Math.cos(Math.PI*x[1]/2)+sub3;
-	for(int i=3;i<numberOfObjectives_;i++)
-		f[i]=Math.pow(f[0], 2)+Math.pow(f[1], 10)+Math.pow(f[2], 10)+sub4;
-	
-	for (int i = 0; i < numberOfObjectives_; i++)
-		  solution.setObjective(i,f[i]);	
-	
-}  
-
+super(solutionType, numberOfVariables, numberOfObjectives);
+} // MaF13_15D
 }
-
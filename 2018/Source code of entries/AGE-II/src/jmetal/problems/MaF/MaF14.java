@@ -1,7 +1,8 @@
 package jmetal.problems.MaF;
 import jmetal.base.Problem;
 import jmetal.base.Solution;
-import jmetal.base.Variable;
+import jmetal.base.SolutionSet;
+import jmetal.base.solutionType.ArrayDoubleSolutionType;
 import jmetal.base.solutionType.BinaryRealSolutionType;
 import jmetal.base.solutionType.RealSolutionType;
 import jmetal.util.JMException;
@@ -14,8 +15,8 @@ public class MaF14 extends Problem {
 * Creates a default MaF14 problem (60 variables and 3 objectives)
 * @param solutionType The solution type must "Real".
 */
-public static int nk14;
-public static int sublen14[],len14[];
+private final int nk14;
+private final int sublen14[],len14[];
 public MaF14(String solutionType) throws ClassNotFoundException {
 this(solutionType, 60, 3);
 } // MaF14   
@@ -69,6 +70,8 @@ for (int var = numberOfObjectives_-1; var < numberOfVariables_; var++){
 
 if (solutionType.compareTo("Real") == 0)
 	solutionType_ = new RealSolutionType(this) ;
+else if (solutionType.compareTo("ArrayDouble") == 0)
+	solutionType_ = new ArrayDoubleSolutionType(this) ;
 else {
 	System.out.println("Error: solution type " + solutionType + " invalid") ;
 	System.exit(-1) ;
@@ -82,58 +85,83 @@ else {
 */  
 //MaF14 , LSMOP3
 public void evaluate(Solution solution) throws JMException {
-	
-	Variable[] gen  = solution.getDecisionVariables();   
+
 	double [] x = new double[numberOfVariables_];
 	double [] f = new double[numberOfObjectives_];
-	    
-	for (int i = 0; i < numberOfVariables_; i++)
-	  x[i] = gen[i].getValue();
+	solution.readDecisionVariableValues(x);
+	evaluate(x, 1, f);
+
+	for (int i = 0; i < numberOfObjectives_; i++)
+		  solution.setObjective(i,f[i]);	
 	
+}
+
+/** 
+* Evaluates n solutions at once
+* @param xs The decision variables of the solutions, row-major
+* @param n The number of solutions
+* @param fs The array receiving the objective values, row-major
+* @throws JMException 
+*/  
+public void evaluate(double [] xs, int n, double [] fs) throws JMException {
+	double [] x = new double[numberOfVariables_];
+
+	double[] g=new double[numberOfObjectives_];
+
+	for (int s = 0; s < n; s++) {
+		int xo = s * numberOfVariables_;
+		int fo = s * numberOfObjectives_;
+		System.arraycopy(xs, xo, x, 0, numberOfVariables_);
+
 //	change x
-	for(int i=numberOfObjectives_-1;i<numberOfVariables_;i++)		
-		x[i]=(1+(i+1)/(double)numberOfVariables_)*x[i]-10*x[0];
+		for(int i=numberOfObjectives_-1;i<numberOfVariables_;i++)		
+			x[i]=(1+(i+1)/(double)numberOfVariables_)*x[i]-10*x[0];
 //	evaluate eta,g
-	double[] g=new double[numberOfObjectives_];
-	double sub1;
-	for(int i=0;i<numberOfObjectives_;i=i+2)
-	{
-		double[] tx=new double[sublen14[i]];
-		sub1=0;
-		for(int j=0;j<nk14;j++)
+		double sub1;
+		for(int i=0;i<numberOfObjectives_;i=i+2)
 		{
-			System.arraycopy(x, len14[i]+numberOfObjectives_-1+j*sublen14[i], tx, 0, sublen14[i]);
-			sub1+=Rastrigin(tx);
+			double[] tx=new double[sublen14[i]];
+			sub1=0;
+			for(int j=0;j<nk14;j++)
+			{
+				System.arraycopy(x, len14[i]+numberOfObjectives_-1+j*sublen14[i], tx, 0, sublen14[i]);
+				sub1+=Rastrigin(tx);
+			}
+			g[i]=sub1/(nk14*sublen14[i]);
 		}
-		g[i]=sub1/(nk14*sublen14[i]);
-	}
 	
-	for(int i=1;i<numberOfObjectives_;i=i+2)
-	{
-		double[] tx=new double[sublen14[i]];
-		sub1=0;
-		for(int j=0;j<nk14;j++)
+		for(int i=1;i<numberOfObjectives_;i=i+2)
 		{
-			System.arraycopy(x, len14[i]+numberOfObjectives_-1+j*sublen14[i], tx, 0, sublen14[i]);
-			sub1+=Rosenbrock(tx);
+			double[] tx=new double[sublen14[i]];
+			sub1=0;
+			for(int j=0;j<nk14;j++)
+			{
+				System.arraycopy(x, len14[i]+numberOfObjectives_-1+j*sublen14[i], tx, 0, sublen14[i]);
+				sub1+=Rosenbrock(tx);
+			}
+			g[i]=sub1/(nk14*sublen14[i]);
 		}
-		g[i]=sub1/(nk14*sublen14[i]);
-	}
 	
 //	evaluate fm,fm-1,...,2,f1
-	double subf1=1;
-	f[numberOfObjectives_-1]=(1-x[0])*(1+g[numberOfObjectives_-1]);
-	for(int i=numberOfObjectives_-2;i>0;i--)
-	{
-		subf1*=x[numberOfObjectives_-i-2];
-		f[i]=subf1*(1-x[numberOfObjectives_-i-1])*(1+g[i]);
-	}
-	f[0]=subf1*x[numberOfObjectives_-2]*(1+g[0]);
-	
-	for (int i = 0; i < numberOfObjectives_; i++)
-		  solution.setObjective(i,f[i]);	
-	
-}  
+		double subf1=1;
+		fs[fo+numberOfObjectives_-1]=(1-x[0])*(1+g[numberOfObjectives_-1]);
+		for(int i=numberOfObjectives_-2;i>0;i--)
+		{
+			subf1*=x[numberOfObjectives_-i-2];
+			fs[fo+i]=subf1*(1-x[numberOfObjectives_-i-1])*(1+g[i]);
+		}
+		fs[fo]=subf1*x[numberOfObjectives_-2]*(1+g[0]);
+	} // for
+} // evaluate
+
+/** 
+* Evaluates a set of solutions in one batch
+* @param solutionSet The solutions to evaluate
+* @throws JMException 
+*/  
+public void evaluate(SolutionSet solutionSet) throws JMException {
+	evaluateInBatch(solutionSet);
+} // evaluate
 
 
 public static double Rastrigin(double[] x)
@@ -6,7 +6,6 @@
 package jmetal.problems.WFG;
 
 import jmetal.base.Solution;
-import jmetal.base.Variable;
 import jmetal.util.JMException;
 
 /**
@@ -167,10 +166,10 @@ public class WFG1_2D extends WFG {
   */  
   public final void evaluate(Solution solution) throws JMException {
     float [] variables = new float[getNumberOfVariables()];
-    Variable[] dv = solution.getDecisionVariables();
+    double [] dv = solution.readDecisionVariableValues(new double[getNumberOfVariables()]);
         
     for (int i = 0; i < getNumberOfVariables(); i++) {
-      variables[i] = (float)dv[i].getValue();    
+      variables[i] = (float)dv[i];    
     }
         
     float [] f = evaluate(variables);
@@ -6,6 +6,8 @@
  */
 package jmetal.qualityIndicator;
 
+import jmetal.qualityIndicator.util.NearestNeighborIndex;
+
 /**
  * This class implements the generational distance metric. It can be used also 
  * as a command line by typing: "java GenerationalDistance <solutionFrontFile>  
@@ -73,10 +75,39 @@ public class GenerationalDistance {
     
     // STEP 3. Sum the distances between each point of the front and the 
     // nearest point in the true Pareto front
+    return generationalDistance(normalizedFront,
+                                new NearestNeighborIndex(normalizedParetoFront));
+  } // generationalDistance
+
+  /**
+   * Returns the generational distance value for a given front
+   * @param front The front
+   * @param trueParetoFront The true pareto front
+   * @param numberOfObjectives The number of objectives
+   * @param trueParetoFrontIndex The index of the true pareto front normalized
+   * by its maximum and minimum values, which can be reused by all the calls
+   */
+  public double generationalDistance(double [][] front,
+                                     double [][] trueParetoFront,
+                                     int numberOfObjectives,
+                                     NearestNeighborIndex trueParetoFrontIndex) {
+    double [] maximumValue = utils_.getMaximumValues(trueParetoFront, numberOfObjectives);
+    double [] minimumValue = utils_.getMinimumValues(trueParetoFront, numberOfObjectives);
+    double [][] normalizedFront = utils_.getNormalizedFront(front,
+                                                            maximumValue,
+                                                            minimumValue);
+    return generationalDistance(normalizedFront, trueParetoFrontIndex);
+  } // generationalDistance
+
+  /**
+   * Returns the generational distance of a normalized front to the indexed
+   * normalized true pareto front
+   */
+  private double generationalDistance(double [][] normalizedFront,
+                                      NearestNeighborIndex trueParetoFrontIndex) {
     double sum = 0.0;
-    for (int i = 0; i < front.length; i++) 
-      sum += Math.pow(utils_.distanceToClosedPoint(normalizedFront[i],
-    		                                       normalizedParetoFront),
+    for (int i = 0; i < normalizedFront.length; i++) 
+      sum += Math.pow(trueParetoFrontIndex.distanceToClosedPoint(normalizedFront[i]),
     		                                       pow_);
    
     
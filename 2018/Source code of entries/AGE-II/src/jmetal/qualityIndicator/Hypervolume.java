@@ -9,6 +9,11 @@ package jmetal.qualityIndicator;
 import java.util.*;
 import java.io.*;
 
+import jmetal.qualityIndicator.util.MonteCarloHypervolume;
+import jmetal.qualityIndicator.util.WFGHypervolume;
+import jmetal.util.Configuration;
+import jmetal.util.JMException;
+
 /**
  * This class implements the hypervolume metric. The code is the a Java version
  * of the orginal metric implementation by Eckart Zitzler.
@@ -19,10 +24,24 @@ import java.io.*;
  *           and the Strength Pareto Approach,
  *           IEEE Transactions on Evolutionary Computation, vol. 3, no. 4, 
  *           pp. 257-271, 1999.
+ * The exact hypervolume can also be computed by the WFG algorithm
+ * (see <code>WFGHypervolume</code>), which is much faster for more than
+ * four objectives.
  */
 public class Hypervolume {
 
+  /**
+   * Names of the engines computing the exact hypervolume
+   */
+  public static final String ZITZLER = "Zitzler" ;
+  public static final String WFG     = "WFG" ;
+
   jmetal.qualityIndicator.util.MetricsUtil utils_;
+
+  /**
+   * Stores the engine used by calculateHypervolume()
+   */
+  String engine_ ;
   
   /**
   * Constructor
@@ -30,6 +49,26 @@ public class Hypervolume {
   */
   public Hypervolume() {
     utils_ = new jmetal.qualityIndicator.util.MetricsUtil();
+    engine_ = ZITZLER ;
+  } // Hypervolume
+
+  /**
+   * Constructor
+   * @param engine The engine computing the exact hypervolume ("Zitzler" or
+   * "WFG")
+   * @throws JMException
+   */
+  public Hypervolume(String engine) throws JMException {
+    utils_ = new jmetal.qualityIndicator.util.MetricsUtil();
+    if (engine.equalsIgnoreCase(ZITZLER))
+      engine_ = ZITZLER ;
+    else if (engine.equalsIgnoreCase(WFG))
+      engine_ = WFG ;
+    else {
+      Configuration.logger_.severe("Hypervolume.Hypervolume: " +
+          "engine '" + engine + "' not found ");
+      throw new JMException("Exception in " + engine + ".Hypervolume()") ;
+    } // else
   } // Hypervolume
   
   /* 
@@ -130,6 +169,9 @@ public class Hypervolume {
   public double calculateHypervolume(double [][] front, int  noPoints,int  noObjectives){
 //      System.out.println("calculateHypervolume, noObjectives="+noObjectives);
 //      System.out.println("calculateHypervolume, noPoints="+noPoints);
+    if (engine_ == WFG)
+      return new WFGHypervolume(noObjectives).calculateHypervolume(front, noPoints);
+
     int     n;
     double  volume, distance;
 
@@ -347,6 +389,45 @@ public class Hypervolume {
       }
 }
 
+  /**
+   * Returns an estimate of the hypevolume value of the paretoFront, together
+   * with its standard error. The front is normalized and inverted as in
+   * hypervolumeFPRAS().
+   * @param paretoFront The pareto front
+   * @param paretoTrueFront The true pareto front
+   * @param numberOfObjectives Number of objectives of the pareto front
+   * @param hypervolumePoint The coordinate of the reference point in all the
+   * objectives, or Double.NEGATIVE_INFINITY for the maximum values of the
+   * true pareto front
+   * @param estimator The sampler
+   * @return {estimate, standard error}
+   * @throws JMException
+   */
+  public double [] hypervolumeMonteCarlo(double [][] paretoFront,
+                                         double [][] paretoTrueFront,
+                                         int numberOfObjectives,
+                                         double hypervolumePoint,
+                                         MonteCarloHypervolume estimator) throws JMException {
+    double[] maximumValues = utils_.getMaximumValues(paretoTrueFront,numberOfObjectives);
+    if (hypervolumePoint!=Double.NEGATIVE_INFINITY) {
+        maximumValues = new double[numberOfObjectives];
+        for (int i = 0; i<numberOfObjectives; i++) {
+            maximumValues[i] = hypervolumePoint;
+        }
+    }
+    double[] minimumValues = utils_.getMinimumValues(paretoTrueFront,numberOfObjectives);
+
+    double [][] normalizedFront = utils_.getNormalizedFront(paretoFront,
+                                                maximumValues,
+                                                minimumValues);
+    double [][] invertedFront = utils_.invertedFront(normalizedFront);
+
+    double t = estimator.calculateHypervolume(invertedFront, invertedFront.length);
+    if (Double.isNaN(t))
+      return new double [] {0, 0} ;
+    return new double [] {t, estimator.getStandardError()} ;
+  } // hypervolumeMonteCarlo
+
   public boolean Dominates(double  point1[], double  point2[], int  noObjectives)
      /* returns true if 'point1' dominates 'points2' with respect to the
 	first 'noObjectives' objectives */
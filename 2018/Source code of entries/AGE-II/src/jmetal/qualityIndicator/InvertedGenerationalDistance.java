@@ -6,6 +6,8 @@
  */
 package jmetal.qualityIndicator;
 
+import jmetal.qualityIndicator.util.NearestNeighborIndex;
+
 /**
  * This class implements the inverted generational distance metric. 
  * It can be used also as a command line by typing: 
@@ -74,10 +76,10 @@ public class InvertedGenerationalDistance {
     
     // STEP 3. Sum the distances between each point of the true Pareto front and
     // the nearest point in the true Pareto front
+    NearestNeighborIndex frontIndex = new NearestNeighborIndex(normalizedFront);
     double sum = 0.0;
     for (int i = 0; i < normalizedParetoFront.length; i++) 
-      sum += Math.pow(utils_.distanceToClosedPoint(normalizedParetoFront[i],
-    		                                       normalizedFront),
+      sum += Math.pow(frontIndex.distanceToClosedPoint(normalizedParetoFront[i]),
     		                                       pow_);
    
     
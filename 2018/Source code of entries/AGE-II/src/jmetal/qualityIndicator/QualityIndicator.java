@@ -20,15 +20,20 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import jmetal.base.Problem;
 import jmetal.base.SolutionSet;
+import jmetal.qualityIndicator.util.MonteCarloHypervolume;
+import jmetal.qualityIndicator.util.ReferenceFrontCache;
+import jmetal.util.JMException;
 
 /**
  * QualityIndicator class
  */
 public class QualityIndicator {
-  SolutionSet trueParetoFront_ ;
+  ReferenceFrontCache.Entry trueParetoFront_ ; // shared by all the quality indicators of the JVM
+  double [][] trueParetoFrontMatrix_ ; // objectives of trueParetoFront_, shared by all the indicators
   double      trueParetoFrontHypervolume_ ;
   Problem     problem_ ; 
   jmetal.qualityIndicator.util.MetricsUtil utilities_  ;
+  String      hypervolumeEngine_ ; // engine of the exact hypervolume, see Hypervolume
   
   public String paretoFrontFile = "";
   
@@ -37,6 +42,25 @@ public class QualityIndicator {
    * @param paretoFrontFile
    */
   public QualityIndicator(Problem problem, String paretoFrontFile)  {
+    hypervolumeEngine_ = Hypervolume.ZITZLER ;
+    initialize(problem, paretoFrontFile) ;
+  } // Constructor
+
+  /**
+   * Constructor
+   * @param paretoFrontFile
+   * @param hypervolumeEngine The engine computing the exact hypervolume
+   * ("Zitzler" or "WFG")
+   * @throws JMException
+   */
+  public QualityIndicator(Problem problem, String paretoFrontFile,
+                          String hypervolumeEngine) throws JMException {
+    // checks the name of the engine
+    hypervolumeEngine_ = new Hypervolume(hypervolumeEngine).engine_ ;
+    initialize(problem, paretoFrontFile) ;
+  } // Constructor
+
+  private void initialize(Problem problem, String paretoFrontFile) {
       boolean debugPrint = false;
 
       this.paretoFrontFile = paretoFrontFile;
@@ -77,11 +101,13 @@ public class QualityIndicator {
 
                 }
 //        }
-        trueParetoFront_ = utilities_.readNonDominatedSolutionSet(newPFname);
+        trueParetoFront_ = ReferenceFrontCache.get(newPFname, problem.getNumberOfObjectives());
     } else { // business as usual
-        trueParetoFront_ = utilities_.readNonDominatedSolutionSet(paretoFrontFile);
+        trueParetoFront_ = ReferenceFrontCache.get(paretoFrontFile, problem.getNumberOfObjectives());
     }
 
+    trueParetoFrontMatrix_ = trueParetoFront_.getFront();
+
 if (debugPrint) System.out.println("QualityIndicator:beforeHV");
 String problemSimpleName = problem_.getClass().getSimpleName();
 if ( (problemSimpleName.startsWith("DTLZ") ||
@@ -90,21 +116,33 @@ if ( (problemSimpleName.startsWith("DTLZ") ||
         problemSimpleName.contains("_")) {
     if (debugPrint) System.out.println("QualityIndicator: skipping the computation of the 'real' Hypervolume (i.e. HYP(sampledFront)) because of enormous time consumption");
     trueParetoFrontHypervolume_ = 0d;
+} else if (!Double.isNaN(trueParetoFront_.getHypervolume())) {
+    trueParetoFrontHypervolume_ = trueParetoFront_.getHypervolume();
 } else {
     long startTime, stopTime;
     startTime = System.currentTimeMillis();
     if (debugPrint) System.out.print("QualityIndicator: computation of the 'real' Hypervolume (i.e. HYP(sampledFront))...");
-    trueParetoFrontHypervolume_ = new Hypervolume().hypervolume(
-                 trueParetoFront_.writeObjectivesToMatrix(),
-                 trueParetoFront_.writeObjectivesToMatrix(),
+    trueParetoFrontHypervolume_ = newHypervolume().hypervolume(
+                 trueParetoFrontMatrix_,
+                 trueParetoFrontMatrix_,
                  problem_.getNumberOfObjectives());
     stopTime = System.currentTimeMillis();
     if (debugPrint) System.out.println(" done in " + (stopTime-startTime)/1000d +"s");
+    ReferenceFrontCache.setHypervolume(trueParetoFront_, trueParetoFrontHypervolume_);
 }
 
 if (debugPrint) System.out.println("QualityIndicator:afterHV");
 
-  } // Constructor 
+  } // initialize
+
+  /**
+   * Returns an instance of Hypervolume using the engine of this object
+   */
+  private Hypervolume newHypervolume() {
+    Hypervolume hypervolume = new Hypervolume() ;
+    hypervolume.engine_ = hypervolumeEngine_ ;
+    return hypervolume ;
+  } // newHypervolume
   
   /**
    * Returns the hypervolume of solution set
@@ -112,15 +150,15 @@ if (debugPrint) System.out.println("QualityIndicator:afterHV");
    * @return The value of the hypervolume indicator
    */
   public double getHypervolume(SolutionSet solutionSet) {
-    return new Hypervolume().hypervolume(solutionSet.writeObjectivesToMatrix(),
-                                         trueParetoFront_.writeObjectivesToMatrix(),
+    return newHypervolume().hypervolume(solutionSet.writeObjectivesToMatrix(),
+                                         trueParetoFrontMatrix_,
 //                                         solutionSet.writeObjectivesToMatrix(),
                                          problem_.getNumberOfObjectives());
   } // getHypervolume
   
   public double getHypervolumeCEC2018(SolutionSet solutionSet) {
-    return new Hypervolume().hypervolumeCEC2018(solutionSet.writeObjectivesToMatrix(),
-                                         trueParetoFront_.writeObjectivesToMatrix(),
+    return newHypervolume().hypervolumeCEC2018(solutionSet.writeObjectivesToMatrix(),
+                                         trueParetoFrontMatrix_,
 //                                         solutionSet.writeObjectivesToMatrix(),
                                          problem_.getNumberOfObjectives());
   } // getHypervolume
@@ -128,13 +166,31 @@ if (debugPrint) System.out.println("QualityIndicator:afterHV");
   
   public double getHypervolumeFPRAS(SolutionSet solutionSet, boolean doExactForFinalEvaluation, 
           double hypervolumePoint) {
-    return new Hypervolume().hypervolumeFPRAS(solutionSet.writeObjectivesToMatrix(),
-                                         trueParetoFront_.writeObjectivesToMatrix(),
+    return newHypervolume().hypervolumeFPRAS(solutionSet.writeObjectivesToMatrix(),
+                                         trueParetoFrontMatrix_,
 //                                         solutionSet.writeObjectivesToMatrix(),
                                          problem_.getNumberOfObjectives(),
                                          doExactForFinalEvaluation, hypervolumePoint);
   } // getHypervolume
 
+  /**
+   * Returns an estimate of the hypervolume of solution set, sampled in
+   * parallel until the target relative error of the estimator is reached
+   * @param solutionSet
+   * @param hypervolumePoint The coordinate of the reference point, or
+   * Double.NEGATIVE_INFINITY for the maximum values of the true Pareto front
+   * @param estimator The sampler, which can be reused for many solution sets
+   * @return {estimate, standard error}
+   * @throws JMException
+   */
+  public double [] getHypervolumeFPRAS(SolutionSet solutionSet, double hypervolumePoint,
+          MonteCarloHypervolume estimator) throws JMException {
+    return newHypervolume().hypervolumeMonteCarlo(solutionSet.writeObjectivesToMatrix(),
+                                         trueParetoFrontMatrix_,
+                                         problem_.getNumberOfObjectives(),
+                                         hypervolumePoint, estimator);
+  } // getHypervolumeFPRAS
+
     
   /**
    * Returns the hypervolume of the true Pareto front
@@ -143,6 +199,20 @@ if (debugPrint) System.out.println("QualityIndicator:afterHV");
   public double getTrueParetoFrontHypervolume() {
     return trueParetoFrontHypervolume_ ;
   }
+
+  /**
+   * Returns the maximum values of the objectives of the true Pareto front
+   */
+  public double [] getTrueParetoFrontMaximumValues() {
+    return trueParetoFront_.getMaximumValues() ;
+  } // getTrueParetoFrontMaximumValues
+
+  /**
+   * Returns the minimum values of the objectives of the true Pareto front
+   */
+  public double [] getTrueParetoFrontMinimumValues() {
+    return trueParetoFront_.getMinimumValues() ;
+  } // getTrueParetoFrontMinimumValues
   
   /**
    * Returns the inverted generational distance of solution set
@@ -152,7 +222,7 @@ if (debugPrint) System.out.println("QualityIndicator:afterHV");
   public double getIGD(SolutionSet solutionSet) {
     return new InvertedGenerationalDistance().invertedGenerationalDistance(
                     solutionSet.writeObjectivesToMatrix(),
-                    trueParetoFront_.writeObjectivesToMatrix(),
+                    trueParetoFrontMatrix_,
                     problem_.getNumberOfObjectives());
   } // getIGD
   
@@ -164,8 +234,9 @@ if (debugPrint) System.out.println("QualityIndicator:afterHV");
   public double getGD(SolutionSet solutionSet) {
     return new GenerationalDistance().generationalDistance(
                     solutionSet.writeObjectivesToMatrix(),
-                    trueParetoFront_.writeObjectivesToMatrix(),
-                    problem_.getNumberOfObjectives());
+                    trueParetoFrontMatrix_,
+                    problem_.getNumberOfObjectives(),
+                    trueParetoFront_.getNormalizedFrontIndex());
   } // getGD
   
   /**
@@ -175,14 +246,14 @@ if (debugPrint) System.out.println("QualityIndicator:afterHV");
    */
   public double getSpread(SolutionSet solutionSet) {
     return new Spread().spread(solutionSet.writeObjectivesToMatrix(),
-                               trueParetoFront_.writeObjectivesToMatrix(),
+                               trueParetoFrontMatrix_,
                                problem_.getNumberOfObjectives());
   } // getSpread
   
   
   public double getGeneralizedSpread(SolutionSet solutionSet) {
     return new GeneralizedSpread().generalizedSpread(solutionSet.writeObjectivesToMatrix(),
-                               trueParetoFront_.writeObjectivesToMatrix(),
+                               trueParetoFrontMatrix_,
                                problem_.getNumberOfObjectives());
   } // getGeneralizedSpread
   
@@ -193,7 +264,7 @@ if (debugPrint) System.out.println("QualityIndicator:afterHV");
    */
   public double getEpsilon(SolutionSet solutionSet) {
     return new Epsilon().epsilon(solutionSet.writeObjectivesToMatrix(),
-                                 trueParetoFront_.writeObjectivesToMatrix(),
+                                 trueParetoFrontMatrix_,
                                  problem_.getNumberOfObjectives());
   } // getEpsilon
 } // QualityIndicator
@@ -0,0 +1,317 @@
+/**
+ * HypervolumeContributions.java
+ *
+ * @version 1.0
+ */
+package jmetal.qualityIndicator.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * This class computes the exclusive hypervolume contributions of the points
+ * of a front, i.e. for every point p the hypervolume of the front minus the
+ * hypervolume of the front without p. As in
+ * <code>Hypervolume.calculateHypervolume()</code>, the front is maximized
+ * with respect to the origin.
+ *
+ * Two and three objectives are computed by sweeps in O(n log n), as described
+ * in
+ *
+ * M. Emmerich and C. M. Fonseca. Computing hypervolume contributions in low
+ * dimensions: asymptotically optimal algorithm and complexity results.
+ * In Proc. Evolutionary Multi-Criterion Optimization (EMO 2011), LNCS 6576,
+ * pp. 121-135. Springer, 2011.
+ *
+ * The sweeps require mutually non-dominated points (duplicates are allowed).
+ * For more objectives, and for fronts not fulfilling this requirement, the
+ * contribution of a point p is computed as the volume of p minus the
+ * hypervolume of the other points limited (bounded) by p. The limited points
+ * are reduced to the non-dominated ones, which leaves only a few of them, and
+ * their hypervolume is computed by <code>WFGHypervolume</code>.
+ */
+public class HypervolumeContributions {
+
+  /**
+   * Stores the number of objectives
+   */
+  private int numberOfObjectives_ ;
+
+  /**
+   * Stores the hypervolume algorithm used for the limited points
+   */
+  private WFGHypervolume wfg_ ;
+
+  /**
+   * Constructor
+   * @param numberOfObjectives The number of objectives
+   */
+  public HypervolumeContributions(int numberOfObjectives) {
+    numberOfObjectives_ = numberOfObjectives ;
+    wfg_ = new WFGHypervolume(numberOfObjectives) ;
+  } // HypervolumeContributions
+
+  /**
+   * Returns the exclusive hypervolume contributions of the first noPoints
+   * points of a front. The front is not modified.
+   * @param front The points, maximized with respect to the origin.
+   * @param noPoints The number of points.
+   * @return The contributions, in the order of the points.
+   */
+  public double [] calculateContributions(double [][] front, int noPoints) {
+    double [] contributions = new double[noPoints] ;
+    if (noPoints == 0)
+      return contributions ;
+
+    // the sweeps assume positive objective values
+    boolean positive = true ;
+    for (int i = 0; (i < noPoints) && positive; i++)
+      for (int j = 0; j < numberOfObjectives_; j++)
+        if (!(front[i][j] > 0))
+          positive = false ;
+
+    boolean done = false ;
+    if (positive && (numberOfObjectives_ == 2))
+      done = contributions2D(front, noPoints, contributions) ;
+    else if (positive && (numberOfObjectives_ == 3))
+      done = contributions3D(front, noPoints, contributions) ;
+
+    if (!done)
+      contributionsByBounding(front, noPoints, contributions) ;
+    return contributions ;
+  } // calculateContributions
+
+  /**
+   * Computes the contributions in two objectives by a sweep
+   * @return false if the points are not mutually non-dominated (then the
+   * contributions are not set)
+   */
+  private boolean contributions2D(double [][] front, int noPoints, double [] contributions) {
+    // sorted by increasing first and decreasing second objective
+    Integer [] order = sortedIndices(front, noPoints, new int [] {0, 1}, new boolean [] {true, false}) ;
+    int [] unique = new int[noPoints] ;
+    boolean [] duplicated = new boolean[noPoints] ;
+    int n = removeDuplicates(front, order, unique, duplicated) ;
+
+    for (int k = 1; k < n; k++) {
+      if (front[unique[k]][1] >= front[unique[k - 1]][1])
+        return false ;
+    } // for
+
+    for (int k = 0; k < n; k++) {
+      double [] point = front[unique[k]] ;
+      double left  = (k > 0) ? front[unique[k - 1]][0] : 0 ;
+      double below = (k + 1 < n) ? front[unique[k + 1]][1] : 0 ;
+      if (!duplicated[unique[k]])
+        contributions[unique[k]] = (point[0] - left) * (point[1] - below) ;
+    } // for
+    return true ;
+  } // contributions2D
+
+  /**
+   * Computes the contributions in three objectives by a sweep by decreasing
+   * third objective. The two-dimensional front of the points swept so far is
+   * kept in a tree. The region a point of this front dominates exclusively
+   * in two objectives is kept as a stack of bands (from the bottom to the
+   * top), each one reaching from its left end to the first objective of the
+   * point. A band stays the same from the third objective at which it is
+   * opened down to the one at which a newly swept point cuts it, and then
+   * adds its area times this distance to the contribution of the point.
+   * @return false if the points are not mutually non-dominated (then the
+   * contributions are not set)
+   */
+  private boolean contributions3D(double [][] front, int noPoints, double [] contributions) {
+    // sorted by decreasing third, first and second objective, such that a
+    // point is swept after the points dominating it
+    Integer [] order = sortedIndices(front, noPoints, new int [] {2, 0, 1}, new boolean [] {false, false, false}) ;
+    int [] unique = new int[noPoints] ;
+    boolean [] duplicated = new boolean[noPoints] ;
+    int n = removeDuplicates(front, order, unique, duplicated) ;
+
+    double [] volume = new double[noPoints] ;
+    // the bands of every point: {left end, bottom, top, third objective at
+    // which the band is opened}
+    List<ArrayDeque<double []>> bands = new ArrayList<ArrayDeque<double []>>(Collections.<ArrayDeque<double []>>nCopies(noPoints, null)) ;
+    // the two-dimensional front: first objective -> point, the second
+    // objective decreasing with the first one
+    TreeMap<Double, Integer> stair = new TreeMap<Double, Integer>() ;
+
+    for (int k = 0; k < n; k++) {
+      int q = unique[k] ;
+      double x = front[q][0] ;
+      double y = front[q][1] ;
+      double z = front[q][2] ;
+
+      Map.Entry<Double, Integer> right = stair.ceilingEntry(x) ;
+      if ((right != null) && (front[right.getValue()][1] >= y))
+        return false ; // q is dominated by a point swept before
+      right = stair.higherEntry(x) ;
+
+      // the points dominated by q in the first two objectives leave the
+      // front, but they still bound the region of q from below
+      bands.set(q, new ArrayDeque<double []>()) ;
+      double bottom = (right != null) ? front[right.getValue()][1] : 0 ;
+      Map.Entry<Double, Integer> left = stair.floorEntry(x) ;
+      while ((left != null) && (front[left.getValue()][1] <= y)) {
+        int p = left.getValue() ;
+        while (!bands.get(p).isEmpty())
+          volume[p] += close(bands.get(p).pollFirst(), front[p][0], z) ;
+        if (front[p][1] > bottom)
+          bands.get(q).addLast(new double [] {front[p][0], bottom, front[p][1], z}) ;
+        bottom = Math.max(bottom, front[p][1]) ;
+        stair.remove(left.getKey()) ;
+        left = stair.lowerEntry(x) ;
+      } // while
+      double leftEnd = (left != null) ? front[left.getValue()][0] : 0 ;
+      if (y > bottom)
+        bands.get(q).addLast(new double [] {leftEnd, bottom, y, z}) ;
+      stair.put(x, q) ;
+
+      // the region of the left neighbour loses its part below y
+      if (left != null) {
+        int p = left.getValue() ;
+        double [] band = bands.get(p).peekFirst() ;
+        while ((band != null) && (band[1] < y)) {
+          volume[p] += close(bands.get(p).pollFirst(), front[p][0], z) ;
+          if (band[2] > y) {
+            bands.get(p).addFirst(new double [] {band[0], y, band[2], z}) ;
+            break ;
+          } // if
+          band = bands.get(p).peekFirst() ;
+        } // while
+      } // if
+
+      // the region of the right neighbour loses its part left of x
+      if (right != null) {
+        int p = right.getValue() ;
+        double [] band = bands.get(p).peekLast() ;
+        double lowest = Double.POSITIVE_INFINITY ;
+        double highest = 0 ;
+        while ((band != null) && (band[0] < x)) {
+          volume[p] += close(bands.get(p).pollLast(), front[p][0], z) ;
+          lowest = Math.min(lowest, band[1]) ;
+          highest = Math.max(highest, band[2]) ;
+          band = bands.get(p).peekLast() ;
+        } // while
+        if (highest > lowest)
+          bands.get(p).addLast(new double [] {x, lowest, highest, z}) ;
+      } // if
+    } // for
+
+    for (int p : stair.values())
+      while (!bands.get(p).isEmpty())
+        volume[p] += close(bands.get(p).pollFirst(), front[p][0], 0) ;
+
+    for (int k = 0; k < n; k++) {
+      if (!duplicated[unique[k]])
+        contributions[unique[k]] = volume[unique[k]] ;
+    } // for
+    return true ;
+  } // contributions3D
+
+  /**
+   * Returns the volume of a band of a point, whose first objective is x,
+   * closed at the third objective value z
+   */
+  private static double close(double [] band, double x, double z) {
+    return (x - band[0]) * (band[2] - band[1]) * (band[3] - z) ;
+  } // close
+
+  /**
+   * Computes the contribution of every point as its volume minus the
+   * hypervolume of the other points limited by it
+   */
+  private void contributionsByBounding(double [][] front, int noPoints, double [] contributions) {
+    double [][] limited = new double[noPoints][numberOfObjectives_] ;
+    for (int p = 0; p < noPoints; p++) {
+      double [] point = front[p] ;
+      double volume = 1 ;
+      for (int j = 0; j < numberOfObjectives_; j++)
+        volume *= Math.max(point[j], 0) ;
+      if (volume == 0) {
+        contributions[p] = 0 ;
+        continue ;
+      } // if
+
+      int m = 0 ;
+      boolean covered = false ;
+      for (int i = 0; (i < noPoints) && !covered; i++) {
+        if (i == p)
+          continue ;
+        boolean covering = true ;
+        for (int j = 0; j < numberOfObjectives_; j++) {
+          double value = front[i][j] ;
+          if (value < point[j]) {
+            limited[m][j] = value ;
+            covering = false ;
+          } else
+            limited[m][j] = point[j] ;
+        } // for
+        // a point weakly dominating p leaves no exclusive volume
+        covered = covering ;
+        m++ ;
+      } // for
+
+      if (covered)
+        contributions[p] = 0 ;
+      else
+        contributions[p] = Math.max(0, volume - wfg_.calculateHypervolume(limited, m)) ;
+    } // for
+  } // contributionsByBounding
+
+  /**
+   * Returns the indices of the points, sorted lexicographically by the given
+   * objectives (ascending or descending)
+   */
+  private static Integer [] sortedIndices(final double [][] front, int noPoints,
+                                          final int [] objectives, final boolean [] ascending) {
+    Integer [] order = new Integer[noPoints] ;
+    for (int i = 0; i < noPoints; i++)
+      order[i] = i ;
+    Arrays.sort(order, new Comparator<Integer>() {
+      public int compare(Integer a, Integer b) {
+        for (int k = 0; k < objectives.length; k++) {
+          int result = Double.compare(front[a][objectives[k]], front[b][objectives[k]]) ;
+          if (result != 0)
+            return ascending[k] ? result : -result ;
+        } // for
+        return 0 ;
+      } // compare
+    }) ;
+    return order ;
+  } // sortedIndices
+
+  /**
+   * Keeps one point of every group of equal points, whose contributions are
+   * zero. As the points are sorted, equal points are consecutive.
+   * @return The number of points kept in unique
+   */
+  private int removeDuplicates(double [][] front, Integer [] order, int [] unique, boolean [] duplicated) {
+    int n = 0 ;
+    for (int k = 0; k < order.length; k++) {
+      int i = order[k] ;
+      if ((n > 0) && equal(front[unique[n - 1]], front[i])) {
+        duplicated[unique[n - 1]] = true ;
+        duplicated[i] = true ;
+      } else
+        unique[n++] = i ;
+    } // for
+    return n ;
+  } // removeDuplicates
+
+  /**
+   * Returns true if two points are equal in all the objectives
+   */
+  private boolean equal(double [] a, double [] b) {
+    for (int j = 0; j < numberOfObjectives_; j++)
+      if (a[j] != b[j])
+        return false ;
+    return true ;
+  } // equal
+} // HypervolumeContributions
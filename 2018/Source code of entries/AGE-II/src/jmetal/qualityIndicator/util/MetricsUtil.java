@@ -111,6 +111,50 @@ public class MetricsUtil {
     }
     return minimumValue;
   } // getMinimumValues
+
+  /** Gets the maximun values for each objectives in a front stored row-major
+   *  in a single array (see <code>SolutionSet.getObjectiveBlock</code>)
+   *  @param block The front, one row of noObjectives values per point
+   *  @param noPoints Number of points (rows) of the front
+   *  @param noObjectives Number of objectives in the pareto front
+   *  @return double [] An array of noOjectives values whit the maximun values
+   *  for each objective
+   **/
+  public double [] getMaximumValues(double [] block, int noPoints, int noObjectives) {
+    double [] maximumValue = new double[noObjectives];
+    for (int i = 0; i < noObjectives; i++)
+      maximumValue[i] =  Double.NEGATIVE_INFINITY;
+
+    for (int i = 0, row = 0; i < noPoints; i++, row += noObjectives) {
+      for (int j = 0; j < noObjectives; j++) {
+        if (block[row + j] > maximumValue[j])
+          maximumValue[j] = block[row + j];
+      }
+    }
+    return maximumValue;
+  } // getMaximumValues
+
+  /** Gets the minimun values for each objectives in a front stored row-major
+   *  in a single array (see <code>SolutionSet.getObjectiveBlock</code>)
+   *  @param block The front, one row of noObjectives values per point
+   *  @param noPoints Number of points (rows) of the front
+   *  @param noObjectives Number of objectives in the pareto front
+   *  @return double [] An array of noOjectives values whit the minimum values
+   *  for each objective
+   **/
+  public double [] getMinimumValues(double [] block, int noPoints, int noObjectives) {
+    double [] minimumValue = new double[noObjectives];
+    for (int i = 0; i < noObjectives; i++)
+      minimumValue[i] = Double.MAX_VALUE;
+
+    for (int i = 0, row = 0; i < noPoints; i++, row += noObjectives) {
+      for (int j = 0; j < noObjectives; j++) {
+        if (block[row + j] < minimumValue[j])
+          minimumValue[j] = block[row + j];
+      }
+    }
+    return minimumValue;
+  } // getMinimumValues
   
   
   /** 
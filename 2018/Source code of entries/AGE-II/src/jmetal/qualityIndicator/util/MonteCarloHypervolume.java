@@ -0,0 +1,302 @@
+/**
+ * MonteCarloHypervolume.java
+ *
+ * @version 1.0
+ */
+package jmetal.qualityIndicator.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import jmetal.util.Configuration;
+import jmetal.util.JMException;
+import jmetal.util.RandomStream;
+
+/**
+ * This class estimates the hypervolume by sampling, as the FPRAS of
+ * <code>Hypervolume.calculateHypervolumeFPRAS()</code> (K. Bringmann and T.
+ * Friedrich. Approximating the volume of unions and intersections of
+ * high-dimensional geometric objects. Computational Geometry, 43(6-7):601-610,
+ * 2010): a box [0, p] is chosen with probability proportional to its volume,
+ * then a point x uniformly in it, and T / c(x) is an unbiased estimate of the
+ * hypervolume, T being the sum of the volumes of the boxes and c(x) the number
+ * of boxes containing x. Unlike the FPRAS, the mean of these estimates comes
+ * with its standard error.
+ *
+ * The samples are split across a number of streams, the ith one drawing from
+ * the <code>RandomStream</code> number i of the seed, which are run in 
+ * parallel. The sampling proceeds in rounds of
+ * a fixed number of samples per stream, and stops when the relative standard
+ * error reaches the target or the maximum number of samples is reached. For
+ * a given seed the result does not depend on the scheduling of the threads.
+ *
+ * As in <code>Hypervolume.calculateHypervolume()</code>, the front is
+ * maximized with respect to the origin.
+ */
+public class MonteCarloHypervolume {
+
+  /**
+   * Number of samples drawn by a stream in a round
+   */
+  public static final int SAMPLES_PER_ROUND = 10000 ;
+
+  /**
+   * Stores the number of objectives
+   */
+  private int numberOfObjectives_ ;
+
+  /**
+   * Stores the maximum number of samples of a calculation
+   */
+  private long maximumSamples_ ;
+
+  /**
+   * Stores the target relative standard error (0 to draw all the samples)
+   */
+  private double targetRelativeError_ ;
+
+  /**
+   * Stores the seed from which the streams are derived
+   */
+  private long seed_ ;
+
+  /**
+   * Stores the streams, one per thread
+   */
+  private Sampler [] samplers_ ;
+
+  /**
+   * Stores the threads running the streams (null for a single stream)
+   */
+  private ExecutorService executor_ ;
+
+  /**
+   * Stores the boxes of the front being calculated and their cumulated volumes
+   */
+  private double [][] points_ ;
+  private double []   cumulatedVolumes_ ;
+  private int         numberOfPoints_ ;
+
+  /**
+   * Stores the standard error and the number of samples of the last
+   * calculation
+   */
+  private double standardError_ ;
+  private long   samples_ ;
+
+  /**
+   * Constructor
+   * @param numberOfObjectives The number of objectives
+   * @param numberOfThreads The number of streams, each run by its own thread
+   * @param maximumSamples The maximum number of samples of a calculation
+   * @param targetRelativeError The relative standard error at which the
+   * sampling stops (0 to draw all the samples)
+   * @param seed The seed from which the random streams of the samplers are
+   * derived
+   */
+  public MonteCarloHypervolume(int numberOfObjectives, int numberOfThreads,
+                               long maximumSamples, double targetRelativeError,
+                               long seed) {
+    numberOfObjectives_  = numberOfObjectives ;
+    maximumSamples_      = maximumSamples ;
+    targetRelativeError_ = targetRelativeError ;
+    seed_                = seed ;
+
+    samplers_ = new Sampler[Math.max(1, numberOfThreads)] ;
+    for (int i = 0; i < samplers_.length; i++)
+      samplers_[i] = new Sampler() ;
+
+    if (samplers_.length > 1) {
+      executor_ = Executors.newFixedThreadPool(samplers_.length, new ThreadFactory() {
+        public Thread newThread(Runnable runnable) {
+          Thread thread = new Thread(runnable, "MonteCarloHypervolume") ;
+          thread.setDaemon(true) ;
+          return thread ;
+        } // newThread
+      }) ;
+    } // if
+  } // MonteCarloHypervolume
+
+  /**
+   * Returns an estimate of the hypervolume of the first noPoints points of a
+   * front. The front is not modified. Every calculation restarts the
+   * streams from the seed, so the estimate of a front does not depend on the
+   * fronts calculated before.
+   * @param front The points, maximized with respect to the origin.
+   * @param noPoints The number of points.
+   * @return The estimate of the hypervolume.
+   * @throws JMException
+   */
+  public double calculateHypervolume(double [][] front, int noPoints) throws JMException {
+    // the boxes with a positive volume, and their cumulated volumes
+    points_ = new double[noPoints][] ;
+    cumulatedVolumes_ = new double[noPoints] ;
+    numberOfPoints_ = 0 ;
+    double total = 0 ;
+    for (int i = 0; i < noPoints; i++) {
+      double volume = 1 ;
+      for (int j = 0; j < numberOfObjectives_; j++)
+        volume *= Math.max(front[i][j], 0) ;
+      if (volume > 0) {
+        total += volume ;
+        points_[numberOfPoints_] = front[i] ;
+        cumulatedVolumes_[numberOfPoints_] = total ;
+        numberOfPoints_++ ;
+      } // if
+    } // for
+
+    standardError_ = 0 ;
+    samples_ = 0 ;
+    if (numberOfPoints_ == 0)
+      return 0 ;
+
+    for (int i = 0; i < samplers_.length; i++)
+      samplers_[i].random_ = new RandomStream(seed_, i) ;
+
+    double sum = 0 ;
+    double sumOfSquares = 0 ;
+    double mean = 0 ;
+    while (samples_ < maximumSamples_) {
+      long remaining = maximumSamples_ - samples_ ;
+      int perStream = (int) Math.min(SAMPLES_PER_ROUND,
+          (remaining + samplers_.length - 1) / samplers_.length) ;
+      for (int i = 0; i < samplers_.length; i++) {
+        samplers_[i].size_ = (int) Math.min(perStream, remaining) ;
+        remaining -= samplers_[i].size_ ;
+      } // for
+      runRound() ;
+
+      // the streams are merged in a fixed order
+      for (int i = 0; i < samplers_.length; i++) {
+        sum          += samplers_[i].sum_ ;
+        sumOfSquares += samplers_[i].sumOfSquares_ ;
+        samples_     += samplers_[i].size_ ;
+      } // for
+
+      // the sums are of estimates relative to the total volume
+      mean = sum / samples_ ;
+      double variance = (samples_ > 1) ?
+          Math.max(0, (sumOfSquares - samples_ * mean * mean) / (samples_ - 1)) : 0 ;
+      standardError_ = Math.sqrt(variance / samples_) ;
+      if ((targetRelativeError_ > 0) && (samples_ > 1) &&
+          (standardError_ <= targetRelativeError_ * mean))
+        break ;
+    } // while
+
+    standardError_ *= total ;
+    return mean * total ;
+  } // calculateHypervolume
+
+  /**
+   * Returns the standard error of the last estimate
+   */
+  public double getStandardError() {
+    return standardError_ ;
+  } // getStandardError
+
+  /**
+   * Returns the number of samples of the last estimate
+   */
+  public long getNumberOfSamples() {
+    return samples_ ;
+  } // getNumberOfSamples
+
+  /**
+   * Stops the threads. The object cannot be used afterwards.
+   */
+  public void shutdown() {
+    if (executor_ != null)
+      executor_.shutdown() ;
+  } // shutdown
+
+  /**
+   * Runs a round of all the streams
+   */
+  private void runRound() throws JMException {
+    if (executor_ == null) {
+      samplers_[0].call() ;
+      return ;
+    } // if
+
+    List<Future<Object>> futures = new ArrayList<Future<Object>>(samplers_.length) ;
+    for (int i = 0; i < samplers_.length; i++)
+      futures.add(executor_.submit(samplers_[i])) ;
+    try {
+      for (Future<Object> future : futures)
+        future.get() ;
+    } catch (ExecutionException e) {
+      Configuration.logger_.severe("MonteCarloHypervolume.runRound: " + e.getCause()) ;
+      throw new JMException("Exception in MonteCarloHypervolume.runRound()") ;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt() ;
+      Configuration.logger_.severe("MonteCarloHypervolume.runRound: interrupted") ;
+      throw new JMException("Exception in MonteCarloHypervolume.runRound()") ;
+    } // catch
+  } // runRound
+
+  /**
+   * A stream of samples. Each call draws size_ samples and stores the sums
+   * of their estimates (relative to the total volume of the boxes) and of
+   * their squares.
+   */
+  private class Sampler implements Callable<Object> {
+    private RandomStream random_ ;
+    private double []    sample_ ;
+    private int          size_ ;
+    private double       sum_ ;
+    private double       sumOfSquares_ ;
+
+    Sampler() {
+      sample_ = new double[numberOfObjectives_] ;
+    } // Sampler
+
+    public Object call() {
+      double total = cumulatedVolumes_[numberOfPoints_ - 1] ;
+      sum_ = 0 ;
+      sumOfSquares_ = 0 ;
+      for (int s = 0; s < size_; s++) {
+        // a box is chosen with probability proportional to its volume
+        double [] box = points_[find(random_.randDouble() * total)] ;
+        for (int j = 0; j < numberOfObjectives_; j++)
+          sample_[j] = box[j] * random_.randDouble() ;
+
+        int count = 0 ;
+        for (int i = 0; i < numberOfPoints_; i++) {
+          double [] point = points_[i] ;
+          int j = 0 ;
+          while ((j < numberOfObjectives_) && (sample_[j] <= point[j]))
+            j++ ;
+          if (j == numberOfObjectives_)
+            count++ ;
+        } // for
+
+        double estimate = 1.0 / count ;
+        sum_ += estimate ;
+        sumOfSquares_ += estimate * estimate ;
+      } // for
+      return null ;
+    } // call
+
+    /**
+     * Returns the first box whose cumulated volume is at least r
+     */
+    private int find(double r) {
+      int low = 0 ;
+      int high = numberOfPoints_ - 1 ;
+      while (low < high) {
+        int middle = (low + high) >>> 1 ;
+        if (cumulatedVolumes_[middle] < r)
+          low = middle + 1 ;
+        else
+          high = middle ;
+      } // while
+      return low ;
+    } // find
+  } // Sampler
+} // MonteCarloHypervolume
@@ -0,0 +1,284 @@
+/**
+ * NearestNeighborIndex.java
+ *
+ * @version 1.0
+ */
+package jmetal.qualityIndicator.util;
+
+/**
+ * This class answers nearest neighbor queries on a set of points, as
+ * <code>MetricsUtil.distanceToClosedPoint()</code> does by scanning the whole
+ * set. Up to KD_TREE_MAXIMUM_OBJECTIVES objectives, the points are indexed
+ * by a KD-tree; for more objectives, where the splits on single objectives
+ * hardly prune anything, by a vantage point tree, which splits the points by
+ * their distance to a vantage point. A tree only pays off if there are many
+ * more points than the 2^M cells of the objective space it can tell apart,
+ * hence the smaller sets are scanned.
+ *
+ * Both trees are implicit: the points are reordered such that the node of a
+ * range of points is one of its points and its subtrees are the two halves
+ * of the rest of the range. Small ranges are scanned.
+ */
+public class NearestNeighborIndex {
+
+  /**
+   * Maximum number of objectives indexed by a KD-tree
+   */
+  public static final int KD_TREE_MAXIMUM_OBJECTIVES = 8 ;
+
+  /**
+   * Minimum number of points indexed by a vantage point tree
+   */
+  public static final int VP_TREE_MINIMUM_POINTS = 4096 ;
+
+  /**
+   * Kinds of index
+   */
+  private static final int SCAN    = 0 ;
+  private static final int KD_TREE = 1 ;
+  private static final int VP_TREE = 2 ;
+
+  /**
+   * Size of the ranges that are scanned
+   */
+  private static final int LEAF_SIZE = 8 ;
+
+  /**
+   * Stores the points, in the order of the tree
+   */
+  private double [][] points_ ;
+
+  /**
+   * Stores the kind of index
+   */
+  private int kind_ ;
+
+  /**
+   * Stores, for the node at index mid of a range, the objective it splits
+   * (KD-tree) or the median distance to it (vantage point tree)
+   */
+  private int []    splitObjective_ ;
+  private double [] splitDistance_ ;
+
+  /**
+   * Stores the distances to the vantage point while building
+   */
+  private double [] distances_ ;
+
+  /**
+   * Constructor. The points are referenced, not copied, and must not be
+   * modified while the index is used.
+   * @param points The points to index (at least one)
+   */
+  public NearestNeighborIndex(double [][] points) {
+    points_ = points.clone() ;
+    int numberOfObjectives = (points.length > 0) ? points[0].length : 0 ;
+    if (numberOfObjectives <= KD_TREE_MAXIMUM_OBJECTIVES)
+      kind_ = (points.length >= (4 << numberOfObjectives)) ? KD_TREE : SCAN ;
+    else
+      kind_ = (points.length >= VP_TREE_MINIMUM_POINTS) ? VP_TREE : SCAN ;
+
+    if (kind_ == KD_TREE) {
+      splitObjective_ = new int[points.length] ;
+      buildKDTree(0, points.length) ;
+    } else if (kind_ == VP_TREE) {
+      splitDistance_ = new double[points.length] ;
+      distances_ = new double[points.length] ;
+      buildVPTree(0, points.length) ;
+      distances_ = null ;
+    } // else
+  } // NearestNeighborIndex
+
+  /**
+   * Returns the distance between a point and the nearest indexed point. The
+   * index keeps no state of a query, so it can be queried by several threads
+   * at once.
+   * @param point The point
+   * @return The minimum distance, as MetricsUtil.distanceToClosedPoint()
+   */
+  public double distanceToClosedPoint(double [] point) {
+    double best ;
+    if (kind_ == KD_TREE)
+      best = searchKDTree(point, 0, points_.length, Double.POSITIVE_INFINITY) ;
+    else if (kind_ == VP_TREE)
+      best = searchVPTree(point, 0, points_.length, Double.POSITIVE_INFINITY) ;
+    else
+      best = scan(point, 0, points_.length, Double.POSITIVE_INFINITY) ;
+    return Math.sqrt(best) ;
+  } // distanceToClosedPoint
+
+  /**
+   * Builds the KD-tree of the range [low, high): the point at the middle is
+   * the median in the objective of largest spread
+   */
+  private void buildKDTree(int low, int high) {
+    if (high - low <= LEAF_SIZE)
+      return ;
+
+    int objective = 0 ;
+    double spread = -1 ;
+    for (int j = 0; j < points_[low].length; j++) {
+      double min = Double.POSITIVE_INFINITY ;
+      double max = Double.NEGATIVE_INFINITY ;
+      for (int i = low; i < high; i++) {
+        min = Math.min(min, points_[i][j]) ;
+        max = Math.max(max, points_[i][j]) ;
+      } // for
+      if (max - min > spread) {
+        spread = max - min ;
+        objective = j ;
+      } // if
+    } // for
+
+    int mid = (low + high) >>> 1 ;
+    select(low, high, mid, objective) ;
+    splitObjective_[mid] = objective ;
+    buildKDTree(low, mid) ;
+    buildKDTree(mid + 1, high) ;
+  } // buildKDTree
+
+  /**
+   * Searches the KD-tree of the range [low, high)
+   * @param best The best squared distance found so far
+   * @return The best squared distance including the range
+   */
+  private double searchKDTree(double [] point, int low, int high, double best) {
+    if (high - low <= LEAF_SIZE)
+      return scan(point, low, high, best) ;
+
+    int mid = (low + high) >>> 1 ;
+    double squared = squaredDistance(point, points_[mid]) ;
+    if (squared < best)
+      best = squared ;
+    double difference = point[splitObjective_[mid]] - points_[mid][splitObjective_[mid]] ;
+    if (difference < 0) {
+      best = searchKDTree(point, low, mid, best) ;
+      if (difference * difference <= best)
+        best = searchKDTree(point, mid + 1, high, best) ;
+    } else {
+      best = searchKDTree(point, mid + 1, high, best) ;
+      if (difference * difference <= best)
+        best = searchKDTree(point, low, mid, best) ;
+    } // else
+    return best ;
+  } // searchKDTree
+
+  /**
+   * Builds the vantage point tree of the range [low, high): the vantage
+   * point is the one at low, the points closer to it than the median
+   * distance are in [low+1, mid) and the others in [mid, high)
+   */
+  private void buildVPTree(int low, int high) {
+    if (high - low <= LEAF_SIZE)
+      return ;
+
+    double [] vantage = points_[low] ;
+    for (int i = low + 1; i < high; i++)
+      distances_[i] = distance(vantage, points_[i]) ;
+    int mid = (low + 1 + high) >>> 1 ;
+    select(low + 1, high, mid, -1) ;
+    splitDistance_[low] = distances_[mid] ;
+    buildVPTree(low + 1, mid) ;
+    buildVPTree(mid, high) ;
+  } // buildVPTree
+
+  /**
+   * Searches the vantage point tree of the range [low, high)
+   * @param best The best squared distance found so far
+   * @return The best squared distance including the range
+   */
+  private double searchVPTree(double [] point, int low, int high, double best) {
+    if (high - low <= LEAF_SIZE)
+      return scan(point, low, high, best) ;
+
+    int mid = (low + 1 + high) >>> 1 ;
+    double squared = squaredDistance(point, points_[low]) ;
+    if (squared < best)
+      best = squared ;
+    double distance = Math.sqrt(squared) ;
+    double median = splitDistance_[low] ;
+    if (distance < median) {
+      best = searchVPTree(point, low + 1, mid, best) ;
+      if (distance + Math.sqrt(best) >= median)
+        best = searchVPTree(point, mid, high, best) ;
+    } else {
+      best = searchVPTree(point, mid, high, best) ;
+      if (distance - Math.sqrt(best) <= median)
+        best = searchVPTree(point, low + 1, mid, best) ;
+    } // else
+    return best ;
+  } // searchVPTree
+
+  /**
+   * Scans the range [low, high)
+   * @param best The best squared distance found so far
+   * @return The best squared distance including the range
+   */
+  private double scan(double [] point, int low, int high, double best) {
+    for (int i = low; i < high; i++) {
+      double squared = squaredDistance(point, points_[i]) ;
+      if (squared < best)
+        best = squared ;
+    } // for
+    return best ;
+  } // scan
+
+  private static double squaredDistance(double [] a, double [] b) {
+    double distance = 0.0 ;
+    for (int j = 0; j < a.length; j++)
+      distance += Math.pow(a[j] - b[j], 2.0) ;
+    return distance ;
+  } // squaredDistance
+
+  private static double distance(double [] a, double [] b) {
+    return Math.sqrt(squaredDistance(a, b)) ;
+  } // distance
+
+  /**
+   * Reorders [low, high) such that the point at k is the one of rank k-low
+   * and the points before it are not greater, the points after it not
+   * smaller. The points are compared by an objective, or by distances_ if
+   * objective is -1.
+   */
+  private void select(int low, int high, int k, int objective) {
+    int left = low ;
+    int right = high - 1 ;
+    while (left < right) {
+      double pivot = key((left + right) >>> 1, objective) ;
+      int i = left ;
+      int j = right ;
+      while (i <= j) {
+        while (key(i, objective) < pivot)
+          i++ ;
+        while (key(j, objective) > pivot)
+          j-- ;
+        if (i <= j) {
+          swap(i, j) ;
+          i++ ;
+          j-- ;
+        } // if
+      } // while
+      if (k <= j)
+        right = j ;
+      else if (k >= i)
+        left = i ;
+      else
+        break ;
+    } // while
+  } // select
+
+  private double key(int i, int objective) {
+    return (objective < 0) ? distances_[i] : points_[i][objective] ;
+  } // key
+
+  private void swap(int i, int j) {
+    double [] point = points_[i] ;
+    points_[i] = points_[j] ;
+    points_[j] = point ;
+    if (distances_ != null) {
+      double distance = distances_[i] ;
+      distances_[i] = distances_[j] ;
+      distances_[j] = distance ;
+    } // if
+  } // swap
+} // NearestNeighborIndex
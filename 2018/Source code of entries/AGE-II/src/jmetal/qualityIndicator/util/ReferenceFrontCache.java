@@ -0,0 +1,313 @@
+/**
+ * ReferenceFrontCache.java
+ *
+ * @version 1.0
+ */
+package jmetal.qualityIndicator.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+import jmetal.base.SolutionSet;
+import jmetal.util.Configuration;
+
+/**
+ * This class caches the true Pareto fronts read by
+ * <code>MetricsUtil.readNonDominatedSolutionSet()</code>, together with their
+ * bounds and their hypervolume, so that they are read and computed once.
+ *
+ * A front is identified by the SHA-1 hash of the content of its file and by
+ * the number of objectives. The fronts are kept in memory for all the
+ * quality indicators of the JVM and, if a directory is set, in files of this
+ * directory for other JVMs. In a JVM, a file is only hashed again if its 
+ * path, size or modification time has changed. The directory is given by the system property
+ * "jmetal.referenceFrontCache" (default: jmetal-reference-fronts in the
+ * temporary directory; an empty value disables the files).
+ *
+ * The entries are shared, hence their arrays must not be modified.
+ */
+public class ReferenceFrontCache {
+
+  /**
+   * Version of the format of the cache files
+   */
+  private static final int VERSION = 1 ;
+
+  /**
+   * Stores the fronts of the JVM, by key
+   */
+  private static Map<String, Entry> entries_ = new HashMap<String, Entry>() ;
+
+  /**
+   * Stores the fronts of the JVM, by path, size, modification time and 
+   * number of objectives, so that known files are not hashed again
+   */
+  private static Map<String, Entry> entriesByFile_ = new HashMap<String, Entry>() ;
+
+  /**
+   * Stores the directory of the cache files (null if disabled)
+   */
+  private static File directory_ = defaultDirectory() ;
+
+  /**
+   * A true Pareto front with its bounds and hypervolume
+   */
+  public static class Entry {
+    private String      key_ ;
+    private double [][] front_ ;
+    private double []   maximumValues_ ;
+    private double []   minimumValues_ ;
+    private volatile double hypervolume_ ; // NaN if not computed yet
+    private NearestNeighborIndex normalizedFrontIndex_ ; // built when needed
+
+    /**
+     * Returns the objectives of the non-dominated points of the front
+     */
+    public double [][] getFront() {
+      return front_ ;
+    } // getFront
+
+    /**
+     * Returns the maximum values of the objectives
+     */
+    public double [] getMaximumValues() {
+      return maximumValues_ ;
+    } // getMaximumValues
+
+    /**
+     * Returns the minimum values of the objectives
+     */
+    public double [] getMinimumValues() {
+      return minimumValues_ ;
+    } // getMinimumValues
+
+    /**
+     * Returns the hypervolume of the front, or NaN if it has not been computed
+     */
+    public double getHypervolume() {
+      return hypervolume_ ;
+    } // getHypervolume
+
+    /**
+     * Returns the nearest neighbor index of the front normalized by its
+     * bounds, as used by GenerationalDistance
+     */
+    public synchronized NearestNeighborIndex getNormalizedFrontIndex() {
+      if (normalizedFrontIndex_ == null)
+        normalizedFrontIndex_ = new NearestNeighborIndex(
+            new MetricsUtil().getNormalizedFront(front_, maximumValues_, minimumValues_)) ;
+      return normalizedFrontIndex_ ;
+    } // getNormalizedFrontIndex
+  } // Entry
+
+  /**
+   * Sets the directory of the cache files
+   * @param directory The directory, or null to disable the files
+   */
+  public static synchronized void setDirectory(String directory) {
+    directory_ = (directory == null) ? null : new File(directory) ;
+  } // setDirectory
+
+  /**
+   * Returns a true Pareto front, read from the cache or from its file
+   * @param path The file of the front
+   * @param numberOfObjectives The number of objectives
+   * @return The entry of the front, or null if the file cannot be read
+   */
+  public static Entry get(String path, int numberOfObjectives) {
+    File source = new File(path.replace("\\", "//")) ;
+    String fileKey = source.getAbsolutePath() + "|" + source.length() + "|" +
+                     source.lastModified() + "|" + numberOfObjectives ;
+    synchronized (ReferenceFrontCache.class) {
+      Entry entry = entriesByFile_.get(fileKey) ;
+      if (entry != null)
+        return entry ;
+    } // synchronized
+
+    String key ;
+    try {
+      key = hash(source.getPath()) + "-" + numberOfObjectives ;
+    } catch (IOException e) {
+      Configuration.logger_.severe("ReferenceFrontCache.get: cannot read " + path) ;
+      return null ;
+    } // catch
+
+    synchronized (ReferenceFrontCache.class) {
+      Entry entry = entries_.get(key) ;
+      if (entry != null) {
+        entriesByFile_.put(fileKey, entry) ;
+        return entry ;
+      } // if
+
+      entry = readEntry(key) ;
+      if (entry == null) {
+        SolutionSet front = new MetricsUtil().readNonDominatedSolutionSet(path) ;
+        if (front == null)
+          return null ;
+        entry = new Entry() ;
+        entry.key_ = key ;
+        entry.front_ = front.writeObjectivesToMatrix() ;
+        if (entry.front_ == null)
+          entry.front_ = new double[0][numberOfObjectives] ;
+        entry.maximumValues_ = new MetricsUtil().getMaximumValues(entry.front_, numberOfObjectives) ;
+        entry.minimumValues_ = new MetricsUtil().getMinimumValues(entry.front_, numberOfObjectives) ;
+        entry.hypervolume_ = Double.NaN ;
+        writeEntry(entry) ;
+      } // if
+      entries_.put(key, entry) ;
+      entriesByFile_.put(fileKey, entry) ;
+      return entry ;
+    } // synchronized
+  } // get
+
+  /**
+   * Stores the hypervolume of a front
+   * @param entry The entry of the front
+   * @param hypervolume The hypervolume
+   */
+  public static synchronized void setHypervolume(Entry entry, double hypervolume) {
+    entry.hypervolume_ = hypervolume ;
+    writeEntry(entry) ;
+  } // setHypervolume
+
+  /**
+   * Returns the SHA-1 hash of the content of a file, in hexadecimal
+   */
+  private static String hash(String path) throws IOException {
+    MessageDigest digest ;
+    try {
+      digest = MessageDigest.getInstance("SHA-1") ;
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException(e.toString()) ;
+    } // catch
+
+    InputStream in = new FileInputStream(path) ;
+    try {
+      byte [] buffer = new byte[1 << 16] ;
+      int read ;
+      while ((read = in.read(buffer)) > 0)
+        digest.update(buffer, 0, read) ;
+    } finally {
+      in.close() ;
+    } // finally
+
+    StringBuilder hex = new StringBuilder() ;
+    for (byte b : digest.digest())
+      hex.append(String.format("%02x", b & 0xff)) ;
+    return hex.toString() ;
+  } // hash
+
+  /**
+   * Returns the cache file of a key, or null if the files are disabled
+   */
+  private static File file(String key) {
+    if (directory_ == null)
+      return null ;
+    return new File(directory_, key + ".front") ;
+  } // file
+
+  /**
+   * Reads an entry from its cache file
+   * @return The entry, or null if there is no valid cache file
+   */
+  private static Entry readEntry(String key) {
+    File file = file(key) ;
+    if ((file == null) || !file.isFile())
+      return null ;
+
+    try {
+      DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))) ;
+      try {
+        if (in.readInt() != VERSION)
+          return null ;
+        Entry entry = new Entry() ;
+        entry.key_ = key ;
+        entry.front_ = new double[in.readInt()][] ;
+        for (int i = 0; i < entry.front_.length; i++)
+          entry.front_[i] = readArray(in) ;
+        entry.maximumValues_ = readArray(in) ;
+        entry.minimumValues_ = readArray(in) ;
+        entry.hypervolume_ = in.readDouble() ;
+        return entry ;
+      } finally {
+        in.close() ;
+      } // finally
+    } catch (IOException e) {
+      Configuration.logger_.warning("ReferenceFrontCache.readEntry: ignoring " + file) ;
+      return null ;
+    } // catch
+  } // readEntry
+
+  /**
+   * Writes an entry to its cache file. The file is written under a
+   * temporary name and then renamed, so that other JVMs never read a
+   * partial file.
+   */
+  private static void writeEntry(Entry entry) {
+    File file = file(entry.key_) ;
+    if (file == null)
+      return ;
+
+    File temporary = null ;
+    try {
+      directory_.mkdirs() ;
+      temporary = File.createTempFile(entry.key_, ".tmp", directory_) ;
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary))) ;
+      try {
+        out.writeInt(VERSION) ;
+        out.writeInt(entry.front_.length) ;
+        for (double [] point : entry.front_)
+          writeArray(out, point) ;
+        writeArray(out, entry.maximumValues_) ;
+        writeArray(out, entry.minimumValues_) ;
+        out.writeDouble(entry.hypervolume_) ;
+      } finally {
+        out.close() ;
+      } // finally
+      file.delete() ;
+      if (!temporary.renameTo(file))
+        temporary.delete() ;
+    } catch (IOException e) {
+      Configuration.logger_.warning("ReferenceFrontCache.writeEntry: cannot write " + file) ;
+      if (temporary != null)
+        temporary.delete() ;
+    } // catch
+  } // writeEntry
+
+  private static double [] readArray(DataInputStream in) throws IOException {
+    double [] array = new double[in.readInt()] ;
+    for (int i = 0; i < array.length; i++)
+      array[i] = in.readDouble() ;
+    return array ;
+  } // readArray
+
+  private static void writeArray(DataOutputStream out, double [] array) throws IOException {
+    out.writeInt(array.length) ;
+    for (double value : array)
+      out.writeDouble(value) ;
+  } // writeArray
+
+  /**
+   * Returns the directory given by the system property
+   * "jmetal.referenceFrontCache"
+   */
+  private static File defaultDirectory() {
+    String directory = System.getProperty("jmetal.referenceFrontCache") ;
+    if (directory == null)
+      return new File(System.getProperty("java.io.tmpdir"), "jmetal-reference-fronts") ;
+    if (directory.length() == 0)
+      return null ;
+    return new File(directory) ;
+  } // defaultDirectory
+} // ReferenceFrontCache
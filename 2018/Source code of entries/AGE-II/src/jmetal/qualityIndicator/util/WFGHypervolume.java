@@ -0,0 +1,375 @@
+/**
+ * WFGHypervolume.java
+ *
+ * @version 1.0
+ */
+package jmetal.qualityIndicator.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * This class implements the WFG algorithm for the exact computation of the
+ * hypervolume, as described in
+ *
+ * L. While, L. Bradstreet and L. Barone. A fast way of calculating exact
+ * hypervolumes. IEEE Transactions on Evolutionary Computation, 16(1):86-95,
+ * 2012.
+ *
+ * The volume is the sum of the exclusive contributions of the points, each of
+ * which is computed as the volume of the point minus the hypervolume of the
+ * other points limited (bounded) by it. The points are sorted by their last
+ * objective, so that the last objective can be sliced away and the limited
+ * sets stay small. Two objectives are computed by a sweep.
+ *
+ * Like <code>Hypervolume.calculateHypervolume()</code>, the front is
+ * maximized with respect to the origin, i.e. it is the volume of the union of
+ * the boxes [0, p]. The points are copied into preallocated buffers, so that
+ * the front passed is not modified.
+ */
+public class WFGHypervolume {
+
+  /**
+   * Stores the number of objectives
+   */
+  private int numberOfObjectives_ ;
+
+  /**
+   * Stores one buffer of points per recursion level
+   */
+  private double [][][] buffers_ ;
+
+  /**
+   * Stores the comparators sorting the points by an objective (ascending)
+   */
+  private PointComparator [] comparators_ ;
+
+  /**
+   * Stores a spare point, into which the limited points are computed
+   */
+  private double [] scratch_ ;
+
+  /**
+   * Stores the two-dimensional front of the three-objective sweep
+   */
+  private double [] stairX_ ;
+  private double [] stairY_ ;
+
+  /**
+   * Constructor
+   * @param numberOfObjectives The number of objectives
+   */
+  public WFGHypervolume(int numberOfObjectives) {
+    numberOfObjectives_ = numberOfObjectives ;
+    buffers_ = new double[numberOfObjectives + 1][][] ;
+    scratch_ = new double[numberOfObjectives] ;
+    comparators_ = new PointComparator[numberOfObjectives] ;
+    for (int i = 0; i < numberOfObjectives; i++)
+      comparators_[i] = new PointComparator(i) ;
+  } // WFGHypervolume
+
+  /**
+   * Returns the hypervolume of the first noPoints points of a front
+   * @param front The points, maximized with respect to the origin.
+   * @param noPoints The number of points.
+   * @return The hypervolume.
+   */
+  public double calculateHypervolume(double [][] front, int noPoints) {
+    double [][] points = buffer(0, noPoints) ;
+    int n = 0 ;
+    for (int i = 0; i < noPoints; i++) {
+      // points with a non-positive objective do not contribute
+      boolean positive = true ;
+      for (int j = 0; j < numberOfObjectives_; j++) {
+        if (!(front[i][j] > 0)) {
+          positive = false ;
+          break ;
+        } // if
+      } // for
+      if (positive) {
+        System.arraycopy(front[i], 0, points[n], 0, numberOfObjectives_) ;
+        n++ ;
+      } // if
+    } // for
+
+    n = filterNondominated(points, n, numberOfObjectives_) ;
+    return hv(points, n, numberOfObjectives_, 1) ;
+  } // calculateHypervolume
+
+  /**
+   * Returns the hypervolume of points[0..n-1] in the first d objectives.
+   * The points must be mutually non-dominated.
+   */
+  private double hv(double [][] points, int n, int d, int level) {
+    if (n == 0)
+      return 0 ;
+    if (n == 1)
+      return inclusive(points[0], d) ;
+    if (n == 2)
+      return inclusive(points[0], d) + inclusive(points[1], d) - intersection(points[0], points[1], d) ;
+    if (d == 1) {
+      double max = 0 ;
+      for (int i = 0; i < n; i++)
+        max = Math.max(max, points[i][0]) ;
+      return max ;
+    } // if
+    if (d == 2)
+      return hv2(points, n) ;
+    if (d == 3)
+      return hv3(points, n) ;
+
+    // sort by the last objective; a point only competes with the points
+    // following it in the remaining d-1 objectives
+    sort(points, n, d - 1) ;
+    double volume = 0 ;
+    for (int i = 0; i < n; i++)
+      volume += points[i][d - 1] * exclusive(points, n, i, d - 1, level) ;
+    return volume ;
+  } // hv
+
+  /**
+   * Returns the volume dominated by points[p] in the first d objectives and
+   * not dominated by points[p+1..n-1]
+   */
+  private double exclusive(double [][] points, int n, int p, int d, int level) {
+    double volume = inclusive(points[p], d) ;
+    if (p + 1 == n)
+      return volume ;
+
+    // limit the following points by points[p], keeping the non-dominated ones
+    double [] point = points[p] ;
+    double [][] limited = buffer(level, n - p - 1) ;
+    int m = 0 ;
+    for (int i = p + 1; i < n; i++) {
+      double [] candidate = scratch_ ;
+      boolean covering = true ;
+      for (int j = 0; j < d; j++) {
+        double value = points[i][j] ;
+        if (value < point[j]) {
+          candidate[j] = value ;
+          covering = false ;
+        } else
+          candidate[j] = point[j] ;
+      } // for
+
+      // a following point weakly dominating points[p] leaves no exclusive volume
+      if (covering)
+        return 0 ;
+
+      int remaining = insertNondominated(limited, m, candidate, d) ;
+      if (remaining >= 0) {
+        // the candidate is kept: exchange it with a free row
+        m = remaining ;
+        scratch_ = limited[m] ;
+        limited[m] = candidate ;
+        m++ ;
+      } // if
+    } // for
+
+    if (m == 1)
+      return volume - inclusive(limited[0], d) ;
+    return volume - hv(limited, m, d, level + 1) ;
+  } // exclusive
+
+  /**
+   * Returns the hypervolume of mutually non-dominated points in two
+   * objectives
+   */
+  private double hv2(double [][] points, int n) {
+    sort(points, n, 0) ;
+    double volume = 0 ;
+    double previous = 0 ;
+    for (int i = n - 1; i >= 0; i--) {
+      if (points[i][1] > previous) {
+        volume += points[i][0] * (points[i][1] - previous) ;
+        previous = points[i][1] ;
+      } // if
+    } // for
+    return volume ;
+  } // hv2
+
+  /**
+   * Returns the hypervolume of points in three objectives. The points are
+   * swept by decreasing third objective, while the two-dimensional front of
+   * the points swept so far is kept in stairX_ (decreasing) and stairY_
+   * (increasing).
+   */
+  private double hv3(double [][] points, int n) {
+    sort(points, n, 2) ;
+    if ((stairX_ == null) || (stairX_.length < n)) {
+      stairX_ = new double[n] ;
+      stairY_ = new double[n] ;
+    } // if
+
+    double volume = 0 ;
+    double area = 0 ;
+    int size = 0 ;
+    for (int i = n - 1; i >= 0; i--) {
+      double x = points[i][0] ;
+      double y = points[i][1] ;
+
+      // the points with stairX_ >= x are stairX_[0..k-1]
+      int k = 0 ;
+      while ((k < size) && (stairX_[k] >= x))
+        k++ ;
+      if (!((k > 0) && (stairY_[k - 1] >= y))) {
+        // remove the points dominated by (x, y) and insert it at k
+        int end = k ;
+        while ((end < size) && (stairY_[end] <= y))
+          end++ ;
+        int shift = 1 - (end - k) ;
+        if (shift != 0) {
+          System.arraycopy(stairX_, end, stairX_, end + shift, size - end) ;
+          System.arraycopy(stairY_, end, stairY_, end + shift, size - end) ;
+        } // if
+        stairX_[k] = x ;
+        stairY_[k] = y ;
+        size += shift ;
+
+        area = 0 ;
+        for (int j = 0; j < size; j++)
+          area += stairY_[j] * (stairX_[j] - ((j + 1 < size) ? stairX_[j + 1] : 0)) ;
+      } // if
+
+      double next = (i > 0) ? points[i - 1][2] : 0 ;
+      volume += area * (points[i][2] - next) ;
+    } // for
+    return volume ;
+  } // hv3
+
+  /**
+   * Returns the volume of the box [0, point] in the first d objectives
+   */
+  private static double inclusive(double [] point, int d) {
+    double volume = 1 ;
+    for (int j = 0; j < d; j++)
+      volume *= point[j] ;
+    return volume ;
+  } // inclusive
+
+  /**
+   * Returns the volume of the intersection of the boxes [0, a] and [0, b] in
+   * the first d objectives
+   */
+  private static double intersection(double [] a, double [] b, int d) {
+    double volume = 1 ;
+    for (int j = 0; j < d; j++)
+      volume *= Math.min(a[j], b[j]) ;
+    return volume ;
+  } // intersection
+
+  /**
+   * Sorts points[0..n-1] by increasing objective. Insertion sort is used
+   * for the small sets, which are the vast majority of the recursive calls.
+   */
+  private void sort(double [][] points, int n, int objective) {
+    if (n > 24) {
+      Arrays.sort(points, 0, n, comparators_[objective]) ;
+      return ;
+    } // if
+    for (int i = 1; i < n; i++) {
+      double [] point = points[i] ;
+      double value = point[objective] ;
+      int j = i - 1 ;
+      while ((j >= 0) && (points[j][objective] > value)) {
+        points[j + 1] = points[j] ;
+        j-- ;
+      } // while
+      points[j + 1] = point ;
+    } // for
+  } // sort
+
+  /**
+   * Compares two points in the first d objectives (maximization).
+   * @return 1 if a dominates b, 0 if they are equal, -1 if b dominates a, 2
+   * otherwise.
+   */
+  private static int compare(double [] a, double [] b, int d) {
+    boolean aBetter = false ;
+    boolean bBetter = false ;
+    for (int j = 0; j < d; j++) {
+      if (a[j] > b[j])
+        aBetter = true ;
+      else if (a[j] < b[j])
+        bBetter = true ;
+      if (aBetter && bBetter)
+        return 2 ;
+    } // for
+    if (aBetter)
+      return 1 ;
+    if (bBetter)
+      return -1 ;
+    return 0 ;
+  } // compare
+
+  /**
+   * Removes the weakly dominated points from points[0..n-1], which are
+   * reordered such that the remaining ones are in points[0..m-1]
+   * @return m
+   */
+  private int filterNondominated(double [][] points, int n, int d) {
+    int m = 0 ;
+    for (int i = 0; i < n; i++) {
+      double [] candidate = points[i] ;
+      int remaining = insertNondominated(points, m, candidate, d) ;
+      if (remaining >= 0) {
+        // points[m..i-1] are free, the removed points having been swapped there
+        m = remaining ;
+        points[i] = points[m] ;
+        points[m] = candidate ;
+        m++ ;
+      } // if
+    } // for
+    return m ;
+  } // filterNondominated
+
+  /**
+   * Checks a candidate against the mutually non-dominated points set[0..m-1].
+   * If no point weakly dominates the candidate, the points it dominates are
+   * moved behind the remaining ones. The candidate itself is not stored.
+   * @return The number of remaining points, or -1 if the candidate is
+   * weakly dominated (then no point has been removed).
+   */
+  private static int insertNondominated(double [][] set, int m, double [] candidate, int d) {
+    int k = 0 ;
+    while (k < m) {
+      int relation = compare(set[k], candidate, d) ;
+      if ((relation == 1) || (relation == 0)) {
+        return -1 ;
+      } else if (relation == -1) {
+        m-- ;
+        double [] temp = set[k] ;
+        set[k] = set[m] ;
+        set[m] = temp ;
+      } else
+        k++ ;
+    } // while
+    return m ;
+  } // insertNondominated
+
+  /**
+   * Returns the buffer of a recursion level, holding at least size points
+   */
+  private double [][] buffer(int level, int size) {
+    if ((buffers_[level] == null) || (buffers_[level].length < size)) {
+      double [][] buffer = new double[Math.max(size, 16)][numberOfObjectives_] ;
+      buffers_[level] = buffer ;
+    } // if
+    return buffers_[level] ;
+  } // buffer
+
+  /**
+   * Comparator sorting the points by an objective (ascending)
+   */
+  private static class PointComparator implements Comparator<double []> {
+    private final int objective_ ;
+
+    PointComparator(int objective) {
+      objective_ = objective ;
+    } // PointComparator
+
+    public int compare(double [] a, double [] b) {
+      return Double.compare(a[objective_], b[objective_]) ;
+    } // compare
+  } // PointComparator
+} // WFGHypervolume
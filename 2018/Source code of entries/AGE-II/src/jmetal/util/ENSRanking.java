@@ -0,0 +1,312 @@
+/**
+ * ENSRanking.java
+ *
+ * @version 1.0
+ */
+
+package jmetal.util;
+
+import jmetal.base.Solution;
+import jmetal.base.SolutionSet;
+
+/**
+ * This class ranks a <code>SolutionSet</code> like <code>Ranking</code>, but
+ * using the Efficient Non-domination Sort with binary search (ENS-BS) 
+ * described in
+ * 
+ * X. Zhang, Y. Tian, R. Cheng, and Y. Jin. An efficient approach to 
+ * non-dominated sorting for evolutionary multi-objective optimization. 
+ * IEEE Transactions on Evolutionary Computation, 19(2):201-213, 2015.
+ * 
+ * The objective values are copied into a primitive array and the solutions
+ * are sorted lexicographically, so that a solution can only be dominated by 
+ * the solutions preceding it. Each solution is then assigned, by binary 
+ * search, to the first front containing no solution dominating it. 
+ * 
+ * The fronts are the same as those of <code>Ranking</code>: identical 
+ * solutions are not considered to dominate each other, feasible solutions 
+ * dominate the infeasible ones, and an infeasible solution dominates another
+ * one if its overall constraint violation is smaller. The solutions of each
+ * front are also given in the same order as in <code>Ranking</code>, so that
+ * the algorithms produce the same results with both classes.
+ * 
+ * A NaN objective value is neither better nor worse than any other value for
+ * the dominance comparator, so dominance is no longer transitive and the
+ * lexicographic order no longer guarantees that a solution can only be 
+ * dominated by the solutions preceding it. Sets containing NaN objectives are
+ * therefore ranked by the fast non-dominated sort of <code>Ranking</code>.
+ */
+public class ENSRanking extends Ranking {
+
+  /**
+   * Stores the objective values of the solutions, row-major
+   */
+  private double [] objectives_ ;
+
+  /**
+   * Stores the number of objectives
+   */
+  private int numberOfObjectives_ ;
+
+  /** 
+   * Constructor.
+   * @param solutionSet The <code>SolutionSet</code> to be ranked.
+   */       
+  public ENSRanking(SolutionSet solutionSet) {
+    solutionSet_ = solutionSet ;
+    int size = solutionSet_.size() ;
+    if (size == 0) {
+      ranking_ = new SolutionSet[0] ;
+      return ;
+    } // if
+
+    // Split the solutions into the feasible and the infeasible ones. Positive
+    // or undefined violations do not follow the usual convention and are left
+    // to the fast non-dominated sort
+    int [] feasible   = new int[size] ;
+    int [] infeasible = new int[size] ;
+    int numberOfFeasible = 0 ;
+    int numberOfInfeasible = 0 ;
+    for (int i = 0; i < size; i++) {
+      double violation = solutionSet_.get(i).getOverallConstraintViolation() ;
+      if (violation == 0.0)
+        feasible[numberOfFeasible++] = i ;
+      else if (violation < 0.0)
+        infeasible[numberOfInfeasible++] = i ;
+      else {
+        ranking_ = new Ranking(solutionSet_).ranking_ ;
+        return ;
+      } // else
+    } // for
+
+    numberOfObjectives_ = solutionSet_.get(0).numberOfObjectives() ;
+    objectives_ = new double[size * numberOfObjectives_] ;
+    for (int i = 0; i < size; i++) {
+      Solution solution = solutionSet_.get(i) ;
+      for (int j = 0; j < numberOfObjectives_; j++) {
+        double value = solution.getObjective(j) ;
+        if (Double.isNaN(value)) {
+          objectives_ = null ;
+          ranking_ = new Ranking(solutionSet_).ranking_ ;
+          return ;
+        } // if
+        objectives_[i * numberOfObjectives_ + j] = value ;
+      } // for
+    } // for
+
+    int [] rank = new int[size] ;
+    int numberOfFronts = sortFeasible(feasible, numberOfFeasible, rank) ;
+    numberOfFronts = sortInfeasible(infeasible, numberOfInfeasible, rank, numberOfFronts) ;
+
+    // Group the solutions by front, in the order of the set
+    int [] frontStart = new int[numberOfFronts + 1] ;
+    for (int i = 0; i < size; i++)
+      frontStart[rank[i] + 1]++ ;
+    for (int k = 0; k < numberOfFronts; k++)
+      frontStart[k + 1] += frontStart[k] ;
+    int [] members = new int[size] ;
+    int [] next = new int[numberOfFronts] ;
+    System.arraycopy(frontStart, 0, next, 0, numberOfFronts) ;
+    for (int i = 0; i < size; i++)
+      members[next[rank[i]]++] = i ;
+
+    ranking_ = new SolutionSet[numberOfFronts] ;
+    int [] position = new int[size] ;
+    for (int k = 0; k < numberOfFronts; k++) {
+      if (k > 0)
+        orderLikeRanking(members, frontStart[k - 1], frontStart[k], frontStart[k + 1], position) ;
+      ranking_[k] = new SolutionSet(frontStart[k + 1] - frontStart[k]) ;
+      for (int i = frontStart[k]; i < frontStart[k + 1]; i++) {
+        Solution solution = solutionSet_.get(members[i]) ;
+        solution.setRank(k) ;
+        ranking_[k].add(solution) ;
+      } // for
+    } // for
+    objectives_ = null ;
+  } // ENSRanking
+
+  /**
+   * Puts the solutions of a front in the order in which <code>Ranking</code> 
+   * finds them: a solution is found when the last of its dominators in the 
+   * previous front is processed, and the solutions found by the same 
+   * dominator are in the order of the set.
+   * @param members The solutions grouped by front; the previous front is 
+   * already ordered, the current one is in the order of the set.
+   * @param previous Start of the previous front in members.
+   * @param from Start of the current front in members.
+   * @param to End of the current front in members.
+   * @param position Auxiliary array.
+   */
+  private void orderLikeRanking(int [] members, int previous, int from, int to, int [] position) {
+    // Infeasible solutions are dominated by all the solutions of the previous
+    // front, and so are found by the last one
+    if (solutionSet_.get(members[from]).getOverallConstraintViolation() < 0.0)
+      return ;
+
+    int [] count = new int[from - previous + 1] ;
+    for (int i = from; i < to; i++) {
+      int p = from - 1 ;
+      while ((p > previous) && !dominates(members[p], members[i]))
+        p-- ;
+      position[i - from] = p - previous ;
+      count[p - previous + 1]++ ;
+    } // for
+    for (int p = 1; p < count.length; p++)
+      count[p] += count[p - 1] ;
+
+    int [] ordered = new int[to - from] ;
+    for (int i = from; i < to; i++)
+      ordered[count[position[i - from]]++] = members[i] ;
+    System.arraycopy(ordered, 0, members, from, to - from) ;
+  } // orderLikeRanking
+
+  /**
+   * Ranks the feasible solutions with ENS-BS.
+   * @param index The indexes of the feasible solutions.
+   * @param n The number of feasible solutions.
+   * @param rank Array receiving the rank of each solution.
+   * @return The number of fronts.
+   */
+  private int sortFeasible(int [] index, int n, int [] rank) {
+    if (n == 0)
+      return 0 ;
+
+    int [] order = new int[n] ;
+    System.arraycopy(index, 0, order, 0, n) ;
+    mergeSort(order, new int[n], 0, n) ;
+
+    // members[k][0..frontSize[k]-1] are the solutions of the front k
+    int [][] members = new int[n][] ;
+    int [] frontSize = new int[n] ;
+    int numberOfFronts = 0 ;
+    for (int i = 0; i < n; i++) {
+      int s = order[i] ;
+      int low = 0 ;
+      int high = numberOfFronts ;
+      while (low < high) {
+        int middle = (low + high) >>> 1 ;
+        if (isDominatedByFront(s, members[middle], frontSize[middle]))
+          low = middle + 1 ;
+        else
+          high = middle ;
+      } // while
+
+      if (low == numberOfFronts) {
+        members[numberOfFronts] = new int[4] ;
+        numberOfFronts++ ;
+      } else if (frontSize[low] == members[low].length) {
+        int [] grown = new int[members[low].length * 2] ;
+        System.arraycopy(members[low], 0, grown, 0, frontSize[low]) ;
+        members[low] = grown ;
+      } // else
+      members[low][frontSize[low]++] = s ;
+      rank[s] = low ;
+    } // for
+    return numberOfFronts ;
+  } // sortFeasible
+
+  /**
+   * Ranks the infeasible solutions, which are dominated by all the feasible
+   * ones and are ordered by their overall constraint violation.
+   * @param index The indexes of the infeasible solutions.
+   * @param n The number of infeasible solutions.
+   * @param rank Array receiving the rank of each solution.
+   * @param firstRank The rank of the first front of infeasible solutions.
+   * @return The number of fronts.
+   */
+  private int sortInfeasible(int [] index, int n, int [] rank, int firstRank) {
+    if (n == 0)
+      return firstRank ;
+
+    double [] violation = new double[n] ;
+    for (int i = 0; i < n; i++)
+      violation[i] = -solutionSet_.get(index[i]).getOverallConstraintViolation() ;
+    double [] sorted = violation.clone() ;
+    java.util.Arrays.sort(sorted) ;
+
+    // Solutions with the same violation share a front
+    int distinct = 0 ;
+    for (int i = 0; i < n; i++)
+      if ((i == 0) || (sorted[i] != sorted[i - 1]))
+        sorted[distinct++] = sorted[i] ;
+    for (int i = 0; i < n; i++)
+      rank[index[i]] = firstRank + java.util.Arrays.binarySearch(sorted, 0, distinct, violation[i]) ;
+    return firstRank + distinct ;
+  } // sortInfeasible
+
+  /**
+   * Checks whether a solution is dominated by a member of a front. As the
+   * solutions are processed in lexicographic order, the members of the front
+   * can only dominate it or be non-dominated with it; the last members are
+   * checked first, as they are the closest to the solution.
+   * @param s The index of the solution.
+   * @param members The members of the front.
+   * @param size The number of members of the front.
+   * @return True if a member of the front dominates the solution.
+   */
+  private boolean isDominatedByFront(int s, int [] members, int size) {
+    for (int k = size - 1; k >= 0; k--)
+      if (dominates(members[k], s))
+        return true ;
+    return false ;
+  } // isDominatedByFront
+
+  /**
+   * Checks whether the solution p dominates the solution q
+   * @return True if p dominates q.
+   */
+  private boolean dominates(int p, int q) {
+    int rowP = p * numberOfObjectives_ ;
+    int rowQ = q * numberOfObjectives_ ;
+    boolean better = false ;
+    for (int j = 0; j < numberOfObjectives_; j++) {
+      double valueP = objectives_[rowP + j] ;
+      double valueQ = objectives_[rowQ + j] ;
+      if (valueP > valueQ)
+        return false ;
+      if (valueP < valueQ)
+        better = true ;
+    } // for
+    return better ;
+  } // dominates
+
+  /**
+   * Compares two solutions in lexicographic order of their objectives
+   */
+  private int compareLexicographically(int p, int q) {
+    int rowP = p * numberOfObjectives_ ;
+    int rowQ = q * numberOfObjectives_ ;
+    for (int j = 0; j < numberOfObjectives_; j++) {
+      double valueP = objectives_[rowP + j] ;
+      double valueQ = objectives_[rowQ + j] ;
+      if (valueP < valueQ)
+        return -1 ;
+      if (valueP > valueQ)
+        return 1 ;
+    } // for
+    return 0 ;
+  } // compareLexicographically
+
+  /**
+   * Sorts order[from..to-1] lexicographically (stable merge sort)
+   */
+  private void mergeSort(int [] order, int [] buffer, int from, int to) {
+    if (to - from < 2)
+      return ;
+    int middle = (from + to) >>> 1 ;
+    mergeSort(order, buffer, from, middle) ;
+    mergeSort(order, buffer, middle, to) ;
+    if (compareLexicographically(order[middle - 1], order[middle]) <= 0)
+      return ;
+
+    System.arraycopy(order, from, buffer, from, to - from) ;
+    int i = from ;
+    int j = middle ;
+    for (int k = from; k < to; k++) {
+      if ((j >= to) || ((i < middle) && (compareLexicographically(buffer[i], buffer[j]) <= 0)))
+        order[k] = buffer[i++] ;
+      else
+        order[k] = buffer[j++] ;
+    } // for
+  } // mergeSort
+} // ENSRanking
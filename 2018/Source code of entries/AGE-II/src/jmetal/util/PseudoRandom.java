@@ -8,7 +8,11 @@
 package jmetal.util;
 
 /**
- * Class representing some randoms facilities
+ * Class representing some randoms facilities.
+ * By default, all the threads share one synchronized generator. A thread can
+ * instead be given its own <code>RandomStream</code> (see <code>setSeed</code>
+ * and <code>useStream</code>); the static methods then draw from that stream,
+ * without locking and reproducibly.
  */
 public class PseudoRandom {
     
@@ -21,6 +25,26 @@ public class PseudoRandom {
    * other generator used to obtain the random values
    */
   private static java.util.Random randomJava = null;
+
+  /**
+   * Stream of the current thread, if any
+   */
+  private static final ThreadLocal<RandomStream> stream_ = new ThreadLocal<RandomStream>();
+
+  /**
+   * Master seed from which the streams of <code>useStream</code> are derived
+   */
+  private static long masterSeed_ = 0;
+
+  /**
+   * True once a master seed has been set
+   */
+  private static boolean seeded_ = false;
+
+  /**
+   * System property holding the master seed of a run (-Djmetal.seed=...)
+   */
+  public static final String SEED_PROPERTY = "jmetal.seed";
              
   /** 
    * Constructor.
@@ -33,12 +57,113 @@ public class PseudoRandom {
       randomJava = new java.util.Random();            
     }
   } // PseudoRandom
+
+  /**
+   * Sets the master seed of the run and makes the calling thread use the 
+   * stream number 0 derived from it. Other threads (or islands) must call
+   * <code>useStream</code> with their own index.
+   * @param seed The master seed.
+   */
+  public static synchronized void setSeed(long seed) {
+    masterSeed_ = seed ;
+    seeded_     = true ;
+    stream_.set(new RandomStream(seed, 0)) ;
+  } // setSeed
+
+  /**
+   * Seeds the run, if no master seed has been set yet, with the value of the
+   * system property <code>SEED_PROPERTY</code>, or with a random value if the
+   * property is not set. The seed is logged, so that any run can be repeated.
+   * Called at the start of the launchers.
+   * @return The master seed.
+   * @throws JMException If the property is not a number.
+   */
+  public static synchronized long setSeedFromProperty() throws JMException {
+    if (seeded_)
+      return masterSeed_ ;
+
+    long seed ;
+    String value = System.getProperty(SEED_PROPERTY) ;
+    if (value == null)
+      seed = new java.util.Random().nextLong() ;
+    else {
+      try {
+        seed = Long.parseLong(value.trim()) ;
+      } catch (NumberFormatException e) {
+        Configuration.logger_.severe("PseudoRandom.setSeedFromProperty: " +
+            SEED_PROPERTY + " is not a number: " + value) ;
+        throw new JMException("Exception in PseudoRandom.setSeedFromProperty()") ;
+      } // catch
+    } // else
+
+    setSeed(seed) ;
+    Configuration.logger_.info("Master seed: " + seed + " (-D" + SEED_PROPERTY +
+        "=" + seed + " repeats the run)") ;
+    return seed ;
+  } // setSeedFromProperty
+
+  /**
+   * Returns true if a master seed has been set
+   * @return True if the run uses streams derived from a master seed.
+   */
+  public static synchronized boolean isSeeded() {
+    return seeded_ ;
+  } // isSeeded
+
+  /**
+   * Returns the master seed. If no master seed has been set, one is taken from
+   * the shared generator.
+   * @return The master seed.
+   */
+  public static synchronized long getMasterSeed() {
+    if (!seeded_) {
+      masterSeed_ = randInt() ;
+      seeded_     = true ;
+    } // if
+    return masterSeed_ ;
+  } // getMasterSeed
+
+  /**
+   * Makes the calling thread use the stream number <code>index</code> derived 
+   * from the master seed. If no master seed has been set, one is taken from the
+   * shared generator.
+   * @param index The index of the stream.
+   * @return The stream now used by the thread.
+   */
+  public static RandomStream useStream(int index) {
+    RandomStream stream = new RandomStream(getMasterSeed(), index) ;
+    stream_.set(stream) ;
+    return stream ;
+  } // useStream
+
+  /**
+   * Makes the calling thread use an explicit stream, or the shared generator
+   * if stream is null.
+   * @param stream The stream.
+   */
+  public static void setStream(RandomStream stream) {
+    if (stream == null)
+      stream_.remove() ;
+    else
+      stream_.set(stream) ;
+  } // setStream
+
+  /**
+   * Returns the stream used by the calling thread.
+   * @return The stream, or null if the thread uses the shared generator.
+   */
+  public static RandomStream getStream() {
+    return stream_.get() ;
+  } // getStream
     
   /** 
    * Returns a random int value using the Java random generator.
    * @return A random int value.
    */
   public static int randInt() {
+    RandomStream stream = stream_.get() ;
+    if (stream != null)
+      return stream.randInt() ;
     if (random == null) {
       new PseudoRandom();
     }
@@ -50,6 +175,9 @@ public class PseudoRandom {
    * Returns A random double value.
    */
   public static double randDouble() {
+    RandomStream stream = stream_.get() ;
+    if (stream != null)
+      return stream.randDouble() ;
     if (random == null) {
       new PseudoRandom();
     }
@@ -65,6 +193,9 @@ public class PseudoRandom {
    * Return A pseudo random int value between minBound and maxBound.
    */
   public static int randInt(int minBound, int maxBound) {
+    RandomStream stream = stream_.get() ;
+    if (stream != null)
+      return stream.randInt(minBound, maxBound) ;
     if (random == null) {
       new PseudoRandom();
     }
@@ -79,6 +210,9 @@ public class PseudoRandom {
    * @return A pseudo random double value between minBound and maxBound
    */
   public static double randDouble(double minBound, double maxBound) {
+    RandomStream stream = stream_.get() ;
+    if (stream != null)
+      return stream.randDouble(minBound, maxBound) ;
     if (random == null) {
       new PseudoRandom();
     }
@@ -0,0 +1,128 @@
+/**
+ * RandomStream.java
+ *
+ * @version 1.0
+ */
+package jmetal.util;
+
+import java.util.SplittableRandom;
+
+/**
+ * Class representing an independent stream of random numbers. Contrary to the
+ * generator behind <code>PseudoRandom</code>, a stream is not synchronized: it
+ * must be used by one thread at a time (typically one stream per thread or per
+ * island). The streams obtained from the same master seed and index produce
+ * the same sequence of numbers, so a run using them is reproducible whatever
+ * the number of threads and their scheduling.
+ */
+public class RandomStream {
+
+  /**
+   * Increment of the SplitMix64 sequence used to derive the streams
+   */
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  /**
+   * Generator used to obtain the random values
+   */
+  private SplittableRandom random_ ;
+
+  /**
+   * Constructor.
+   * Creates a stream seeded with a single seed.
+   * @param seed The seed.
+   */
+  public RandomStream(long seed) {
+    random_ = new SplittableRandom(seed) ;
+  } // RandomStream
+
+  /**
+   * Constructor.
+   * Creates the stream number <code>index</code> derived from a master seed.
+   * @param masterSeed The master seed of the run.
+   * @param index Index of the stream (thread, island, run...).
+   */
+  public RandomStream(long masterSeed, int index) {
+    random_ = new SplittableRandom(mix64(masterSeed + GOLDEN_GAMMA * (index + 1L))) ;
+  } // RandomStream
+
+  /**
+   * Constructor used by <code>split</code>
+   * @param random The generator of the stream.
+   */
+  private RandomStream(SplittableRandom random) {
+    random_ = random ;
+  } // RandomStream
+
+  /**
+   * Returns a new stream, statistically independent from this one, whose 
+   * sequence is determined by the current state of this stream.
+   * @return The new stream.
+   */
+  public RandomStream split() {
+    return new RandomStream(random_.split()) ;
+  } // split
+
+  /**
+   * Returns a random int value.
+   * @return A random int value.
+   */
+  public int randInt() {
+    return random_.nextInt() ;
+  } // randInt
+
+  /**
+   * Returns a random long value.
+   * @return A random long value.
+   */
+  public long randLong() {
+    return random_.nextLong() ;
+  } // randLong
+
+  /**
+   * Returns a random double value in [0,1).
+   * @return A random double value.
+   */
+  public double randDouble() {
+    return random_.nextDouble() ;
+  } // randDouble
+
+  /**
+   * Returns a random int value between a minimum bound and maximum bound 
+   * (both included), with the same conventions as <code>PseudoRandom</code>.
+   * @param minBound The minimum bound.
+   * @param maxBound The maximum bound.
+   * @return A pseudo random int value between minBound and maxBound.
+   */
+  public int randInt(int minBound, int maxBound) {
+    if (minBound >= maxBound)
+      return minBound ;
+
+    int result = minBound + (int)(random_.nextDouble() * (maxBound - minBound + 1)) ;
+    if (result > maxBound)
+      result = maxBound ;
+    return result ;
+  } // randInt
+
+  /**
+   * Returns a random double value between a minimum bound and a maximum bound
+   * @param minBound The minimum bound.
+   * @param maxBound The maximum bound.
+   * @return A pseudo random double value between minBound and maxBound
+   */
+  public double randDouble(double minBound, double maxBound) {
+    return minBound + (maxBound - minBound) * random_.nextDouble() ;
+  } // randDouble
+
+  /**
+   * Finalizer of the SplitMix64 generator, used to turn a master seed and a
+   * stream index into a well distributed seed
+   * @param z The value to mix.
+   * @return The mixed value.
+   */
+  private static long mix64(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L ;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL ;
+    return z ^ (z >>> 31) ;
+  } // mix64
+} // RandomStream
@@ -26,12 +26,12 @@ public class Ranking {
   /**
    * The <code>SolutionSet</code> to rank
    */
-  private SolutionSet   solutionSet_ ;
+  protected SolutionSet   solutionSet_ ;
   
   /**
    * An array containing all the fronts found during the search
    */
-  private SolutionSet[] ranking_  ;
+  protected SolutionSet[] ranking_  ;
   
   /**
    * stores a <code>Comparator</code> for dominance checking
@@ -44,6 +44,13 @@ public class Ranking {
    */
   private static final Comparator constraint_ = new OverallConstraintViolationComparator();
     
+  /**
+   * Constructor used by the subclasses implementing other sorting algorithms.
+   * They must fill <code>ranking_</code> and set the ranks of the solutions.
+   */
+  protected Ranking() {
+  } // Ranking
+
   /** 
    * Constructor.
    * @param solutionSet The <code>SolutionSet</code> to be ranked.
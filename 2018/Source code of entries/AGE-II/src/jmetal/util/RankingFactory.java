@@ -0,0 +1,34 @@
+/**
+ * RankingFactory.java
+ *
+ * @version 1.0
+ */
+
+package jmetal.util;
+
+import jmetal.base.SolutionSet;
+
+/**
+ * Class implementing a factory of rankings.
+ */
+public class RankingFactory {
+
+  /**
+   * Ranks a <code>SolutionSet</code> with the sorting algorithm given by its
+   * name.
+   * @param name Name of the algorithm ("FastNonDominatedSort" or "ENS")
+   * @param solutionSet The <code>SolutionSet</code> to be ranked
+   * @return The ranking
+   */
+  public static Ranking getRanking(String name, SolutionSet solutionSet) throws JMException {
+    if (name.equalsIgnoreCase("FastNonDominatedSort"))
+      return new Ranking(solutionSet);
+    else if (name.equalsIgnoreCase("ENS"))
+      return new ENSRanking(solutionSet);
+    else {
+      Configuration.logger_.severe("RankingFactory.getRanking. " +
+          "Ranking '" + name + "' not found ");
+      throw new JMException("Exception in " + name + ".getRanking()") ;
+    } // else
+  } // getRanking
+} // RankingFactory
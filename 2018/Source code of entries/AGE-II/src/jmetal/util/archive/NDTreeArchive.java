@@ -0,0 +1,554 @@
+/**
+ * NDTreeArchive.java
+ *
+ * @version 1.0
+ */
+package jmetal.util.archive;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import jmetal.base.Solution;
+import jmetal.base.SolutionSet;
+
+/**
+ * This class implements an unbounded archive whose solutions are indexed by
+ * an ND-tree, as described in
+ *
+ * A. Jaszkiewicz and T. Lust. ND-Tree-based update: a fast algorithm for the
+ * dynamic nondominance problem. IEEE Transactions on Evolutionary
+ * Computation, 22(5):778-791, 2018.
+ *
+ * Every node of the tree stores the ideal and nadir points of the solutions
+ * below it, so that the queries "is this point dominated?" and "which points
+ * are dominated by this one?" skip the subtrees that cannot contain an answer
+ * instead of scanning the whole archive. Contrary to the original ND-tree,
+ * the archive does not require its solutions to be mutually non-dominated,
+ * so that it can reproduce the archives of AGE and its variants exactly.
+ *
+ * Only the objective values are considered: the constraint violations are
+ * ignored. The solutions are returned by <code>getSolutionSet()</code> in the
+ * order they have been added.
+ */
+public class NDTreeArchive {
+
+  /**
+   * Default maximum number of solutions in a leaf
+   */
+  public static final int DEFAULT_MAX_LEAF_SIZE = 20 ;
+
+  /**
+   * Stores the number of objectives
+   */
+  private int numberOfObjectives_ ;
+
+  /**
+   * Stores the maximum number of solutions in a leaf
+   */
+  private int maxLeafSize_ ;
+
+  /**
+   * Stores the number of children created when a leaf is split
+   */
+  private int numberOfChildren_ ;
+
+  /**
+   * Stores the root of the tree
+   */
+  private Node root_ ;
+
+  /**
+   * Stores the entries of the archive in the order they have been added
+   */
+  private LinkedHashSet<Entry> entries_ ;
+
+  /**
+   * Stores the sequence number of the next entry
+   */
+  private long nextSequence_ ;
+
+  /**
+   * Stores the solutions of the archive as a <code>SolutionSet</code>, or
+   * null if the archive has changed since it was built
+   */
+  private SolutionSet solutionSet_ ;
+
+  /**
+   * Constructor
+   * @param numberOfObjectives The number of objectives.
+   */
+  public NDTreeArchive(int numberOfObjectives) {
+    this(numberOfObjectives, DEFAULT_MAX_LEAF_SIZE, numberOfObjectives + 1) ;
+  } // NDTreeArchive
+
+  /**
+   * Constructor
+   * @param numberOfObjectives The number of objectives.
+   * @param maxLeafSize The maximum number of solutions in a leaf.
+   * @param numberOfChildren The number of children created when a leaf is
+   * split.
+   */
+  public NDTreeArchive(int numberOfObjectives, int maxLeafSize, int numberOfChildren) {
+    numberOfObjectives_ = numberOfObjectives ;
+    maxLeafSize_        = Math.max(2, maxLeafSize) ;
+    numberOfChildren_   = Math.max(2, Math.min(numberOfChildren, maxLeafSize_)) ;
+    clear() ;
+  } // NDTreeArchive
+
+  /**
+   * Removes all the solutions of the archive
+   */
+  public void clear() {
+    root_         = new Node(null) ;
+    entries_      = new LinkedHashSet<Entry>() ;
+    nextSequence_ = 0 ;
+    solutionSet_  = null ;
+  } // clear
+
+  /**
+   * Returns the number of solutions of the archive
+   * @return The number of solutions.
+   */
+  public int size() {
+    return entries_.size() ;
+  } // size
+
+  /**
+   * Adds a solution to the archive, without any dominance check.
+   * @param solution The solution to add.
+   */
+  public void add(Solution solution) {
+    Entry entry = new Entry(solution, nextSequence_++) ;
+    entries_.add(entry) ;
+    insert(root_, entry) ;
+    solutionSet_ = null ;
+  } // add
+
+  /**
+   * Adds all the solutions of a <code>SolutionSet</code> to the archive,
+   * without any dominance check.
+   * @param solutionSet The solutions to add.
+   */
+  public void addAll(SolutionSet solutionSet) {
+    for (int i = 0; i < solutionSet.size(); i++)
+      add(solutionSet.get(i)) ;
+  } // addAll
+
+  /**
+   * Returns the solutions of the archive, in the order they have been added.
+   * The set is shared until the archive is modified, and must not be
+   * modified by the caller.
+   * @return The solutions.
+   */
+  public SolutionSet getSolutionSet() {
+    if (solutionSet_ == null) {
+      solutionSet_ = new SolutionSet(entries_.size()) ;
+      for (Entry entry : entries_)
+        solutionSet_.add(entry.solution_) ;
+    } // if
+    return solutionSet_ ;
+  } // getSolutionSet
+
+  /**
+   * Checks whether a solution is dominated by a solution of the archive.
+   * @param solution The solution.
+   * @param orEqual If true, a solution of the archive with the same objective
+   * values is also considered as dominating it.
+   * @return True if the solution is dominated.
+   */
+  public boolean isDominated(Solution solution, boolean orEqual) {
+    return isDominated(root_, objectives(solution), orEqual) ;
+  } // isDominated
+
+  /**
+   * Removes the solutions of the archive dominated by a solution.
+   * @param solution The solution.
+   * @return The number of solutions removed.
+   */
+  public int removeDominatedBy(Solution solution) {
+    List<Entry> dominated = new ArrayList<Entry>() ;
+    collectDominatedBy(root_, objectives(solution), dominated) ;
+    for (Entry entry : dominated)
+      remove(entry) ;
+    return dominated.size() ;
+  } // removeDominatedBy
+
+  /**
+   * Checks a new solution against the archive like the archive loops of AGE,
+   * which traverse the archive in order, stop at the first solution
+   * dominating the new one and remove on their way the solutions it
+   * dominates. Consequently, when the new solution is dominated, only the
+   * solutions it dominates that precede its first dominator are removed. The
+   * solution itself is not added.
+   * @param solution The new solution.
+   * @param orEqual If true, a solution with the same objective values is also
+   * considered as dominating the new one.
+   * @param minimumSize No solution is removed once the archive has this size.
+   * @return True if the new solution is dominated.
+   */
+  public boolean update(Solution solution, boolean orEqual, int minimumSize) {
+    double [] point = objectives(solution) ;
+    boolean dominated = isDominated(root_, point, orEqual) ;
+
+    List<Entry> victims = new ArrayList<Entry>() ;
+    collectDominatedBy(root_, point, victims) ;
+    if (victims.isEmpty())
+      return dominated ;
+
+    // the victims can only precede the first dominator if the archive
+    // contains solutions dominating others, which is rare
+    long limit = Long.MAX_VALUE ;
+    if (dominated)
+      limit = firstDominator(root_, point, orEqual, Long.MAX_VALUE) ;
+
+    Collections.sort(victims, SEQUENCE_COMPARATOR) ;
+    for (Entry entry : victims) {
+      if ((entry.sequence_ > limit) || (entries_.size() <= minimumSize))
+        break ;
+      remove(entry) ;
+    } // for
+    return dominated ;
+  } // update
+
+  /**
+   * Removes an entry from the archive and from the tree
+   */
+  private void remove(Entry entry) {
+    entries_.remove(entry) ;
+    solutionSet_ = null ;
+
+    Node leaf = entry.leaf_ ;
+    for (int i = 0; i < leaf.size_; i++) {
+      if (leaf.entries_[i] == entry) {
+        leaf.entries_[i] = leaf.entries_[leaf.size_ - 1] ;
+        leaf.entries_[--leaf.size_] = null ;
+        break ;
+      } // if
+    } // for
+
+    // drop the empty nodes and tighten the bounds of the ancestors
+    Node node = leaf ;
+    while ((node.parent_ != null) && node.isEmpty()) {
+      Node parent = node.parent_ ;
+      parent.removeChild(node) ;
+      node = parent ;
+    } // while
+    if (node.isEmpty()) {
+      root_ = new Node(null) ;
+      return ;
+    } // if
+    for (; node != null; node = node.parent_)
+      node.updateBounds() ;
+  } // remove
+
+  /**
+   * Inserts an entry below a node, splitting the leaf receiving it if full
+   */
+  private void insert(Node node, Entry entry) {
+    while (true) {
+      node.extendBounds(entry.objectives_) ;
+      if (node.isLeaf())
+        break ;
+
+      // go down to the child whose middle point is the closest
+      Node closest = null ;
+      double closestDistance = Double.POSITIVE_INFINITY ;
+      for (int c = 0; c < node.numberOfChildren_; c++) {
+        Node child = node.children_[c] ;
+        double distance = 0.0 ;
+        for (int j = 0; j < numberOfObjectives_; j++) {
+          double difference = (child.ideal_[j] + child.nadir_[j]) / 2.0 - entry.objectives_[j] ;
+          distance += difference * difference ;
+        } // for
+        if (distance < closestDistance) {
+          closestDistance = distance ;
+          closest = child ;
+        } // if
+      } // for
+      node = closest ;
+    } // while
+
+    node.addEntry(entry) ;
+    if (node.size_ > node.splitSize_)
+      split(node) ;
+  } // insert
+
+  /**
+   * Splits a leaf into numberOfChildren_ leaves. The first child receives the
+   * entry with the largest distance to the others, and each following child
+   * the entry farthest from the previous seeds; the other entries go to the
+   * child of their closest seed. If all the entries go to the same child
+   * (their objective values are equal), the leaf is kept and grows.
+   */
+  private void split(Node leaf) {
+    int size = leaf.size_ ;
+    Entry [] entries = leaf.entries_ ;
+    double [][] distance = new double[size][size] ;
+    for (int a = 0; a < size; a++)
+      for (int b = a + 1; b < size; b++)
+        distance[a][b] = distance[b][a] = squaredDistance(entries[a].objectives_, entries[b].objectives_) ;
+
+    int [] seed = new int[numberOfChildren_] ;
+    double largest = -1.0 ;
+    for (int a = 0; a < size; a++) {
+      double sum = 0.0 ;
+      for (int b = 0; b < size; b++)
+        sum += distance[a][b] ;
+      if (sum > largest) {
+        largest = sum ;
+        seed[0] = a ;
+      } // if
+    } // for
+
+    double [] toSeeds = distance[seed[0]].clone() ;
+    for (int c = 1; c < numberOfChildren_; c++) {
+      largest = -1.0 ;
+      for (int a = 0; a < size; a++) {
+        if (toSeeds[a] > largest) {
+          largest = toSeeds[a] ;
+          seed[c] = a ;
+        } // if
+      } // for
+      for (int a = 0; a < size; a++)
+        toSeeds[a] = Math.min(toSeeds[a], distance[seed[c]][a]) ;
+    } // for
+
+    int [] closest = new int[size] ;
+    boolean separated = false ;
+    for (int a = 0; a < size; a++) {
+      for (int c = 1; c < numberOfChildren_; c++)
+        if (distance[seed[c]][a] < distance[seed[closest[a]]][a])
+          closest[a] = c ;
+      separated |= (closest[a] != closest[0]) ;
+    } // for
+    if (!separated) {
+      leaf.splitSize_ = 2 * size ;
+      return ;
+    } // if
+
+    leaf.entries_ = null ;
+    leaf.size_    = 0 ;
+    leaf.children_ = new Node[numberOfChildren_] ;
+    for (int c = 0; c < numberOfChildren_; c++)
+      leaf.addChild(new Node(leaf)) ;
+
+    for (int a = 0; a < size; a++) {
+      Node child = leaf.children_[closest[a]] ;
+      child.extendBounds(entries[a].objectives_) ;
+      child.addEntry(entries[a]) ;
+    } // for
+
+    // seeds with equal objective values may leave some children empty
+    for (int c = leaf.numberOfChildren_ - 1; c >= 0; c--)
+      if (leaf.children_[c].isEmpty())
+        leaf.removeChild(leaf.children_[c]) ;
+  } // split
+
+  /**
+   * Checks whether a point is dominated by an entry below a node
+   */
+  private boolean isDominated(Node node, double [] point, boolean orEqual) {
+    if (node.isEmpty() || !weaklyDominates(node.ideal_, point))
+      return false ;
+
+    if (node.isLeaf()) {
+      for (int i = 0; i < node.size_; i++)
+        if (dominates(node.entries_[i].objectives_, point, orEqual))
+          return true ;
+      return false ;
+    } // if
+
+    for (int c = 0; c < node.numberOfChildren_; c++)
+      if (isDominated(node.children_[c], point, orEqual))
+        return true ;
+    return false ;
+  } // isDominated
+
+  /**
+   * Returns the smallest sequence number (below limit) of the entries
+   * dominating a point
+   */
+  private long firstDominator(Node node, double [] point, boolean orEqual, long limit) {
+    if (node.isEmpty() || !weaklyDominates(node.ideal_, point))
+      return limit ;
+
+    if (node.isLeaf()) {
+      for (int i = 0; i < node.size_; i++) {
+        Entry entry = node.entries_[i] ;
+        if ((entry.sequence_ < limit) && dominates(entry.objectives_, point, orEqual))
+          limit = entry.sequence_ ;
+      } // for
+      return limit ;
+    } // if
+
+    for (int c = 0; c < node.numberOfChildren_; c++)
+      limit = firstDominator(node.children_[c], point, orEqual, limit) ;
+    return limit ;
+  } // firstDominator
+
+  /**
+   * Collects the entries below a node dominated by a point
+   */
+  private void collectDominatedBy(Node node, double [] point, List<Entry> dominated) {
+    if (node.isEmpty() || !weaklyDominates(point, node.nadir_))
+      return ;
+
+    if (node.isLeaf()) {
+      for (int i = 0; i < node.size_; i++)
+        if (dominates(point, node.entries_[i].objectives_, false))
+          dominated.add(node.entries_[i]) ;
+      return ;
+    } // if
+
+    for (int c = 0; c < node.numberOfChildren_; c++)
+      collectDominatedBy(node.children_[c], point, dominated) ;
+  } // collectDominatedBy
+
+  /**
+   * Checks whether a is lower than or equal to b in all the objectives
+   */
+  private boolean weaklyDominates(double [] a, double [] b) {
+    for (int j = 0; j < numberOfObjectives_; j++)
+      if (a[j] > b[j])
+        return false ;
+    return true ;
+  } // weaklyDominates
+
+  /**
+   * Checks whether a dominates b, i.e., a is lower than or equal to b in all
+   * the objectives and lower in at least one (or equal in all if orEqual)
+   */
+  private boolean dominates(double [] a, double [] b, boolean orEqual) {
+    boolean better = false ;
+    for (int j = 0; j < numberOfObjectives_; j++) {
+      if (a[j] > b[j])
+        return false ;
+      if (a[j] < b[j])
+        better = true ;
+    } // for
+    return better || orEqual ;
+  } // dominates
+
+  /**
+   * Returns the squared euclidean distance between two points
+   */
+  private double squaredDistance(double [] a, double [] b) {
+    double distance = 0.0 ;
+    for (int j = 0; j < numberOfObjectives_; j++)
+      distance += (a[j] - b[j]) * (a[j] - b[j]) ;
+    return distance ;
+  } // squaredDistance
+
+  /**
+   * Returns a copy of the objective values of a solution
+   */
+  private double [] objectives(Solution solution) {
+    double [] point = new double[numberOfObjectives_] ;
+    for (int j = 0; j < numberOfObjectives_; j++)
+      point[j] = solution.getObjective(j) ;
+    return point ;
+  } // objectives
+
+  /**
+   * Orders the entries by sequence number
+   */
+  private static final Comparator<Entry> SEQUENCE_COMPARATOR = new Comparator<Entry>() {
+    public int compare(Entry a, Entry b) {
+      return Long.compare(a.sequence_, b.sequence_) ;
+    } // compare
+  } ;
+
+  /**
+   * A solution of the archive
+   */
+  private class Entry {
+    Solution solution_ ;
+    double [] objectives_ ;
+    long sequence_ ;
+    Node leaf_ ;
+
+    Entry(Solution solution, long sequence) {
+      solution_   = solution ;
+      objectives_ = objectives(solution) ;
+      sequence_   = sequence ;
+    } // Entry
+  } // Entry
+
+  /**
+   * A node of the tree: either a leaf holding entries, or an internal node
+   * holding children
+   */
+  private class Node {
+    Node parent_ ;
+    double [] ideal_ ;
+    double [] nadir_ ;
+    Entry [] entries_ ;
+    int size_ ;
+    int splitSize_ ;
+    Node [] children_ ;
+    int numberOfChildren_ ;
+
+    Node(Node parent) {
+      parent_  = parent ;
+      ideal_   = new double[numberOfObjectives_] ;
+      nadir_   = new double[numberOfObjectives_] ;
+      java.util.Arrays.fill(ideal_, Double.POSITIVE_INFINITY) ;
+      java.util.Arrays.fill(nadir_, Double.NEGATIVE_INFINITY) ;
+      entries_ = new Entry[maxLeafSize_ + 1] ;
+      splitSize_ = maxLeafSize_ ;
+    } // Node
+
+    boolean isLeaf() {
+      return children_ == null ;
+    } // isLeaf
+
+    boolean isEmpty() {
+      return isLeaf() ? (size_ == 0) : (numberOfChildren_ == 0) ;
+    } // isEmpty
+
+    void addEntry(Entry entry) {
+      if (size_ == entries_.length)
+        entries_ = java.util.Arrays.copyOf(entries_, 2 * size_) ;
+      entries_[size_++] = entry ;
+      entry.leaf_ = this ;
+    } // addEntry
+
+    void addChild(Node child) {
+      children_[numberOfChildren_++] = child ;
+    } // addChild
+
+    void removeChild(Node child) {
+      for (int c = 0; c < numberOfChildren_; c++) {
+        if (children_[c] == child) {
+          children_[c] = children_[numberOfChildren_ - 1] ;
+          children_[--numberOfChildren_] = null ;
+          return ;
+        } // if
+      } // for
+    } // removeChild
+
+    void extendBounds(double [] point) {
+      for (int j = 0; j < numberOfObjectives_; j++) {
+        if (point[j] < ideal_[j]) ideal_[j] = point[j] ;
+        if (point[j] > nadir_[j]) nadir_[j] = point[j] ;
+      } // for
+    } // extendBounds
+
+    void updateBounds() {
+      java.util.Arrays.fill(ideal_, Double.POSITIVE_INFINITY) ;
+      java.util.Arrays.fill(nadir_, Double.NEGATIVE_INFINITY) ;
+      if (isLeaf()) {
+        for (int i = 0; i < size_; i++)
+          extendBounds(entries_[i].objectives_) ;
+      } else {
+        for (int c = 0; c < numberOfChildren_; c++) {
+          extendBounds(children_[c].ideal_) ;
+          extendBounds(children_[c].nadir_) ;
+        } // for
+      } // else
+    } // updateBounds
+  } // Node
+} // NDTreeArchive
@@ -0,0 +1,182 @@
+/**
+ * AsynchronousEvaluator.java
+ *
+ * @version 1.0
+ */
+package jmetal.util.evaluator;
+
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import jmetal.base.Problem;
+import jmetal.base.Solution;
+import jmetal.util.Configuration;
+import jmetal.util.JMException;
+
+/**
+ * Evaluator for steady-state algorithms keeping up to a given number of 
+ * evaluations in flight. The solutions are submitted one by one and are 
+ * returned by <code>take()</code> in the order in which their evaluations 
+ * finish, so that the algorithm can insert each of them as soon as it is 
+ * available and generate a new one from its current population.
+ * 
+ * With a single evaluation in flight no thread is created: the solutions are
+ * evaluated in the calling thread when they are submitted and are returned in
+ * the same order, which is exactly the behavior of the sequential algorithms.
+ * With more than one, the order of the insertions depends on the duration of
+ * the evaluations and the runs are not reproducible any more.
+ * 
+ * A submitted solution must not be modified until it has been taken, and the
+ * problem must be thread safe when more than one evaluation is in flight.
+ */
+public class AsynchronousEvaluator {
+
+  /**
+   * Stores the problem to solve
+   */
+  private Problem problem_ ;
+
+  /**
+   * Stores the maximum number of evaluations in flight
+   */
+  private int maximumPending_ ;
+
+  /**
+   * Stores the number of solutions submitted but not taken yet
+   */
+  private int pending_ ;
+
+  /**
+   * Stores the threads evaluating the solutions (null if there is only one
+   * evaluation in flight)
+   */
+  private ExecutorService executor_ ;
+
+  /**
+   * Returns the evaluated solutions in the order they are finished
+   */
+  private CompletionService<Solution> completionService_ ;
+
+  /**
+   * Stores the evaluated solutions when they are evaluated in the calling thread
+   */
+  private LinkedList<Solution> evaluated_ ;
+
+  /**
+   * Constructor
+   * @param problem The problem to solve.
+   * @param maximumPending Maximum number of evaluations in flight.
+   */
+  public AsynchronousEvaluator(Problem problem, int maximumPending) {
+    problem_        = problem ;
+    maximumPending_ = Math.max(1, maximumPending) ;
+    pending_        = 0 ;
+    evaluated_      = new LinkedList<Solution>() ;
+
+    if (maximumPending_ > 1) {
+      executor_ = Executors.newFixedThreadPool(maximumPending_, new ThreadFactory() {
+        public Thread newThread(Runnable runnable) {
+          Thread thread = new Thread(runnable, "AsynchronousEvaluator") ;
+          thread.setDaemon(true) ;
+          return thread ;
+        } // newThread
+      }) ;
+      completionService_ = new ExecutorCompletionService<Solution>(executor_) ;
+    } // if
+  } // AsynchronousEvaluator
+
+  /**
+   * Submits a solution to be evaluated (objectives and constraints).
+   * @param solution The solution to evaluate.
+   * @throws JMException
+   */
+  public void submit(final Solution solution) throws JMException {
+    if (pending_ >= maximumPending_) {
+      Configuration.logger_.severe("AsynchronousEvaluator.submit: " +
+          maximumPending_ + " evaluations are already in flight") ;
+      throw new JMException("Exception in AsynchronousEvaluator.submit()") ;
+    } // if
+
+    if (executor_ == null) {
+      problem_.evaluate(solution) ;
+      problem_.evaluateConstraints(solution) ;
+      evaluated_.add(solution) ;
+    } else {
+      completionService_.submit(new Callable<Solution>() {
+        public Solution call() throws JMException {
+          problem_.evaluate(solution) ;
+          problem_.evaluateConstraints(solution) ;
+          return solution ;
+        } // call
+      }) ;
+    } // else
+    pending_++ ;
+  } // submit
+
+  /**
+   * Returns the next evaluated solution, waiting for it if necessary.
+   * @return The solution.
+   * @throws JMException
+   */
+  public Solution take() throws JMException {
+    if (pending_ == 0) {
+      Configuration.logger_.severe("AsynchronousEvaluator.take: no evaluation in flight") ;
+      throw new JMException("Exception in AsynchronousEvaluator.take()") ;
+    } // if
+
+    pending_-- ;
+    if (executor_ == null)
+      return evaluated_.removeFirst() ;
+
+    try {
+      return completionService_.take().get() ;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof JMException)
+        throw (JMException) e.getCause() ;
+      Configuration.logger_.severe("AsynchronousEvaluator.take: " + e.getCause()) ;
+      throw new JMException("Exception in AsynchronousEvaluator.take()") ;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt() ;
+      Configuration.logger_.severe("AsynchronousEvaluator.take: interrupted") ;
+      throw new JMException("Exception in AsynchronousEvaluator.take()") ;
+    } // catch
+  } // take
+
+  /**
+   * Returns true if no more evaluations can be submitted before taking one
+   * @return True if the maximum number of evaluations are in flight.
+   */
+  public boolean isFull() {
+    return pending_ >= maximumPending_ ;
+  } // isFull
+
+  /**
+   * Returns the number of solutions submitted and not taken yet
+   * @return The number of evaluations in flight.
+   */
+  public int getNumberOfPending() {
+    return pending_ ;
+  } // getNumberOfPending
+
+  /**
+   * Returns the maximum number of evaluations in flight
+   * @return The maximum number of evaluations in flight.
+   */
+  public int getMaximumPending() {
+    return maximumPending_ ;
+  } // getMaximumPending
+
+  /**
+   * Stops the threads of the evaluator, if any
+   */
+  public void shutdown() {
+    if (executor_ != null)
+      executor_.shutdown() ;
+  } // shutdown
+} // AsynchronousEvaluator
@@ -0,0 +1,59 @@
+/**
+ * EvaluatorFactory.java
+ *
+ * @version 1.0
+ */
+package jmetal.util.evaluator;
+
+import jmetal.base.Algorithm;
+import jmetal.util.Configuration;
+import jmetal.util.JMException;
+
+/**
+ * Class implementing a factory of evaluators.
+ */
+public class EvaluatorFactory {
+
+  /**
+   * Gets an evaluator through its name.
+   * @param name Name of the evaluator ("Sequential", "ThreadPool" or 
+   * "ForkJoin")
+   * @param numberOfThreads Number of threads of the parallel evaluators
+   * @return The evaluator
+   */
+  public static SolutionSetEvaluator getEvaluator(String name, int numberOfThreads) throws JMException {
+    if (name.equalsIgnoreCase("Sequential"))
+      return new SequentialEvaluator();
+    else if (name.equalsIgnoreCase("ThreadPool"))
+      return new ThreadPoolEvaluator(numberOfThreads);
+    else if (name.equalsIgnoreCase("ForkJoin"))
+      return new ForkJoinEvaluator(numberOfThreads);
+    else {
+      Configuration.logger_.severe("EvaluatorFactory.getEvaluator. " +
+          "Evaluator '" + name + "' not found ");
+      throw new JMException("Exception in " + name + ".getEvaluator()") ;
+    } // else
+  } // getEvaluator
+
+  /**
+   * Gets the evaluator requested by the input parameters "evaluator" (the 
+   * name of the evaluator) and "numberOfThreads" of an algorithm. If only the
+   * number of threads is given, a <code>ThreadPoolEvaluator</code> is used when 
+   * it is greater than one. If none is given, the solutions are evaluated 
+   * sequentially.
+   * @param algorithm The algorithm
+   * @return The evaluator
+   */
+  public static SolutionSetEvaluator getEvaluator(Algorithm algorithm) throws JMException {
+    int numberOfThreads;
+    if (algorithm.getInputParameter("numberOfThreads")==null) numberOfThreads = 1;
+      else numberOfThreads = ((Integer)algorithm.getInputParameter("numberOfThreads")).intValue();
+
+    if (algorithm.getInputParameter("evaluator")==null) {
+      if (numberOfThreads > 1)
+        return new ThreadPoolEvaluator(numberOfThreads);
+      return new SequentialEvaluator();
+    } // if
+    return getEvaluator((String)algorithm.getInputParameter("evaluator"), numberOfThreads);
+  } // getEvaluator
+} // EvaluatorFactory
@@ -0,0 +1,138 @@
+/**
+ * ForkJoinEvaluator.java
+ *
+ * @version 1.0
+ */
+package jmetal.util.evaluator;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import jmetal.base.Problem;
+import jmetal.base.SolutionSet;
+import jmetal.util.Configuration;
+import jmetal.util.JMException;
+
+/**
+ * Evaluator based on a <code>ForkJoinPool</code>. The 
+ * <code>SolutionSet</code> is halved recursively until the ranges contain at
+ * most <code>threshold</code> solutions, which are evaluated sequentially. 
+ * Contrary to <code>ThreadPoolEvaluator</code>, idle threads steal the 
+ * pending ranges, which balances the load when the cost of the evaluations
+ * varies among the solutions. The ranges only depend on the threshold, so 
+ * the runs are reproducible for a given seed and threshold, whatever the 
+ * number of threads.
+ */
+public class ForkJoinEvaluator extends SolutionSetEvaluator {
+
+  /**
+   * Default maximum number of solutions evaluated by a single task
+   */
+  public static final int DEFAULT_THRESHOLD = 4 ;
+
+  /**
+   * Stores the number of threads
+   */
+  private int numberOfThreads_ ;
+
+  /**
+   * Stores the maximum number of solutions evaluated by a single task
+   */
+  private int threshold_ ;
+
+  /**
+   * Stores the pool of threads
+   */
+  private ForkJoinPool pool_ ;
+
+  /**
+   * Constructor
+   * @param numberOfThreads Number of threads of the pool.
+   */
+  public ForkJoinEvaluator(int numberOfThreads) {
+    this(numberOfThreads, DEFAULT_THRESHOLD) ;
+  } // ForkJoinEvaluator
+
+  /**
+   * Constructor
+   * @param numberOfThreads Number of threads of the pool.
+   * @param threshold Maximum number of solutions evaluated by a single task.
+   */
+  public ForkJoinEvaluator(int numberOfThreads, int threshold) {
+    numberOfThreads_ = Math.max(1, numberOfThreads) ;
+    threshold_       = Math.max(1, threshold) ;
+    pool_            = new ForkJoinPool(numberOfThreads_) ;
+  } // ForkJoinEvaluator
+
+  /**
+   * Evaluates the objectives and the constraints of all the solutions of a 
+   * <code>SolutionSet</code>. 
+   * @param solutionSet The solutions to evaluate.
+   * @param problem The problem to solve.
+   * @throws JMException
+   */
+  public void evaluate(SolutionSet solutionSet, Problem problem) throws JMException {
+    try {
+      pool_.invoke(new EvaluationTask(solutionSet, 0, solutionSet.size(), problem, nextCallSeed())) ;
+    } catch (RuntimeException e) {
+      // the exception may have been re-wrapped when crossing threads
+      Throwable cause = e ;
+      while ((cause != null) && !(cause instanceof JMException))
+        cause = cause.getCause() ;
+      if (cause != null)
+        throw (JMException) cause ;
+      Configuration.logger_.severe("ForkJoinEvaluator.evaluate: " + e) ;
+      throw new JMException("Exception in ForkJoinEvaluator.evaluate()") ;
+    } // catch
+  } // evaluate
+
+  /**
+   * Returns the number of threads used to evaluate the solutions
+   * @return The number of threads.
+   */
+  public int getNumberOfThreads() {
+    return numberOfThreads_ ;
+  } // getNumberOfThreads
+
+  /**
+   * Stops the threads of the pool
+   */
+  public void shutdown() {
+    pool_.shutdown() ;
+  } // shutdown
+
+  /**
+   * Task evaluating a range of a <code>SolutionSet</code>
+   */
+  private class EvaluationTask extends RecursiveAction {
+    private static final long serialVersionUID = 1160635841819973179L ;
+
+    private SolutionSet solutionSet_ ;
+    private int from_ ;
+    private int to_ ;
+    private Problem problem_ ;
+    private long callSeed_ ;
+
+    EvaluationTask(SolutionSet solutionSet, int from, int to, Problem problem, long callSeed) {
+      solutionSet_ = solutionSet ;
+      from_        = from ;
+      to_          = to ;
+      problem_     = problem ;
+      callSeed_    = callSeed ;
+    } // EvaluationTask
+
+    protected void compute() {
+      if (to_ - from_ <= threshold_) {
+        try {
+          evaluateRange(solutionSet_, from_, to_, problem_, callSeed_) ;
+        } catch (JMException e) {
+          throw new RuntimeException(e) ;
+        } // catch
+      } else {
+        int middle = (from_ + to_) >>> 1 ;
+        invokeAll(new EvaluationTask(solutionSet_, from_, middle, problem_, callSeed_),
+                  new EvaluationTask(solutionSet_, middle, to_, problem_, callSeed_)) ;
+      } // else
+    } // compute
+  } // EvaluationTask
+} // ForkJoinEvaluator
@@ -0,0 +1,38 @@
+/**
+ * SequentialEvaluator.java
+ *
+ * @version 1.0
+ */
+package jmetal.util.evaluator;
+
+import jmetal.base.Problem;
+import jmetal.base.SolutionSet;
+import jmetal.util.JMException;
+
+/**
+ * Evaluator processing the solutions one after another in the calling thread.
+ * This is the behavior of the algorithms when no evaluator is given.
+ */
+public class SequentialEvaluator extends SolutionSetEvaluator {
+
+  /**
+   * Evaluates the objectives and the constraints of all the solutions of a 
+   * <code>SolutionSet</code>. 
+   * @param solutionSet The solutions to evaluate.
+   * @param problem The problem to solve.
+   * @throws JMException
+   */
+  public void evaluate(SolutionSet solutionSet, Problem problem) throws JMException {
+    problem.evaluate(solutionSet) ;
+    for (int i = 0; i < solutionSet.size(); i++)
+      problem.evaluateConstraints(solutionSet.get(i)) ;
+  } // evaluate
+
+  /**
+   * Returns the number of threads used to evaluate the solutions
+   * @return The number of threads.
+   */
+  public int getNumberOfThreads() {
+    return 1 ;
+  } // getNumberOfThreads
+} // SequentialEvaluator
@@ -0,0 +1,116 @@
+/**
+ * SolutionSetEvaluator.java
+ *
+ * @version 1.0
+ */
+package jmetal.util.evaluator;
+
+import jmetal.base.Problem;
+import jmetal.base.SolutionSet;
+import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
+import jmetal.util.RandomStream;
+
+/**
+ * This abstract class is the base for the classes evaluating the solutions of
+ * a <code>SolutionSet</code> (objectives and constraints) on behalf of an 
+ * algorithm. The variation of the solutions is left to the algorithm, so the
+ * evaluators only decide how the evaluations are distributed among threads.
+ * 
+ * Some problems consume random numbers while evaluating (e.g., MaF09 re-draws
+ * the infeasible points). The parallel evaluators bind to each range of 
+ * solutions a stream derived from the master seed, the number of the call and
+ * the index of the first solution of the range, so their runs are 
+ * reproducible for a given seed and partition of the ranges, whatever the 
+ * scheduling of the threads. For such problems, their results differ from
+ * those of <code>SequentialEvaluator</code>, which draws from the stream of 
+ * the calling thread. For the other problems all the evaluators produce the
+ * same result for a given seed.
+ * 
+ * The problems evaluated by a parallel evaluator must be thread safe, i.e.,
+ * their <code>evaluate</code> methods must not modify shared state.
+ */
+public abstract class SolutionSetEvaluator {
+
+  /**
+   * Stream of the seeds of the calls, created from the master seed on the 
+   * first call
+   */
+  private RandomStream callSeeds_ = null ;
+
+  /**
+   * Evaluates the objectives and the constraints of all the solutions of a 
+   * <code>SolutionSet</code>. 
+   * @param solutionSet The solutions to evaluate.
+   * @param problem The problem to solve.
+   * @throws JMException
+   */
+  public abstract void evaluate(SolutionSet solutionSet, Problem problem) throws JMException ;
+
+  /**
+   * Returns the number of threads used to evaluate the solutions
+   * @return The number of threads.
+   */
+  public abstract int getNumberOfThreads() ;
+
+  /**
+   * Releases the threads of the evaluator, if any. The evaluator must not be
+   * used after calling this method.
+   */
+  public void shutdown() {
+  } // shutdown
+
+  /**
+   * Returns the seed of the streams bound to the ranges of a call. Must be
+   * called by the thread calling <code>evaluate</code>, once per call.
+   * @return The seed of the call.
+   */
+  protected long nextCallSeed() {
+    if (callSeeds_ == null)
+      callSeeds_ = new RandomStream(PseudoRandom.getMasterSeed()) ;
+    return callSeeds_.randLong() ;
+  } // nextCallSeed
+
+  /**
+   * Evaluates a range of solutions like <code>evaluateRange</code>, with the 
+   * calling thread drawing its random numbers from the stream derived from 
+   * the seed of the call and the index of the first solution of the range. 
+   * The previous stream of the thread is restored afterwards.
+   * @param solutionSet The solutions to evaluate.
+   * @param from Index of the first solution to evaluate.
+   * @param to Index after the last solution to evaluate.
+   * @param problem The problem to solve.
+   * @param callSeed The seed returned by <code>nextCallSeed</code>.
+   * @throws JMException
+   */
+  protected void evaluateRange(SolutionSet solutionSet, int from, int to, Problem problem, long callSeed) throws JMException {
+    RandomStream previous = PseudoRandom.getStream() ;
+    PseudoRandom.setStream(new RandomStream(callSeed, from)) ;
+    try {
+      evaluateRange(solutionSet, from, to, problem) ;
+    } finally {
+      PseudoRandom.setStream(previous) ;
+    } // finally
+  } // evaluateRange
+
+  /**
+   * Evaluates the objectives and constraints of a range of solutions of a 
+   * <code>SolutionSet</code> in the calling thread. The range is copied into 
+   * an auxiliary set so that problems evaluating whole sets at once can still
+   * do it.
+   * @param solutionSet The solutions to evaluate.
+   * @param from Index of the first solution to evaluate.
+   * @param to Index after the last solution to evaluate.
+   * @param problem The problem to solve.
+   * @throws JMException
+   */
+  protected void evaluateRange(SolutionSet solutionSet, int from, int to, Problem problem) throws JMException {
+    SolutionSet range = new SolutionSet(to - from) ;
+    for (int i = from; i < to; i++)
+      range.add(solutionSet.get(i)) ;
+
+    problem.evaluate(range) ;
+    for (int i = 0; i < range.size(); i++)
+      problem.evaluateConstraints(range.get(i)) ;
+  } // evaluateRange
+} // SolutionSetEvaluator
@@ -0,0 +1,114 @@
+/**
+ * ThreadPoolEvaluator.java
+ *
+ * @version 1.0
+ */
+package jmetal.util.evaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import jmetal.base.Problem;
+import jmetal.base.SolutionSet;
+import jmetal.util.Configuration;
+import jmetal.util.JMException;
+
+/**
+ * Evaluator distributing the solutions among a fixed pool of threads. The 
+ * <code>SolutionSet</code> is split into as many contiguous ranges as threads,
+ * and each thread evaluates one range. The threads are kept alive between 
+ * calls, so the evaluator must be released with <code>shutdown()</code>.
+ * The runs are reproducible for a given seed and number of threads.
+ */
+public class ThreadPoolEvaluator extends SolutionSetEvaluator {
+
+  /**
+   * Stores the number of threads
+   */
+  private int numberOfThreads_ ;
+
+  /**
+   * Stores the pool of threads
+   */
+  private ExecutorService executor_ ;
+
+  /**
+   * Constructor
+   * @param numberOfThreads Number of threads of the pool.
+   */
+  public ThreadPoolEvaluator(int numberOfThreads) {
+    numberOfThreads_ = Math.max(1, numberOfThreads) ;
+    executor_ = Executors.newFixedThreadPool(numberOfThreads_, new ThreadFactory() {
+      public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "ThreadPoolEvaluator") ;
+        thread.setDaemon(true) ;
+        return thread ;
+      } // newThread
+    }) ;
+  } // ThreadPoolEvaluator
+
+  /**
+   * Evaluates the objectives and the constraints of all the solutions of a 
+   * <code>SolutionSet</code>. 
+   * @param solutionSet The solutions to evaluate.
+   * @param problem The problem to solve.
+   * @throws JMException
+   */
+  public void evaluate(final SolutionSet solutionSet, final Problem problem) throws JMException {
+    int size = solutionSet.size() ;
+    int tasks = Math.min(numberOfThreads_, size) ;
+    final long callSeed = nextCallSeed() ;
+    if (tasks <= 1) {
+      evaluateRange(solutionSet, 0, size, problem, callSeed) ;
+      return ;
+    } // if
+
+    List<Future<Object>> futures = new ArrayList<Future<Object>>(tasks) ;
+    for (int t = 0; t < tasks; t++) {
+      final int from = (int) ((long) size * t / tasks) ;
+      final int to   = (int) ((long) size * (t + 1) / tasks) ;
+      futures.add(executor_.submit(new Callable<Object>() {
+        public Object call() throws JMException {
+          evaluateRange(solutionSet, from, to, problem, callSeed) ;
+          return null ;
+        } // call
+      })) ;
+    } // for
+
+    for (Future<Object> future : futures) {
+      try {
+        future.get() ;
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof JMException)
+          throw (JMException) e.getCause() ;
+        Configuration.logger_.severe("ThreadPoolEvaluator.evaluate: " + e.getCause()) ;
+        throw new JMException("Exception in ThreadPoolEvaluator.evaluate()") ;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt() ;
+        Configuration.logger_.severe("ThreadPoolEvaluator.evaluate: interrupted") ;
+        throw new JMException("Exception in ThreadPoolEvaluator.evaluate()") ;
+      } // catch
+    } // for
+  } // evaluate
+
+  /**
+   * Returns the number of threads used to evaluate the solutions
+   * @return The number of threads.
+   */
+  public int getNumberOfThreads() {
+    return numberOfThreads_ ;
+  } // getNumberOfThreads
+
+  /**
+   * Stops the threads of the pool
+   */
+  public void shutdown() {
+    executor_.shutdown() ;
+  } // shutdown
+} // ThreadPoolEvaluator
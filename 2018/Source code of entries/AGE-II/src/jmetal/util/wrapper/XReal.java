@@ -10,6 +10,7 @@ package jmetal.util.wrapper;
 
 import jmetal.base.Solution;
 import jmetal.base.SolutionType;
+import jmetal.base.variable.ArrayDouble;
 import jmetal.base.variable.ArrayReal;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
@@ -18,24 +19,36 @@ public class XReal {
 	Solution solution_ ;
 	SolutionType type_ ;
 
+	/**
+	 * Variable and backing array of the solution when it is of type
+	 * ArrayDoubleSolutionType, null otherwise
+	 */
+	ArrayDouble arrayDouble_ ;
+	double [] array_ ;
+
 	private static Class<?> REAL_SOLUTION ; 
 	private static Class<?> BINARY_REAL_SOLUTION ; 
 	private static Class<?> ARRAY_REAL_SOLUTION ; 
 	private static Class<?> ARRAY_REAL_AND_BINARY_SOLUTION ; 
+	private static Class<?> ARRAY_DOUBLE_SOLUTION ; 
 
-	/**
-	 * Constructor
-	 */
-	public XReal() {
+	static {
 		try {
 			REAL_SOLUTION = Class.forName("jmetal.base.solutionType.RealSolutionType") ;
 			BINARY_REAL_SOLUTION = Class.forName("jmetal.base.solutionType.BinaryRealSolutionType") ;
 			ARRAY_REAL_SOLUTION = Class.forName("jmetal.base.solutionType.ArrayRealSolutionType") ;
 			ARRAY_REAL_AND_BINARY_SOLUTION = Class.forName("jmetal.base.solutionType.ArrayRealAndBinarySolutionType") ;
+			ARRAY_DOUBLE_SOLUTION = Class.forName("jmetal.base.solutionType.ArrayDoubleSolutionType") ;
 		} catch (ClassNotFoundException e) {
 			// TODO Auto-generated catch block
 			e.printStackTrace();
 		}
+	} // static
+
+	/**
+	 * Constructor
+	 */
+	public XReal() {
 	} // Constructor
 
 	/**
@@ -46,6 +59,10 @@ public class XReal {
 		this() ;
 		type_ = solution.getType() ;
 		solution_ = solution ;
+		if (type_.getClass() == ARRAY_DOUBLE_SOLUTION) {
+			arrayDouble_ = (ArrayDouble)(solution_.getDecisionVariables()[0]) ;
+			array_ = arrayDouble_.array_ ;
+		} // if
 	}
 
 	/**
@@ -55,6 +72,8 @@ public class XReal {
 	 * @throws JMException
 	 */
 	public double getValue(int index) throws JMException {
+		if (array_ != null)
+			return array_[index] ;
 		if ((type_.getClass() == REAL_SOLUTION) ||
 				(type_.getClass() == BINARY_REAL_SOLUTION)){
 			return solution_.getDecisionVariables()[index].getValue() ;			
@@ -79,7 +98,9 @@ public class XReal {
 	 * @throws JMException
 	 */
 	public void setValue(int index, double value) throws JMException {
-		if (type_.getClass() == REAL_SOLUTION)
+		if (array_ != null)
+			array_[index] = value ;
+		else if (type_.getClass() == REAL_SOLUTION)
 			solution_.getDecisionVariables()[index].setValue(value) ;
 		else if (type_.getClass() == ARRAY_REAL_SOLUTION)
 			((ArrayReal)(solution_.getDecisionVariables()[0])).array_[index]=value ;
@@ -98,6 +119,8 @@ public class XReal {
 	 * @throws JMException
 	 */
 	public double getLowerBound(int index) throws JMException {
+		if (array_ != null)
+			return arrayDouble_.getLowerBound(index) ;
 		if ((type_.getClass() == REAL_SOLUTION) ||
 				(type_.getClass() == BINARY_REAL_SOLUTION))
 			return solution_.getDecisionVariables()[index].getLowerBound() ;
@@ -120,6 +143,8 @@ public class XReal {
 	 * @throws JMException
 	 */
 	public double getUpperBound(int index) throws JMException {
+		if (array_ != null)
+			return arrayDouble_.getUpperBound(index) ;
 		if ((type_.getClass() == REAL_SOLUTION) ||
 				(type_.getClass() == BINARY_REAL_SOLUTION))			
 			return solution_.getDecisionVariables()[index].getUpperBound() ;
@@ -139,6 +164,8 @@ public class XReal {
 	 * @return
 	 */
 	public int getNumberOfDecisionVariables() {
+		if (array_ != null)
+			return array_.length ;
 		if ((type_.getClass() == REAL_SOLUTION) ||
 				(type_.getClass() == BINARY_REAL_SOLUTION))		
 			return solution_.getDecisionVariables().length ;
@@ -155,6 +182,8 @@ public class XReal {
 	 * @return
 	 */
 	public int size() {
+		if (array_ != null)
+			return array_.length ;
 		if ((type_.getClass().equals(REAL_SOLUTION)) ||
 				(type_.getClass().equals(BINARY_REAL_SOLUTION)))		
 			return solution_.getDecisionVariables().length ;
@@ -19,13 +19,22 @@ package br.ufpr.inf.cbio.hhdea.algorithm.HHdEA;
 import br.ufpr.inf.cbio.hhdea.hyperheuristic.selection.CastroRoulette;
 import br.ufpr.inf.cbio.hhdea.hyperheuristic.selection.SelectionFunction;
 import br.ufpr.inf.cbio.hhdea.metrics.MetricsEvaluator;
+import br.ufpr.inf.cbio.hhdea.util.ThreadLocalRandomGenerator;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.uma.jmetal.algorithm.Algorithm;
 import org.uma.jmetal.algorithm.multiobjective.moead.util.MOEADUtils;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
 
 /**
  *
@@ -40,13 +49,29 @@ public class HHdEA<S extends Solution<?>> implements Algorithm<List<S>> {
     private final int populationSize;
     private final String name;
     private MetricsEvaluator metrics;
+    private final int numberOfThreads;
+    private ExecutorService executor;
+    private ThreadLocalRandomGenerator randomGenerator;
+    private boolean installedRandomGenerator; // if randomGenerator was installed by this run
+    private PseudoRandomGenerator[] streams; // random stream of each algorithm
 
     public HHdEA(List<CooperativeAlgorithm<S>> algorithms, int populationSize, int maxGenerations, Problem problem, String name) {
+        this(algorithms, populationSize, maxGenerations, problem, name, 1);
+    }
+
+    /**
+     * @param numberOfThreads if greater than one, the migrants are received
+     * by the neighbor algorithms in parallel, each one drawing from its own
+     * random stream seeded from JMetalRandom, and the metrics are extracted
+     * meanwhile
+     */
+    public HHdEA(List<CooperativeAlgorithm<S>> algorithms, int populationSize, int maxGenerations, Problem problem, String name, int numberOfThreads) {
         this.algorithms = algorithms;
         this.populationSize = populationSize;
         this.maxGenerations = maxGenerations;
         this.problem = problem;
         this.name = name;
+        this.numberOfThreads = numberOfThreads;
     }
 
     @Override
@@ -62,42 +87,129 @@ public class HHdEA<S extends Solution<?>> implements Algorithm<List<S>> {
         int generations = algorithms.size();
         this.metrics = new MetricsEvaluator(problem, populationSize);
 
-        while (generations <= maxGenerations) {
+        if (numberOfThreads > 1 && algorithms.size() > 1) {
+            startExecutor();
+        }
 
-            // heuristic selection
-            CooperativeAlgorithm<S> alg = selection.getNext();
+        try {
+            while (generations <= maxGenerations) {
 
-            // apply selected heuristic
-            List<S> parents = new ArrayList<>();
-            for (S s : alg.getPopulation()) {
-                parents.add((S) s.copy());
-            }
-            alg.doIteration();
-            generations++;
-            List<S> offspring = new ArrayList<>();
-            for (S s : alg.getPopulation()) {
-                offspring.add((S) s.copy());
-            }
+                // heuristic selection
+                CooperativeAlgorithm<S> alg = selection.getNext();
 
-            // extract metrics
-            metrics.extractMetrics(parents, offspring);
-            // metrics.log(alg.getClass().getSimpleName());
-
-            // compute reward
-            selection.creditAssignment(metrics.getMetric(MetricsEvaluator.Metrics.FIR_R2_THC));
-
-            // move acceptance
-            // ALL MOVES
-            // cooperation phase
-            for (CooperativeAlgorithm<S> neighbor : algorithms) {
-                if (neighbor != alg) {
-                    List<S> migrants = new ArrayList<>();
-                    for (S s : alg.getPopulation()) {
-                        migrants.add((S) s.copy());
+                // apply selected heuristic
+                List<S> parents = new ArrayList<>();
+                for (S s : alg.getPopulation()) {
+                    parents.add((S) s.copy());
+                }
+                alg.doIteration();
+                generations++;
+                List<S> offspring = new ArrayList<>();
+                for (S s : alg.getPopulation()) {
+                    offspring.add((S) s.copy());
+                }
+
+                if (executor == null) {
+                    // extract metrics
+                    metrics.extractMetrics(parents, offspring);
+                    // metrics.log(alg.getClass().getSimpleName());
+
+                    // compute reward
+                    selection.creditAssignment(metrics.getMetric(MetricsEvaluator.Metrics.FIR_R2_THC));
+
+                    // move acceptance
+                    // ALL MOVES
+                    // cooperation phase
+                    for (CooperativeAlgorithm<S> neighbor : algorithms) {
+                        if (neighbor != alg) {
+                            migrate(alg, neighbor);
+                        }
+                    }
+                } else {
+                    // cooperation phase, while the metrics are extracted
+                    List<Future<?>> migrations = new ArrayList<>();
+                    for (int i = 0; i < algorithms.size(); i++) {
+                        CooperativeAlgorithm<S> neighbor = algorithms.get(i);
+                        if (neighbor != alg) {
+                            PseudoRandomGenerator stream = streams[i];
+                            migrations.add(executor.submit(() -> {
+                                randomGenerator.setCurrent(stream);
+                                try {
+                                    migrate(alg, neighbor);
+                                } finally {
+                                    randomGenerator.setCurrent(null);
+                                }
+                            }));
+                        }
                     }
-                    neighbor.receive(migrants);
+
+                    metrics.extractMetrics(parents, offspring);
+                    selection.creditAssignment(metrics.getMetric(MetricsEvaluator.Metrics.FIR_R2_THC));
+
+                    // the next heuristic needs the migrants of this step
+                    waitFor(migrations);
                 }
             }
+        } finally {
+            if (executor != null) {
+                stopExecutor();
+            }
+        }
+    }
+
+    private void migrate(CooperativeAlgorithm<S> alg, CooperativeAlgorithm<S> neighbor) {
+        List<S> migrants = new ArrayList<>();
+        for (S s : alg.getPopulation()) {
+            migrants.add((S) s.copy());
+        }
+        neighbor.receive(migrants);
+    }
+
+    private void startExecutor() {
+        // the streams are seeded in the order of the algorithms, so that a run
+        // only depends on the seed of JMetalRandom
+        JMetalRandom random = JMetalRandom.getInstance();
+        streams = new PseudoRandomGenerator[algorithms.size()];
+        for (int i = 0; i < streams.length; i++) {
+            streams[i] = new JavaRandomGenerator(random.nextInt(0, Integer.MAX_VALUE - 1));
+        }
+        if (random.getRandomGenerator() instanceof ThreadLocalRandomGenerator) {
+            // already installed, e.g. by BatchRunner: the calling thread keeps
+            // its stream, and the migration threads set theirs
+            randomGenerator = (ThreadLocalRandomGenerator) random.getRandomGenerator();
+            installedRandomGenerator = false;
+        } else {
+            randomGenerator = new ThreadLocalRandomGenerator(random.getRandomGenerator());
+            random.setRandomGenerator(randomGenerator);
+            installedRandomGenerator = true;
+        }
+        executor = Executors.newFixedThreadPool(Math.min(numberOfThreads, algorithms.size() - 1), (Runnable runnable) -> {
+            Thread thread = new Thread(runnable, name + "-migration");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private void stopExecutor() {
+        executor.shutdownNow();
+        if (installedRandomGenerator) {
+            JMetalRandom.getInstance().setRandomGenerator(randomGenerator.getDefaultGenerator());
+        }
+        executor = null;
+        randomGenerator = null;
+        streams = null;
+    }
+
+    private void waitFor(List<Future<?>> futures) {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new JMetalException("Error receiving the migrants", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JMetalException("Interrupted while receiving the migrants", e);
         }
     }
 
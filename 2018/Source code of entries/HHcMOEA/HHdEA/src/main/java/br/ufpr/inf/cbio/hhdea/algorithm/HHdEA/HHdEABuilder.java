@@ -34,10 +34,12 @@ public class HHdEABuilder<S extends Solution<?>> implements AlgorithmBuilder<HHd
     private int maxGenerations;
     private final Problem problem;
     private String name;
+    private int numberOfThreads;
 
     public HHdEABuilder(Problem problem) {
         this.problem = problem;
         name = "HHdEA"; // default name
+        numberOfThreads = 1; // sequential migration
     }
 
     public String getName() {
@@ -84,9 +86,18 @@ public class HHdEABuilder<S extends Solution<?>> implements AlgorithmBuilder<HHd
         return this;
     }
 
+    public int getNumberOfThreads() {
+        return numberOfThreads;
+    }
+
+    public HHdEABuilder setNumberOfThreads(int numberOfThreads) {
+        this.numberOfThreads = numberOfThreads;
+        return this;
+    }
+
     @Override
     public HHdEA build() {
-        return new HHdEA(algorithms, populationSize, maxGenerations, problem, name);
+        return new HHdEA(algorithms, populationSize, maxGenerations, problem, name, numberOfThreads);
     }
 
 }
@@ -36,9 +36,15 @@ import org.uma.jmetal.solution.Solution;
 public class HHdEAConfiguration<S extends Solution> implements AlgorithmConfiguration<Algorithm<S>> {
 
     private final String name;
+    private final int numberOfThreads;
 
     public HHdEAConfiguration(String name) {
+        this(name, 1);
+    }
+
+    public HHdEAConfiguration(String name, int numberOfThreads) {
         this.name = name;
+        this.numberOfThreads = numberOfThreads;
     }
 
     @Override
@@ -85,6 +91,7 @@ public class HHdEAConfiguration<S extends Solution> implements AlgorithmConfigur
         }
 
         return builder.setName(name)
+                .setNumberOfThreads(numberOfThreads)
                 .setMaxGenerations(generations)
                 .setPopulationSize(popSize).build();
     }
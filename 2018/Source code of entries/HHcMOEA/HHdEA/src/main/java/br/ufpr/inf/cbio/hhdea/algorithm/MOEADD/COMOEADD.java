@@ -20,8 +20,6 @@ import br.ufpr.inf.cbio.hhdea.algorithm.HHdEA.CooperativeAlgorithm;
 import java.util.ArrayList;
 import java.util.List;
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.solutionattribute.Ranking;
-import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
 
 /**
  *
@@ -38,7 +36,8 @@ public class COMOEADD<S extends Solution<?>> extends MOEADD<S> implements Cooper
         population_ = new ArrayList<>(populationSize_);
         for (int i = 0; i < populationSize_; i++) {
             population_.add(initialPop.get(i));
-            subregionIdx_[i][i] = 1;
+            region_[i] = i;
+            regionCount_[i] = 1;
         }
     } // initPopulation
 
@@ -57,9 +56,7 @@ public class COMOEADD<S extends Solution<?>> extends MOEADD<S> implements Cooper
         zp_ = new double[problem_.getNumberOfObjectives()]; // ideal point for Pareto-based population
         nzp_ = new double[problem_.getNumberOfObjectives()]; // nadir point for Pareto-based population
 
-        rankIdx_ = new int[populationSize_][populationSize_];
-        subregionIdx_ = new int[populationSize_][populationSize_];
-        subregionDist_ = new double[populationSize_][populationSize_];
+        initStructures();
 
         // STEP 1. Initialization
         initUniformWeight();
@@ -71,16 +68,10 @@ public class COMOEADD<S extends Solution<?>> extends MOEADD<S> implements Cooper
         // initialize the distance
         for (int i = 0; i < populationSize_; i++) {
             double distance = calculateDistance2(population_.get(i), lambda_[i], zp_, nzp_);
-            subregionDist_[i][i] = distance;
+            subregionDist_[i] = distance;
         }
 
-        Ranking ranking = (new DominanceRanking()).computeRanking(population_);
-        int curRank;
-        dominanceRankingAttributeIdentifier = (new DominanceRanking()).getAttributeIdentifier();
-        for (int i = 0; i < populationSize_; i++) {
-            curRank = (int) population_.get(i).getAttribute(dominanceRankingAttributeIdentifier);
-            rankIdx_[curRank][i] = 1;
-        }
+        initLevels();
 
     }
 
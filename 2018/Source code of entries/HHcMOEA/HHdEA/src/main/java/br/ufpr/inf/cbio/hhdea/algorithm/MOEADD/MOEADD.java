@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.StringTokenizer;
 import org.uma.jmetal.algorithm.Algorithm;
@@ -56,9 +57,20 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
     protected double delta_; 			// probability that parent solutions are selected from neighborhood
     protected int[][] neighborhood_;  // neighborhood structure
 
-    protected int[][] rankIdx_;			// index matrix for the non-domination levels
-    protected int[][] subregionIdx_;		// index matrix for subregion record
-    protected double[][] subregionDist_;	// distance matrix for perpendicular distance
+    protected NondominationLevels levels_;	// members of the non-domination levels
+    protected int[] region_;			// subregion of each solution
+    protected int[] regionCount_;		// number of solutions in each subregion
+    protected double[] subregionDist_;	// perpendicular distance of the initial solution of each subregion
+    protected byte[][] dominance_;		// cached checkDominance between solutions, UNKNOWN if not computed yet
+
+    protected static final byte UNKNOWN = 2;
+
+    private int[] frontSize_;		// sizes of the levels when a solution is added
+    private int[] levelBuffer_;		// members of a level, copied to be visited while it changes
+    private int[] curLevel_;
+    private int[] dominateList_;	// solutions to be moved to another level
+    private int dominateFirst_;
+    private int dominateEnd_;
 
     protected String functionType_;
 
@@ -107,9 +119,7 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
         zp_ = new double[problem_.getNumberOfObjectives()]; // ideal point for Pareto-based population
         nzp_ = new double[problem_.getNumberOfObjectives()]; // nadir point for Pareto-based population
 
-        rankIdx_ = new int[populationSize_][populationSize_];
-        subregionIdx_ = new int[populationSize_][populationSize_];
-        subregionDist_ = new double[populationSize_][populationSize_];
+        initStructures();
 
         // STEP 1. Initialization
         initUniformWeight();
@@ -121,16 +131,10 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
         // initialize the distance
         for (int i = 0; i < populationSize_; i++) {
             double distance = calculateDistance2(population_.get(i), lambda_[i], zp_, nzp_);
-            subregionDist_[i][i] = distance;
+            subregionDist_[i] = distance;
         }
 
-        Ranking ranking = (new DominanceRanking()).computeRanking(population_);
-        int curRank;
-        dominanceRankingAttributeIdentifier = (new DominanceRanking()).getAttributeIdentifier();
-        for (int i = 0; i < populationSize_; i++) {
-            curRank = (int) population_.get(i).getAttribute(dominanceRankingAttributeIdentifier);
-            rankIdx_[curRank][i] = 1;
-        }
+        initLevels();
 
         // main procedure
         do {
@@ -194,6 +198,36 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
         return "An Evolutionary Many-Objective Optimization Algorithm Based on Dominance and Decomposition";
     }
 
+    /**
+     * Allocate the level and subregion structures of the population
+     */
+    protected void initStructures() {
+        levels_ = new NondominationLevels(populationSize_);
+        region_ = new int[populationSize_];
+        regionCount_ = new int[populationSize_];
+        subregionDist_ = new double[populationSize_];
+        dominance_ = new byte[populationSize_][populationSize_];
+
+        frontSize_ = new int[populationSize_];
+        levelBuffer_ = new int[populationSize_];
+        curLevel_ = new int[populationSize_];
+        dominateList_ = new int[2 * populationSize_];
+    } // initStructures
+
+    /**
+     * Sort the initial population into its non-domination levels
+     */
+    protected void initLevels() {
+        Ranking ranking = (new DominanceRanking()).computeRanking(population_);
+        int curRank;
+        dominanceRankingAttributeIdentifier = (new DominanceRanking()).getAttributeIdentifier();
+        for (int i = 0; i < populationSize_; i++) {
+            curRank = (int) population_.get(i).getAttribute(dominanceRankingAttributeIdentifier);
+            levels_.move(i, curRank);
+            Arrays.fill(dominance_[i], UNKNOWN);
+        }
+    } // initLevels
+
     /**
      * Initialize the weight vectors for subproblems (We only use the data that
      * are already available)
@@ -258,7 +292,8 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
             problem_.evaluate(newSolution);
             evaluations_++;
             population_.add(newSolution);
-            subregionIdx_[i][i] = 1;
+            region_[i] = i;
+            regionCount_[i] = 1;
         }
     } // initPopulation
 
@@ -349,21 +384,15 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
         if (type == 1) {
             for (int i = 0; i < nLength; i++) {
                 int idx = neighborhood_[cid][i];
-                for (int j = 0; j < populationSize_; j++) {
-                    if (subregionIdx_[idx][j] == 1) {
-                        activeList.add(idx);
-                        break;
-                    }
+                if (regionCount_[idx] > 0) {
+                    activeList.add(idx);
                 }
             }
             if (activeList.size() < 2) {
                 activeList.clear();
                 for (int i = 0; i < populationSize_; i++) {
-                    for (int j = 0; j < populationSize_; j++) {
-                        if (subregionIdx_[i][j] == 1) {
-                            activeList.add(i);
-                            break;
-                        }
+                    if (regionCount_[i] > 0) {
+                        activeList.add(i);
                     }
                 }
             }
@@ -377,10 +406,10 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
             int id1 = activeList.get(rnd1);
             int id2 = activeList.get(rnd2);
             for (int i = 0; i < populationSize_; i++) {
-                if (subregionIdx_[id1][i] == 1) {
+                if (region_[i] == id1) {
                     list1.add(i);
                 }
-                if (subregionIdx_[id2][i] == 1) {
+                if (region_[i] == id2) {
                     list2.add(i);
                 }
             }
@@ -390,11 +419,8 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
             parents.add(1, population_.get(list2.get(p2)));
         } else {
             for (int i = 0; i < populationSize_; i++) {
-                for (int j = 0; j < populationSize_; j++) {
-                    if (subregionIdx_[i][j] == 1) {
-                        activeList.add(i);
-                        break;
-                    }
+                if (regionCount_[i] > 0) {
+                    activeList.add(i);
                 }
             }
             int activeSize = activeList.size();
@@ -407,10 +433,10 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
             int id1 = activeList.get(rnd1);
             int id2 = activeList.get(rnd2);
             for (int i = 0; i < populationSize_; i++) {
-                if (subregionIdx_[id1][i] == 1) {
+                if (region_[i] == id1) {
                     list1.add(i);
                 }
-                if (subregionIdx_[id2][i] == 1) {
+                if (region_[i] == id2) {
                     list2.add(i);
                 }
             }
@@ -441,15 +467,13 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
             deleteRankOne(indiv, location);
         } else {
             List<S> lastFront = new ArrayList<>(populationSize_);
-            int frontSize = countRankOnes(numRanks - 1);
+            int frontSize = levels_.size(numRanks - 1);
             if (frontSize == 0) {	// the last non-domination level only contains 'indiv'
                 frontSize++;
                 lastFront.add(indiv);
             } else {
-                for (int i = 0; i < populationSize_; i++) {
-                    if (rankIdx_[numRanks - 1][i] == 1) {
-                        lastFront.add(population_.get(i));
-                    }
+                for (int i = 0; i < frontSize; i++) {
+                    lastFront.add(population_.get(levels_.get(numRanks - 1, i)));
                 }
                 if ((int) indiv.getAttribute(dominanceRankingAttributeIdentifier) == (numRanks - 1)) {
                     frontSize++;
@@ -476,15 +500,12 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
                     deleteCrowdRegion2(indiv, location);
                 } else {	// the subregion contains some other solutions, drop solution 'targetIdx'
                     int indivRank = (int) indiv.getAttribute(dominanceRankingAttributeIdentifier);
-                    int targetRank = (int) population_.get(targetIdx).getAttribute(dominanceRankingAttributeIdentifier);
-                    rankIdx_[targetRank][targetIdx] = 0;
-                    rankIdx_[indivRank][targetIdx] = 1;
+                    levels_.move(targetIdx, indivRank);
 
                     Solution targetSol = population_.get(targetIdx).copy();
 
-                    population_.set(targetIdx, indiv);
-                    subregionIdx_[parentLocation][targetIdx] = 0;
-                    subregionIdx_[location][targetIdx] = 1;
+                    replace(targetIdx, indiv);
+                    moveRegion(targetIdx, location);
 
                     // update the non-domination level structure
                     nondominated_sorting_delete(targetSol);
@@ -591,15 +612,12 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
                                 nondominated_sorting_delete(indiv);
                             } else {
                                 int indivRank = (int) indiv.getAttribute(dominanceRankingAttributeIdentifier);
-                                int targetRank = (int) population_.get(idxArray[targetIdx]).getAttribute(dominanceRankingAttributeIdentifier);
-                                rankIdx_[targetRank][idxArray[targetIdx]] = 0;
-                                rankIdx_[indivRank][idxArray[targetIdx]] = 1;
+                                levels_.move(idxArray[targetIdx], indivRank);
 
                                 Solution targetSol = population_.get(idxArray[targetIdx]).copy();
 
-                                population_.set(idxArray[targetIdx], indiv);
-                                subregionIdx_[crowdIdx][idxArray[targetIdx]] = 0;
-                                subregionIdx_[location][idxArray[targetIdx]] = 1;
+                                replace(idxArray[targetIdx], indiv);
+                                moveRegion(idxArray[targetIdx], location);
 
                                 // update the non-domination level structure
                                 nondominated_sorting_delete(targetSol);
@@ -622,83 +640,67 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
         // find the non-domination level of 'indiv'
         int indivRank = (int) indiv.getAttribute(dominanceRankingAttributeIdentifier);
 
-        List<Integer> curLevel = new ArrayList<>();	// used to keep the solutions in the current non-domination level
-        List<Integer> dominateList = new ArrayList<>();	// used to keep the solutions need to be moved
-
-        for (int i = 0; i < populationSize_; i++) {
-            if (rankIdx_[indivRank][i] == 1) {
-                curLevel.add(i);
-            }
-        }
+        // used to keep the solutions in the current non-domination level
+        int curLevelSize = levels_.copy(indivRank, curLevel_);
+        // used to keep the solutions need to be moved
+        dominateFirst_ = dominateEnd_ = 0;
 
         int flag;
         // find the solutions belonging to the 'indivRank+1'th level and are dominated by 'indiv'
         int investigateRank = indivRank + 1;
         if (investigateRank < numRanks) {
-            for (int i = 0; i < populationSize_; i++) {
-                if (rankIdx_[investigateRank][i] == 1) {
-                    flag = 0;
-                    if (checkDominance(indiv, population_.get(i)) == 1) {
-                        for (int j = 0; j < curLevel.size(); j++) {
-                            if (checkDominance(population_.get(i), population_.get(curLevel.get(j))) == -1) {
-                                flag = 1;
-                                break;
-                            }
-                        }
-                        if (flag == 0) {	// the ith solution can move to the prior level
-                            dominateList.add(i);
-                            rankIdx_[investigateRank][i] = 0;
-                            rankIdx_[investigateRank - 1][i] = 1;
-                            population_.get(i).setAttribute(dominanceRankingAttributeIdentifier, investigateRank - 1);
+            int levelSize = levels_.copy(investigateRank, levelBuffer_);
+            for (int p = 0; p < levelSize; p++) {
+                int i = levelBuffer_[p];
+                flag = 0;
+                if (checkDominance(indiv, population_.get(i)) == 1) {
+                    for (int j = 0; j < curLevelSize; j++) {
+                        if (checkDominance(i, curLevel_[j]) == -1) {
+                            flag = 1;
+                            break;
                         }
                     }
+                    if (flag == 0) {	// the ith solution can move to the prior level
+                        addDominated(i);
+                        levels_.move(i, investigateRank - 1);
+                        population_.get(i).setAttribute(dominanceRankingAttributeIdentifier, investigateRank - 1);
+                    }
                 }
             }
         }
 
         int curIdx;
-        int curListSize = dominateList.size();
+        int curListSize = dominateEnd_ - dominateFirst_;
         while (curListSize != 0) {
-            curLevel.clear();
-            for (int i = 0; i < populationSize_; i++) {
-                if (rankIdx_[investigateRank][i] == 1) {
-                    curLevel.add(i);
-                }
-            }
+            curLevelSize = levels_.copy(investigateRank, curLevel_);
             investigateRank = investigateRank + 1;
 
             if (investigateRank < numRanks) {
-                for (int i = 0; i < curListSize; i++) {
-                    curIdx = dominateList.get(i);
-                    for (int j = 0; j < populationSize_; j++) {
-                        if (j == populationSize_) {
-                            System.out.println("Fuck me!!!");
-                        }
-                        if (rankIdx_[investigateRank][j] == 1) {
-                            flag = 0;
-                            if (checkDominance(population_.get(curIdx), population_.get(j)) == 1) {
-                                for (int k = 0; k < curLevel.size(); k++) {
-                                    if (checkDominance(population_.get(j), population_.get(curLevel.get(k))) == -1) {
-                                        flag = 1;
-                                        break;
-                                    }
-                                }
-                                if (flag == 0) {
-                                    dominateList.add(j);
-                                    rankIdx_[investigateRank][j] = 0;
-                                    rankIdx_[investigateRank - 1][j] = 1;
-                                    population_.get(j).setAttribute(dominanceRankingAttributeIdentifier, investigateRank - 1);
+                for (int i = dominateFirst_; i < dominateFirst_ + curListSize; i++) {
+                    curIdx = dominateList_[i];
+                    int levelSize = levels_.copy(investigateRank, levelBuffer_);
+                    for (int p = 0; p < levelSize; p++) {
+                        int j = levelBuffer_[p];
+                        flag = 0;
+                        if (checkDominance(curIdx, j) == 1) {
+                            for (int k = 0; k < curLevelSize; k++) {
+                                if (checkDominance(j, curLevel_[k]) == -1) {
+                                    flag = 1;
+                                    break;
                                 }
                             }
+                            if (flag == 0) {
+                                addDominated(j);
+                                levels_.move(j, investigateRank - 1);
+                                population_.get(j).setAttribute(dominanceRankingAttributeIdentifier, investigateRank - 1);
+                            }
                         }
                     }
                 }
             }
-            for (int i = 0; i < curListSize; i++) {
-                dominateList.remove(0);
-            }
+            dominateFirst_ += curListSize;
 
-            curListSize = dominateList.size();
+            curListSize = dominateEnd_ - dominateFirst_;
         }
 
     }
@@ -716,18 +718,13 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
 
         // count the number of non-domination levels
         int num_ranks = 0;
-        List<Integer> frontSize = new ArrayList<>();
-        for (int i = 0; i < populationSize_; i++) {
-            int rankCount = countRankOnes(i);
-            if (rankCount != 0) {
-                frontSize.add(rankCount);
-                num_ranks++;
-            } else {
-                break;
-            }
+        while (num_ranks < populationSize_ && levels_.size(num_ranks) != 0) {
+            frontSize_[num_ranks] = levels_.size(num_ranks);
+            num_ranks++;
         }
 
-        List<Integer> dominateList = new ArrayList<>();	// used to keep the solutions dominated by 'indiv'
+        // used to keep the solutions dominated by 'indiv'
+        dominateFirst_ = dominateEnd_ = 0;
         int level = 0;
         for (int i = 0; i < num_ranks; i++) {
             level = i;
@@ -740,66 +737,26 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
                 int prevRank = i - 1;
 
                 // process the solutions belong to 'prevRank'th level and are dominated by 'indiv' ==> move them to 'prevRank+1'th level and find the solutions dominated by them
-                int curIdx;
                 int newRank = prevRank + 1;
-                int curListSize = dominateList.size();
-                for (int j = 0; j < curListSize; j++) {
-                    curIdx = dominateList.get(j);
-                    rankIdx_[prevRank][curIdx] = 0;
-                    rankIdx_[newRank][curIdx] = 1;
-                    population_.get(curIdx).setAttribute(dominanceRankingAttributeIdentifier, newRank);
-                }
-                for (int j = 0; j < populationSize_; j++) {
-                    if (rankIdx_[newRank][j] == 1) {
-                        for (int k = 0; k < curListSize; k++) {
-                            curIdx = dominateList.get(k);
-                            if (checkDominance(population_.get(curIdx), population_.get(j)) == 1) {
-                                dominateList.add(j);
-                                break;
-                            }
-
-                        }
-                    }
-                }
-                for (int j = 0; j < curListSize; j++) {
-                    dominateList.remove(0);
-                }
+                int curListSize = dominateEnd_ - dominateFirst_;
+                moveDominated(newRank, curListSize);
 
                 // if there are still some other solutions moved to the next level, check their domination situation in their new level
                 prevRank = newRank;
                 newRank = newRank + 1;
-                curListSize = dominateList.size();
+                curListSize = dominateEnd_ - dominateFirst_;
                 if (curListSize == 0) {
                     return num_ranks;
                 } else {
                     int allFlag = 0;
                     do {
-                        for (int j = 0; j < curListSize; j++) {
-                            curIdx = dominateList.get(j);
-                            rankIdx_[prevRank][curIdx] = 0;
-                            rankIdx_[newRank][curIdx] = 1;
-                            population_.get(curIdx).setAttribute(dominanceRankingAttributeIdentifier, newRank);
-                        }
-                        for (int j = 0; j < populationSize_; j++) {
-                            if (rankIdx_[newRank][j] == 1) {
-                                for (int k = 0; k < curListSize; k++) {
-                                    curIdx = dominateList.get(k);
-                                    if (checkDominance(population_.get(curIdx), population_.get(j)) == 1) {
-                                        dominateList.add(j);
-                                        break;
-                                    }
-                                }
-                            }
-                        }
-                        for (int j = 0; j < curListSize; j++) {
-                            dominateList.remove(0);
-                        }
+                        moveDominated(newRank, curListSize);
 
-                        curListSize = dominateList.size();
+                        curListSize = dominateEnd_ - dominateFirst_;
                         if (curListSize != 0) {
                             prevRank = newRank;
                             newRank = newRank + 1;
-                            if (curListSize == frontSize.get(prevRank)) {	// if all solutions in the 'prevRank'th level are dominated by the newly added solution, move them all to the next level
+                            if (curListSize == frontSize_[prevRank]) {	// if all solutions in the 'prevRank'th level are dominated by the newly added solution, move them all to the next level
                                 allFlag = 1;
                                 break;
                             }
@@ -807,46 +764,21 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
                     } while (curListSize != 0);
 
                     if (allFlag == 1) {	// move the solutions after the 'prevRank'th level to their next levels
-                        int remainSize = num_ranks - prevRank;
-                        int[][] tempRecord = new int[remainSize][populationSize_];
-
-                        int tempIdx = 0;
-                        for (int j = 0; j < dominateList.size(); j++) {
-                            tempRecord[0][tempIdx] = dominateList.get(j);
-                            tempIdx++;
-                        }
-
-                        int k = 1;
-                        int curRank = prevRank + 1;
-                        while (curRank < num_ranks) {
-                            tempIdx = 0;
-                            for (int j = 0; j < populationSize_; j++) {
-                                if (rankIdx_[curRank][j] == 1) {
-                                    tempRecord[k][tempIdx] = j;
-                                    tempIdx++;
-                                }
+                        // the solutions to be moved are the whole 'prevRank'th level and the levels after it, before any of them moves
+                        for (int curRank = prevRank + 1; curRank < num_ranks; curRank++) {
+                            for (int j = 0; j < levels_.size(curRank); j++) {
+                                addDominated(levels_.get(curRank, j));
                             }
-                            curRank++;
-                            k++;
                         }
 
-                        k = 0;
-                        curRank = prevRank;
-                        while (curRank < num_ranks) {
-                            int level_size = frontSize.get(curRank);
-
-                            int tempRank;
-                            for (int j = 0; j < level_size; j++) {
-                                curIdx = tempRecord[k][j];
-                                tempRank = (int) population_.get(curIdx).getAttribute(dominanceRankingAttributeIdentifier);
-                                newRank = tempRank + 1;
-                                population_.get(curIdx).setAttribute(dominanceRankingAttributeIdentifier, newRank);
+                        int tempRank;
+                        for (int j = dominateFirst_; j < dominateEnd_; j++) {
+                            int curIdx = dominateList_[j];
+                            tempRank = (int) population_.get(curIdx).getAttribute(dominanceRankingAttributeIdentifier);
+                            newRank = tempRank + 1;
+                            population_.get(curIdx).setAttribute(dominanceRankingAttributeIdentifier, newRank);
 
-                                rankIdx_[tempRank][curIdx] = 0;
-                                rankIdx_[newRank][curIdx] = 1;
-                            }
-                            curRank++;
-                            k++;
+                            levels_.move(curIdx, newRank);
                         }
                         num_ranks++;
                     }
@@ -859,77 +791,41 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
                 }
             } else if (flag == 3 || flag == 0) {	// if 'indiv' is dominated by some solutions in the ith level, skip it, and term to the next level
                 flag1 = flag2 = flag3 = 0;
-                for (int j = 0; j < populationSize_; j++) {
-                    if (rankIdx_[i][j] == 1) {
-                        switch (checkDominance(indiv, population_.get(j))) {
-                            case 1: {
-                                flag1 = 1;
-                                dominateList.add(j);
-                                break;
-                            }
-                            case 0: {
-                                flag2 = 1;
-                                break;
-                            }
-                            case -1: {
-                                flag3 = 1;
-                                break;
-                            }
+                for (int p = 0; p < levels_.size(i); p++) {
+                    int j = levels_.get(i, p);
+                    switch (checkDominance(indiv, population_.get(j))) {
+                        case 1: {
+                            flag1 = 1;
+                            addDominated(j);
+                            break;
                         }
-
-                        if (flag3 == 1) {
-                            flag = 3;
+                        case 0: {
+                            flag2 = 1;
                             break;
-                        } else if (flag1 == 0 && flag2 == 1) {
-                            flag = 1;
-                        } else if (flag1 == 1 && flag2 == 1) {
-                            flag = 2;
-                        } else if (flag1 == 1 && flag2 == 0) {
-                            flag = 4;
-                        } else {
-                            continue;
                         }
-                    }
-                }
-
-            } else {	// (flag == 4) if 'indiv' dominates all solutions in the ith level, solutions in the current level and beyond move their current next levels
-                indiv.setAttribute(dominanceRankingAttributeIdentifier, i - 1);
-                i = i - 1;
-                int remainSize = num_ranks - i;
-                int[][] tempRecord = new int[remainSize][populationSize_];
-
-                int k = 0;
-                while (i < num_ranks) {
-                    int tempIdx = 0;
-                    for (int j = 0; j < populationSize_; j++) {
-                        if (rankIdx_[i][j] == 1) {
-                            tempRecord[k][tempIdx] = j;
-                            tempIdx++;
+                        case -1: {
+                            flag3 = 1;
+                            break;
                         }
                     }
-                    i++;
-                    k++;
-                }
 
-                k = 0;
-                i = (int) indiv.getAttribute(dominanceRankingAttributeIdentifier);
-                while (i < num_ranks) {
-                    int level_size = frontSize.get(i);
-
-                    int curIdx;
-                    int curRank, newRank;
-                    for (int j = 0; j < level_size; j++) {
-                        curIdx = tempRecord[k][j];
-                        curRank = (int) population_.get(curIdx).getAttribute(dominanceRankingAttributeIdentifier);
-                        newRank = curRank + 1;
-                        population_.get(curIdx).setAttribute(dominanceRankingAttributeIdentifier, newRank);
-
-                        rankIdx_[curRank][curIdx] = 0;
-                        rankIdx_[newRank][curIdx] = 1;
+                    if (flag3 == 1) {
+                        flag = 3;
+                        break;
+                    } else if (flag1 == 0 && flag2 == 1) {
+                        flag = 1;
+                    } else if (flag1 == 1 && flag2 == 1) {
+                        flag = 2;
+                    } else if (flag1 == 1 && flag2 == 0) {
+                        flag = 4;
+                    } else {
+                        continue;
                     }
-                    i++;
-                    k++;
                 }
+
+            } else {	// (flag == 4) if 'indiv' dominates all solutions in the ith level, solutions in the current level and beyond move their current next levels
+                indiv.setAttribute(dominanceRankingAttributeIdentifier, i - 1);
+                moveLevels(i - 1, num_ranks);
                 num_ranks++;
 
                 return num_ranks;
@@ -943,13 +839,11 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
             case 2:
                 indiv.setAttribute(dominanceRankingAttributeIdentifier, level);
                 int curIdx;
-                int tempSize = dominateList.size();
-                for (int i = 0; i < tempSize; i++) {
-                    curIdx = dominateList.get(i);
+                for (int i = dominateFirst_; i < dominateEnd_; i++) {
+                    curIdx = dominateList_[i];
                     population_.get(curIdx).setAttribute(dominanceRankingAttributeIdentifier, level + 1);
 
-                    rankIdx_[level][curIdx] = 0;
-                    rankIdx_[level + 1][curIdx] = 1;
+                    levels_.move(curIdx, level + 1);
                 }
                 num_ranks++;
                 break;
@@ -959,14 +853,7 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
                 break;
             default:
                 indiv.setAttribute(dominanceRankingAttributeIdentifier, level);
-                for (int i = 0; i < populationSize_; i++) {
-                    if (rankIdx_[level][i] == 1) {
-                        population_.get(i).setAttribute(dominanceRankingAttributeIdentifier, level + 1);
-
-                        rankIdx_[level][i] = 0;
-                        rankIdx_[level + 1][i] = 1;
-                    }
-                }
+                moveLevels(level, level + 1);
                 num_ranks++;
                 break;
         }
@@ -974,6 +861,66 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
         return num_ranks;
     }
 
+    /**
+     * move the first 'curListSize' solutions of the dominated list to the
+     * 'newRank'th level, and replace them in the list by the solutions of that
+     * level they dominate
+     *
+     * @param newRank
+     * @param curListSize
+     */
+    private void moveDominated(int newRank, int curListSize) {
+        int curIdx;
+        for (int j = dominateFirst_; j < dominateFirst_ + curListSize; j++) {
+            curIdx = dominateList_[j];
+            levels_.move(curIdx, newRank);
+            population_.get(curIdx).setAttribute(dominanceRankingAttributeIdentifier, newRank);
+        }
+        for (int p = 0; p < levels_.size(newRank); p++) {
+            int j = levels_.get(newRank, p);
+            for (int k = dominateFirst_; k < dominateFirst_ + curListSize; k++) {
+                curIdx = dominateList_[k];
+                if (checkDominance(curIdx, j) == 1) {
+                    addDominated(j);
+                    break;
+                }
+            }
+        }
+        dominateFirst_ += curListSize;
+    }
+
+    /**
+     * move every solution from the 'from'th level up to, but excluding, the
+     * 'to'th level to its next level
+     *
+     * @param from
+     * @param to
+     */
+    private void moveLevels(int from, int to) {
+        // move the last levels first, so that no level receives solutions before it is emptied
+        for (int curRank = to - 1; curRank >= from; curRank--) {
+            int levelSize = levels_.copy(curRank, levelBuffer_);
+            for (int j = 0; j < levelSize; j++) {
+                int curIdx = levelBuffer_[j];
+                population_.get(curIdx).setAttribute(dominanceRankingAttributeIdentifier, curRank + 1);
+
+                levels_.move(curIdx, curRank + 1);
+            }
+        }
+    }
+
+    /**
+     * append a solution to the dominated list
+     *
+     * @param idx
+     */
+    private void addDominated(int idx) {
+        if (dominateEnd_ == dominateList_.length) {
+            dominateList_ = Arrays.copyOf(dominateList_, 2 * dominateList_.length);
+        }
+        dominateList_[dominateEnd_++] = idx;
+    }
+
     /**
      * Delete a solution from the most crowded subregion (this function only
      * happens when: it should delete 'indiv' based on traditional method.
@@ -1020,7 +967,7 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
         // find the solution indices within the 'crowdIdx' subregion
         List<Integer> indList = new ArrayList<>();
         for (int i = 0; i < populationSize_; i++) {
-            if (subregionIdx_[crowdIdx][i] == 1) {
+            if (region_[i] == crowdIdx) {
                 indList.add(i);
             }
         }
@@ -1054,15 +1001,12 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
         }
 
         int indivRank = (int) indiv.getAttribute(dominanceRankingAttributeIdentifier);
-        int targetRank = (int) population_.get(targetIdx).getAttribute(dominanceRankingAttributeIdentifier);
-        rankIdx_[targetRank][targetIdx] = 0;
-        rankIdx_[indivRank][targetIdx] = 1;
+        levels_.move(targetIdx, indivRank);
 
         Solution targetSol = population_.get(targetIdx).copy();
 
-        population_.set(targetIdx, indiv);
-        subregionIdx_[crowdIdx][targetIdx] = 0;
-        subregionIdx_[location][targetIdx] = 1;
+        replace(targetIdx, indiv);
+        moveRegion(targetIdx, location);
 
         // update the non-domination level structure
         nondominated_sorting_delete(targetSol);
@@ -1128,7 +1072,7 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
         // find the solution indices within the 'crowdIdx' subregion
         List<Integer> indList = new ArrayList<>();
         for (int i = 0; i < populationSize_; i++) {
-            if (subregionIdx_[crowdIdx][i] == 1) {
+            if (region_[i] == crowdIdx) {
                 indList.add(i);
             }
         }
@@ -1188,15 +1132,12 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
             return;
         } else {
             int indivRank = (int) indiv.getAttribute(dominanceRankingAttributeIdentifier);
-            int targetRank = (int) population_.get(targetIdx).getAttribute(dominanceRankingAttributeIdentifier);
-            rankIdx_[targetRank][targetIdx] = 0;
-            rankIdx_[indivRank][targetIdx] = 1;
+            levels_.move(targetIdx, indivRank);
 
             Solution targetSol = population_.get(targetIdx).copy();
 
-            population_.set(targetIdx, indiv);
-            subregionIdx_[crowdIdx][targetIdx] = 0;
-            subregionIdx_[location][targetIdx] = 1;
+            replace(targetIdx, indiv);
+            moveRegion(targetIdx, location);
 
             // update the non-domination level structure of the population
             nondominated_sorting_delete(targetSol);
@@ -1268,13 +1209,13 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
                 // if every subregion only contains one solution, delete the worst from indiv's subregion
                 int targetIdx;
                 for (targetIdx = 0; targetIdx < populationSize_; targetIdx++) {
-                    if (subregionIdx_[location][targetIdx] == 1) {
+                    if (region_[targetIdx] == location) {
                         break;
                     }
                 }
                 double prev_func = fitnessFunction(population_.get(targetIdx), lambda_[location]);
                 if (indivFitness < prev_func) {
-                    population_.set(targetIdx, indiv);
+                    replace(targetIdx, indiv);
                 }
                 break;
             default:
@@ -1316,7 +1257,7 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
 
         double sum = 0;
         for (int i = 0; i < populationSize_; i++) {
-            if (subregionIdx_[location][i] == 1) {
+            if (region_[i] == location) {
                 sum = sum + fitnessFunction(population_.get(i), lambda_[location]);
             }
         }
@@ -1339,7 +1280,7 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
         // find the solution indices within this crowdIdx subregion
         List<Integer> indList = new ArrayList<>();
         for (int i = 0; i < populationSize_; i++) {
-            if (subregionIdx_[crowdIdx][i] == 1) {
+            if (region_[i] == crowdIdx) {
                 indList.add(i);
             }
         }
@@ -1359,7 +1300,7 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
 
         // if indiv has a better fitness, use indiv to replace the worst one
         if (indivFitness < maxFitness) {
-            population_.set(worstIdx, indiv);
+            replace(worstIdx, indiv);
         }
     }
 
@@ -1377,7 +1318,7 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
         // find the solution indices within this crowdIdx subregion
         List<Integer> indList = new ArrayList<>();
         for (int i = 0; i < populationSize_; i++) {
-            if (subregionIdx_[crowdIdx][i] == 1) {
+            if (region_[i] == crowdIdx) {
                 indList.add(i);
             }
         }
@@ -1395,9 +1336,8 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
         }
 
         // use indiv to replace the worst one
-        population_.set(worstIdx, indiv);
-        subregionIdx_[crowdIdx][worstIdx] = 0;
-        subregionIdx_[curLocation][worstIdx] = 1;
+        replace(worstIdx, indiv);
+        moveRegion(worstIdx, curLocation);
 
     }
 
@@ -1408,33 +1348,17 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
      * @return
      */
     public int countOnes(int location) {
-
-        int count = 0;
-        for (int i = 0; i < populationSize_; i++) {
-            if (subregionIdx_[location][i] == 1) {
-                count++;
-            }
-        }
-
-        return count;
+        return regionCount_[location];
     }
 
     /**
-     * count the number of 1s in a row of rank matrix
+     * count the number of solutions in a non-domination level
      *
      * @param location
      * @return
      */
     public int countRankOnes(int location) {
-
-        int count = 0;
-        for (int i = 0; i < populationSize_; i++) {
-            if (rankIdx_[location][i] == 1) {
-                count++;
-            }
-        }
-
-        return count;
+        return levels_.size(location);
     }
 
     /**
@@ -1461,14 +1385,34 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
      * @return
      */
     public int findRegion(int idx) {
+        return region_[idx];
+    }
+
+    /**
+     * move the 'idx'th solution in the population_ to another subregion
+     *
+     * @param idx
+     * @param location
+     */
+    protected void moveRegion(int idx, int location) {
+        regionCount_[region_[idx]]--;
+        region_[idx] = location;
+        regionCount_[location]++;
+    }
 
+    /**
+     * replace the 'idx'th solution in the population_, forgetting its cached
+     * dominance relations
+     *
+     * @param idx
+     * @param indiv
+     */
+    protected void replace(int idx, S indiv) {
+        population_.set(idx, indiv);
+        Arrays.fill(dominance_[idx], UNKNOWN);
         for (int i = 0; i < populationSize_; i++) {
-            if (subregionIdx_[i][idx] == 1) {
-                return i;
-            }
+            dominance_[i][idx] = UNKNOWN;
         }
-
-        return -1;
     }
 
     /**
@@ -1530,6 +1474,25 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
         }
     }
 
+    /**
+     * check the dominance relationship between the 'a'th and the 'b'th
+     * solutions in the population_, as checkDominance(Solution, Solution), but
+     * computing it once while neither solution is replaced
+     *
+     * @param a
+     * @param b
+     * @return
+     */
+    public int checkDominance(int a, int b) {
+        byte relation = dominance_[a][b];
+        if (relation == UNKNOWN) {
+            relation = (byte) checkDominance(population_.get(a), population_.get(b));
+            dominance_[a][b] = relation;
+            dominance_[b][a] = (byte) -relation;
+        }
+        return relation;
+    }
+
     /**
      * Calculate the perpendicular distance between the solution and reference
      * line
@@ -1635,11 +1598,7 @@ public class MOEADD<S extends Solution<?>> implements Algorithm<List<S>> {
 
         int sum = 0;
         for (int i = 0; i < populationSize_; i++) {
-            for (int j = 0; j < populationSize_; j++) {
-                if (subregionIdx_[i][j] == 1) {
-                    sum++;
-                }
-            }
+            sum += regionCount_[i];
         }
 
         return sum;
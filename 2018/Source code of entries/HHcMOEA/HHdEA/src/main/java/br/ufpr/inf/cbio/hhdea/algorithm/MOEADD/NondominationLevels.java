@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2018 Gian Fritsche <gmfritsche@inf.ufpr.br>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.ufpr.inf.cbio.hhdea.algorithm.MOEADD;
+
+import java.util.Arrays;
+
+/**
+ * Members of the non-domination levels of a population, as indices of the
+ * population. Each level keeps its members in a compact array sorted by
+ * index, so the members are visited in the same order as a scan of the whole
+ * population, and the arrays only grow as large as their levels get. Moving a
+ * member to another level costs time proportional to the size of the levels
+ * involved.
+ *
+ * @author Gian Fritsche <gmfritsche@inf.ufpr.br>
+ */
+public class NondominationLevels {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final int[][] members; // members of each level, sorted by index
+    private final int[] size;
+    private final int[] level; // level of each index, -1 if none
+
+    public NondominationLevels(int populationSize) {
+        members = new int[populationSize][];
+        size = new int[populationSize];
+        level = new int[populationSize];
+        Arrays.fill(level, -1);
+    }
+
+    /**
+     * @param rank the level
+     * @return the number of members of the level
+     */
+    public int size(int rank) {
+        return size[rank];
+    }
+
+    /**
+     * @param rank the level
+     * @param k the position of the member in the level
+     * @return the index of the kth member of the level, in increasing order
+     */
+    public int get(int rank, int k) {
+        return members[rank][k];
+    }
+
+    /**
+     * @param idx the index of a solution
+     * @return the level of the solution, -1 if it is in none
+     */
+    public int getLevel(int idx) {
+        return level[idx];
+    }
+
+    /**
+     * Copies the members of a level, so that they can be visited while the
+     * level changes.
+     *
+     * @param rank the level
+     * @param buffer the array receiving the members, from its first position
+     * @return the number of members copied
+     */
+    public int copy(int rank, int[] buffer) {
+        if (size[rank] > 0) {
+            System.arraycopy(members[rank], 0, buffer, 0, size[rank]);
+        }
+        return size[rank];
+    }
+
+    /**
+     * Puts a solution in a level, removing it from its previous level.
+     *
+     * @param idx the index of the solution
+     * @param rank the new level
+     */
+    public void move(int idx, int rank) {
+        if (level[idx] != -1) {
+            remove(idx);
+        }
+
+        if (members[rank] == null) {
+            members[rank] = new int[INITIAL_CAPACITY];
+        } else if (size[rank] == members[rank].length) {
+            members[rank] = Arrays.copyOf(members[rank], 2 * size[rank]);
+        }
+        int position = -(Arrays.binarySearch(members[rank], 0, size[rank], idx) + 1);
+        System.arraycopy(members[rank], position, members[rank], position + 1, size[rank] - position);
+        members[rank][position] = idx;
+        size[rank]++;
+        level[idx] = rank;
+    }
+
+    /**
+     * Removes a solution from its level.
+     *
+     * @param idx the index of the solution
+     */
+    public void remove(int idx) {
+        int rank = level[idx];
+        int position = Arrays.binarySearch(members[rank], 0, size[rank], idx);
+        System.arraycopy(members[rank], position + 1, members[rank], position, size[rank] - position - 1);
+        size[rank]--;
+        level[idx] = -1;
+    }
+
+}
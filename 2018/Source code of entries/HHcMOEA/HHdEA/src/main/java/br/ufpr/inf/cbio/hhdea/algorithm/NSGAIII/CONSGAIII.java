@@ -68,8 +68,7 @@ public class CONSGAIII<S extends Solution<?>> extends NSGAIII<S> implements Coop
 
         if (remain > 0) { // front contains individuals to insert
 
-            new Niching(population_, front, lambda_, remain, normalize_)
-                    .execute();
+            niching_.execute(population_, front, remain);
         }
     }
 
@@ -77,6 +76,7 @@ public class CONSGAIII<S extends Solution<?>> extends NSGAIII<S> implements Coop
     public void init(int populationSize) {
         this.populationSize_ = populationSize;
         initializeUniformWeight();
+        niching_ = new Niching<>(lambda_, normalize_, parallelNiching_);
         if (populationSize_ % 2 != 0) {
             populationSize_ += 1;
         }
@@ -57,6 +57,10 @@ public class NSGAIII<S extends Solution> implements Algorithm<List<S>> {
 
     boolean normalize_; // do normalization or not
 
+    boolean parallelNiching_; // associate the solutions to the reference points in parallel
+
+    Niching<S> niching_;
+
     protected final Problem<S> problem_;
 
     protected int maxGenerations_;
@@ -69,6 +73,8 @@ public class NSGAIII<S extends Solution> implements Algorithm<List<S>> {
 
         normalize_ = builder.getNormalize();
 
+        parallelNiching_ = builder.getParallelNiching();
+
         populationSize_ = builder.getPopulationSize();
 
         mutation_ = builder.getMutation();
@@ -116,6 +122,7 @@ public class NSGAIII<S extends Solution> implements Algorithm<List<S>> {
         generations_ = 0;
 
         initializeUniformWeight();
+        niching_ = new Niching<>(lambda_, normalize_, parallelNiching_);
 
         if (populationSize_ % 2 != 0) {
             populationSize_ += 1;
@@ -180,8 +187,7 @@ public class NSGAIII<S extends Solution> implements Algorithm<List<S>> {
 
             if (remain > 0) { // front contains individuals to insert
 
-                new Niching(population_, front, lambda_, remain, normalize_)
-                        .execute();
+                niching_.execute(population_, front, remain);
             }
 
             generations_++;
@@ -33,6 +33,7 @@ public class NSGAIIIBuilder<S extends Solution> implements AlgorithmBuilder<NSGA
     private final Problem<S> problem;
     private int maxGenerations;
     private boolean normalize;
+    private boolean parallelNiching;
     private int populationSize;
     private CrossoverOperator crossover;
     private MutationOperator mutation;
@@ -56,6 +57,11 @@ public class NSGAIIIBuilder<S extends Solution> implements AlgorithmBuilder<NSGA
         return this;
     }
 
+    public NSGAIIIBuilder setParallelNiching(boolean parallelNiching) {
+        this.parallelNiching = parallelNiching;
+        return this;
+    }
+
     public NSGAIIIBuilder setCrossover(CrossoverOperator crossover) {
         this.crossover = crossover;
         return this;
@@ -89,6 +95,10 @@ public class NSGAIIIBuilder<S extends Solution> implements AlgorithmBuilder<NSGA
         return this.normalize;
     }
 
+    public boolean getParallelNiching() {
+        return this.parallelNiching;
+    }
+
     public int getPopulationSize() {
         return this.populationSize;
     }
@@ -16,225 +16,323 @@
  */
 package br.ufpr.inf.cbio.hhdea.algorithm.NSGAIII;
 
-import Jama.Matrix;
 import br.ufpr.inf.cbio.hhdea.util.Permutation;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.IntStream;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 /**
+ * Niching of the NSGA-III environmental selection. An instance is created
+ * once per algorithm: the reference directions are stored in flat arrays
+ * together with their norms and unit vectors, and the objective values, the
+ * normalization and the association of every selection are kept in buffers
+ * reused by the next one.
  *
  * @author Gian Fritsche <gmfritsche@inf.ufpr.br>
  * @param <S>
  */
 public class Niching<S extends Solution> {
 
-    List<S> population;
-    List<S> lastFront;
-    List<S> mgPopulation;
+    private static final double EPSILON = 1.0E-6;
 
-    List<S> union;
+    protected final int obj;
+    protected final int numberOfDirections;
+    protected final boolean normalization;
+    protected final boolean parallel;
 
-    int obj;
-    int remain;
+    protected final double[] directions; // direction k at [k * obj, (k + 1) * obj)
+    protected final double[] unitDirections;
+    protected final double[] norms;
 
-    boolean normalization;
+    protected final double[] zideal;
+    protected final double[] zmax;
+    protected final double[] intercepts;
+    protected final double[] extremePoints; // extreme point j at [j * obj, (j + 1) * obj), translated by zideal
+    protected final double[] system; // copy of extremePoints solved in place
+    protected final double[] solution;
 
-    double[][] lambda;
+    protected double[] points; // objectives of population + lastFront, translated and normalized
+    protected int[] cluster; // reference direction of each point
+    protected double[] distance; // perpendicular distance to it
 
-    double[] zideal;
+    protected final int[] ro;
+    protected final boolean[] flag;
+    protected final int[] clusterStart; // lastFront members of direction k at [clusterStart[k], clusterStart[k + 1])
+    protected int[] clusterMembers;
 
-    double[] zmax;
-
-    double[][] extremePoints;
-
-    double[] intercepts;
-
-    public Niching(List<S> population, List<S> lastFront,
-            double[][] lambda, int remain, boolean normalization) {
+    public Niching(double[][] lambda, boolean normalization, boolean parallel) {
+        this.obj = lambda[0].length;
+        this.numberOfDirections = lambda.length;
+        this.normalization = normalization;
+        this.parallel = parallel;
 
-        this.population = population;
-        this.lastFront = lastFront;
+        directions = new double[numberOfDirections * obj];
+        unitDirections = new double[numberOfDirections * obj];
+        norms = new double[numberOfDirections];
+        for (int k = 0; k < numberOfDirections; k++) {
+            double norm = 0;
+            for (int j = 0; j < obj; j++) {
+                directions[k * obj + j] = lambda[k][j];
+                norm += (lambda[k][j] * lambda[k][j]);
+            }
+            norm = Math.sqrt(norm);
+            norms[k] = norm;
+            for (int j = 0; j < obj; j++) {
+                unitDirections[k * obj + j] = lambda[k][j] / norm;
+            }
+        }
 
-        this.remain = remain;
-        this.lambda = lambda;
+        zideal = new double[obj];
+        zmax = new double[obj];
+        intercepts = new double[obj];
+        extremePoints = new double[obj * obj];
+        system = new double[obj * obj];
+        solution = new double[obj];
+
+        points = new double[0];
+        cluster = new int[0];
+        distance = new double[0];
+
+        ro = new int[numberOfDirections];
+        flag = new boolean[numberOfDirections];
+        clusterStart = new int[numberOfDirections + 1];
+        clusterMembers = new int[0];
+    }
 
-        this.normalization = normalization;
+    /**
+     * Adds remain solutions of lastFront to population, preferring the
+     * reference directions with the fewest associated solutions.
+     *
+     * @param population the solutions already selected
+     * @param lastFront the front that does not fit in the population
+     * @param remain the number of solutions to add
+     */
+    public void execute(List<S> population, List<S> lastFront, int remain) {
+        int populationSize = population.size();
+        int size = populationSize + lastFront.size();
+        if (cluster.length < size) {
+            points = new double[size * obj];
+            cluster = new int[size];
+            distance = new double[size];
+            clusterMembers = new int[size];
+        }
 
-        this.mgPopulation = new ArrayList<>();
-        this.mgPopulation.addAll(population);
-        this.mgPopulation.addAll(lastFront);
+        Arrays.fill(zideal, Double.MAX_VALUE);
+        Arrays.fill(zmax, Double.MIN_VALUE);
+        copy(population, 0);
+        copy(lastFront, populationSize);
 
-        if (population.size() > 0) {
-            this.obj = population.get(0).getNumberOfObjectives();
-        } else {
-            this.obj = lastFront.get(0).getNumberOfObjectives();
+        // translate the points to the ideal point
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < obj; j++) {
+                points[i * obj + j] -= zideal[j];
+            }
         }
-    }
-
-    public void execute() {
-        computeIdealPoint();
 
         if (normalization) {
-            computeMaxPoint();
-            computeExtremePoints();
+            computeExtremePoints(size);
             computeIntercepts();
-            normalizePopulation();
+            normalizePoints(size);
         }
 
-        associate();
-        assignment();
-    }
-
-    void computeIdealPoint() {
-        zideal = new double[obj];
-
-        for (int j = 0; j < obj; j++) {
-            zideal[j] = Double.MAX_VALUE;
-
-            for (int i = 0; i < mgPopulation.size(); i++) {
-                if (mgPopulation.get(i).getObjective(j) < zideal[j]) {
-                    zideal[j] = mgPopulation.get(i).getObjective(j);
-                }
+        if (parallel) {
+            IntStream.range(0, size).parallel().forEach(this::associate);
+        } else {
+            for (int i = 0; i < size; i++) {
+                associate(i);
             }
         }
 
+        assignment(population, lastFront, populationSize, remain);
     }
 
-    void computeMaxPoint() {
-        zmax = new double[obj];
-
-        for (int j = 0; j < obj; j++) {
-            zmax[j] = Double.MIN_VALUE;
-
-            for (int i = 0; i < mgPopulation.size(); i++) {
-                if (mgPopulation.get(i).getObjective(j) > zmax[j]) {
-                    zmax[j] = mgPopulation.get(i).getObjective(j);
+    /**
+     * Copies the objectives of the solutions to the points from position
+     * offset on, updating the ideal and max points.
+     */
+    private void copy(List<S> solutions, int offset) {
+        for (int i = 0; i < solutions.size(); i++) {
+            S sol = solutions.get(i);
+            int p = (offset + i) * obj;
+            for (int j = 0; j < obj; j++) {
+                double value = sol.getObjective(j);
+                points[p + j] = value;
+                if (value < zideal[j]) {
+                    zideal[j] = value;
+                }
+                if (value > zmax[j]) {
+                    zmax[j] = value;
                 }
             }
         }
     }
 
-    void computeExtremePoints() {
-        extremePoints = new double[obj][obj];
-
+    void computeExtremePoints(int size) {
         for (int j = 0; j < obj; j++) {
             int index = -1;
             double min = Double.MAX_VALUE;
 
-            for (int i = 0; i < mgPopulation.size(); i++) {
-                double asfValue = asfFunction(mgPopulation.get(i), j);
+            for (int i = 0; i < size; i++) {
+                double asfValue = asfFunction(i, j);
                 if (asfValue < min) {
                     min = asfValue;
                     index = i;
                 }
             }
 
-            for (int k = 0; k < obj; k++) {
-                extremePoints[j][k] = mgPopulation.get(index).getObjective(k);
-            }
+            System.arraycopy(points, index * obj, extremePoints, j * obj, obj);
         }
     }
 
+    /**
+     * Computes the intercepts of the hyperplane through the extreme points,
+     * solving extremePoints * a = 1 by Gaussian elimination with partial
+     * pivoting. Falls back to the max point if the extreme points are
+     * linearly dependent or an intercept is not beyond the ideal point.
+     */
     void computeIntercepts() {
+        System.arraycopy(extremePoints, 0, system, 0, obj * obj);
+        Arrays.fill(solution, 1.0);
 
-        intercepts = new double[obj];
-
-        double[][] temp = new double[obj][obj];
+        double scale = 0;
+        for (int i = 0; i < obj * obj; i++) {
+            scale = Math.max(scale, Math.abs(system[i]));
+        }
+        double tolerance = obj * scale * Math.ulp(1.0);
 
-        for (int i = 0; i < obj; i++) {
-            for (int j = 0; j < obj; j++) {
-                double val = extremePoints[i][j] - zideal[j];
-                temp[i][j] = val;
+        for (int c = 0; c < obj; c++) {
+            int pivot = c;
+            for (int r = c + 1; r < obj; r++) {
+                if (Math.abs(system[r * obj + c]) > Math.abs(system[pivot * obj + c])) {
+                    pivot = r;
+                }
+            }
+            if (!(Math.abs(system[pivot * obj + c]) > tolerance)) {
+                System.arraycopy(zmax, 0, intercepts, 0, obj);
+                return;
+            }
+            if (pivot != c) {
+                for (int k = c; k < obj; k++) {
+                    double temp = system[c * obj + k];
+                    system[c * obj + k] = system[pivot * obj + k];
+                    system[pivot * obj + k] = temp;
+                }
+                double temp = solution[c];
+                solution[c] = solution[pivot];
+                solution[pivot] = temp;
+            }
+            for (int r = c + 1; r < obj; r++) {
+                double factor = system[r * obj + c] / system[c * obj + c];
+                for (int k = c + 1; k < obj; k++) {
+                    system[r * obj + k] -= factor * system[c * obj + k];
+                }
+                solution[r] -= factor * solution[c];
             }
         }
-
-        Matrix EX = new Matrix(temp);
-
-        if (EX.rank() == EX.getRowDimension()) {
-            double[] u = new double[obj];
-            for (int j = 0; j < obj; j++) {
-                u[j] = 1;
+        for (int c = obj - 1; c >= 0; c--) {
+            double sum = solution[c];
+            for (int k = c + 1; k < obj; k++) {
+                sum -= system[c * obj + k] * solution[k];
             }
+            solution[c] = sum / system[c * obj + c];
+        }
 
-            Matrix UM = new Matrix(u, obj);
-
-            Matrix AL = EX.inverse().times(UM);
-
-            int j;
-            for (j = 0; j < obj; j++) {
-
-                double aj = 1.0 / AL.get(j, 0) + zideal[j];
+        for (int j = 0; j < obj; j++) {
+            double aj = 1.0 / solution[j] + zideal[j];
 
-                if ((aj > zideal[j]) && (!Double.isInfinite(aj)) && (!Double.isNaN(aj))) {
-                    intercepts[j] = aj;
-                } else {
-                    break;
-                }
-            }
-            if (j != obj) {
+            if ((aj > zideal[j]) && (!Double.isInfinite(aj)) && (!Double.isNaN(aj))) {
+                intercepts[j] = aj;
+            } else {
                 System.arraycopy(zmax, 0, intercepts, 0, obj);
+                return;
             }
-
-        } else {
-            System.arraycopy(zmax, 0, intercepts, 0, obj);
         }
-
     }
 
-    void normalizePopulation() {
-        for (int i = 0; i < mgPopulation.size(); i++) {
-            Solution sol = mgPopulation.get(i);
-
-            double[] normalized_ = new double[sol.getNumberOfObjectives()];
+    void normalizePoints(int size) {
+        for (int i = 0; i < size; i++) {
             for (int j = 0; j < obj; j++) {
-
-                double val = (sol.getObjective(j) - zideal[j])
-                        / (intercepts[j] - zideal[j]);
-                normalized_[j] = val;
+                points[i * obj + j] = points[i * obj + j] / (intercepts[j] - zideal[j]);
             }
-            sol.setAttribute("NormalizedObjective", normalized_);
         }
     }
 
-    public void associate() {
-
-        for (int k = 0; k < mgPopulation.size(); k++) {
-
-            Solution sol = mgPopulation.get(k);
-
-            double min = calVDistance(sol, lambda[0]);
-            int index = 0;
-
-            for (int j = 1; j < lambda.length; j++) {
-                double dist = calVDistance(sol, lambda[j]);
+    /**
+     * Associates the ith point to the reference direction of smallest
+     * perpendicular distance. The squared distances are compared first, and
+     * the square root is only taken for a possible new minimum.
+     */
+    void associate(int i) {
+        int p = i * obj;
+
+        double minSquared = squaredVDistance(p, 0);
+        double min = Math.sqrt(minSquared);
+        int index = 0;
+
+        for (int k = 1; k < numberOfDirections; k++) {
+            double squared = squaredVDistance(p, k);
+            if (squared < minSquared) {
+                double dist = Math.sqrt(squared);
                 if (dist < min) {
                     min = dist;
-                    index = j;
+                    minSquared = squared;
+                    index = k;
                 }
             }
-            sol.setAttribute("ClusterID", index);
-            sol.setAttribute("VDistance", min);
         }
+        cluster[i] = index;
+        distance[i] = min;
+    }
+
+    /**
+     * @return the squared perpendicular distance between the point at
+     * position p and the kth reference direction
+     */
+    double squaredVDistance(int p, int k) {
+        int d = k * obj;
 
+        double ip = 0;
+        for (int j = 0; j < obj; j++) {
+            ip += points[p + j] * directions[d + j];
+        }
+        double d1 = Math.abs(ip) / norms[k];
+
+        double d2 = 0;
+        for (int j = 0; j < obj; j++) {
+            double diff = points[p + j] - d1 * unitDirections[d + j];
+            d2 += diff * diff;
+        }
+        return d2;
     }
 
-    public void assignment() {
-        
+    void assignment(List<S> population, List<S> lastFront, int populationSize, int remain) {
+
         JMetalRandom rand = JMetalRandom.getInstance();
-        
-        int[] ro = new int[lambda.length];
-        boolean[] flag = new boolean[lambda.length];
 
-        for (int k = 0; k < population.size(); k++) {
-            ro[(int) population.get(k).getAttribute("ClusterID")]++;
+        Arrays.fill(ro, 0);
+        Arrays.fill(flag, false);
+        for (int k = 0; k < populationSize; k++) {
+            ro[cluster[k]]++;
+        }
+
+        // bucket the lastFront members by reference direction, in order
+        Arrays.fill(clusterStart, 0);
+        for (int k = 0; k < lastFront.size(); k++) {
+            clusterStart[cluster[populationSize + k]]++;
+        }
+        for (int id = 1; id <= numberOfDirections; id++) {
+            clusterStart[id] += clusterStart[id - 1];
+        }
+        for (int k = lastFront.size() - 1; k >= 0; k--) {
+            clusterMembers[--clusterStart[cluster[populationSize + k]]] = k;
         }
 
         int num = 0;
 
         while (num < remain) {
-            int[] perm = new Permutation().intPermutation(ro.length);
+            int[] perm = new Permutation().intPermutation(numberOfDirections);
 
             int min = Integer.MAX_VALUE;
             int id = -1;
@@ -246,33 +344,29 @@ public class Niching<S extends Solution> {
                 }
             }
 
-            List<Integer> list = new ArrayList<>();
+            int first = clusterStart[id];
+            int listSize = clusterStart[id + 1] - first;
 
-            for (int k = 0; k < lastFront.size(); k++) {
-                if ((int) lastFront.get(k).getAttribute("ClusterID") == id) {
-                    list.add(k);
-                }
-            }
-
-            if (!list.isEmpty()) {
+            if (listSize > 0) {
                 int index = 0;
                 if (ro[id] == 0) {
                     double minDist = Double.MAX_VALUE;
 
-                    for (int j = 0; j < list.size(); j++) {
-                        if ((double) lastFront.get(list.get(j)).getAttribute("VDistance") < minDist) {
-                            minDist = (double) lastFront.get(list.get(j)).getAttribute("VDistance");
+                    for (int j = 0; j < listSize; j++) {
+                        double dist = distance[populationSize + clusterMembers[first + j]];
+                        if (dist < minDist) {
+                            minDist = dist;
                             index = j;
                         }
                     }
                 } else {
-                    index = rand.nextInt(0, list.size() - 1);
+                    index = rand.nextInt(0, listSize - 1);
                 }
 
-                population.add(lastFront.get(list.get(index)));
+                // lastFront is left unchanged: a chosen solution remains a candidate of its direction
+                population.add(lastFront.get(clusterMembers[first + index]));
                 ro[id]++;
 
-                lastFront.remove(list.get(index));
                 num++;
             } else {
                 flag[id] = true;
@@ -281,16 +375,15 @@ public class Niching<S extends Solution> {
         }
     }
 
-    double asfFunction(Solution sol, int j) {
+    double asfFunction(int i, int j) {
         double max = Double.MIN_VALUE;
-        double epsilon = 1.0E-6;
 
-        for (int i = 0; i < obj; i++) {
+        for (int k = 0; k < obj; k++) {
 
-            double val = Math.abs(sol.getObjective(i) - zideal[i]);
+            double val = Math.abs(points[i * obj + k]);
 
-            if (j != i) {
-                val = val / epsilon;
+            if (j != k) {
+                val = val / EPSILON;
             }
 
             if (val > max) {
@@ -300,61 +393,4 @@ public class Niching<S extends Solution> {
 
         return max;
     }
-
-    public double calVDistance(Solution sol, double[] ref) {
-        if (normalization) {
-            return calNormlizedVDistance(sol, ref);
-        } else {
-            return calUnNormalizedVDistance(sol, ref);
-        }
-    }
-
-    public double calNormlizedVDistance(Solution sol, double[] ref) {
-
-        double ip = 0;
-        double refLenSQ = 0;
-
-        double [] normalized_ = (double[]) sol.getAttribute("NormalizedObjective");
-        
-        for (int j = 0; j < obj; j++) {
-
-            ip += normalized_[j] * ref[j];
-            refLenSQ += (ref[j] * ref[j]);
-        }
-        refLenSQ = Math.sqrt(refLenSQ);
-
-        double d1 = Math.abs(ip) / refLenSQ;
-
-        double d2 = 0;
-        for (int i = 0; i < sol.getNumberOfObjectives(); i++) {
-            d2 += (normalized_[i] - d1 * (ref[i] / refLenSQ))
-                    * (normalized_[i] - d1 * (ref[i] / refLenSQ));
-        }
-        d2 = Math.sqrt(d2);
-
-        return d2;
-    }
-
-    double calUnNormalizedVDistance(Solution sol, double[] ref) {
-
-        double d1=.0, d2, nl=.0;
-
-        for (int i = 0; i < sol.getNumberOfObjectives(); i++) {
-            d1 += (sol.getObjective(i) - zideal[i]) * ref[i];
-            nl += (ref[i] * ref[i]);
-        }
-        nl = Math.sqrt(nl);
-        d1 = Math.abs(d1) / nl;
-
-        d2 = 0;
-        for (int i = 0; i < sol.getNumberOfObjectives(); i++) {
-
-            d2 += ((sol.getObjective(i) - zideal[i]) - d1
-                    * (ref[i] / nl)) * ((sol.getObjective(i) - zideal[i]) - d1
-                    * (ref[i] / nl));
-        }
-        d2 = Math.sqrt(d2);
-
-        return d2;
-    }
 }
@@ -33,7 +33,7 @@ public class COThetaDEA<S extends Solution<?>> extends ThetaDEA implements Coope
     }
 
     private void environmentalSelection() {
-        union_ = new ArrayList<>();
+        union_.clear();
         union_.addAll(population_);
         union_.addAll(offspringPopulation_);
         List<S>[] sets = getParetoFronts();
@@ -42,15 +42,16 @@ public class COThetaDEA<S extends Solution<?>> extends ThetaDEA implements Coope
         updateIdealPoint(firstFront);  // update the ideal point
         if (normalize_) {
             updateNadirPoint(firstFront);  // update the nadir point
-            normalizePopulation(stPopulation);  // normalize the population using ideal point and nadir point
         }
-        getNextPopulation(stPopulation);  // select the next population using theta-non-dominated ranking
+        getNextPopulation(stPopulation);  // select the next population using theta-non-dominated ranking, normalized by the ideal and nadir points
     }
 
     @Override
     public void init(int populationSize) {
         this.populationSize_ = populationSize;
         initializeUniformWeight();
+        ranking_ = new ThetaRanking<>(lambda_, theta_, normalize_);
+        union_ = new ArrayList<>(2 * populationSize_);
         initPopulation();   // initialize the population;
         initIdealPoint();  // initialize the ideal point
         initNadirPoint();    // initialize the nadir point
@@ -71,6 +71,8 @@ public class ThetaDEA<S extends Solution> implements Algorithm<List<S>> {
 
     double[][] extremePoints_; // extreme points
 
+    ThetaRanking<S> ranking_; // theta-non-dominated sorting, reused by every generation
+
     protected Problem<S> problem_;
 
     protected int maxGenerations;
@@ -104,38 +106,37 @@ public class ThetaDEA<S extends Solution> implements Algorithm<List<S>> {
     }
 
     void getNextPopulation(List<S> pop) {
-        ThetaRanking ranking = new ThetaRanking(pop, lambda_, zideal_,
-                theta_, normalize_);
+        ranking_.computeRanking(pop, zideal_, znadir_);
 
         int remain = populationSize_;
         int index = 0;
-        List<S> front;
+        int frontSize;
         population_.clear();
 
         // Obtain the next front
-        front = ranking.getSubfront(index);
+        frontSize = ranking_.getSubfrontSize(index);
 
-        while ((remain > 0) && (remain >= front.size())) {
+        while ((remain > 0) && (remain >= frontSize)) {
 
-            for (int k = 0; k < front.size(); k++) {
-                population_.add(front.get(k));
+            for (int k = 0; k < frontSize; k++) {
+                population_.add(pop.get(ranking_.getSubfrontMember(index, k)));
             } // for
 
             // Decrement remain
-            remain = remain - front.size();
+            remain = remain - frontSize;
 
             // Obtain the next front
             index++;
             if (remain > 0) {
-                front = ranking.getSubfront(index);
+                frontSize = ranking_.getSubfrontSize(index);
             } // if
         } // while
 
         if (remain > 0) { // front contains individuals to insert
 
-            int[] perm = new Permutation().intPermutation(front.size());
+            int[] perm = new Permutation().intPermutation(frontSize);
             for (int k = 0; k < remain; k++) {
-                population_.add(front.get(perm[k]));
+                population_.add(pop.get(ranking_.getSubfrontMember(index, perm[k])));
             } // for
         } // if
     }
@@ -405,25 +406,6 @@ public class ThetaDEA<S extends Solution> implements Algorithm<List<S>> {
         return zmax;
     }
 
-    void normalizePopulation(List<S> pop) {
-
-        int obj = problem_.getNumberOfObjectives();
-
-        for (int i = 0; i < pop.size(); i++) {
-            Solution sol = pop.get(i);
-
-            double[] normalizedObjective_ = new double[obj];
-            for (int j = 0; j < obj; j++) {
-
-                double val = (sol.getObjective(j) - zideal_[j])
-                        / (znadir_[j] - zideal_[j]);
-
-                normalizedObjective_[j] = val;
-            }
-            sol.setAttribute("NormalizedObjective", normalizedObjective_);
-        }
-    }
-
     @Override
     public String getName() {
         return "ThetaDEA";
@@ -472,6 +454,10 @@ public class ThetaDEA<S extends Solution> implements Algorithm<List<S>> {
 
         initializeUniformWeight();
 
+        ranking_ = new ThetaRanking<>(lambda_, theta_, normalize_);
+
+        union_ = new ArrayList<>(2 * populationSize_);
+
         initPopulation();   // initialize the population;
 
         initIdealPoint();  // initialize the ideal point
@@ -484,7 +470,7 @@ public class ThetaDEA<S extends Solution> implements Algorithm<List<S>> {
 
             createOffSpringPopulation();  // create the offspring population
 
-            union_ = new ArrayList<>();
+            union_.clear();
             union_.addAll(population_);
             union_.addAll(offspringPopulation_);
 
@@ -497,10 +483,9 @@ public class ThetaDEA<S extends Solution> implements Algorithm<List<S>> {
 
             if (normalize_) {
                 updateNadirPoint(firstFront);  // update the nadir point
-                normalizePopulation(stPopulation);  // normalize the population using ideal point and nadir point
             }
 
-            getNextPopulation(stPopulation);  // select the next population using theta-non-dominated ranking
+            getNextPopulation(stPopulation);  // select the next population using theta-non-dominated ranking, normalized by the ideal and nadir points
 
             generations_++;
 
@@ -16,204 +16,262 @@
  */
 package br.ufpr.inf.cbio.hhdea.algorithm.ThetaDEA;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import org.uma.jmetal.solution.Solution;
 
 /**
+ * Theta-non-dominated sorting: every solution is clustered to its closest
+ * reference point, the clusters are sorted by PBI fitness, and the kth
+ * subfront holds the kth solution of every cluster. An instance is created
+ * once per algorithm and keeps the clusters, fitnesses and subfronts in
+ * arrays indexed by the position of the solutions in the ranked list, which
+ * are reused by the next ranking.
  *
  * @author Gian Fritsche <gmfritsche@inf.ufpr.br>
  * @param <S>
  */
 public final class ThetaRanking<S extends Solution> {
 
-    private final List<S> solutionSet_;
-
-    private final List<List<S>> ranking_;
-
-    private final List<S>[] refSets_;
-
-    double[][] lambda_;
-    double[] zideal_;
+    final double inf = 1E6;
 
-    double theta_;
+    private final int obj_;
+    private final int numberOfReferences_;
+    private final double theta_;
+    private final boolean normalize_;
 
-    int obj_;
+    private final double[] references_; // reference point k at [k * obj_, (k + 1) * obj_)
+    private final double[] unitReferences_;
+    private final double[] norms_;
+    private final boolean[] objAxis_;
 
-    final double inf = 1E6;
+    private double[] points_; // translated (and normalized) objectives of the solutions
+    private double[] fitness_;
+    private int[] cluster_;
+    private int[] rank_;
 
-    boolean normalize_;
+    private final int[] clusterStart_; // members of cluster k at [clusterStart_[k], clusterStart_[k + 1])
+    private int[] clusterMembers_; // sorted by fitness
+    private int[] subfronts_; // members of subfront r at [subfrontStart_[r], subfrontStart_[r + 1])
+    private int[] subfrontStart_;
+    private int numberOfSubfronts_;
 
-    public ThetaRanking(List<S> solutionSet, double[][] lambda,
-            double[] zideal,
-            double theta, boolean normalize) {
-        this.solutionSet_ = solutionSet;
-        this.lambda_ = lambda;
+    private double d1_; // distance along the reference point of the last squaredDistances call
 
+    public ThetaRanking(double[][] lambda, double theta, boolean normalize) {
+        this.obj_ = lambda[0].length;
+        this.numberOfReferences_ = lambda.length;
         this.theta_ = theta;
-        this.obj_ = solutionSet.get(0).getNumberOfObjectives();
-
-        this.zideal_ = zideal;
-
         this.normalize_ = normalize;
 
-        ranking_ = new ArrayList<>();
-
-        refSets_ = new List[lambda_.length];
-        for (int i = 0; i < refSets_.length; i++) {
-            refSets_[i] = new ArrayList<>();
+        references_ = new double[numberOfReferences_ * obj_];
+        unitReferences_ = new double[numberOfReferences_ * obj_];
+        norms_ = new double[numberOfReferences_];
+        objAxis_ = new boolean[numberOfReferences_];
+        for (int k = 0; k < numberOfReferences_; k++) {
+            double nl = 0;
+            boolean axis = true;
+            for (int j = 0; j < obj_; j++) {
+                references_[k * obj_ + j] = lambda[k][j];
+                nl += (lambda[k][j] * lambda[k][j]);
+                if (lambda[k][j] != 0 && lambda[k][j] != 1) {
+                    axis = false;
+                }
+            }
+            nl = Math.sqrt(nl);
+            norms_[k] = nl;
+            objAxis_[k] = axis;
+            for (int j = 0; j < obj_; j++) {
+                unitReferences_[k * obj_ + j] = lambda[k][j] / nl;
+            }
         }
 
-        associate();
-        rank();
-
+        points_ = new double[0];
+        fitness_ = new double[0];
+        cluster_ = new int[0];
+        rank_ = new int[0];
+        clusterStart_ = new int[numberOfReferences_ + 1];
+        clusterMembers_ = new int[0];
+        subfronts_ = new int[0];
+        subfrontStart_ = new int[1];
     }
 
-    void associate() {
-
-        double[] dists;
-        for (int k = 0; k < solutionSet_.size(); k++) {
-
-            S sol = solutionSet_.get(k);
-
-            dists = getDistances(sol, lambda_[0]);
-            double d2 = dists[1];
-            double d1 = dists[0];
-            int index = 0;
-
-            for (int j = 1; j < lambda_.length; j++) {
-
-                dists = getDistances(sol, lambda_[j]);
+    /**
+     * Ranks a list of solutions. The objectives are translated by the ideal
+     * point and, if the ranking normalizes, divided by the distance from the
+     * ideal to the nadir point.
+     *
+     * @param solutionSet the solutions
+     * @param zideal the ideal point
+     * @param znadir the nadir point, not used without normalization
+     */
+    public void computeRanking(List<S> solutionSet, double[] zideal, double[] znadir) {
+        int size = solutionSet.size();
+        if (cluster_.length < size) {
+            points_ = new double[size * obj_];
+            fitness_ = new double[size];
+            cluster_ = new int[size];
+            rank_ = new int[size];
+            clusterMembers_ = new int[size];
+            subfronts_ = new int[size];
+            subfrontStart_ = new int[size + 1];
+        }
 
-                if (dists[1] < d2) {
-                    d2 = dists[1];
-                    d1 = dists[0];
-                    index = j;
+        for (int i = 0; i < size; i++) {
+            S sol = solutionSet.get(i);
+            for (int j = 0; j < obj_; j++) {
+                double val = sol.getObjective(j) - zideal[j];
+                if (normalize_) {
+                    val = val / (znadir[j] - zideal[j]);
                 }
+                points_[i * obj_ + j] = val;
             }
-
-            setFitness(sol, index, d1, d2);
-            refSets_[index].add(sol);
-            sol.setAttribute("ClusterID", index);
+            associate(i);
         }
+
+        rank(size);
     }
 
-    void setFitness(Solution sol, int index, double d1, double d2) {
-        if (this.normalize_) {
-            if (!isObjAxis(index)) {
-                sol.setAttribute("Fitness", d1 + theta_ * d2);
-            } else {
-                sol.setAttribute("Fitness", d1 + inf * d2);
+    /**
+     * Associates the ith solution to the reference point of smallest
+     * perpendicular distance d2, and sets its fitness d1 + theta * d2. The
+     * squared distances are compared first, and the square root is only taken
+     * for a possible new minimum.
+     */
+    void associate(int i) {
+        int p = i * obj_;
+
+        double d2Squared = squaredDistances(p, 0);
+        double d2 = Math.sqrt(d2Squared);
+        double d1 = d1_;
+        int index = 0;
+
+        for (int k = 1; k < numberOfReferences_; k++) {
+            double squared = squaredDistances(p, k);
+            if (squared < d2Squared) {
+                double dist = Math.sqrt(squared);
+                if (dist < d2) {
+                    d2 = dist;
+                    d2Squared = squared;
+                    d1 = d1_;
+                    index = k;
+                }
             }
-        } else {
-            sol.setAttribute("Fitness", d1 + theta_ * d2);
         }
-    }
 
-    double[] getDistances(Solution sol, double[] ref) {
-        if (this.normalize_) {
-            return getDistancesWithNormalize(sol, ref);
+        cluster_[i] = index;
+        if (normalize_ && objAxis_[index]) {
+            fitness_[i] = d1 + inf * d2;
         } else {
-            return getDistancesWithoutNormalize(sol, ref);
-        }
-    }
-
-    boolean isObjAxis(int index) {
-        for (int j = 0; j < obj_; j++) {
-            if (lambda_[index][j] != 0 && lambda_[index][j] != 1) {
-                return false;
-            }
+            fitness_[i] = d1 + theta_ * d2;
         }
-        return true;
     }
 
-    double[] getDistancesWithoutNormalize(Solution sol, double[] ref) {
-        double[] d = new double[2];
-
-        double d1 = .0, d2, nl = .0;
+    /**
+     * @return the squared distance between the point at position p and the
+     * line of the kth reference point, the distance along it in d1_
+     */
+    private double squaredDistances(int p, int k) {
+        int r = k * obj_;
 
-        for (int i = 0; i < sol.getNumberOfObjectives(); i++) {
-            d1 += (sol.getObjective(i) - zideal_[i]) * ref[i];
-            nl += (ref[i] * ref[i]);
+        double ip = 0;
+        for (int j = 0; j < obj_; j++) {
+            ip += points_[p + j] * references_[r + j];
         }
-        nl = Math.sqrt(nl);
-        d1 = Math.abs(d1) / nl;
+        d1_ = Math.abs(ip) / norms_[k];
 
-        d2 = 0;
-        for (int i = 0; i < sol.getNumberOfObjectives(); i++) {
-            d2 += ((sol.getObjective(i) - zideal_[i]) - d1 * (ref[i] / nl))
-                    * ((sol.getObjective(i) - zideal_[i]) - d1 * (ref[i] / nl));
+        double d2 = 0;
+        for (int j = 0; j < obj_; j++) {
+            double diff = points_[p + j] - d1_ * unitReferences_[r + j];
+            d2 += diff * diff;
         }
-        d2 = Math.sqrt(d2);
-
-        d[0] = d1;
-        d[1] = d2;
-
-        return d;
+        return d2;
     }
 
-    double[] getDistancesWithNormalize(Solution sol, double[] ref) {
-        double ip = 0;
-        double refLenSQ = 0;
-
-        double[] d = new double[2];
-
-        double[] normalizedObjective_ = (double[]) sol.getAttribute("NormalizedObjective");
-        
-        for (int j = 0; j < obj_; j++) {
+    void rank(int size) {
 
-            ip += normalizedObjective_[j] * ref[j];
-            refLenSQ += (ref[j] * ref[j]);
+        // bucket the solutions by cluster, in order
+        Arrays.fill(clusterStart_, 0);
+        for (int i = 0; i < size; i++) {
+            clusterStart_[cluster_[i]]++;
         }
-        refLenSQ = Math.sqrt(refLenSQ);
-
-        d[0] = Math.abs(ip) / refLenSQ;
-
-        d[1] = 0;
-
-        
-        for (int i = 0; i < sol.getNumberOfObjectives(); i++) {
-            d[1] += (normalizedObjective_[i] - d[0] * (ref[i] / refLenSQ))
-                    * (normalizedObjective_[i] - d[0]
-                    * (ref[i] / refLenSQ));
+        for (int k = 1; k <= numberOfReferences_; k++) {
+            clusterStart_[k] += clusterStart_[k - 1];
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            clusterMembers_[--clusterStart_[cluster_[i]]] = i;
         }
-        d[1] = Math.sqrt(d[1]);
-
-        return d;
-    }
-
-    void rank() {
 
-        int maxLen = Integer.MIN_VALUE;
-        for (List<S> refSets_1 : refSets_) {
-            if (refSets_1.size() > maxLen) {
-                maxLen = refSets_1.size();
+        // sort every cluster by fitness, keeping the order of equal fitnesses
+        int maxLen = 0;
+        for (int k = 0; k < numberOfReferences_; k++) {
+            int first = clusterStart_[k];
+            int last = clusterStart_[k + 1];
+            for (int a = first + 1; a < last; a++) {
+                int member = clusterMembers_[a];
+                double f = fitness_[member];
+                int b = a - 1;
+                while (b >= first && fitness_[clusterMembers_[b]] > f) {
+                    clusterMembers_[b + 1] = clusterMembers_[b];
+                    b--;
+                }
+                clusterMembers_[b + 1] = member;
             }
-            refSets_1.sort(new FitnessComparator());
+            maxLen = Math.max(maxLen, last - first);
         }
 
+        // the ith subfront takes the ith solution of every cluster
+        int position = 0;
         for (int i = 0; i < maxLen; i++) {
-            List<S> set = new ArrayList<>();
-            for (List<S> refSets_1 : refSets_) {
-                if (refSets_1.size() > i) {
-                    refSets_1.get(i).setAttribute("Rank", i);
-                    set.add(refSets_1.get(i));
+            subfrontStart_[i] = position;
+            for (int k = 0; k < numberOfReferences_; k++) {
+                if (clusterStart_[k + 1] - clusterStart_[k] > i) {
+                    int member = clusterMembers_[clusterStart_[k] + i];
+                    rank_[member] = i;
+                    subfronts_[position++] = member;
                 }
             }
-            ranking_.add(set);
         }
+        subfrontStart_[maxLen] = position;
+        numberOfSubfronts_ = maxLen;
     }
 
-    public List<S> getSubfront(int rank) {
-        return ranking_.get(rank);
-    } // getSubFront
-
     /**
      * Returns the total number of subFronts founds.
-     * @return 
+     *
+     * @return
      */
     public int getNumberOfSubfronts() {
-        return ranking_.size();
+        return numberOfSubfronts_;
     } // getNumberOfSubfronts
 
+    public int getSubfrontSize(int rank) {
+        if (rank < 0 || rank >= numberOfSubfronts_) {
+            throw new IndexOutOfBoundsException("Subfront " + rank + " of " + numberOfSubfronts_);
+        }
+        return subfrontStart_[rank + 1] - subfrontStart_[rank];
+    }
+
+    /**
+     * @param rank the subfront
+     * @param k the position in the subfront
+     * @return the position in the ranked list of the kth solution of the
+     * subfront
+     */
+    public int getSubfrontMember(int rank, int k) {
+        return subfronts_[subfrontStart_[rank] + k];
+    } // getSubfrontMember
+
+    public int getRank(int i) {
+        return rank_[i];
+    }
+
+    public int getClusterID(int i) {
+        return cluster_[i];
+    }
+
+    public double getFitness(int i) {
+        return fitness_[i];
+    }
+
 }
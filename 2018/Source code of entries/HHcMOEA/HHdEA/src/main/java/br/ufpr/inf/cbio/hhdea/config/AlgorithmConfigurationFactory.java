@@ -32,6 +32,16 @@ import br.ufpr.inf.cbio.hhdea.algorithm.ThetaDEA.ThetaDEAConfiguration;
 public class AlgorithmConfigurationFactory {
 
     public static AlgorithmConfiguration getAlgorithmConfiguration(String algorithm) {
+        return getAlgorithmConfiguration(algorithm, 1);
+    }
+
+    /**
+     * @param algorithm
+     * @param numberOfThreads threads of the migration phase of HHdEA, ignored
+     * by the other algorithms
+     * @return
+     */
+    public static AlgorithmConfiguration getAlgorithmConfiguration(String algorithm, int numberOfThreads) {
         switch (algorithm) {
             case "ThetaDEA":
                 return new ThetaDEAConfiguration();
@@ -48,7 +58,7 @@ public class AlgorithmConfigurationFactory {
             case "MOMBI2":
                 return new MOMBI2Configuration();
             default:
-                return new HHdEAConfiguration(algorithm);
+                return new HHdEAConfiguration(algorithm, numberOfThreads);
         }
     }
 
@@ -16,7 +16,8 @@
  */
 package br.ufpr.inf.cbio.hhdea.hyperheuristic.selection;
 
-import br.ufpr.inf.cbio.hhdea.hyperheuristic.selection.utils.SlidingWindow;
+import br.ufpr.inf.cbio.hhdea.hyperheuristic.selection.utils.SlidingCreditWindow;
+import java.util.Arrays;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 /**
@@ -27,20 +28,32 @@ import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 public class FRRMAB<T> extends SelectionFunction<T> {
 
     protected JMetalRandom random;
-    protected SlidingWindow<Integer> slidingWindow;
+    protected SlidingCreditWindow slidingWindow;
     protected final double c;
-    protected final int w;
+    protected final int w; // size of the sliding window
+    protected final double d; // decay factor
     protected double[] UCB;
     protected int[] count;
     protected double[] reward; // accumulated reward over sliding window of each llh
-    protected int[] usage; // count of usage over sliding window of each llh
     protected int[] rank;
+    protected double[] decay; // decay of each rank
+    protected double[] decayValue;
+    protected int[] ties;
     protected int unplayed; // amount of unplayed heuristics
     protected int s; // the last index sent low level heuristic
 
     public FRRMAB() {
-        this.c = 1.0;
-        this.w = 100;
+        this(1.0, 100);
+    }
+
+    public FRRMAB(double c, int w) {
+        this(c, w, 1.0);
+    }
+
+    public FRRMAB(double c, int w, double d) {
+        this.c = c;
+        this.w = w;
+        this.d = d;
         this.random = JMetalRandom.getInstance();
     }
 
@@ -51,14 +64,18 @@ public class FRRMAB<T> extends SelectionFunction<T> {
         UCB = new double[size];
         count = new int[size];
         reward = new double[size];
-        usage = new int[size];
         rank = new int[size];
+        decay = new double[size];
+        decayValue = new double[size];
+        ties = new int[size];
         for (int i = 0; i < lowlevelheuristics.size(); ++i) {
             UCB[i] = 0.0;
             count[i] = 0;
+            rank[i] = i;
+            decay[i] = Math.pow(d, i);
         }
         unplayed = size;
-        slidingWindow = new SlidingWindow<>(w);
+        slidingWindow = new SlidingCreditWindow(w, size);
 
     }
 
@@ -85,7 +102,7 @@ public class FRRMAB<T> extends SelectionFunction<T> {
             unplayed--;
         } else { // get best heuristic
             double max = Double.NEGATIVE_INFINITY;
-            int[] ties = new int[lowlevelheuristics.size()];
+            Arrays.fill(ties, 0);
             int t = 0;
             int countties = 0;
             for (int i = 0; i < lowlevelheuristics.size(); ++i) {
@@ -115,8 +132,6 @@ public class FRRMAB<T> extends SelectionFunction<T> {
     @Override
     public void creditAssignment(double reward) {
 
-        refresment();
-
         slidingWindow.add(s, Math.max(0, reward)); // Update the sliding window
 
         updateRewards();
@@ -129,92 +144,52 @@ public class FRRMAB<T> extends SelectionFunction<T> {
     }
 
     protected void UCB() {
-        double[] variance = new double[lowlevelheuristics.size()];
         int total_usage = slidingWindow.size();
         for (int i = 0; i < lowlevelheuristics.size(); ++i) {
-            UCB[i] = reward[i] + this.c * Math.sqrt(2.0 * Math.log(total_usage) / (usage[i]));
-            //System.out.println("UCB["+i+"]: "+UCB[i]);
-        }
-        //System.out.println();
-    }
-
-    protected void refresment() {
-        for (int i = 0; i < reward.length; ++i) {
-            reward[i] = 0.0;
-            usage[i] = 0;
+            UCB[i] = reward[i] + this.c * Math.sqrt(2.0 * Math.log(total_usage) / (slidingWindow.getUsage(i)));
         }
     }
 
     protected void updateRewards() {
-        for (int i = 0; i < slidingWindow.size(); ++i) {
-            int j = slidingWindow.getHeuristic(i);
-            double credit = slidingWindow.getCredit(i);
-            if (credit > reward[j]) {
-                reward[j] = credit;
-            }
-            usage[j]++;
-            // //System.out.println("reward["+j+"]: "+reward[j]+" usage: "+usage[j]);
+        for (int i = 0; i < reward.length; ++i) {
+            reward[i] = slidingWindow.getMaxCredit(i);
         }
-        // //System.out.println();
     }
 
+    // sort the heuristics by decreasing reward, starting from the previous
+    // order, which at most two rewards have changed since
     protected void rankRewards() {
-        int i, j;
-        double[][] temp;
-        double temp_index;
-        double temp_value;
-
-        temp = new double[2][lowlevelheuristics.size()];
-        for (i = 0; i < lowlevelheuristics.size(); i++) {
-            temp[0][i] = reward[i];
-            temp[1][i] = i;
-        }
-
-        for (i = 0; i < lowlevelheuristics.size() - 1; i++) {
-            for (j = i + 1; j < lowlevelheuristics.size(); j++) {
-                if (temp[0][i] < temp[0][j]) {
-                    temp_value = temp[0][j];
-                    temp[0][j] = temp[0][i];
-                    temp[0][i] = temp_value;
-
-                    temp_index = temp[1][j];
-                    temp[1][j] = temp[1][i];
-                    temp[1][i] = temp_index;
-                }
+        for (int i = 1; i < rank.length; i++) {
+            int r = rank[i];
+            double value = reward[r];
+            int j = i - 1;
+            while (j >= 0 && reward[rank[j]] < value) {
+                rank[j + 1] = rank[j];
+                j--;
             }
-        }
-
-        for (i = 0; i < lowlevelheuristics.size(); i++) {
-            rank[i] = (int) temp[1][i];
-            // //System.out.println("rank["+i+"]: "+rank[i]);
+            rank[j + 1] = r;
         }
     }
 
     protected void creaditAssignmentDecay() {
         int i;
-        double decayed, decay_sum, decayFactor = 1.0;
-        double[] decay_value;
-
-        decay_value = new double[lowlevelheuristics.size()];
+        double decay_sum;
 
         for (i = 0; i < lowlevelheuristics.size(); i++) {
-            decayed = Math.pow(decayFactor, i);
-            decay_value[rank[i]] = reward[rank[i]] * decayed;
+            decayValue[rank[i]] = reward[rank[i]] * decay[i];
         }
 
         decay_sum = 0.0;
         for (i = 0; i < lowlevelheuristics.size(); i++) {
-            decay_sum += decay_value[i];
+            decay_sum += decayValue[i];
         }
 
         for (i = 0; i < lowlevelheuristics.size(); i++) {
-            // //System.out.println("reward["+i+"]: "+reward[i]);
             if (decay_sum == 0) {
                 reward[i] = 0.0;
             } else {
-                reward[i] = decay_value[i] / decay_sum;
+                reward[i] = decayValue[i] / decay_sum;
             }
-            // //System.out.println("reward["+i+"]: "+reward[i]);
         }
     }
 
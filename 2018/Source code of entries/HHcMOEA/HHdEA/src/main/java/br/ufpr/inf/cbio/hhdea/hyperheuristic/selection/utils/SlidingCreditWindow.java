@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2018 Gian Fritsche <gmfritsche@inf.ufpr.br>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.ufpr.inf.cbio.hhdea.hyperheuristic.selection.utils;
+
+import java.util.Arrays;
+import org.uma.jmetal.util.JMetalException;
+
+/**
+ * Sliding window of the last w (heuristic, credit) pairs, stored in a ring
+ * buffer, which keeps for every heuristic its number of entries and its
+ * maximum credit over the window. Both are updated in constant amortized time
+ * when an entry enters or leaves the window.
+ *
+ * The maximum credit of a heuristic is the head of a queue of its entries
+ * whose credit is greater than the credits of all its later entries. The
+ * queues are linked through the slots of the ring buffer.
+ *
+ * @author Gian Fritsche <gmfritsche@inf.ufpr.br>
+ */
+public class SlidingCreditWindow {
+
+    protected final int w;
+    protected final int[] heuristics;
+    protected final double[] credits;
+    protected int first; // slot of the oldest entry
+    protected int size;
+
+    protected final int[] usage; // entries of each heuristic
+    protected final int[] head; // slot of the maximum credit of each heuristic, -1 if none
+    protected final int[] tail;
+    protected final int[] next; // next slot in the queue of the same heuristic
+    protected final int[] previous;
+
+    public SlidingCreditWindow(int w, int numberOfHeuristics) {
+        if (w <= 0) {
+            throw new JMetalException("The size of the sliding window must be positive: " + w);
+        }
+        this.w = w;
+        heuristics = new int[w];
+        credits = new double[w];
+        next = new int[w];
+        previous = new int[w];
+        usage = new int[numberOfHeuristics];
+        head = new int[numberOfHeuristics];
+        tail = new int[numberOfHeuristics];
+        Arrays.fill(head, -1);
+        Arrays.fill(tail, -1);
+    }
+
+    public void add(int heuristic, double credit) {
+        if (size >= w) // if sliding window is full
+        {
+            remove(); // remove older entry
+        }
+        int slot = (first + size) % w;
+        heuristics[slot] = heuristic;
+        credits[slot] = credit;
+        usage[heuristic]++;
+        size++;
+
+        // a credit that is not positive never is the maximum
+        if (credit > 0) {
+            while (tail[heuristic] != -1 && credits[tail[heuristic]] <= credit) {
+                int last = tail[heuristic];
+                tail[heuristic] = previous[last];
+                if (tail[heuristic] == -1) {
+                    head[heuristic] = -1;
+                } else {
+                    next[tail[heuristic]] = -1;
+                }
+            }
+            previous[slot] = tail[heuristic];
+            next[slot] = -1;
+            if (tail[heuristic] == -1) {
+                head[heuristic] = slot;
+            } else {
+                next[tail[heuristic]] = slot;
+            }
+            tail[heuristic] = slot;
+        }
+    }
+
+    protected void remove() {
+        int slot = first;
+        int heuristic = heuristics[slot];
+        usage[heuristic]--;
+        // the oldest entry of a heuristic is the head of its queue, if queued
+        if (head[heuristic] == slot) {
+            head[heuristic] = next[slot];
+            if (head[heuristic] == -1) {
+                tail[heuristic] = -1;
+            } else {
+                previous[head[heuristic]] = -1;
+            }
+        }
+        first = (first + 1) % w;
+        size--;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getUsage(int heuristic) {
+        return usage[heuristic];
+    }
+
+    /**
+     * @param heuristic
+     * @return the maximum credit of the heuristic over the window, 0 if it has
+     * no positive credit
+     */
+    public double getMaxCredit(int heuristic) {
+        return (head[heuristic] == -1) ? 0.0 : credits[head[heuristic]];
+    }
+
+}
@@ -26,8 +26,6 @@ import java.util.StringTokenizer;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
-import org.uma.jmetal.util.front.Front;
-import org.uma.jmetal.util.front.imp.ArrayFront;
 
 /**
  *
@@ -41,7 +39,7 @@ public class MetricsEvaluator<S extends Solution<?>> {
     private double[][] lambda;
     protected double[] zp_; 	// ideal point for Pareto-based population
     protected int m;
-    protected R2 r2;
+    protected R2Context<S> r2;
 
     public enum Metrics {
         FIR_R2_THC
@@ -68,24 +66,14 @@ public class MetricsEvaluator<S extends Solution<?>> {
         this.zp_ = new double[m];
         this.metrics = new double[Metrics.values().length];
         initializeUniformWeight();
+        this.r2 = new R2Context<>(lambda, new Tchebycheff());
     }
 
     public void extractMetrics(List<S> parents, List<S> offspring) {
-        int points = parents.size() + offspring.size();
-        Front reference = new ArrayFront(points, m);
-        Front parentsFront = new ArrayFront(parents);
-        Front offspringFront = new ArrayFront(offspring);
-        int i = 0;
-        for (int p = 0; p < parents.size(); p++, i++) {
-            reference.setPoint(i, parentsFront.getPoint(p));
-        }
-        for (int o = 0; o < offspring.size(); o++, i++) {
-            reference.setPoint(i, offspringFront.getPoint(o));
-        }
-
-        r2 = new R2(lambda, reference, new Tchebycheff());
-        double parentR2 = r2.r2(parentsFront);
-        double offspringR2 = r2.r2(offspringFront);
+        // both fronts are normalized by the bounds of their union
+        r2.compute(parents, offspring);
+        double parentR2 = r2.getFirstR2();
+        double offspringR2 = r2.getSecondR2();
         metrics[Metrics.FIR_R2_THC.ordinal()] = (parentR2 - offspringR2) / offspringR2;
 
     }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2018 Gian Fritsche <gmfritsche@inf.ufpr.br>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.ufpr.inf.cbio.hhdea.metrics;
+
+import br.ufpr.inf.cbio.hhdea.metrics.utilityfunction.UtilityFunction;
+import java.util.Arrays;
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * Computes the R2 indicator of two solution lists, both normalized by the
+ * bounds of their union, as {@link R2#r2} does with the union as reference
+ * front. The weight vectors and the utility function are set once; the
+ * objective values are read straight from the solutions into a buffer that is
+ * reused by every call, so that a call does not allocate once the buffer is
+ * large enough.
+ *
+ * @author Gian Fritsche <gmfritsche@inf.ufpr.br>
+ * @param <S>
+ */
+public class R2Context<S extends Solution<?>> {
+
+    private final int m;
+    private final int numberOfVectors;
+    private final double[] lambda; // weight vector k at [k * m, (k + 1) * m)
+    private final UtilityFunction function;
+
+    private final double[] minimumValues;
+    private final double[] maximumValues;
+    private final double[] firstMinimum; // best utility per weight vector
+    private final double[] secondMinimum;
+    private double[] points; // objective values, point i at [i * m, (i + 1) * m)
+
+    private double firstR2;
+    private double secondR2;
+
+    public R2Context(double[][] lambda, UtilityFunction function) {
+        this.m = lambda[0].length;
+        this.numberOfVectors = lambda.length;
+        this.lambda = new double[numberOfVectors * m];
+        for (int k = 0; k < numberOfVectors; k++) {
+            System.arraycopy(lambda[k], 0, this.lambda, k * m, m);
+        }
+        this.function = function;
+        this.minimumValues = new double[m];
+        this.maximumValues = new double[m];
+        this.firstMinimum = new double[numberOfVectors];
+        this.secondMinimum = new double[numberOfVectors];
+        this.points = new double[0];
+    }
+
+    /**
+     * Computes the R2 of both lists. The results are read with
+     * {@link #getFirstR2()} and {@link #getSecondR2()}.
+     *
+     * @param first the first list
+     * @param second the second list
+     */
+    public void compute(List<S> first, List<S> second) {
+        int size = first.size() + second.size();
+        if (points.length < size * m) {
+            points = new double[size * m];
+        }
+
+        // copy the objectives while computing the ideal and nadir points
+        Arrays.fill(minimumValues, Double.POSITIVE_INFINITY);
+        Arrays.fill(maximumValues, Double.NEGATIVE_INFINITY);
+        int offset = copy(first, 0);
+        copy(second, offset);
+
+        // normalize every point and update the best utility of every vector
+        Arrays.fill(firstMinimum, Double.POSITIVE_INFINITY);
+        Arrays.fill(secondMinimum, Double.POSITIVE_INFINITY);
+        for (int i = 0; i < size; i++) {
+            int p = i * m;
+            for (int n = 0; n < m; n++) {
+                double range = maximumValues[n] - minimumValues[n];
+                points[p + n] = (range == 0) ? 0.0 : (points[p + n] - minimumValues[n]) / range;
+            }
+            double[] best = (i < first.size()) ? firstMinimum : secondMinimum;
+            for (int k = 0; k < numberOfVectors; k++) {
+                double value = function.execute(lambda, k * m, points, p, m, minimumValues, maximumValues);
+                if (value < best[k]) {
+                    best[k] = value;
+                }
+            }
+        }
+
+        firstR2 = mean(firstMinimum);
+        secondR2 = mean(secondMinimum);
+    }
+
+    public double getFirstR2() {
+        return firstR2;
+    }
+
+    public double getSecondR2() {
+        return secondR2;
+    }
+
+    private int copy(List<S> solutions, int offset) {
+        for (S solution : solutions) {
+            for (int n = 0; n < m; n++) {
+                double value = solution.getObjective(n);
+                points[offset + n] = value;
+                if (value < minimumValues[n]) {
+                    minimumValues[n] = value;
+                }
+                if (value > maximumValues[n]) {
+                    maximumValues[n] = value;
+                }
+            }
+            offset += m;
+        }
+        return offset;
+    }
+
+    private double mean(double[] values) {
+        double sum = 0.0;
+        for (int k = 0; k < numberOfVectors; k++) {
+            sum += values[k];
+        }
+        return sum / (double) numberOfVectors;
+    }
+}
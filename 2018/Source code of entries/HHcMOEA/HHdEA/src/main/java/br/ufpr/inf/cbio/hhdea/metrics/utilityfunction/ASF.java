@@ -34,4 +34,14 @@ public class ASF implements UtilityFunction {
         return result;
     }
 
+    @Override
+    public double execute(double[] lambda, int lambdaOffset, double[] point, int pointOffset, int m, double[] minimumValues, double[] maximumValues) {
+        double result = Math.abs(point[pointOffset]) / ((lambda[lambdaOffset] > 0.0) ? lambda[lambdaOffset] : 1e-2);
+        for (int n = 1; n < m; n++) {
+            result = Math.max(result,
+                    Math.abs(point[pointOffset + n]) / ((lambda[lambdaOffset + n] > 0.0) ? lambda[lambdaOffset + n] : 1e-2));
+        }
+        return result;
+    }
+
 }
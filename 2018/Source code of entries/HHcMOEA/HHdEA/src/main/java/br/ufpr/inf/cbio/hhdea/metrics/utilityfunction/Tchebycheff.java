@@ -34,4 +34,14 @@ public class Tchebycheff implements UtilityFunction {
         return result;
     }
 
+    @Override
+    public double execute(double[] lambda, int lambdaOffset, double[] point, int pointOffset, int m, double[] minimumValues, double[] maximumValues) {
+        double result = lambda[lambdaOffset] * Math.abs(point[pointOffset]);
+        for (int n = 1; n < m; n++) {
+            result = Math.max(result,
+                    lambda[lambdaOffset + n] * Math.abs(point[pointOffset + n]));
+        }
+        return result;
+    }
+
 }
@@ -16,7 +16,9 @@
  */
 package br.ufpr.inf.cbio.hhdea.metrics.utilityfunction;
 
+import java.util.Arrays;
 import org.uma.jmetal.util.point.Point;
+import org.uma.jmetal.util.point.impl.ArrayPoint;
 
 /**
  *
@@ -24,4 +26,15 @@ import org.uma.jmetal.util.point.Point;
  */
 public interface UtilityFunction {
     public double execute(double lambda[], Point point, int m, double[] minimumValues, double[] maximumValues);
+
+    /**
+     * Same as {@link #execute(double[], Point, int, double[], double[])} with
+     * the weight vector and the point stored in flat arrays, starting at the
+     * given offsets. Implementations should override it to avoid the copies.
+     */
+    public default double execute(double[] lambda, int lambdaOffset, double[] point, int pointOffset, int m, double[] minimumValues, double[] maximumValues) {
+        return execute(Arrays.copyOfRange(lambda, lambdaOffset, lambdaOffset + m),
+                new ArrayPoint(Arrays.copyOfRange(point, pointOffset, pointOffset + m)),
+                m, minimumValues, maximumValues);
+    }
 }
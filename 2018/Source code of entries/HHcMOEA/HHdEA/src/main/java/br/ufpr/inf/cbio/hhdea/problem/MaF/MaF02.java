@@ -10,7 +10,7 @@ import org.uma.jmetal.solution.DoubleSolution;
  */
 public class MaF02 extends AbstractDoubleProblem {
 
-    public static int const2;
+    private final int const2;
 
     private final String name;
 
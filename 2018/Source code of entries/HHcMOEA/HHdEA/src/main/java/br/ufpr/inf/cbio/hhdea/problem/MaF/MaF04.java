@@ -12,7 +12,7 @@ public class MaF04 extends AbstractDoubleProblem {
 
     private final String name;
 
-    public static double const4[];
+    private final double const4[];
 
     /**
      * Creates a MaF04 problem instance
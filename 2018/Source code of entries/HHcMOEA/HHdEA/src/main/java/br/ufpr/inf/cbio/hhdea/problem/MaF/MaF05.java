@@ -12,7 +12,7 @@ public class MaF05 extends AbstractDoubleProblem {
 
     private final String name;
 
-    public static double const5[];
+    private final double const5[];
 
     /**
      * Creates a MaF05 problem instance
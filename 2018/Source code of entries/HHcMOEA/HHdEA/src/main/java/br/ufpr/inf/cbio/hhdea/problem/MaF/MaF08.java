@@ -12,7 +12,7 @@ public class MaF08 extends AbstractDoubleProblem {
 
     private final String name;
 
-    public static double const8[][];
+    private final double const8[][];
 
     /**
      * Creates a MaF03 problem instance
@@ -14,10 +14,10 @@ import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 public class MaF09 extends AbstractDoubleProblem {
 
     private final String name;
-    public static int maxinter9;
-    public static int pindex9[];
-    public static int M9;
-    public static double points9[][], rangex9[][], rangey9[][], r_polyline9[][], oth_poly_points9[][];
+    private final int maxinter9;
+    private final int pindex9[];
+    private final int M9;
+    private final double points9[][], rangex9[][], rangey9[][], r_polyline9[][], oth_poly_points9[][];
 
     /**
      * Creates a MaF09 problem instance
@@ -238,7 +238,7 @@ public class MaF09 extends AbstractDoubleProblem {
     }
 //check if a point is inside any generated polygons(not including the boundary)(only for MaF9)
 
-    public static boolean if_infeasible(double[] x) {
+    public boolean if_infeasible(double[] x) {
         boolean infeasible = false;
         for (int i = 0; i < pindex9.length - 1; i++) {
             double[][] p = new double[pindex9[i + 1] - pindex9[i]][2];
@@ -11,7 +11,7 @@ import org.uma.jmetal.solution.DoubleSolution;
 public class MaF10 extends AbstractDoubleProblem {
 
     private final String name;
-    public static int K10;
+    private final int K10;
 
     /**
      * Creates a MaF10 problem instance
@@ -11,7 +11,7 @@ import org.uma.jmetal.solution.DoubleSolution;
 public class MaF11 extends AbstractDoubleProblem {
 
     private final String name;
-    public static int K11, L11;
+    private final int K11, L11;
 
     /**
      * Creates a MaF11 problem instance
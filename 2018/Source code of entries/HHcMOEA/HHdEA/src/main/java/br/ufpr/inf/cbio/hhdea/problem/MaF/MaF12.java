@@ -11,7 +11,7 @@ import org.uma.jmetal.solution.DoubleSolution;
 public class MaF12 extends AbstractDoubleProblem {
 
     private final String name;
-    public static int K12, L12;
+    private final int K12, L12;
 
     /**
      * Creates a MaF12 problem instance
@@ -11,8 +11,8 @@ import org.uma.jmetal.solution.DoubleSolution;
 public class MaF14 extends AbstractDoubleProblem {
 
     private final String name;
-    public static int nk14;
-    public static int sublen14[], len14[];
+    private final int nk14;
+    private final int sublen14[], len14[];
 
     /**
      * Creates a MaF14 problem instance
@@ -11,8 +11,8 @@ import org.uma.jmetal.solution.DoubleSolution;
 public class MaF15 extends AbstractDoubleProblem {
 
     private final String name;
-    public static int nk15;
-    public static int sublen15[], len15[];
+    private final int nk15;
+    private final int sublen15[], len15[];
 
     /**
      * Creates a MaF15 problem instance
@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2018 Gian Fritsche <gmfritsche@inf.ufpr.br>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.ufpr.inf.cbio.hhdea.runner;
+
+import br.ufpr.inf.cbio.hhdea.util.ThreadLocalRandomGenerator;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+
+/**
+ * Runs many MainRunner runs in one JVM, on a pool of worker threads. Each
+ * line of the job file holds the arguments of a run,
+ *
+ * algorithm problem m id seed
+ *
+ * where algorithm, problem and m may be comma-separated lists, and id and
+ * seed comma-separated lists or ranges (a-b) of the same length: the line
+ * expands to every algorithm, problem and m, with the ith id run with the
+ * ith seed. Empty lines and lines starting with # are skipped. The FUN and
+ * VAR files are written as by MainRunner, and every run draws from its own
+ * random stream seeded with its seed, so its results are the same as those
+ * of MainRunner with the same arguments.
+ *
+ * @author Gian Fritsche <gmfritsche@inf.ufpr.br>
+ */
+public class BatchRunner {
+
+    private final String experimentBaseDirectory;
+    private final List<Job> jobs;
+    private final int numberOfWorkers;
+    private final int numberOfThreads;
+
+    public static void main(String[] args) throws IOException {
+
+        // do not print info
+        JMetalLogger.logger.setLevel(Level.WARNING);
+
+        if (args.length < 2 || args.length > 4) {
+            throw new JMetalException("Needed arguments: "
+                    + "outputDirectory jobFile [workers] [threads]");
+        }
+
+        int i = 0;
+        String experimentBaseDirectory = args[i++];
+        String jobFile = args[i++];
+        int workers = (args.length > i) ? Integer.parseInt(args[i++]) : Runtime.getRuntime().availableProcessors();
+        int threads = (args.length > i) ? Integer.parseInt(args[i++]) : 1;
+
+        List<Job> jobs = new ArrayList<>();
+        for (String line : Files.readAllLines(Paths.get(jobFile))) {
+            line = line.trim();
+            if (!line.isEmpty() && !line.startsWith("#")) {
+                parseJobs(line, jobs);
+            }
+        }
+
+        new BatchRunner(experimentBaseDirectory, jobs, workers, threads).run();
+    }
+
+    /**
+     * @param experimentBaseDirectory
+     * @param jobs
+     * @param numberOfWorkers runs executed at the same time
+     * @param numberOfThreads threads of the migration phase of each HHdEA run
+     */
+    public BatchRunner(String experimentBaseDirectory, List<Job> jobs, int numberOfWorkers, int numberOfThreads) {
+        this.experimentBaseDirectory = experimentBaseDirectory;
+        this.jobs = jobs;
+        this.numberOfWorkers = numberOfWorkers;
+        this.numberOfThreads = numberOfThreads;
+    }
+
+    public void run() {
+        JMetalRandom random = JMetalRandom.getInstance();
+        PseudoRandomGenerator previous = random.getRandomGenerator();
+        ThreadLocalRandomGenerator randomGenerator = new ThreadLocalRandomGenerator(previous);
+        random.setRandomGenerator(randomGenerator);
+
+        AtomicInteger count = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfWorkers, (Runnable runnable) -> {
+            Thread thread = new Thread(runnable, "batch-worker-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<?>> futures = new ArrayList<>(jobs.size());
+            for (Job job : jobs) {
+                futures.add(executor.submit(() -> runJob(job, randomGenerator)));
+            }
+
+            int failures = 0;
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    failures++;
+                    JMetalLogger.logger.log(Level.SEVERE, "Run " + jobs.get(i) + " failed", e.getCause());
+                }
+            }
+            if (failures > 0) {
+                throw new JMetalException(failures + " of " + jobs.size() + " runs failed");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JMetalException("Interrupted while running the jobs", e);
+        } finally {
+            executor.shutdownNow();
+            random.setRandomGenerator(previous);
+        }
+    }
+
+    private void runJob(Job job, ThreadLocalRandomGenerator randomGenerator) {
+        // same generator and seed that MainRunner sets in JMetalRandom
+        randomGenerator.setCurrent(new JavaRandomGenerator(job.seed));
+        try {
+            new MainRunner<>(MainRunner.getExperiment(experimentBaseDirectory,
+                    job.algorithm, job.problem, job.m, numberOfThreads), job.id)
+                    .run();
+        } finally {
+            randomGenerator.setCurrent(null);
+        }
+    }
+
+    /**
+     * Expands a line of the job file.
+     *
+     * @param line
+     * @param jobs the list receiving the jobs of the line
+     */
+    public static void parseJobs(String line, List<Job> jobs) {
+        String[] fields = line.split("\\s+");
+        if (fields.length != 5) {
+            throw new JMetalException("Needed fields: algorithm problem m id seed, found: " + line);
+        }
+
+        String[] algorithms = fields[0].split(",");
+        String[] problems = fields[1].split(",");
+        List<Integer> ms = parseIntegers(fields[2], line);
+        List<Integer> ids = parseIntegers(fields[3], line);
+        List<Integer> seeds = parseIntegers(fields[4], line);
+        if (ids.size() != seeds.size()) {
+            throw new JMetalException("There are " + ids.size() + " ids and "
+                    + seeds.size() + " seeds in: " + line);
+        }
+
+        for (String algorithm : algorithms) {
+            for (String problem : problems) {
+                for (int m : ms) {
+                    for (int k = 0; k < ids.size(); k++) {
+                        jobs.add(new Job(algorithm, problem, m, ids.get(k), seeds.get(k)));
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<Integer> parseIntegers(String field, String line) {
+        List<Integer> values = new ArrayList<>();
+        try {
+            for (String value : field.split(",")) {
+                if (value.matches("\\d+-\\d+")) {
+                    int separator = value.indexOf('-');
+                    int first = Integer.parseInt(value.substring(0, separator));
+                    int last = Integer.parseInt(value.substring(separator + 1));
+                    for (int v = first; v <= last; v++) {
+                        values.add(v);
+                    }
+                } else {
+                    values.add(Integer.parseInt(value));
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new JMetalException("Invalid number in: " + line, e);
+        }
+        return values;
+    }
+
+    /**
+     * The arguments of a MainRunner run.
+     */
+    public static class Job {
+
+        private final String algorithm;
+        private final String problem;
+        private final int m;
+        private final int id;
+        private final int seed;
+
+        public Job(String algorithm, String problem, int m, int id, int seed) {
+            this.algorithm = algorithm;
+            this.problem = problem;
+            this.m = m;
+            this.id = id;
+            this.seed = seed;
+        }
+
+        @Override
+        public String toString() {
+            return algorithm + " " + problem + " " + m + " " + id + " " + seed;
+        }
+    }
+}
@@ -78,7 +78,8 @@ public class ExecuteAlgorithms<S extends Solution<?>, Result> implements Experim
 
     boolean result ;
     result = new File(experiment.getExperimentBaseDirectory()).mkdirs() ;
-    if (!result) {
+    // another run of a batch may have created it meanwhile
+    if (!result && experimentDirectoryDoesNotExist()) {
       throw new JMetalException("Error creating experiment directory: " +
           experiment.getExperimentBaseDirectory()) ;
     }
@@ -191,9 +191,9 @@ public class MainRunner<S extends Solution<?>, Result> extends ExecuteAlgorithms
         // do not print info
         JMetalLogger.logger.setLevel(Level.WARNING);
 
-        if (args.length != 6) {
+        if (args.length != 6 && args.length != 7) {
             throw new JMetalException("Needed arguments: "
-                    + "outputDirectory algorithm problem m id seed");
+                    + "outputDirectory algorithm problem m id seed [threads]");
         }
 
         int i = 0;
@@ -203,17 +203,37 @@ public class MainRunner<S extends Solution<?>, Result> extends ExecuteAlgorithms
         int m = Integer.parseInt(args[i++]);
         int id = Integer.parseInt(args[i++]);
         int seed = Integer.parseInt(args[i++]);
-        int popSize = getPopSize(m);
-        int generations = getGenerationsNumber(problem, m, popSize);
+        int threads = (args.length > i) ? Integer.parseInt(args[i++]) : 1;
 
         JMetalRandom.getInstance().setSeed(seed);
 
+        new MainRunner(getExperiment(experimentBaseDirectory, algorithm, problem, m, threads), id)
+                .run();
+
+    }
+
+    /**
+     * Creates the experiment of a single run, which writes its FUN and VAR
+     * files under experimentBaseDirectory/m/data.
+     *
+     * @param experimentBaseDirectory
+     * @param algorithm
+     * @param problem
+     * @param m
+     * @param threads threads of the migration phase of HHdEA
+     * @return
+     */
+    public static Experiment<DoubleSolution, List<DoubleSolution>> getExperiment(String experimentBaseDirectory,
+            String algorithm, String problem, int m, int threads) {
+        int popSize = getPopSize(m);
+        int generations = getGenerationsNumber(problem, m, popSize);
+
         List<ExperimentProblem<DoubleSolution>> problemList = getProblemList(problem, m);
         List<ExperimentAlgorithm<DoubleSolution, List<DoubleSolution>>> algorithms = new ArrayList<>();
 
         algorithms.add(
                 new ExperimentAlgorithm<>(AlgorithmConfigurationFactory
-                        .getAlgorithmConfiguration(algorithm)
+                        .getAlgorithmConfiguration(algorithm, threads)
                         .configure(problemList.get(0).getProblem(), popSize, generations),
                         problemList.get(0).getTag()));
 
@@ -233,11 +253,7 @@ public class MainRunner<S extends Solution<?>, Result> extends ExecuteAlgorithms
                 1);
         study.setNumberOfCores(
                 1);
-        Experiment<DoubleSolution, List<DoubleSolution>> experiment = study.build();
-
-        new MainRunner(experiment, id)
-                .run();
-
+        return study.build();
     }
 
     @Override
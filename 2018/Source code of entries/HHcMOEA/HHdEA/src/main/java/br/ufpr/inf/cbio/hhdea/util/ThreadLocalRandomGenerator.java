@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2018 Gian Fritsche <gmfritsche@inf.ufpr.br>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.ufpr.inf.cbio.hhdea.util;
+
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+/**
+ * Random generator to be installed in the JMetalRandom singleton, which
+ * forwards every call to the generator set for the calling thread, or to a
+ * default generator if the thread has none. Code running concurrently then
+ * draws from its own stream through JMetalRandom, and its results do not
+ * depend on the scheduling of the threads.
+ *
+ * @author Gian Fritsche <gmfritsche@inf.ufpr.br>
+ */
+@SuppressWarnings("serial")
+public class ThreadLocalRandomGenerator implements PseudoRandomGenerator {
+
+    private final PseudoRandomGenerator defaultGenerator;
+    private final transient ThreadLocal<PseudoRandomGenerator> current;
+
+    public ThreadLocalRandomGenerator(PseudoRandomGenerator defaultGenerator) {
+        this.defaultGenerator = defaultGenerator;
+        this.current = new ThreadLocal<>();
+    }
+
+    public PseudoRandomGenerator getDefaultGenerator() {
+        return defaultGenerator;
+    }
+
+    /**
+     * Sets the generator of the calling thread.
+     *
+     * @param generator the generator, or null to use the default one
+     */
+    public void setCurrent(PseudoRandomGenerator generator) {
+        if (generator == null) {
+            current.remove();
+        } else {
+            current.set(generator);
+        }
+    }
+
+    private PseudoRandomGenerator get() {
+        PseudoRandomGenerator generator = current.get();
+        return (generator == null) ? defaultGenerator : generator;
+    }
+
+    @Override
+    public int nextInt(int lowerBound, int upperBound) {
+        return get().nextInt(lowerBound, upperBound);
+    }
+
+    @Override
+    public double nextDouble(double lowerBound, double upperBound) {
+        return get().nextDouble(lowerBound, upperBound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return get().nextDouble();
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        get().setSeed(seed);
+    }
+
+    @Override
+    public long getSeed() {
+        return get().getSeed();
+    }
+
+    @Override
+    public String getName() {
+        return get().getName();
+    }
+
+}
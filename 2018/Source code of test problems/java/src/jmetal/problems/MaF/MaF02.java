@@ -14,7 +14,7 @@ public class MaF02 extends Problem {
 * Creates a default MaF02 problem (7 variables and 3 objectives)
 * @param solutionType The solution type must "Real" or "BinaryReal". 
 */
-public static int const2;
+private final int const2;
 public MaF02(String solutionType) throws ClassNotFoundException {
 this(solutionType, 12, 3);
 } // MaF02   
@@ -14,7 +14,7 @@ public class MaF04 extends Problem {
 * Creates a default MaF04 problem (7 variables and 3 objectives)
 * @param solutionType The solution type must "Real" or "BinaryReal". 
 */
-	public static double const4[];
+	private final double const4[];
 public MaF04(String solutionType) throws ClassNotFoundException {
 this(solutionType, 12, 3);
 } // MaF04   
@@ -14,7 +14,7 @@ public class MaF05 extends Problem {
 * Creates a default MaF05 problem (7 variables and 3 objectives)
 * @param solutionType The solution type must "Real" or "BinaryReal". 
 */
-	public static double const5[];
+	private final double const5[];
 public MaF05(String solutionType) throws ClassNotFoundException {
 this(solutionType, 12, 3);
 } // MaF05  
@@ -14,7 +14,7 @@ public class MaF08 extends Problem {
 * Creates a default MaF08 problem (2 variables and 10 objectives)
 * @param solutionType The solution type must "Real".
 */
-	public static double const8[][]; 
+	private final double const8[][]; 
 public MaF08(String solutionType) throws ClassNotFoundException {
 this(solutionType, 2, 10);
 } // MaF08   
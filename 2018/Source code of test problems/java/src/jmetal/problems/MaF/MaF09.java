@@ -23,10 +23,10 @@ public class MaF09 extends Problem {
 * Creates a default MaF09 problem (2 variables and 10 objectives)
 * @param solutionType The solution type must "Real".
 */
-public static int maxinter9;
-public static int pindex9[];
-public static int M9;
-public static double points9[][],rangex9[][],rangey9[][],r_polyline9[][],oth_poly_points9[][];
+private final int maxinter9;
+private final int pindex9[];
+private final int M9;
+private final double points9[][],rangex9[][],rangey9[][],r_polyline9[][],oth_poly_points9[][];
 public MaF09(String solutionType) throws ClassNotFoundException {
 this(solutionType, 2, 10);
 } // MaF09   
@@ -265,7 +265,7 @@ public static double[] intersection(double[] kb1,double[] kb2)
 	
 }
 //check if a point is inside any generated polygons(not including the boundary)(only for MaF9)
-public static boolean if_infeasible(double[] x)
+public boolean if_infeasible(double[] x)
 {
 	boolean infeasible=false;
 	for(int i=0;i<pindex9.length-1;i++)
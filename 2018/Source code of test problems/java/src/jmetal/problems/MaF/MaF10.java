@@ -14,7 +14,7 @@ public class MaF10 extends Problem {
 * Creates a default MaF10 problem (12 variables and 3 objectives)
 * @param solutionType The solution type must "Real" or "BinaryReal".
 */
-public static int K10;
+private final int K10;
 public MaF10(String solutionType) throws ClassNotFoundException {
 this(solutionType, 12, 3);
 } // MaF10   
@@ -14,7 +14,7 @@ public class MaF11 extends Problem {
 * Creates a default MaF11 problem (12 variables and 3 objectives)
 * @param solutionType The solution type must "Real" or "BinaryReal".
 */
-public static int K11,L11;
+private final int K11,L11;
 public MaF11(String solutionType) throws ClassNotFoundException {
 this(solutionType, 12, 3);
 } // MaF11   
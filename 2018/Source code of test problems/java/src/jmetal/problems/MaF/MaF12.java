@@ -14,7 +14,7 @@ public class MaF12 extends Problem {
 * Creates a default MaF12 problem (12 variables and 3 objectives)
 * @param solutionType The solution type must "Real" or "BinaryReal".
 */
-public static int K12,L12;
+private final int K12,L12;
 public MaF12(String solutionType) throws ClassNotFoundException {
 this(solutionType, 12, 3);
 } // MaF12   
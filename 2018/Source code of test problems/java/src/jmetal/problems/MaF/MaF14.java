@@ -14,8 +14,8 @@ public class MaF14 extends Problem {
 * Creates a default MaF14 problem (60 variables and 3 objectives)
 * @param solutionType The solution type must "Real".
 */
-public static int nk14;
-public static int sublen14[],len14[];
+private final int nk14;
+private final int sublen14[],len14[];
 public MaF14(String solutionType) throws ClassNotFoundException {
 this(solutionType, 60, 3);
 } // MaF14   
@@ -14,8 +14,8 @@ public class MaF15 extends Problem {
 * Creates a default MaF15 problem (60 variables and 3 objectives)
 * @param solutionType The solution type must "Real".
 */
-public static int nk15;
-public static int sublen15[],len15[];
+private final int nk15;
+private final int sublen15[],len15[];
 public MaF15(String solutionType) throws ClassNotFoundException {
 this(solutionType, 60, 3);
 } // MaF15   